@@ -5,6 +5,8 @@ import io.github.ckaanf.ratelimiter.core.*;
 import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 저장소 기반 Token Bucket Rate Limiter
@@ -12,32 +14,49 @@ import java.util.concurrent.CompletableFuture;
  */
 public class StorageBasedTokenBucketRateLimiter implements RateLimiter {
 
+    // 이 값 이하의 소비량은 컨텍스트를 미리 만들어 두고 재사용
+    private static final int CACHED_CONTEXT_LIMIT = 16;
+
+    // 대기 시간을 알 수 없는 거부 후 재시도까지의 최소 간격
+    private static final long MIN_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
     private final String key;
-    private final RateLimiterConfig config;
+    // 하위 키 버킷의 저장소 키 앞부분 ("{key 길이}:{key}:")
+    // 키 길이를 앞에 두어 ("a:b", "c")와 ("a", "b:c")처럼 구분자가 들어간 키끼리 겹치지 않음
+    private final String subKeyPrefix;
     private final RateLimiterStorage storage;
-    private final TokenBucketAlgorithmConfig algorithmConfig;
+    private final AsyncRateLimiterStorage asyncStorage;
+    private final RateLimiterMetrics metrics;
+
+    // 설정 교체 시 통째로 바뀌는 설정과 컨텍스트 묶음
+    private volatile BoundConfig bound;
 
     public StorageBasedTokenBucketRateLimiter(String key, RateLimiterConfig config, RateLimiterStorage storage) {
         this.key = key;
-        this.config = config;
+        this.subKeyPrefix = key.length() + ":" + key + ":";
         this.storage = storage;
-
-        if (!(config.getAlgorithmConfig() instanceof TokenBucketAlgorithmConfig)) {
-            throw new IllegalArgumentException("Invalid algorithm config type");
-        }
-        this.algorithmConfig = (TokenBucketAlgorithmConfig) config.getAlgorithmConfig();
+        this.asyncStorage = AsyncRateLimiterStorage.adapt(storage);
+        this.metrics = RateLimiterMetrics.forStorage(storage);
+        this.bound = new BoundConfig(key, config);
     }
 
     @Override
     public boolean tryConsume(long tokens) {
         validateTokens(tokens);
 
-        StorageContext context = StorageContext.forConsume(key, tokens, config);
-        StorageResult result = storage.tryConsume(context);
+        StorageResult result = storage.tryConsume(consumeContext(tokens));
+        recordResult(result);
 
         return result.isSuccess();
     }
 
+    @Override
+    public long tryConsumeDecision(long tokens) {
+        validateTokens(tokens);
+
+        return metrics.record(storage.tryConsumeDecision(consumeContext(tokens)));
+    }
+
     @Override
     public boolean tryConsume(long tokens, Duration maxWaitTime) {
         validateTokens(tokens);
@@ -47,8 +66,7 @@ public class StorageBasedTokenBucketRateLimiter implements RateLimiter {
             return true;
         }
 
-        StorageContext queryContext = StorageContext.forQuery(key, config);
-        StorageResult queryResult = storage.getTokenState(queryContext);
+        StorageResult queryResult = storage.getTokenState(bound.queryContext);
 
         if (queryResult.getWaitTime().compareTo(maxWaitTime) > 0) {
             return false;
@@ -68,8 +86,7 @@ public class StorageBasedTokenBucketRateLimiter implements RateLimiter {
         validateTokens(tokens);
 
         while (!tryConsume(tokens)) {
-            StorageContext queryContext = StorageContext.forQuery(key, config);
-            StorageResult queryResult = storage.getTokenState(queryContext);
+            StorageResult queryResult = storage.getTokenState(bound.queryContext);
 
             try {
                 Thread.sleep(queryResult.getWaitTime().toMillis());
@@ -80,39 +97,111 @@ public class StorageBasedTokenBucketRateLimiter implements RateLimiter {
         }
     }
 
+    /**
+     * 비동기 토큰 소비
+     *
+     * <p>저장소 호출은 {@link AsyncRateLimiterStorage}로 수행하고, 거부되면 저장소가 알려준 대기 시간 후
+     * 지연 실행기로 다시 시도하므로 기다리는 동안 스레드를 점유하지 않습니다.
+     * 반환된 future를 취소하면 재시도를 멈춥니다.
+     */
     @Override
     public CompletableFuture<Boolean> consumeAsync(long tokens) {
         validateTokens(tokens);
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                consume(tokens);
-                return true;
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return false;
-            }
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        consumeAsync(tokens, future);
+        return future;
+    }
+
+    @Override
+    public CompletionStage<Long> tryConsumeDecisionAsync(long tokens) {
+        validateTokens(tokens);
+
+        return asyncStorage.tryConsumeAsync(consumeContext(tokens))
+                .thenApply(result -> metrics.record(ConsumeDecision.fromStorageResult(result)));
+    }
+
+    @Override
+    public CompletionStage<Long> tryConsumeDecisionAsync(String subKey, long tokens) {
+        validateTokens(tokens);
+
+        StorageContext context = StorageContext.forConsume(bucketKey(subKey), tokens, bound.config);
+        return asyncStorage.tryConsumeAsync(context).thenApply(result -> {
+            long decision = metrics.record(ConsumeDecision.fromStorageResult(result));
+            metrics.recordKey(subKey, ConsumeDecision.isAllowed(decision));
+            return decision;
         });
     }
 
     @Override
     public long getAvailableTokens() {
-        StorageContext context = StorageContext.forQuery(key, config);
-        StorageResult result = storage.getTokenState(context);
+        StorageResult result = storage.getTokenState(bound.queryContext);
         return result.getAvailableTokens();
     }
 
+    @Override
+    public boolean tryConsume(String subKey, long tokens) {
+        validateTokens(tokens);
+
+        StorageContext context = StorageContext.forConsume(bucketKey(subKey), tokens, bound.config);
+        StorageResult result = storage.tryConsume(context);
+        recordResult(result);
+        metrics.recordKey(subKey, result.isSuccess());
+
+        return result.isSuccess();
+    }
+
+    @Override
+    public long tryConsumeDecision(String subKey, long tokens) {
+        validateTokens(tokens);
+
+        StorageContext context = StorageContext.forConsume(bucketKey(subKey), tokens, bound.config);
+        long decision = metrics.record(storage.tryConsumeDecision(context));
+        metrics.recordKey(subKey, ConsumeDecision.isAllowed(decision));
+        return decision;
+    }
+
+    @Override
+    public long getAvailableTokens(String subKey) {
+        StorageContext context = StorageContext.forQuery(bucketKey(subKey), bound.config);
+        return storage.getTokenState(context).getAvailableTokens();
+    }
+
+    @Override
+    public long adjust(long delta) {
+        if (delta == 0) {
+            return getAvailableTokens();
+        }
+
+        StorageContext context = StorageContext.forAdjust(key, delta, bound.config);
+        return storage.adjust(context).getAvailableTokens();
+    }
+
     @Override
     public RateLimiterConfig getConfiguration() {
-        return config;
+        return bound.config;
+    }
+
+    @Override
+    public boolean supportsConfigurationUpdate() {
+        return true;
+    }
+
+    @Override
+    public void updateConfiguration(RateLimiterConfig newConfig) {
+        if (!key.equals(newConfig.getKey())) {
+            throw new IllegalArgumentException(String.format(
+                    "Config key '%s' does not match rate limiter key '%s'", newConfig.getKey(), key));
+        }
+        this.bound = new BoundConfig(key, newConfig);
     }
 
     @Override
     public ConsumeResult tryConsumeWithResult(long tokens) {
         validateTokens(tokens);
 
-        StorageContext context = StorageContext.forConsume(key, tokens, config);
-        StorageResult result = storage.tryConsume(context);
+        StorageResult result = storage.tryConsume(consumeContext(tokens));
+        recordResult(result);
 
         if (result.isSuccess()) {
             return ConsumeResult.consumed(tokens, result.getAvailableTokens(), result.getNextRefillTime());
@@ -122,10 +211,14 @@ public class StorageBasedTokenBucketRateLimiter implements RateLimiter {
         }
     }
 
+    @Override
+    public RateLimiterMetrics getMetrics() {
+        return metrics;
+    }
+
     @Override
     public BucketState getBucketState() {
-        StorageContext context = StorageContext.forQuery(key, config);
-        StorageResult result = storage.getTokenState(context);
+        StorageResult result = storage.getTokenState(bound.queryContext);
 
         Map<String, Object> metadata = result.getMetadata();
 
@@ -155,6 +248,50 @@ public class StorageBasedTokenBucketRateLimiter implements RateLimiter {
         return consumeAsync(1);
     }
 
+    private void consumeAsync(long tokens, CompletableFuture<Boolean> future) {
+        CompletionStage<StorageResult> attempt;
+        try {
+            attempt = asyncStorage.tryConsumeAsync(consumeContext(tokens));
+        } catch (RuntimeException e) {
+            // 재시도는 지연 실행기 스레드에서 돌기 때문에 여기서 던지면 future가 끝나지 않음
+            future.completeExceptionally(e);
+            return;
+        }
+        attempt.whenComplete((result, error) -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+                return;
+            }
+            recordResult(result);
+            if (result.isSuccess()) {
+                future.complete(true);
+            } else if (!future.isDone()) {
+                long waitNanos = Math.max(result.getWaitTime().toNanos(), MIN_RETRY_NANOS);
+                CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS)
+                        .execute(() -> consumeAsync(tokens, future));
+            }
+        });
+    }
+
+    private StorageContext consumeContext(long tokens) {
+        return bound.consumeContext(key, tokens);
+    }
+
+    private void recordResult(StorageResult result) {
+        if (result.isSuccess()) {
+            metrics.recordAllowed();
+        } else {
+            metrics.recordRejected(result.getWaitTime().toNanos());
+        }
+    }
+
+    private String bucketKey(String subKey) {
+        if (subKey == null) {
+            throw new IllegalArgumentException("Sub key cannot be null");
+        }
+        return subKeyPrefix + subKey;
+    }
+
     private void validateTokens(long tokens) {
         if (tokens <= 0) {
             throw new IllegalArgumentException("Tokens must be positive: " + tokens);
@@ -169,6 +306,37 @@ public class StorageBasedTokenBucketRateLimiter implements RateLimiter {
 
     @Override
     public String toString() {
-        return String.format("TokenBucketRateLimiter{key='%s', config=%s}", key, algorithmConfig);
+        return String.format("TokenBucketRateLimiter{key='%s', config=%s}", key, bound.algorithmConfig);
+    }
+
+    /**
+     * 설정과 그 설정으로 미리 만든 저장소 컨텍스트 (불변)
+     */
+    private static final class BoundConfig {
+        private final RateLimiterConfig config;
+        private final TokenBucketAlgorithmConfig algorithmConfig;
+        private final StorageContext[] consumeContexts;
+        private final StorageContext queryContext;
+
+        BoundConfig(String key, RateLimiterConfig config) {
+            if (!(config.getAlgorithmConfig() instanceof TokenBucketAlgorithmConfig)) {
+                throw new IllegalArgumentException("Invalid algorithm config type");
+            }
+            this.config = config;
+            this.algorithmConfig = (TokenBucketAlgorithmConfig) config.getAlgorithmConfig();
+
+            this.consumeContexts = new StorageContext[CACHED_CONTEXT_LIMIT];
+            for (int i = 0; i < CACHED_CONTEXT_LIMIT; i++) {
+                consumeContexts[i] = StorageContext.forConsume(key, i + 1, config);
+            }
+            this.queryContext = StorageContext.forQuery(key, config);
+        }
+
+        StorageContext consumeContext(String key, long tokens) {
+            if (tokens <= CACHED_CONTEXT_LIMIT) {
+                return consumeContexts[(int) tokens - 1];
+            }
+            return StorageContext.forConsume(key, tokens, config);
+        }
     }
 }
\ No newline at end of file
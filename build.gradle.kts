@@ -98,7 +98,10 @@ fun getArtifactId(projectPath: String): String {
         ":algorithms:token-bucket" -> "algorithm-token-bucket"
         ":storage:inmemory" -> "storage-inmemory"
         ":storage:redis" -> "storage-redis"
+        ":storage:mmap" -> "storage-mmap"
+        ":server" -> "server"
         ":integrations:spring-boot-starter" -> "spring-boot-starter"
+        ":integrations:envoy-rls" -> "envoy-rls"
         else -> project.name.replace(":", "-")
     }
 }
@@ -109,7 +112,10 @@ fun getModuleDescription(projectPath: String): String {
         ":algorithms:token-bucket" -> "API Rate Limiter - Token Bucket algorithm implementation"
         ":storage:inmemory" -> "API Rate Limiter - In-memory storage implementation"
         ":storage:redis" -> "API Rate Limiter - Redis storage implementation"
+        ":storage:mmap" -> "API Rate Limiter - Memory-mapped file storage implementation"
+        ":server" -> "API Rate Limiter - Standalone decision server and client"
         ":integrations:spring-boot-starter" -> "API Rate Limiter - Spring Boot Auto Configuration"
+        ":integrations:envoy-rls" -> "API Rate Limiter - Envoy rate limit service (gRPC)"
         else -> "API Rate Limiter - ${projectPath.removePrefix(":")}"
     }
 }
\ No newline at end of file
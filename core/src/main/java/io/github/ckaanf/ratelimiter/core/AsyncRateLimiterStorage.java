@@ -0,0 +1,68 @@
+package io.github.ckaanf.ratelimiter.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * 비동기 Rate Limiter 저장소
+ *
+ * <p>네트워크 저장소가 판정마다 스레드를 점유하지 않도록 결과를 {@link CompletionStage}로 반환합니다.
+ * 결과는 저장소의 I/O 스레드에서 완료될 수 있으므로, 후속 단계에서 블로킹 작업을 하지 마세요.
+ *
+ * <p>동기 저장소는 {@link #adapt(RateLimiterStorage)}로 감싸서 같은 방식으로 사용할 수 있습니다.
+ */
+public interface AsyncRateLimiterStorage extends RateLimiterStorage {
+
+    /**
+     * 비동기 토큰 소비 시도 (원자적 연산)
+     *
+     * @param context 소비 컨텍스트
+     * @return 소비 결과
+     */
+    CompletionStage<StorageResult> tryConsumeAsync(StorageContext context);
+
+    /**
+     * 비동기 토큰 상태 조회
+     *
+     * <p>기본 구현은 {@link #getTokenState(StorageContext)}를 호출 스레드에서 실행합니다.
+     *
+     * @param context 조회 컨텍스트
+     * @return 토큰 상태
+     */
+    default CompletionStage<StorageResult> getTokenStateAsync(StorageContext context) {
+        try {
+            return CompletableFuture.completedFuture(getTokenState(context));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 저장소를 비동기 저장소로 변환
+     *
+     * <p>이미 비동기 저장소이면 그대로 반환하고, 동기 저장소는 호출 스레드에서 실행한 결과를
+     * 완료된 stage로 돌려주는 어댑터로 감쌉니다. 메모리 저장소처럼 블로킹하지 않는 저장소에 적합합니다.
+     */
+    static AsyncRateLimiterStorage adapt(RateLimiterStorage storage) {
+        if (storage instanceof AsyncRateLimiterStorage async) {
+            return async;
+        }
+        return new SyncStorageAdapter(storage, null);
+    }
+
+    /**
+     * 동기 저장소를 주어진 실행기에서 실행하는 비동기 저장소로 변환
+     *
+     * <p>블로킹 호출만 제공하는 원격 저장소를 호출 스레드 밖으로 옮길 때 사용합니다.
+     *
+     * @param storage  변환할 저장소
+     * @param executor 동기 호출을 실행할 실행기
+     */
+    static AsyncRateLimiterStorage adapt(RateLimiterStorage storage, Executor executor) {
+        if (storage instanceof AsyncRateLimiterStorage async) {
+            return async;
+        }
+        return new SyncStorageAdapter(storage, executor);
+    }
+}
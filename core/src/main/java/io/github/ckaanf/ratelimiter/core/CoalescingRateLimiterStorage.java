@@ -0,0 +1,246 @@
+package io.github.ckaanf.ratelimiter.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 동시에 들어온 토큰 소비 요청을 모아 한 번의 배치 호출로 보내는 저장소 데코레이터
+ *
+ * <p>원격 저장소에서 스레드마다 왕복을 기다리는 대신, 대기 중인 요청들을
+ * {@link RateLimiterStorage#tryConsumeAll(List, boolean)}(파이프라이닝 또는 멀티 키 요청)로 묶어 보내고
+ * 결과를 각 호출 스레드에 나눠 줍니다. 별도 스레드 없이 먼저 도착한 호출 스레드가 리더가 되어
+ * 배치를 보내며, 나머지는 결과가 채워질 때까지 park 합니다.
+ *
+ * <p>배치는 최대 {@code batchWindow} 동안 또는 {@code maxBatchSize}개가 모일 때까지 기다립니다.
+ * 리더는 기다리는 동안 park 하며, 배치가 차면 마지막으로 들어온 요청이 리더를 깨웁니다.
+ * 대기 시간을 0으로 두면 기다리지 않고, 이전 배치가 왕복하는 동안 쌓인 요청만 묶습니다.
+ * 어느 쪽이든 처리량은 연결 수가 아니라 배치 크기에 비례합니다.
+ *
+ * <p>기다리는 중에 인터럽트되어도 요청을 버리지 않습니다 (이미 배치에 실려 토큰이 소비됐을 수 있음).
+ * 결과를 받을 때까지 기다린 뒤 인터럽트 상태를 되살려 반환하며, 리더는 배치 대기만 멈추고 바로 전송합니다.
+ *
+ * <p>조정과 조회는 묶지 않고 바로 위임합니다.
+ *
+ * <p>비동기 호출({@link #tryConsumeAsync(StorageContext)})은 호출 스레드를 park 할 수 없으므로 묶지 않고
+ * 위임 저장소의 비동기 경로로 바로 보냅니다. 비동기 원격 저장소는 이미 한 연결에서 요청을 파이프라이닝합니다.
+ */
+public class CoalescingRateLimiterStorage implements AsyncRateLimiterStorage {
+
+    private final RateLimiterStorage delegate;
+    private final int maxBatchSize;
+    private final long batchWindowNanos;
+
+    private final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    // 배치 대기 시간 동안 park 중인 리더 (배치가 차면 깨움)
+    private volatile Thread leader;
+
+    /**
+     * @param delegate     배치 호출을 받을 저장소
+     * @param maxBatchSize 한 번에 보낼 최대 요청 수
+     * @param batchWindow  배치를 모으기 위해 기다리는 최대 시간 (0이면 기다리지 않음)
+     */
+    public CoalescingRateLimiterStorage(RateLimiterStorage delegate, int maxBatchSize, Duration batchWindow) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate storage cannot be null");
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be positive");
+        }
+        if (batchWindow.isNegative()) {
+            throw new IllegalArgumentException("Batch window cannot be negative");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.batchWindowNanos = batchWindow.toNanos();
+    }
+
+    @Override
+    public String getType() {
+        return delegate.getType();
+    }
+
+    @Override
+    public StorageResult tryConsume(StorageContext context) {
+        Pending pending = new Pending(context, Thread.currentThread());
+        queue.add(pending);
+        if (queued.incrementAndGet() >= maxBatchSize) {
+            Thread waiting = leader;
+            if (waiting != null) {
+                LockSupport.unpark(waiting);
+            }
+        }
+
+        boolean interrupted = false;
+        while (!pending.done) {
+            if (flushing.compareAndSet(false, true)) {
+                try {
+                    flush();
+                } finally {
+                    flushing.set(false);
+                }
+                wakeNextLeader();
+            } else {
+                LockSupport.park(this);
+                // 인터럽트 상태로 park 하면 바로 반환되므로 지우고 기억해 둠
+                interrupted |= Thread.interrupted();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return pending.result();
+    }
+
+    @Override
+    public CompletionStage<StorageResult> tryConsumeAsync(StorageContext context) {
+        return AsyncRateLimiterStorage.adapt(delegate).tryConsumeAsync(context);
+    }
+
+    @Override
+    public CompletionStage<StorageResult> getTokenStateAsync(StorageContext context) {
+        return AsyncRateLimiterStorage.adapt(delegate).getTokenStateAsync(context);
+    }
+
+    @Override
+    public List<StorageResult> tryConsumeAll(List<StorageContext> contexts, boolean allOrNothing) {
+        return delegate.tryConsumeAll(contexts, allOrNothing);
+    }
+
+    @Override
+    public StorageResult adjust(StorageContext context) {
+        return delegate.adjust(context);
+    }
+
+    @Override
+    public boolean supportsAdjust() {
+        return delegate.supportsAdjust();
+    }
+
+    @Override
+    public StorageResult getTokenState(StorageContext context) {
+        return delegate.getTokenState(context);
+    }
+
+    @Override
+    public long getBucketCount() {
+        return delegate.getBucketCount();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return delegate.getEvictionCount();
+    }
+
+    @Override
+    public void initialize(RateLimiterConfig config) {
+        delegate.initialize(config);
+    }
+
+    @Override
+    public void cleanup() {
+        delegate.cleanup();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    public RateLimiterStorage getDelegate() {
+        return delegate;
+    }
+
+    // === 내부 메소드들 ===
+
+    /**
+     * 리더 스레드에서 배치를 모아 전송하고 결과를 분배
+     */
+    private void flush() {
+        if (batchWindowNanos > 0) {
+            long deadline = System.nanoTime() + batchWindowNanos;
+            leader = Thread.currentThread();
+            try {
+                while (queued.get() < maxBatchSize && !Thread.currentThread().isInterrupted()) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                }
+            } finally {
+                leader = null;
+            }
+        }
+
+        List<Pending> batch = new ArrayList<>(Math.min(queued.get(), maxBatchSize));
+        Pending next;
+        while (batch.size() < maxBatchSize && (next = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<StorageContext> contexts = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            contexts.add(pending.context);
+        }
+
+        try {
+            List<StorageResult> results = batch.size() == 1
+                    ? List.of(delegate.tryConsume(contexts.get(0)))
+                    : delegate.tryConsumeAll(contexts, false);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).complete(results.get(i), null);
+            }
+        } catch (RuntimeException e) {
+            for (Pending pending : batch) {
+                pending.complete(null, e);
+            }
+        }
+    }
+
+    /**
+     * 남은 요청이 있으면 그 스레드를 깨워 다음 리더가 되게 함
+     */
+    private void wakeNextLeader() {
+        Pending head = queue.peek();
+        if (head != null) {
+            LockSupport.unpark(head.waiter);
+        }
+    }
+
+    private static final class Pending {
+        private final StorageContext context;
+        private final Thread waiter;
+        private StorageResult result;
+        private RuntimeException failure;
+        private volatile boolean done;
+
+        Pending(StorageContext context, Thread waiter) {
+            this.context = context;
+            this.waiter = waiter;
+        }
+
+        void complete(StorageResult result, RuntimeException failure) {
+            this.result = result;
+            this.failure = failure;
+            this.done = true;
+            LockSupport.unpark(waiter);
+        }
+
+        StorageResult result() {
+            if (failure != null) {
+                throw failure;
+            }
+            return result;
+        }
+    }
+}
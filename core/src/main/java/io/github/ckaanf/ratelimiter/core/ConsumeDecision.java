@@ -0,0 +1,129 @@
+package io.github.ckaanf.ratelimiter.core;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 객체 생성 없는 토큰 소비 판정 결과
+ *
+ * <p>허용 여부, 남은 토큰 수, 대기 시간을 하나의 {@code long} 값으로 인코딩합니다.
+ * 허용/거부와 Retry-After만 필요한 필터는 {@link StorageResult}, {@link ConsumeResult}
+ * 대신 이 인코딩을 사용하여 판정 경로에서 가비지를 만들지 않을 수 있습니다.
+ *
+ * <p>인코딩 형식 (상위 비트부터):
+ * <ul>
+ *   <li>1비트: 거부 여부 (허용된 판정은 항상 0 이상의 값)</li>
+ *   <li>31비트: 남은 토큰 수 (최대 2^31-1에서 포화)</li>
+ *   <li>32비트: 대기 시간 (마이크로초 단위, 최대 약 71분에서 포화)</li>
+ * </ul>
+ *
+ * <p>인스턴스는 디코딩된 값을 담는 재사용 가능한 가변 객체이며 스레드 안전하지 않습니다.
+ * 스레드별(또는 요청별)로 하나씩 재사용하세요.
+ */
+public final class ConsumeDecision {
+
+    private static final long REJECTED_BIT = 1L << 63;
+    private static final int REMAINING_SHIFT = 32;
+    private static final long MAX_REMAINING = (1L << 31) - 1;
+    private static final long MAX_WAIT_MICROS = 0xFFFF_FFFFL;
+
+    private boolean allowed;
+    private long remainingTokens;
+    private long waitNanos;
+
+    // === 인코딩 ===
+
+    /**
+     * 허용 판정 인코딩
+     */
+    public static long allowed(long remainingTokens) {
+        return encode(true, remainingTokens, 0);
+    }
+
+    /**
+     * 거부 판정 인코딩
+     */
+    public static long rejected(long remainingTokens, long waitNanos) {
+        return encode(false, remainingTokens, waitNanos);
+    }
+
+    /**
+     * 판정 결과를 long 값으로 인코딩
+     * 범위를 벗어나는 값은 포화되며, 대기 시간은 마이크로초 단위로 올림
+     */
+    public static long encode(boolean allowed, long remainingTokens, long waitNanos) {
+        long remaining = Math.min(Math.max(remainingTokens, 0), MAX_REMAINING);
+        long waitMicros = waitNanos <= 0 ? 0 : Math.min((waitNanos + 999) / 1000, MAX_WAIT_MICROS);
+
+        long encoded = (remaining << REMAINING_SHIFT) | waitMicros;
+        return allowed ? encoded : encoded | REJECTED_BIT;
+    }
+
+    /**
+     * 저장소 결과를 판정 값으로 변환 (기본 구현용)
+     */
+    public static long fromStorageResult(StorageResult result) {
+        return encode(result.isSuccess(), result.getAvailableTokens(), result.getWaitTime().toNanos());
+    }
+
+    // === 디코딩 ===
+
+    public static boolean isAllowed(long decision) {
+        return decision >= 0;
+    }
+
+    public static long remainingTokens(long decision) {
+        return (decision >>> REMAINING_SHIFT) & MAX_REMAINING;
+    }
+
+    public static long waitNanos(long decision) {
+        return TimeUnit.MICROSECONDS.toNanos(decision & MAX_WAIT_MICROS);
+    }
+
+    // === 재사용 가능한 가변 결과 ===
+
+    /**
+     * 인코딩된 판정 값으로 이 객체의 상태를 갱신
+     *
+     * @param decision 인코딩된 판정 값
+     * @return 허용 여부
+     */
+    public boolean update(long decision) {
+        this.allowed = isAllowed(decision);
+        this.remainingTokens = remainingTokens(decision);
+        this.waitNanos = waitNanos(decision);
+        return allowed;
+    }
+
+    public boolean isAllowed() {
+        return allowed;
+    }
+
+    public boolean isRejected() {
+        return !allowed;
+    }
+
+    public long getRemainingTokens() {
+        return remainingTokens;
+    }
+
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+
+    public long getWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos + 999_999);
+    }
+
+    /**
+     * Retry-After 헤더용 대기 시간 (초 단위 올림)
+     */
+    public long getRetryAfterSeconds() {
+        return TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConsumeDecision{allowed=%s, remaining=%d, waitNanos=%d}",
+                allowed, remainingTokens, waitNanos);
+    }
+}
@@ -0,0 +1,318 @@
+package io.github.ckaanf.ratelimiter.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 자주 등장하는 키를 고정된 메모리로 추정하는 샘플러 (Space-Saving 알고리즘)
+ *
+ * <p>최대 {@code capacity}개의 키만 추적하며, 가득 찬 상태에서 새 키가 오면 가장 작은 카운터를
+ * 물려받습니다. 판정 경로 비용을 줄이기 위해 {@code sampleEvery}번에 한 번꼴로만 기록하고,
+ * 추정 횟수는 샘플링 비율만큼 보정하여 반환합니다.
+ *
+ * <p>카운터는 스레드별로 나뉜 스트라이프에 기록되고 조회 시 병합됩니다. 기록 경로는 락을 기다리지
+ * 않으며({@code tryLock}), 스트라이프가 조회 중이거나 다른 스레드가 쓰고 있으면 해당 샘플을
+ * 버립니다. 각 스트라이프는 횟수별 버킷 리스트(Stream-Summary)로 최솟값을 O(1)에 찾습니다.
+ */
+public final class HotKeySampler {
+
+    private static final int MAX_STRIPES = 16;
+    private static final int PROBES = 2;
+
+    private final int capacity;
+    private final int sampleMask;
+    private final Stripe[] stripes;
+
+    /**
+     * @param capacity    스트라이프별로 추적할 최대 키 수 (양수)
+     * @param sampleEvery 샘플링 간격 (1이면 모두 기록, 2의 거듭제곱)
+     */
+    public HotKeySampler(int capacity, int sampleEvery) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (sampleEvery <= 0 || Integer.bitCount(sampleEvery) != 1) {
+            throw new IllegalArgumentException("Sample interval must be a power of two: " + sampleEvery);
+        }
+        this.capacity = capacity;
+        this.sampleMask = sampleEvery - 1;
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        int count = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, processors - 1)) << 1);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+    }
+
+    /**
+     * 키 등장 기록 (샘플링 적용, 대기 없음)
+     */
+    public void record(String key) {
+        if (sampleMask != 0 && (ThreadLocalRandom.current().nextInt() & sampleMask) != 0) {
+            return;
+        }
+
+        int mask = stripes.length - 1;
+        int index = stripeIndex();
+        for (int probe = 0; probe < PROBES; probe++) {
+            Stripe stripe = stripes[(index + probe) & mask];
+            if (stripe.lock.tryLock()) {
+                try {
+                    stripe.offer(key);
+                } finally {
+                    stripe.lock.unlock();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 추정 횟수가 큰 순서로 상위 키 반환
+     *
+     * <p>키가 빠진 스트라이프가 가득 차 있었다면 그 스트라이프의 최솟값까지 등장했을 수 있으므로
+     * 횟수와 오차에 함께 더합니다. (병합된 Space-Saving 요약의 상한)
+     *
+     * @param limit 최대 개수
+     */
+    public List<KeyCount> top(int limit) {
+        List<Map<String, long[]>> snapshots = new ArrayList<>(stripes.length);
+        long[] floors = new long[stripes.length];
+        Map<String, long[]> merged = new HashMap<>();
+
+        for (int i = 0; i < stripes.length; i++) {
+            Stripe stripe = stripes[i];
+            stripe.lock.lock();
+            try {
+                Map<String, long[]> snapshot = new HashMap<>(stripe.counters.size() * 2);
+                for (Counter counter : stripe.counters.values()) {
+                    snapshot.put(counter.key, new long[]{counter.bucket.count, counter.error});
+                    merged.putIfAbsent(counter.key, new long[2]);
+                }
+                snapshots.add(snapshot);
+                floors[i] = stripe.counters.size() < capacity ? 0 : stripe.minCount();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        List<KeyCount> result = new ArrayList<>(merged.size());
+        long scale = sampleMask + 1L;
+        for (Map.Entry<String, long[]> entry : merged.entrySet()) {
+            long[] total = entry.getValue();
+            for (int i = 0; i < stripes.length; i++) {
+                long[] counted = snapshots.get(i).get(entry.getKey());
+                total[0] += counted != null ? counted[0] : floors[i];
+                total[1] += counted != null ? counted[1] : floors[i];
+            }
+            result.add(new KeyCount(entry.getKey(), total[0] * scale, total[1] * scale));
+        }
+
+        result.sort((a, b) -> Long.compare(b.getCount(), a.getCount()));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    public void reset() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.clear();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // === 내부 메소드들 ===
+
+    private static int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // === 내부 클래스들 ===
+
+    /**
+     * 한 스트라이프의 Space-Saving 요약
+     * 같은 횟수의 카운터를 하나의 버킷에 묶고, 버킷을 횟수 오름차순 연결 리스트로 유지합니다.
+     */
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private final Map<String, Counter> counters;
+        private Bucket head;
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+            this.counters = new HashMap<>(capacity * 2);
+        }
+
+        void offer(String key) {
+            Counter counter = counters.get(key);
+            if (counter != null) {
+                increment(counter);
+                return;
+            }
+
+            if (counters.size() < capacity) {
+                counter = new Counter(key);
+                counters.put(key, counter);
+                attachFirst(counter, 1);
+                return;
+            }
+
+            // 가장 작은 카운터를 물려받음 (O(1))
+            Counter min = head.first;
+            counters.remove(min.key);
+            min.key = key;
+            min.error = head.count;
+            counters.put(key, min);
+            increment(min);
+        }
+
+        long minCount() {
+            return head != null ? head.count : 0;
+        }
+
+        void clear() {
+            counters.clear();
+            head = null;
+        }
+
+        private void attachFirst(Counter counter, long count) {
+            if (head == null || head.count != count) {
+                Bucket bucket = new Bucket(count);
+                bucket.next = head;
+                if (head != null) {
+                    head.prev = bucket;
+                }
+                head = bucket;
+            }
+            head.add(counter);
+        }
+
+        private void increment(Counter counter) {
+            Bucket current = counter.bucket;
+            long target = current.count + 1;
+            Bucket next = current.next;
+            if (next == null || next.count != target) {
+                next = new Bucket(target);
+                next.prev = current;
+                next.next = current.next;
+                if (current.next != null) {
+                    current.next.prev = next;
+                }
+                current.next = next;
+            }
+
+            current.remove(counter);
+            next.add(counter);
+            if (current.first == null) {
+                unlink(current);
+            }
+        }
+
+        private void unlink(Bucket bucket) {
+            if (bucket.prev != null) {
+                bucket.prev.next = bucket.next;
+            } else {
+                head = bucket.next;
+            }
+            if (bucket.next != null) {
+                bucket.next.prev = bucket.prev;
+            }
+        }
+    }
+
+    /**
+     * 같은 추정 횟수를 가진 카운터들의 묶음
+     */
+    private static final class Bucket {
+        private final long count;
+        private Bucket prev;
+        private Bucket next;
+        private Counter first;
+
+        Bucket(long count) {
+            this.count = count;
+        }
+
+        void add(Counter counter) {
+            counter.bucket = this;
+            counter.prev = null;
+            counter.next = first;
+            if (first != null) {
+                first.prev = counter;
+            }
+            first = counter;
+        }
+
+        void remove(Counter counter) {
+            if (counter.prev != null) {
+                counter.prev.next = counter.next;
+            } else {
+                first = counter.next;
+            }
+            if (counter.next != null) {
+                counter.next.prev = counter.prev;
+            }
+            counter.prev = null;
+            counter.next = null;
+        }
+    }
+
+    private static final class Counter {
+        private String key;
+        private long error;
+        private Bucket bucket;
+        private Counter prev;
+        private Counter next;
+
+        Counter(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * 키와 추정 횟수
+     * 실제 횟수는 {@code count - error} 이상 {@code count} 이하입니다. (샘플링 오차 제외)
+     */
+    public static final class KeyCount {
+        private final String key;
+        private final long count;
+        private final long error;
+
+        public KeyCount(String key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getError() {
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("KeyCount{key='%s', count=%d, error=%d}", key, count, error);
+        }
+    }
+}
@@ -0,0 +1,452 @@
+package io.github.ckaanf.ratelimiter.core;
+
+import io.github.ckaanf.ratelimiter.core.time.TimeSource;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 원격 저장소 앞에서 토큰을 미리 빌려와(lease) 로컬에서 소비하는 저장소 데코레이터
+ *
+ * <p>키별로 원격 저장소에서 토큰 묶음을 한 번에 소비해 두고, 이후 요청은 lock-free 카운터에서
+ * 차감하여 왕복 없이 처리합니다. 임대 토큰이 부족하거나 임대 기간이 끝나면 남은 토큰을 원격에
+ * 반환({@link RateLimiterStorage#adjust})하고 새로 임대합니다.
+ *
+ * <p>임대 크기는 직전 임대 기간의 로컬 소비 속도 × 임대 기간으로 조정되어, 뜨거운 키는 임대 기간당
+ * 원격 호출 한 번 수준으로 줄고 차가운 키는 1개씩(사실상 위임) 임대합니다.
+ *
+ * <p>임대된 토큰은 다른 노드가 쓸 수 없으므로 노드 간 분배가 최대 임대 기간만큼 치우칠 수 있습니다.
+ * 정확성보다 원격 호출 수가 중요한 키에 사용하세요.
+ *
+ * <p>만료된 임대는 임대 기간마다 백그라운드에서 반환하고 제거하므로, 다시 쓰이지 않는 키의 토큰이
+ * 묶여 있거나 임대 정보가 계속 쌓이지 않습니다.
+ *
+ * <p>위임 저장소가 {@link AsyncRateLimiterStorage}이면 {@link #tryConsumeAsync(StorageContext)}의 임대 갱신도
+ * 호출 스레드를 막지 않고 비동기로 이루어집니다. 갱신이 진행 중인 키의 다른 비동기 요청은 그 갱신이 끝난 뒤
+ * 새 임대에서 소비하며, 만료된 임대의 남은 토큰은 반환 호출 대신 새 임대에 이어서 사용합니다.
+ */
+public class LeasingRateLimiterStorage implements AsyncRateLimiterStorage {
+
+    private final RateLimiterStorage delegate;
+    private final long leaseNanos;
+    private final long maxLeaseTokens;
+    private final TimeSource timeSource;
+    private final ConcurrentHashMap<String, Lease> leases = new ConcurrentHashMap<>();
+    private final LongAdder remoteCalls = new LongAdder();
+    private final ScheduledExecutorService expiryExecutor;
+
+    /**
+     * @param delegate       토큰을 빌려올 저장소 (토큰 반환을 위해 {@link #adjust} 지원 권장)
+     * @param leaseDuration  임대 유지 기간
+     * @param maxLeaseTokens 한 번에 임대할 최대 토큰 수
+     * @param timeSource     시간 소스
+     */
+    public LeasingRateLimiterStorage(RateLimiterStorage delegate, Duration leaseDuration,
+                                     long maxLeaseTokens, TimeSource timeSource) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate storage cannot be null");
+        this.timeSource = Objects.requireNonNull(timeSource, "Time source cannot be null");
+        if (leaseDuration.isNegative() || leaseDuration.isZero()) {
+            throw new IllegalArgumentException("Lease duration must be positive");
+        }
+        if (maxLeaseTokens <= 0) {
+            throw new IllegalArgumentException("Max lease tokens must be positive");
+        }
+        this.leaseNanos = leaseDuration.toNanos();
+        this.maxLeaseTokens = maxLeaseTokens;
+
+        this.expiryExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "lease-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long sweepNanos = Math.max(leaseNanos, TimeUnit.MILLISECONDS.toNanos(1));
+        expiryExecutor.scheduleWithFixedDelay(this::expireLeasesSafely, sweepNanos, sweepNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public LeasingRateLimiterStorage(RateLimiterStorage delegate, Duration leaseDuration, long maxLeaseTokens) {
+        this(delegate, leaseDuration, maxLeaseTokens, TimeSource.system());
+    }
+
+    @Override
+    public String getType() {
+        return delegate.getType();
+    }
+
+    @Override
+    public StorageResult tryConsume(StorageContext context) {
+        Lease lease = lease(context.getKey());
+        long remaining = lease.tryTake(context.getTokens(), timeSource.nanoTime());
+        if (remaining >= 0) {
+            return StorageResult.success(remaining, context.getTokens());
+        }
+        return renewAndConsume(lease, context);
+    }
+
+    @Override
+    public long tryConsumeDecision(StorageContext context) {
+        Lease lease = lease(context.getKey());
+        long remaining = lease.tryTake(context.getTokens(), timeSource.nanoTime());
+        if (remaining >= 0) {
+            return ConsumeDecision.allowed(remaining);
+        }
+        return ConsumeDecision.fromStorageResult(renewAndConsume(lease, context));
+    }
+
+    @Override
+    public CompletionStage<StorageResult> tryConsumeAsync(StorageContext context) {
+        Lease lease = lease(context.getKey());
+        long remaining = lease.tryTake(context.getTokens(), timeSource.nanoTime());
+        if (remaining >= 0) {
+            return CompletableFuture.completedFuture(StorageResult.success(remaining, context.getTokens()));
+        }
+        if (delegate instanceof AsyncRateLimiterStorage async) {
+            return renewAsync(lease, context, async);
+        }
+        try {
+            return CompletableFuture.completedFuture(renewAndConsume(lease, context));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletionStage<StorageResult> getTokenStateAsync(StorageContext context) {
+        return AsyncRateLimiterStorage.adapt(delegate).getTokenStateAsync(context)
+                .thenApply(state -> StorageResult.query(
+                        state.getAvailableTokens() + localTokens(context.getKey()), state.getNextRefillTime()));
+    }
+
+    /**
+     * 추가 차감/반환은 원격에 바로 반영하고, 결과에는 로컬 임대분을 더함
+     */
+    @Override
+    public StorageResult adjust(StorageContext context) {
+        StorageResult result = delegate.adjust(context);
+        return StorageResult.adjusted(result.getAvailableTokens() + localTokens(context.getKey()), result.getConsumedTokens());
+    }
+
+    @Override
+    public boolean supportsAdjust() {
+        return delegate.supportsAdjust();
+    }
+
+    @Override
+    public StorageResult getTokenState(StorageContext context) {
+        StorageResult state = delegate.getTokenState(context);
+        return StorageResult.query(state.getAvailableTokens() + localTokens(context.getKey()), state.getNextRefillTime());
+    }
+
+    @Override
+    public long getBucketCount() {
+        return delegate.getBucketCount();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return delegate.getEvictionCount();
+    }
+
+    @Override
+    public void initialize(RateLimiterConfig config) {
+        delegate.initialize(config);
+    }
+
+    /**
+     * 만료된 임대의 남은 토큰을 반환하고 임대 정보 제거
+     */
+    @Override
+    public void cleanup() {
+        expireLeases();
+        delegate.cleanup();
+    }
+
+    @Override
+    public void shutdown() {
+        expiryExecutor.shutdownNow();
+        Iterator<Lease> iterator = leases.values().iterator();
+        while (iterator.hasNext()) {
+            Lease lease = iterator.next();
+            synchronized (lease) {
+                release(lease);
+                lease.retired = true;
+                iterator.remove();
+            }
+        }
+        delegate.shutdown();
+    }
+
+    /**
+     * 원격 저장소 소비 호출 누계 (임대 효율 확인용)
+     */
+    public long getRemoteCallCount() {
+        return remoteCalls.sum();
+    }
+
+    /**
+     * 현재 유지 중인 키별 임대 수
+     */
+    public int getLeaseCount() {
+        return leases.size();
+    }
+
+    public RateLimiterStorage getDelegate() {
+        return delegate;
+    }
+
+    // === 내부 메소드들 ===
+
+    /**
+     * 만료된 임대의 남은 토큰을 반환하고 임대 정보 제거
+     */
+    private void expireLeases() {
+        long now = timeSource.nanoTime();
+        Iterator<Lease> iterator = leases.values().iterator();
+        while (iterator.hasNext()) {
+            Lease lease = iterator.next();
+            if (!lease.isExpired(now)) {
+                continue;
+            }
+            synchronized (lease) {
+                // 비동기 갱신 중인 임대는 갱신이 끝난 뒤 다시 판단
+                if (lease.isExpired(now) && lease.renewal == null) {
+                    release(lease);
+                    lease.retired = true;
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private void expireLeasesSafely() {
+        try {
+            expireLeases();
+        } catch (RuntimeException e) {
+            System.err.println("Lease expiry failed: " + e.getMessage());
+        }
+    }
+
+    private Lease lease(String key) {
+        Lease lease = leases.get(key);
+        return lease != null ? lease : leases.computeIfAbsent(key, k -> new Lease(k));
+    }
+
+    private StorageResult renewAndConsume(Lease lease, StorageContext context) {
+        long tokens = context.getTokens();
+        synchronized (lease) {
+            if (lease.retired) {
+                // cleanup과 경합한 경우 새 임대 정보로 다시 시도
+                return tryConsume(context);
+            }
+
+            long now = timeSource.nanoTime();
+            long remaining = lease.tryTake(tokens, now); // 다른 스레드가 먼저 갱신했을 수 있음
+            if (remaining >= 0) {
+                return StorageResult.success(remaining, tokens);
+            }
+
+            lease.config = context.getConfig();
+            long leftover = lease.remaining.getAndSet(0);
+            long nextSize = nextLeaseSize(lease, leftover, now);
+            if (lease.isExpired(now) && leftover > 0) {
+                giveBack(lease, leftover);
+                leftover = 0;
+            }
+
+            long needed = tokens - leftover;
+            long request = Math.max(needed, nextSize);
+            StorageResult result = consumeRemote(context, request);
+            if (!result.isSuccess() && request > needed) {
+                // 임대분만큼은 없어도 이번 요청분은 있을 수 있음
+                request = needed;
+                result = consumeRemote(context, request);
+            }
+
+            if (!result.isSuccess()) {
+                lease.remaining.addAndGet(leftover);
+                return StorageResult.failure(result.getAvailableTokens() + leftover, result.getWaitTime());
+            }
+
+            lease.granted = leftover + request;
+            lease.grantedAt = now;
+            lease.expiresAt = now + leaseNanos;
+            remaining = leftover + request - tokens;
+            lease.remaining.set(remaining);
+            return StorageResult.success(remaining, tokens);
+        }
+    }
+
+    /**
+     * 비동기 임대 갱신
+     * 키마다 갱신은 하나만 진행하고, 그동안 들어온 요청은 갱신이 끝난 뒤 다시 시도
+     */
+    private CompletionStage<StorageResult> renewAsync(Lease lease, StorageContext context,
+                                                      AsyncRateLimiterStorage async) {
+        long tokens = context.getTokens();
+        long leftover;
+        long needed;
+        long request;
+        long now;
+        CompletableFuture<Void> renewal;
+        synchronized (lease) {
+            if (lease.retired) {
+                return tryConsumeAsync(context);
+            }
+            if (lease.renewal != null) {
+                return lease.renewal.thenCompose(ignored -> tryConsumeAsync(context));
+            }
+
+            now = timeSource.nanoTime();
+            long remaining = lease.tryTake(tokens, now);
+            if (remaining >= 0) {
+                return CompletableFuture.completedFuture(StorageResult.success(remaining, tokens));
+            }
+
+            lease.config = context.getConfig();
+            leftover = lease.remaining.getAndSet(0);
+            needed = Math.max(0, tokens - leftover);
+            request = Math.max(needed, nextLeaseSize(lease, leftover, now));
+            renewal = new CompletableFuture<>();
+            lease.renewal = renewal;
+        }
+
+        CompletionStage<StorageResult> remote;
+        try {
+            remote = consumeRemoteAsync(async, context, request).thenCompose(result ->
+                    result.isSuccess() || request <= needed || needed == 0
+                            ? CompletableFuture.completedStage(result)
+                            // 임대분만큼은 없어도 이번 요청분은 있을 수 있음
+                            : consumeRemoteAsync(async, context, needed));
+        } catch (RuntimeException e) {
+            remote = CompletableFuture.failedFuture(e);
+        }
+
+        return remote.handle((result, error) -> {
+            try {
+                synchronized (lease) {
+                    if (error == null && !result.isSuccess() && needed == 0) {
+                        // 이어서 쓸 남은 토큰만으로 충분함
+                        lease.expiresAt = now + leaseNanos;
+                        return StorageResult.success(lease.remaining.addAndGet(leftover - tokens), tokens);
+                    }
+                    if (error != null || !result.isSuccess()) {
+                        lease.remaining.addAndGet(leftover);
+                        if (error != null) {
+                            throw error instanceof CompletionException completion ? completion
+                                    : new CompletionException(error);
+                        }
+                        return StorageResult.failure(result.getAvailableTokens() + leftover, result.getWaitTime());
+                    }
+
+                    long granted = result.getConsumedTokens();
+                    lease.granted = leftover + granted;
+                    lease.grantedAt = now;
+                    lease.expiresAt = now + leaseNanos;
+                    long remaining = lease.remaining.addAndGet(leftover + granted - tokens);
+                    return StorageResult.success(remaining, tokens);
+                }
+            } finally {
+                synchronized (lease) {
+                    lease.renewal = null;
+                }
+                renewal.complete(null);
+            }
+        });
+    }
+
+    private CompletionStage<StorageResult> consumeRemoteAsync(AsyncRateLimiterStorage async, StorageContext context,
+                                                              long tokens) {
+        remoteCalls.increment();
+        return async.tryConsumeAsync(StorageContext.forConsume(context.getKey(), tokens, context.getConfig()));
+    }
+
+    /**
+     * 직전 임대 기간의 소비 속도로 다음 임대 크기 산정
+     */
+    private long nextLeaseSize(Lease lease, long leftover, long now) {
+        if (lease.granted == 0) {
+            return 1;
+        }
+        long consumed = lease.granted - leftover;
+        long elapsed = Math.max(1, now - lease.grantedAt);
+        double estimate = (double) consumed * leaseNanos / elapsed;
+        return Math.max(1, Math.min(maxLeaseTokens, (long) Math.ceil(estimate)));
+    }
+
+    private StorageResult consumeRemote(StorageContext context, long tokens) {
+        remoteCalls.increment();
+        return delegate.tryConsume(StorageContext.forConsume(context.getKey(), tokens, context.getConfig()));
+    }
+
+    private void release(Lease lease) {
+        long leftover = lease.remaining.getAndSet(0);
+        if (leftover > 0) {
+            giveBack(lease, leftover);
+        }
+    }
+
+    private void giveBack(Lease lease, long tokens) {
+        try {
+            delegate.adjust(StorageContext.forAdjust(lease.key, -tokens, lease.config));
+        } catch (UnsupportedOperationException e) {
+            // 반환을 지원하지 않으면 남은 토큰은 버림 (원격 기준으로는 더 보수적인 제한)
+        }
+    }
+
+    private long localTokens(String key) {
+        Lease lease = leases.get(key);
+        return lease == null || lease.isExpired(timeSource.nanoTime()) ? 0 : lease.remaining.get();
+    }
+
+    /**
+     * 키별 임대 상태
+     * 로컬 소비는 {@link #remaining}의 CAS로만 이루어지고, 나머지 필드는 임대 갱신 시 락 안에서 변경됨
+     */
+    private static final class Lease {
+        private final String key;
+        private final AtomicLong remaining = new AtomicLong();
+        private volatile long expiresAt;
+        private volatile boolean retired;
+        private volatile RateLimiterConfig config;
+        // 진행 중인 비동기 갱신 (락 안에서만 변경)
+        private CompletableFuture<Void> renewal;
+        private long grantedAt;
+        private long granted;
+
+        Lease(String key) {
+            this.key = key;
+        }
+
+        /**
+         * 임대 토큰에서 차감
+         *
+         * @return 차감 후 남은 토큰 수 (만료 또는 부족하면 -1)
+         */
+        long tryTake(long tokens, long now) {
+            if (isExpired(now)) {
+                return -1;
+            }
+            long current;
+            do {
+                current = remaining.get();
+                if (current < tokens) {
+                    return -1;
+                }
+            } while (!remaining.compareAndSet(current, current - tokens));
+            return current - tokens;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
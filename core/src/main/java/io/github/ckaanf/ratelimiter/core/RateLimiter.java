@@ -2,6 +2,7 @@ package io.github.ckaanf.ratelimiter.core;
 
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Rate Limiter 핵심 인터페이스
@@ -88,6 +89,97 @@ public interface RateLimiter {
      */
     RateLimiterConfig getConfiguration();
 
+    /**
+     * 하위 키별 버킷에서 토큰 소비 시도 (논블로킹)
+     *
+     * <p>같은 설정과 저장소를 공유하면서 사용자, IP 등 하위 키마다 독립된 버킷을 사용합니다.
+     * 키마다 Rate Limiter를 만들지 않고 저장소의 키 단위 버킷으로 처리합니다.
+     *
+     * @param subKey 하위 키 (예: 사용자 ID)
+     * @param tokens 소비할 토큰 수 (양수)
+     * @return 소비 성공 여부
+     * @throws IllegalArgumentException subKey가 null이거나 tokens가 0 이하인 경우
+     * @throws UnsupportedOperationException 하위 키 버킷을 지원하지 않는 구현체인 경우
+     */
+    default boolean tryConsume(String subKey, long tokens) {
+        throw new UnsupportedOperationException("Keyed buckets are not supported by " + getClass().getName());
+    }
+
+    /**
+     * 하위 키별 버킷에서 객체 생성 없이 토큰 소비 시도
+     *
+     * @param subKey 하위 키
+     * @param tokens 소비할 토큰 수 (양수)
+     * @return {@link ConsumeDecision} 형식으로 인코딩된 판정 값
+     * @throws UnsupportedOperationException 하위 키 버킷을 지원하지 않는 구현체인 경우
+     */
+    default long tryConsumeDecision(String subKey, long tokens) {
+        boolean consumed = tryConsume(subKey, tokens);
+        return ConsumeDecision.encode(consumed, getAvailableTokens(subKey), 0);
+    }
+
+    /**
+     * 하위 키별 버킷의 현재 사용 가능한 토큰 수
+     *
+     * @param subKey 하위 키
+     * @return 사용 가능한 토큰 수
+     * @throws UnsupportedOperationException 하위 키 버킷을 지원하지 않는 구현체인 경우
+     */
+    default long getAvailableTokens(String subKey) {
+        throw new UnsupportedOperationException("Keyed buckets are not supported by " + getClass().getName());
+    }
+
+    /**
+     * 사용하지 않은 토큰 반환
+     * 추정치로 미리 차감한 뒤 실제 비용이 더 작았을 때 차액을 돌려주는 용도
+     *
+     * @param tokens 반환할 토큰 수 (양수, 용량을 넘겨 채우지는 않음)
+     * @return 반환 후 사용 가능한 토큰 수
+     * @throws IllegalArgumentException tokens가 0 이하인 경우
+     * @throws UnsupportedOperationException 저장소가 토큰 조정을 지원하지 않는 경우
+     */
+    default long refund(long tokens) {
+        if (tokens <= 0) {
+            throw new IllegalArgumentException("Tokens must be positive");
+        }
+        return adjust(-tokens);
+    }
+
+    /**
+     * 이미 처리된 요청의 비용을 사후 정산
+     *
+     * <p>양수이면 추가로 차감하고 음수이면 돌려줍니다. 추가 차감은 거부되지 않으며
+     * 잔량이 음수(부채)가 될 수 있고, 이후 요청은 리필로 부채가 상환될 때까지 거부됩니다.
+     *
+     * @param delta 조정할 토큰 수 (0이면 변화 없음)
+     * @return 조정 후 사용 가능한 토큰 수
+     * @throws UnsupportedOperationException 저장소가 토큰 조정을 지원하지 않는 경우
+     */
+    default long adjust(long delta) {
+        throw new UnsupportedOperationException("Token adjustment is not supported by " + getClass().getName());
+    }
+
+    /**
+     * {@link #updateConfiguration(RateLimiterConfig)}로 설정을 교체할 수 있으면 참
+     * 설정 교체를 구현한 구현체는 이 메소드도 함께 재정의해야 합니다.
+     */
+    default boolean supportsConfigurationUpdate() {
+        return false;
+    }
+
+    /**
+     * 실행 중인 Rate Limiter의 설정 교체
+     * 저장소와 버킷 상태는 유지되며, 이후 요청부터 새 설정이 적용됩니다.
+     *
+     * @param newConfig 새 설정 (키는 기존과 같아야 함)
+     * @throws IllegalArgumentException 설정이 이 Rate Limiter와 호환되지 않는 경우
+     * @throws UnsupportedOperationException 설정 교체를 지원하지 않는 구현체인 경우
+     * @see #supportsConfigurationUpdate()
+     */
+    default void updateConfiguration(RateLimiterConfig newConfig) {
+        throw new UnsupportedOperationException("Configuration update is not supported by " + getClass().getName());
+    }
+
     /**
      * 상세한 토큰 소비 결과 반환
      *
@@ -110,6 +202,69 @@ public interface RateLimiter {
         }
     }
 
+    /**
+     * 객체 생성 없이 토큰 소비 시도
+     * 허용/거부와 대기 시간만 필요한 경로(필터 등)에서 사용
+     *
+     * @param tokens 소비할 토큰 수 (양수)
+     * @return {@link ConsumeDecision} 형식으로 인코딩된 판정 값
+     * @throws IllegalArgumentException tokens가 0 이하인 경우
+     */
+    default long tryConsumeDecision(long tokens) {
+        ConsumeResult result = tryConsumeWithResult(tokens);
+        return ConsumeDecision.encode(result.isConsumed(), result.getRemainingTokens(),
+                result.getWaitTime().toNanos());
+    }
+
+    /**
+     * 토큰 소비 시도 후 호출자가 재사용하는 결과 객체에 판정을 기록
+     *
+     * @param tokens   소비할 토큰 수 (양수)
+     * @param decision 판정을 기록할 재사용 객체
+     * @return 소비 성공 여부
+     * @throws IllegalArgumentException tokens가 0 이하인 경우
+     */
+    default boolean tryConsume(long tokens, ConsumeDecision decision) {
+        return decision.update(tryConsumeDecision(tokens));
+    }
+
+    /**
+     * 스레드를 점유하지 않는 토큰 소비 시도
+     *
+     * <p>기본 구현은 {@link #tryConsumeDecision(long)}을 호출 스레드에서 실행합니다.
+     * 원격 저장소를 쓰는 구현체는 {@link AsyncRateLimiterStorage}로 재정의하여 응답을 기다리는 동안
+     * 스레드를 반환해야 합니다.
+     *
+     * @param tokens 소비할 토큰 수 (양수)
+     * @return {@link ConsumeDecision} 형식으로 인코딩된 판정 값
+     * @throws IllegalArgumentException tokens가 0 이하인 경우
+     */
+    default CompletionStage<Long> tryConsumeDecisionAsync(long tokens) {
+        return CompletableFuture.completedFuture(tryConsumeDecision(tokens));
+    }
+
+    /**
+     * 하위 키별 버킷에서 스레드를 점유하지 않는 토큰 소비 시도
+     *
+     * @param subKey 하위 키
+     * @param tokens 소비할 토큰 수 (양수)
+     * @return {@link ConsumeDecision} 형식으로 인코딩된 판정 값
+     * @throws UnsupportedOperationException 하위 키 버킷을 지원하지 않는 구현체인 경우
+     * @see #tryConsumeDecisionAsync(long)
+     */
+    default CompletionStage<Long> tryConsumeDecisionAsync(String subKey, long tokens) {
+        return CompletableFuture.completedFuture(tryConsumeDecision(subKey, tokens));
+    }
+
+    /**
+     * 판정 메트릭스 (허용/거부 횟수, 대기 시간 분포, 저장소 버킷 통계)
+     *
+     * @return 메트릭스, 수집하지 않는 구현체는 {@link RateLimiterMetrics#disabled()}
+     */
+    default RateLimiterMetrics getMetrics() {
+        return RateLimiterMetrics.disabled();
+    }
+
     /**
      * 현재 버킷 상태 조회
      *
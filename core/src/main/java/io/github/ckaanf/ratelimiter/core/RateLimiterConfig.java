@@ -48,6 +48,10 @@ public class RateLimiterConfig {
         return new RateLimiterConfig(newKey, algorithmConfig, storageConfig, metadata);
     }
 
+    public RateLimiterConfig withAlgorithmConfig(AlgorithmConfig newAlgorithmConfig) {
+        return new RateLimiterConfig(key, newAlgorithmConfig, storageConfig, metadata);
+    }
+
     public RateLimiterConfig withMetadata(String key, Object value) {
         Map<String, Object> newMetadata = new java.util.HashMap<>(this.metadata);
         newMetadata.put(key, value);
@@ -0,0 +1,202 @@
+package io.github.ckaanf.ratelimiter.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate Limiter 판정 메트릭스 (판정 경로에서 갱신)
+ *
+ * <p>허용/거부 횟수와 거부 시 대기 시간 분포를 {@link LongAdder}로 누적하므로
+ * 경합이 심한 경로에서도 비용이 작고, 조회는 키 수와 무관하게 상수 시간입니다.
+ * 버킷 수와 제거 횟수는 저장소에서 읽어 옵니다.
+ *
+ * <p>하위 키 버킷을 사용하는 경우 요청이 많은 키와 거부가 많은 키를
+ * {@link HotKeySampler}로 고정된 메모리 안에서 추정합니다.
+ */
+public final class RateLimiterMetrics {
+
+    // 대기 시간 분포의 상한 경계 (마지막 구간은 그 이상 전부)
+    private static final long[] WAIT_BUCKET_BOUNDS_NANOS = {
+            TimeUnit.MILLISECONDS.toNanos(1),
+            TimeUnit.MILLISECONDS.toNanos(10),
+            TimeUnit.MILLISECONDS.toNanos(100),
+            TimeUnit.SECONDS.toNanos(1),
+            TimeUnit.SECONDS.toNanos(10),
+            TimeUnit.MINUTES.toNanos(1),
+            Long.MAX_VALUE
+    };
+
+    // 상위 키 추정에 사용하는 샘플러 크기와 샘플링 간격
+    private static final int HOT_KEY_CAPACITY = 64;
+    private static final int HOT_KEY_SAMPLE_EVERY = 8;
+
+    private static final RateLimiterMetrics DISABLED = new RateLimiterMetrics(() -> -1, () -> 0, false);
+
+    private final boolean enabled;
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder[] waitBuckets = new LongAdder[WAIT_BUCKET_BOUNDS_NANOS.length];
+    private final LongSupplier bucketCount;
+    private final LongSupplier evictionCount;
+    private final HotKeySampler requestedKeys;
+    private final HotKeySampler rejectedKeys;
+
+    private RateLimiterMetrics(LongSupplier bucketCount, LongSupplier evictionCount, boolean enabled) {
+        this.bucketCount = bucketCount;
+        this.evictionCount = evictionCount;
+        this.enabled = enabled;
+        this.requestedKeys = enabled ? new HotKeySampler(HOT_KEY_CAPACITY, HOT_KEY_SAMPLE_EVERY) : null;
+        this.rejectedKeys = enabled ? new HotKeySampler(HOT_KEY_CAPACITY, HOT_KEY_SAMPLE_EVERY) : null;
+        for (int i = 0; i < waitBuckets.length; i++) {
+            waitBuckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 저장소 통계를 함께 노출하는 메트릭스 생성
+     */
+    public static RateLimiterMetrics forStorage(RateLimiterStorage storage) {
+        return new RateLimiterMetrics(storage::getBucketCount, storage::getEvictionCount, true);
+    }
+
+    /**
+     * 메트릭스를 수집하지 않는 구현체용 (모든 값이 0)
+     */
+    public static RateLimiterMetrics disabled() {
+        return DISABLED;
+    }
+
+    // === 기록 ===
+
+    /**
+     * 인코딩된 판정 값 기록
+     *
+     * @return 전달받은 판정 값 (호출부에서 그대로 반환할 수 있도록)
+     */
+    public long record(long decision) {
+        if (ConsumeDecision.isAllowed(decision)) {
+            recordAllowed();
+        } else {
+            recordRejected(ConsumeDecision.waitNanos(decision));
+        }
+        return decision;
+    }
+
+    public void recordAllowed() {
+        if (enabled) {
+            allowed.increment();
+        }
+    }
+
+    public void recordRejected(long waitNanos) {
+        if (!enabled) {
+            return;
+        }
+        rejected.increment();
+
+        long wait = Math.max(waitNanos, 0);
+        totalWaitNanos.add(wait);
+        int bucket = 0;
+        while (wait > WAIT_BUCKET_BOUNDS_NANOS[bucket]) {
+            bucket++;
+        }
+        waitBuckets[bucket].increment();
+    }
+
+    /**
+     * 하위 키 버킷 판정 기록 (상위 키 추정용, 샘플링 적용)
+     */
+    public void recordKey(String key, boolean allowed) {
+        if (!enabled) {
+            return;
+        }
+        requestedKeys.record(key);
+        if (!allowed) {
+            rejectedKeys.record(key);
+        }
+    }
+
+    // === 조회 ===
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getAllowedCount() {
+        return allowed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * 거부된 요청의 대기 시간 합계 (나노초)
+     */
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    /**
+     * 대기 시간 분포 구간 수
+     */
+    public int getWaitBucketCount() {
+        return WAIT_BUCKET_BOUNDS_NANOS.length;
+    }
+
+    /**
+     * 구간의 상한 (나노초, 마지막 구간은 {@link Long#MAX_VALUE})
+     */
+    public long getWaitBucketBoundNanos(int index) {
+        return WAIT_BUCKET_BOUNDS_NANOS[index];
+    }
+
+    /**
+     * 대기 시간이 구간 상한 이하인 거부 횟수 (누적)
+     */
+    public long getCumulativeWaitCount(int index) {
+        long count = 0;
+        for (int i = 0; i <= index; i++) {
+            count += waitBuckets[i].sum();
+        }
+        return count;
+    }
+
+    /**
+     * 저장소가 관리 중인 버킷 수 (알 수 없으면 -1)
+     */
+    public long getActiveBuckets() {
+        return bucketCount.getAsLong();
+    }
+
+    /**
+     * 만료 또는 용량 초과로 제거된 버킷 수 누계
+     */
+    public long getEvictionCount() {
+        return evictionCount.getAsLong();
+    }
+
+    /**
+     * 요청이 가장 많은 하위 키 (추정치)
+     */
+    public List<HotKeySampler.KeyCount> getHottestKeys(int limit) {
+        return enabled ? requestedKeys.top(limit) : Collections.emptyList();
+    }
+
+    /**
+     * 거부가 가장 많은 하위 키 (추정치)
+     */
+    public List<HotKeySampler.KeyCount> getMostRejectedKeys(int limit) {
+        return enabled ? rejectedKeys.top(limit) : Collections.emptyList();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RateLimiterMetrics{allowed=%d, rejected=%d, buckets=%d, evictions=%d}",
+                getAllowedCount(), getRejectedCount(), getActiveBuckets(), getEvictionCount());
+    }
+}
@@ -6,14 +6,25 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Rate Limiter 중앙 레지스트리
  * SPI를 통해 프로바이더들을 자동 발견하고 관리
+ *
+ * <p>{@link #getInstance()}는 JVM 전역에서 공유되는 싱글톤입니다. 컨텍스트(Spring 애플리케이션 컨텍스트,
+ * 테스트, 모듈)별로 상태를 분리하려면 {@link #create()}로 별도 인스턴스를 만들고,
+ * 사용이 끝나면 {@link #close()}로 저장소와 정리 스레드를 종료하세요.
+ *
+ * <p>레지스트리가 소유하고 {@link #close()}에서 종료하는 저장소는 {@link #getRateLimiter}로 등록한
+ * Rate Limiter의 저장소뿐입니다. {@link #createRateLimiter}와 {@link #createStorage}로 만든 저장소는
+ * 호출자가 소유하므로, 닫히지 않는 싱글톤에서 반복 생성해도 레지스트리에 쌓이지 않습니다.
  */
-public class RateLimiterRegistry {
+public class RateLimiterRegistry implements AutoCloseable {
 
     private static final RateLimiterRegistry INSTANCE = new RateLimiterRegistry();
 
     private final Map<String, RateLimiterProvider> algorithmProviders = new ConcurrentHashMap<>();
     private final Map<String, StorageProvider> storageProviders = new ConcurrentHashMap<>();
     private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+    private final Map<String, RateLimiterStorage> ownedStorages = new ConcurrentHashMap<>(); // 등록된 Rate Limiter의 저장소
+
+    private volatile boolean closed;
 
     private RateLimiterRegistry() {
         loadProviders();
@@ -30,6 +41,13 @@ public class RateLimiterRegistry {
         return INSTANCE;
     }
 
+    /**
+     * 싱글톤과 상태를 공유하지 않는 새 레지스트리 생성 (SPI 로딩 포함)
+     */
+    public static RateLimiterRegistry create() {
+        return new RateLimiterRegistry(false);
+    }
+
     /**
      * 테스트용 레지스트리 생성 (SPI 로딩 스킵)
      */
@@ -37,27 +55,152 @@ public class RateLimiterRegistry {
         return new RateLimiterRegistry(true);
     }
 
+    /**
+     * 지정한 프로바이더만 등록된 레지스트리 생성 (SPI 스캔 없음)
+     * 빌드 시점에 프로바이더 목록이 정해진 환경(네이티브 이미지 등)에서 {@link ServiceLoader} 대신 사용합니다.
+     */
+    public static RateLimiterRegistry withProviders(Collection<? extends RateLimiterProvider> algorithmProviders,
+                                                    Collection<? extends StorageProvider> storageProviders) {
+        RateLimiterRegistry registry = new RateLimiterRegistry(true);
+        algorithmProviders.forEach(registry::registerAlgorithmProvider);
+        storageProviders.forEach(registry::registerStorageProvider);
+        return registry;
+    }
+
     /**
      * Rate Limiter 생성 또는 기존 인스턴스 반환
+     * 새로 만든 Rate Limiter의 저장소는 레지스트리가 소유하며 {@link #close()}에서 함께 종료됩니다.
      */
     public RateLimiter getRateLimiter(RateLimiterConfig config) {
-        return rateLimiters.computeIfAbsent(config.getKey(),
-                k -> createRateLimiter(config));
+        return rateLimiters.computeIfAbsent(config.getKey(), k -> createWithNewStorage(config, true));
     }
 
     /**
-     * 새로운 Rate Limiter 생성
+     * 등록하지 않은 새 Rate Limiter 생성
+     *
+     * <p>저장소는 레지스트리가 추적하지 않습니다. 정리 스레드나 파일처럼 종료가 필요한 저장소라면
+     * {@link #getRateLimiter}로 등록하거나, {@link #createStorage}와 {@link #createRateLimiter(RateLimiterConfig, RateLimiterStorage)}로
+     * 저장소를 직접 소유하세요.
      */
     public RateLimiter createRateLimiter(RateLimiterConfig config) {
-        RateLimiterProvider algorithmProvider = getAlgorithmProvider(config);
-        StorageProvider storageProvider = getStorageProvider(config);
+        return createWithNewStorage(config, false);
+    }
+
+    /**
+     * 호출자가 소유한 저장소 위에 등록하지 않은 새 Rate Limiter 생성
+     *
+     * @param config  Rate Limiter 설정
+     * @param storage 사용할 저장소 (종료는 호출자가 담당)
+     */
+    public RateLimiter createRateLimiter(RateLimiterConfig config, RateLimiterStorage storage) {
+        if (closed) {
+            throw new IllegalStateException("RateLimiterRegistry is closed");
+        }
 
-        RateLimiterStorage storage = storageProvider.create(config.getStorageConfig());
+        RateLimiterProvider algorithmProvider = getAlgorithmProvider(config);
         storage.initialize(config);
 
         return algorithmProvider.create(config, storage);
     }
 
+    /**
+     * Rate Limiter 없이 저장소만 생성
+     *
+     * <p>판정 서버처럼 저장소를 직접 호출하는 경우에 사용합니다.
+     * 생성된 저장소는 호출자가 소유하며, 사용이 끝나면 {@link RateLimiterStorage#shutdown()}으로 종료해야 합니다.
+     *
+     * @param storageConfig 저장소 설정
+     * @return 초기화하지 않은 저장소 ({@link RateLimiterStorage#initialize}는 호출자가 수행)
+     */
+    public RateLimiterStorage createStorage(StorageConfig storageConfig) {
+        if (closed) {
+            throw new IllegalStateException("RateLimiterRegistry is closed");
+        }
+
+        return getStorageProvider(storageConfig).create(storageConfig);
+    }
+
+    /**
+     * 등록된 모든 Rate Limiter의 조회 경로를 한 번씩 실행 (버킷 상태는 바뀌지 않음)
+     * 트래픽을 받기 전에 저장소 초기화와 클래스 로딩 비용을 미리 치르기 위해 사용합니다.
+     *
+     * @return 워밍업한 Rate Limiter 수
+     */
+    public int warmUp() {
+        int count = 0;
+        for (RateLimiter limiter : rateLimiters.values()) {
+            limiter.getAvailableTokens();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 등록된 Rate Limiter의 저장소를 모두 종료하고 등록을 해제
+     * 종료 후에는 새 Rate Limiter를 만들 수 없습니다. 여러 번 호출해도 안전합니다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        rateLimiters.clear();
+
+        for (String key : ownedStorages.keySet()) {
+            RateLimiterStorage storage = ownedStorages.remove(key);
+            if (storage == null) {
+                continue;
+            }
+            try {
+                storage.shutdown();
+            } catch (RuntimeException e) {
+                System.err.println("Failed to shut down storage: " + e.getMessage());
+            }
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 등록된 Rate Limiter의 알고리즘 설정을 교체
+     *
+     * <p>새 저장소를 만들지 않고 기존 Rate Limiter의 설정만 원자적으로 바꾸므로 버킷 상태가 유지됩니다.
+     * 저장소는 다음 접근 시점에 각 버킷을 새 설정으로 옮깁니다.
+     *
+     * @param key             Rate Limiter 키
+     * @param algorithmConfig 새 알고리즘 설정 (기존과 같은 타입이어야 함)
+     * @return 설정이 교체된 Rate Limiter
+     * @throws IllegalArgumentException 등록된 Rate Limiter가 없거나 설정이 호환되지 않는 경우
+     * @throws UnsupportedOperationException 등록된 Rate Limiter가 설정 교체를 지원하지 않는 경우
+     */
+    public RateLimiter updateConfig(String key, AlgorithmConfig algorithmConfig) {
+        Objects.requireNonNull(algorithmConfig, "Algorithm config cannot be null");
+        algorithmConfig.validate();
+
+        RateLimiter limiter = rateLimiters.get(key);
+        if (limiter == null) {
+            throw new IllegalArgumentException("No rate limiter registered for key: " + key);
+        }
+        if (!limiter.supportsConfigurationUpdate()) {
+            throw new UnsupportedOperationException(String.format(
+                    "Rate limiter '%s' (%s) does not support configuration updates",
+                    key, limiter.getClass().getName()));
+        }
+
+        RateLimiterConfig current = limiter.getConfiguration();
+        String currentType = current.getAlgorithmConfig().getType();
+        if (!currentType.equals(algorithmConfig.getType())) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot change algorithm type from '%s' to '%s'", currentType, algorithmConfig.getType()));
+        }
+
+        RateLimiterConfig newConfig = current.withAlgorithmConfig(algorithmConfig);
+        getAlgorithmProvider(newConfig);
+
+        limiter.updateConfiguration(newConfig);
+        return limiter;
+    }
+
     /**
      * 프로바이더 수동 등록
      */
@@ -78,6 +221,24 @@ public class RateLimiterRegistry {
         rateLimiters.clear();
     }
 
+    /**
+     * 새 저장소를 만들어 Rate Limiter 생성 (생성 실패 시 저장소를 바로 종료)
+     */
+    private RateLimiter createWithNewStorage(RateLimiterConfig config, boolean owned) {
+        getAlgorithmProvider(config);
+        RateLimiterStorage storage = createStorage(config.getStorageConfig());
+        try {
+            RateLimiter limiter = createRateLimiter(config, storage);
+            if (owned) {
+                ownedStorages.put(config.getKey(), storage);
+            }
+            return limiter;
+        } catch (RuntimeException e) {
+            storage.shutdown();
+            throw e;
+        }
+    }
+
     private RateLimiterProvider getAlgorithmProvider(RateLimiterConfig config) {
         String algorithmType = config.getAlgorithmConfig().getType();
         RateLimiterProvider provider = algorithmProviders.get(algorithmType);
@@ -93,16 +254,16 @@ public class RateLimiterRegistry {
         return provider;
     }
 
-    private StorageProvider getStorageProvider(RateLimiterConfig config) {
-        String storageType = config.getStorageConfig().getType();
+    private StorageProvider getStorageProvider(StorageConfig storageConfig) {
+        String storageType = storageConfig.getType();
         StorageProvider provider = storageProviders.get(storageType);
 
         if (provider == null) {
             throw new IllegalArgumentException("No provider found for storage: " + storageType);
         }
 
-        if (!provider.supports(config.getStorageConfig())) {
-            throw new IllegalArgumentException("Storage provider does not support config: " + config.getStorageConfig());
+        if (!provider.supports(storageConfig)) {
+            throw new IllegalArgumentException("Storage provider does not support config: " + storageConfig);
         }
 
         return provider;
@@ -217,6 +378,13 @@ public class RateLimiterRegistry {
             return Optional.ofNullable(rateLimiters.get(name));
         }
 
+        /**
+         * 등록된 모든 RateLimiter (이름 → RateLimiter, 읽기 전용 뷰)
+         */
+        public Map<String, RateLimiter> getRateLimiters() {
+            return Collections.unmodifiableMap(rateLimiters);
+        }
+
 
 
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package io.github.ckaanf.ratelimiter.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Rate Limiter 저장소 추상화
  * 메모리, Redis, DB 등 다양한 저장소를 지원하기 위한 인터페이스
@@ -19,6 +22,99 @@ public interface RateLimiterStorage {
      */
     StorageResult tryConsume(StorageContext context);
 
+    /**
+     * 객체 생성 없이 토큰 소비 시도
+     * 결과는 {@link ConsumeDecision}의 인코딩 형식을 따름
+     *
+     * <p>기본 구현은 {@link #tryConsume(StorageContext)}의 결과를 변환하므로,
+     * 저장소 구현체는 할당 없는 경로로 재정의하는 것을 권장합니다.
+     *
+     * @param context 소비 컨텍스트
+     * @return 인코딩된 판정 값
+     */
+    default long tryConsumeDecision(StorageContext context) {
+        return ConsumeDecision.fromStorageResult(tryConsume(context));
+    }
+
+    /**
+     * 여러 키에 대한 토큰 소비를 한 번의 저장소 호출로 시도
+     * 각 항목은 독립적으로 평가되며, 일부만 성공할 수 있음
+     *
+     * @param contexts 소비 컨텍스트 목록
+     * @return 입력 순서와 동일한 순서의 소비 결과 목록
+     */
+    default List<StorageResult> tryConsumeAll(List<StorageContext> contexts) {
+        return tryConsumeAll(contexts, false);
+    }
+
+    /**
+     * 여러 키에 대한 토큰 소비를 한 번의 저장소 호출로 시도
+     *
+     * <p>기본 구현은 각 컨텍스트를 순서대로 {@link #tryConsume(StorageContext)}에 위임하고,
+     * all-or-nothing 모드에서 실패하면 이미 소비한 토큰을 {@link #adjust(StorageContext)}로 되돌립니다.
+     * 이 보상 방식은 원자적이지 않아, 되돌리기 전까지 다른 호출자가 줄어든 잔량을 볼 수 있습니다.
+     * 원격 저장소는 이 메소드를 재정의하여 한 번의 왕복으로 처리하는 것을 권장합니다.
+     *
+     * @param contexts     소비 컨텍스트 목록
+     * @param allOrNothing true이면 하나라도 실패할 경우 어떤 토큰도 소비하지 않음
+     * @return 입력 순서와 동일한 순서의 소비 결과 목록
+     * @throws UnsupportedOperationException all-or-nothing 모드인데 {@link #supportsAdjust()}가 false인 경우
+     *                                       (아무 토큰도 소비하기 전에 거부)
+     */
+    default List<StorageResult> tryConsumeAll(List<StorageContext> contexts, boolean allOrNothing) {
+        if (allOrNothing && !supportsAdjust()) {
+            throw new UnsupportedOperationException(
+                    "All-or-nothing batches require token adjustment, which is not supported by storage: " + getType());
+        }
+
+        List<StorageResult> results = new ArrayList<>(contexts.size());
+        for (int i = 0; i < contexts.size(); i++) {
+            StorageResult result = tryConsume(contexts.get(i));
+            results.add(result);
+
+            if (allOrNothing && !result.isSuccess()) {
+                for (int j = i - 1; j >= 0; j--) {
+                    StorageContext consumed = contexts.get(j);
+                    StorageResult restored = adjust(StorageContext.forAdjust(
+                            consumed.getKey(), -consumed.getTokens(), consumed.getConfig()));
+                    results.set(j, StorageResult.aborted(restored.getAvailableTokens()));
+                }
+                for (int j = i + 1; j < contexts.size(); j++) {
+                    StorageContext skipped = contexts.get(j);
+                    StorageResult state = getTokenState(StorageContext.forQuery(skipped.getKey(), skipped.getConfig()));
+                    results.add(StorageResult.aborted(state.getAvailableTokens()));
+                }
+                return results;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 토큰 수를 사후 조정 (원자적 연산)
+     *
+     * <p>컨텍스트의 토큰 수가 양수이면 추가로 차감하고, 음수이면 그만큼 돌려줍니다.
+     * 추가 차감은 잔량과 무관하게 적용되어 잔량이 음수(부채)가 될 수 있으며, 이후 리필로 상환됩니다.
+     * 반환은 용량을 넘지 않습니다.
+     *
+     * @param context 조정 컨텍스트 ({@link StorageContext#forAdjust})
+     * @return 조정 후 토큰 상태
+     * @throws UnsupportedOperationException 저장소가 토큰 조정을 지원하지 않는 경우
+     */
+    default StorageResult adjust(StorageContext context) {
+        throw new UnsupportedOperationException("Token adjustment is not supported by storage: " + getType());
+    }
+
+    /**
+     * {@link #adjust(StorageContext)} 지원 여부
+     * 기본 all-or-nothing 배치는 이 값으로 보상 가능 여부를 소비 전에 확인합니다.
+     *
+     * @return 토큰 조정을 지원하면 true
+     */
+    default boolean supportsAdjust() {
+        return false;
+    }
+
     /**
      * 현재 토큰 상태 조회
      *
@@ -27,6 +123,23 @@ public interface RateLimiterStorage {
      */
     StorageResult getTokenState(StorageContext context);
 
+    /**
+     * 저장소가 관리 중인 버킷 수
+     * 메트릭스 조회용이므로 버킷 전체를 순회하지 않고 구할 수 있어야 합니다.
+     *
+     * @return 버킷 수 (알 수 없으면 -1)
+     */
+    default long getBucketCount() {
+        return -1;
+    }
+
+    /**
+     * 만료 또는 용량 초과로 제거된 버킷 수 누계
+     */
+    default long getEvictionCount() {
+        return 0;
+    }
+
     /**
      * 저장소 초기화
      *
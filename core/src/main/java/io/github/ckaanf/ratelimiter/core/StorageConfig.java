@@ -1,5 +1,7 @@
 package io.github.ckaanf.ratelimiter.core;
 
+import io.github.ckaanf.ratelimiter.core.time.TimeSource;
+
 import java.util.Map;
 
 /**
@@ -31,4 +33,13 @@ public interface StorageConfig {
      * 성능 관련 설정 (풀 크기, 타임아웃 등)
      */
     Map<String, Object> getPerformanceProperties();
+
+    /**
+     * 버킷 리필 계산에 사용할 시간 소스
+     *
+     * @return 시간 소스 (기본값: {@link TimeSource#system()})
+     */
+    default TimeSource getTimeSource() {
+        return TimeSource.system();
+    }
 }
\ No newline at end of file
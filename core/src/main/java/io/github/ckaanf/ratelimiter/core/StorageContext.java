@@ -11,7 +11,7 @@ public class StorageContext {
     private final OperationType operation;
 
     public enum OperationType {
-        CONSUME, QUERY
+        CONSUME, QUERY, ADJUST
     }
 
     private StorageContext(String key, long tokens, RateLimiterConfig config, OperationType operation) {
@@ -25,6 +25,15 @@ public class StorageContext {
         return new StorageContext(key, tokens, config, OperationType.CONSUME);
     }
 
+    /**
+     * 토큰 조정 컨텍스트
+     *
+     * @param delta 양수이면 추가 차감, 음수이면 반환할 토큰 수
+     */
+    public static StorageContext forAdjust(String key, long delta, RateLimiterConfig config) {
+        return new StorageContext(key, delta, config, OperationType.ADJUST);
+    }
+
     public static StorageContext forQuery(String key, RateLimiterConfig config) {
         return new StorageContext(key, 0, config, OperationType.QUERY);
     }
@@ -34,6 +34,22 @@ public class StorageResult {
         return new StorageResult(false, availableTokens, 0, waitTime, null, null);
     }
 
+    /**
+     * all-or-nothing 배치가 다른 항목의 실패로 취소되었음을 나타내는 결과
+     */
+    public static StorageResult aborted(long availableTokens) {
+        return new StorageResult(false, availableTokens, 0, Duration.ZERO, null, Map.of("batchAborted", true));
+    }
+
+    /**
+     * 토큰 조정 결과
+     *
+     * @param adjustedTokens 실제로 반영된 조정량 (반환은 음수)
+     */
+    public static StorageResult adjusted(long availableTokens, long adjustedTokens) {
+        return new StorageResult(true, availableTokens, adjustedTokens, Duration.ZERO, null, null);
+    }
+
     public static StorageResult query(long availableTokens, Instant nextRefillTime) {
         return new StorageResult(true, availableTokens, 0, Duration.ZERO, nextRefillTime, null);
     }
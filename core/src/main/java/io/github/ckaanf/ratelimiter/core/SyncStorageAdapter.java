@@ -0,0 +1,106 @@
+package io.github.ckaanf.ratelimiter.core;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 동기 저장소를 {@link AsyncRateLimiterStorage}로 감싸는 어댑터
+ * 실행기가 없으면 호출 스레드에서 실행하고, 있으면 실행기로 넘김
+ */
+final class SyncStorageAdapter implements AsyncRateLimiterStorage {
+
+    private final RateLimiterStorage delegate;
+    private final Executor executor;
+
+    SyncStorageAdapter(RateLimiterStorage delegate, Executor executor) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate storage cannot be null");
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletionStage<StorageResult> tryConsumeAsync(StorageContext context) {
+        return run(() -> delegate.tryConsume(context));
+    }
+
+    @Override
+    public CompletionStage<StorageResult> getTokenStateAsync(StorageContext context) {
+        return run(() -> delegate.getTokenState(context));
+    }
+
+    private CompletionStage<StorageResult> run(Supplier<StorageResult> call) {
+        if (executor != null) {
+            return CompletableFuture.supplyAsync(call, executor);
+        }
+        try {
+            return CompletableFuture.completedFuture(call.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // === 동기 메소드는 그대로 위임 ===
+
+    @Override
+    public String getType() {
+        return delegate.getType();
+    }
+
+    @Override
+    public StorageResult tryConsume(StorageContext context) {
+        return delegate.tryConsume(context);
+    }
+
+    @Override
+    public long tryConsumeDecision(StorageContext context) {
+        return delegate.tryConsumeDecision(context);
+    }
+
+    @Override
+    public List<StorageResult> tryConsumeAll(List<StorageContext> contexts, boolean allOrNothing) {
+        return delegate.tryConsumeAll(contexts, allOrNothing);
+    }
+
+    @Override
+    public StorageResult adjust(StorageContext context) {
+        return delegate.adjust(context);
+    }
+
+    @Override
+    public boolean supportsAdjust() {
+        return delegate.supportsAdjust();
+    }
+
+    @Override
+    public StorageResult getTokenState(StorageContext context) {
+        return delegate.getTokenState(context);
+    }
+
+    @Override
+    public long getBucketCount() {
+        return delegate.getBucketCount();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return delegate.getEvictionCount();
+    }
+
+    @Override
+    public void initialize(RateLimiterConfig config) {
+        delegate.initialize(config);
+    }
+
+    @Override
+    public void cleanup() {
+        delegate.cleanup();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+}
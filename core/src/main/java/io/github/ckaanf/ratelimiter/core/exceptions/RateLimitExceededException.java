@@ -4,6 +4,9 @@ import java.time.Duration;
 
 /**
  * Rate Limit 초과 시 발생하는 예외
+ *
+ * <p>거부가 잦은 경로에서는 스택 트레이스 수집 비용이 판정 비용보다 커지므로
+ * {@link #stackless(String, long, long, Duration)}로 스택 트레이스 없는 예외를 만들 수 있습니다.
  */
 public class RateLimitExceededException extends RuntimeException {
     private final long tokensRequested;
@@ -18,6 +21,23 @@ public class RateLimitExceededException extends RuntimeException {
         this.waitTime = waitTime;
     }
 
+    protected RateLimitExceededException(String message, long tokensRequested, long availableTokens,
+                                         Duration waitTime, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+        this.tokensRequested = tokensRequested;
+        this.availableTokens = availableTokens;
+        this.waitTime = waitTime;
+    }
+
+    /**
+     * 스택 트레이스와 suppressed 예외를 기록하지 않는 예외 생성
+     * 여러 호출에서 같은 인스턴스를 재사용해도 안전합니다.
+     */
+    public static RateLimitExceededException stackless(String message, long tokensRequested,
+                                                       long availableTokens, Duration waitTime) {
+        return new RateLimitExceededException(message, tokensRequested, availableTokens, waitTime, false);
+    }
+
     public RateLimitExceededException(long tokensRequested, long availableTokens, Duration waitTime) {
         this(String.format("Rate limit exceeded. Requested: %d, Available: %d, Wait time: %s",
                         tokensRequested, availableTokens, waitTime),
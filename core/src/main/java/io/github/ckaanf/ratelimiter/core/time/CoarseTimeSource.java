@@ -0,0 +1,76 @@
+package io.github.ckaanf.ratelimiter.core.time;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 백그라운드 티커가 주기적으로 갱신하는 캐시된 시간 소스
+ *
+ * <p>요청마다 시계를 읽지 않고 volatile 필드만 읽으므로 판정 경로의 비용이 줄어드는 대신,
+ * 시간 해상도가 갱신 간격으로 제한됩니다. 리필 주기보다 충분히 짧은 간격을 사용하세요.
+ * 나노초 값은 {@code System.nanoTime()}에서 가져오므로 단조 증가합니다.
+ */
+public final class CoarseTimeSource implements TimeSource, AutoCloseable {
+
+    private final Duration tickInterval;
+    private final ScheduledExecutorService ticker;
+
+    private volatile long nanoTime;
+    private volatile long currentTimeMillis;
+
+    CoarseTimeSource(Duration tickInterval) {
+        if (tickInterval.isNegative() || tickInterval.toNanos() < 1000) {
+            throw new IllegalArgumentException("Tick interval must be at least 1 microsecond: " + tickInterval);
+        }
+
+        this.tickInterval = tickInterval;
+        tick();
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "rate-limiter-coarse-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long intervalMicros = TimeUnit.NANOSECONDS.toMicros(tickInterval.toNanos());
+        ticker.scheduleAtFixedRate(this::tick, intervalMicros, intervalMicros, TimeUnit.MICROSECONDS);
+    }
+
+    private void tick() {
+        nanoTime = System.nanoTime();
+        currentTimeMillis = System.currentTimeMillis();
+    }
+
+    @Override
+    public long nanoTime() {
+        return nanoTime;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return currentTimeMillis;
+    }
+
+    public Duration getTickInterval() {
+        return tickInterval;
+    }
+
+    /**
+     * 티커 종료 (이후 시간은 더 이상 갱신되지 않음)
+     */
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    public boolean isClosed() {
+        return ticker.isShutdown();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CoarseTimeSource{tick=%s}", tickInterval);
+    }
+}
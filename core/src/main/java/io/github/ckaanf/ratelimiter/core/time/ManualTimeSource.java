@@ -0,0 +1,50 @@
+package io.github.ckaanf.ratelimiter.core.time;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 수동으로 진행시키는 시간 소스
+ * 리필 등 시간에 의존하는 동작을 결정적으로 테스트할 때 사용
+ */
+public final class ManualTimeSource implements TimeSource {
+
+    private final long epochMillisAtZero = Instant.EPOCH.toEpochMilli();
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    ManualTimeSource() {
+    }
+
+    @Override
+    public long nanoTime() {
+        return nanoTime.get();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return epochMillisAtZero + TimeUnit.NANOSECONDS.toMillis(nanoTime.get());
+    }
+
+    /**
+     * 시간을 앞으로 진행
+     *
+     * @param duration 진행할 시간 (음수 불가)
+     */
+    public void advance(Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Cannot move time backwards: " + duration);
+        }
+        nanoTime.addAndGet(duration.toNanos());
+    }
+
+    public void advanceMillis(long millis) {
+        advance(Duration.ofMillis(millis));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ManualTimeSource{nanoTime=%d}", nanoTime.get());
+    }
+}
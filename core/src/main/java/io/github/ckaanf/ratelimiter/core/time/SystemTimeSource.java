@@ -0,0 +1,27 @@
+package io.github.ckaanf.ratelimiter.core.time;
+
+/**
+ * {@code System.nanoTime()} 기반 단조 시간 소스
+ */
+public final class SystemTimeSource implements TimeSource {
+
+    static final SystemTimeSource INSTANCE = new SystemTimeSource();
+
+    private SystemTimeSource() {
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public String toString() {
+        return "SystemTimeSource";
+    }
+}
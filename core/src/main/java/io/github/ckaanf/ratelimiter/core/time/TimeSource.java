@@ -0,0 +1,75 @@
+package io.github.ckaanf.ratelimiter.core.time;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Rate Limiter가 사용하는 시간 소스 추상화
+ *
+ * <p>버킷 리필 계산은 NTP 보정 등으로 벽시계가 점프해도 영향을 받지 않도록
+ * 단조 증가하는 {@link #nanoTime()}을 사용하고, 사람이 읽는 시각이 필요한 경우에만
+ * {@link #toInstant(long)}로 변환합니다.
+ *
+ * <p>제공되는 구현:
+ * <ul>
+ *   <li>{@link #system()}: {@code System.nanoTime()} 기반 단조 시간</li>
+ *   <li>{@link #coarse(Duration)}: 백그라운드 티커가 주기적으로 갱신하는 캐시된 시간</li>
+ *   <li>{@link #manual()}: 테스트용 수동 시간</li>
+ * </ul>
+ */
+public interface TimeSource {
+
+    /**
+     * 단조 증가하는 나노초 시간 (기준점은 구현체마다 다름)
+     */
+    long nanoTime();
+
+    /**
+     * 현재 벽시계 시각 (epoch 밀리초)
+     */
+    long currentTimeMillis();
+
+    /**
+     * 이 시간 소스의 나노초 값을 벽시계 시각으로 변환
+     *
+     * @param nanoTime {@link #nanoTime()}으로 얻은 값
+     * @return 해당 시점의 벽시계 시각
+     */
+    default Instant toInstant(long nanoTime) {
+        return Instant.ofEpochMilli(currentTimeMillis()).plusNanos(nanoTime - nanoTime());
+    }
+
+    /**
+     * 현재 벽시계 시각
+     */
+    default Instant instant() {
+        return Instant.ofEpochMilli(currentTimeMillis());
+    }
+
+    // === Factory methods ===
+
+    /**
+     * {@code System.nanoTime()} 기반 시간 소스 (기본값)
+     */
+    static TimeSource system() {
+        return SystemTimeSource.INSTANCE;
+    }
+
+    /**
+     * 주어진 간격마다 갱신되는 캐시된 시간 소스
+     * 사용이 끝나면 {@link CoarseTimeSource#close()}로 티커를 종료해야 함
+     * (저장소 설정으로 전달해도 저장소는 닫지 않음)
+     *
+     * @param tickInterval 갱신 간격 (1마이크로초 이상)
+     */
+    static CoarseTimeSource coarse(Duration tickInterval) {
+        return new CoarseTimeSource(tickInterval);
+    }
+
+    /**
+     * 테스트용 수동 시간 소스
+     */
+    static ManualTimeSource manual() {
+        return new ManualTimeSource();
+    }
+}
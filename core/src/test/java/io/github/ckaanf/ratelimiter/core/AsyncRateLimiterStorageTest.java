@@ -0,0 +1,81 @@
+package io.github.ckaanf.ratelimiter.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AsyncRateLimiterStorageTest {
+
+    @Test
+    @DisplayName("동기 저장소 어댑터는 호출 스레드에서 실행한 결과를 완료된 stage로 반환")
+    void adapterShouldCompleteInline() {
+        // Given
+        RateLimiterStorage storage = mock(RateLimiterStorage.class);
+        StorageContext context = StorageContext.forConsume("key", 1, null);
+        when(storage.tryConsume(context)).thenReturn(StorageResult.success(9, 1));
+
+        // When
+        CompletionStage<StorageResult> stage = AsyncRateLimiterStorage.adapt(storage).tryConsumeAsync(context);
+
+        // Then
+        assertThat(stage.toCompletableFuture()).isCompleted();
+        assertThat(stage.toCompletableFuture().join().getAvailableTokens()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("실행기를 지정하면 동기 호출을 실행기 스레드로 넘김")
+    void adapterShouldOffloadToExecutor() {
+        // Given
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "storage-io"));
+        AtomicReference<String> thread = new AtomicReference<>();
+        RateLimiterStorage storage = mock(RateLimiterStorage.class);
+        when(storage.tryConsume(any())).thenAnswer(invocation -> {
+            thread.set(Thread.currentThread().getName());
+            return StorageResult.failure(0, Duration.ofSeconds(1));
+        });
+
+        // When
+        StorageResult result = AsyncRateLimiterStorage.adapt(storage, executor)
+                .tryConsumeAsync(StorageContext.forConsume("key", 1, null))
+                .toCompletableFuture().join();
+        executor.shutdown();
+
+        // Then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(thread.get()).isEqualTo("storage-io");
+    }
+
+    @Test
+    @DisplayName("저장소 예외는 예외로 완료된 stage로 전달")
+    void adapterShouldPropagateFailure() {
+        // Given
+        RateLimiterStorage storage = mock(RateLimiterStorage.class);
+        when(storage.tryConsume(any())).thenThrow(new IllegalStateException("down"));
+
+        // When
+        CompletableFuture<StorageResult> future = AsyncRateLimiterStorage.adapt(storage)
+                .tryConsumeAsync(StorageContext.forConsume("key", 1, null)).toCompletableFuture();
+
+        // Then
+        assertThat(future).isCompletedExceptionally();
+    }
+
+    @Test
+    @DisplayName("이미 비동기 저장소이면 그대로 반환")
+    void asyncStorageShouldNotBeWrapped() {
+        // Given
+        AsyncRateLimiterStorage storage = mock(AsyncRateLimiterStorage.class);
+
+        // When & Then
+        assertThat(AsyncRateLimiterStorage.adapt(storage)).isSameAs(storage);
+    }
+}
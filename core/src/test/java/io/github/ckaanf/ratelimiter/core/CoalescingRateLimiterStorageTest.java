@@ -0,0 +1,264 @@
+package io.github.ckaanf.ratelimiter.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CoalescingRateLimiterStorageTest {
+
+    @Test
+    @DisplayName("동시 요청은 배치로 묶여 원격 호출 수가 요청 수보다 적음")
+    void concurrentRequestsShouldBeBatched() throws Exception {
+        // Given - 호출마다 2ms 왕복이 드는 원격 저장소
+        SlowStorage remote = new SlowStorage(Duration.ofMillis(2));
+        CoalescingRateLimiterStorage storage = new CoalescingRateLimiterStorage(remote, 64, Duration.ZERO);
+        int threads = 16;
+        int perThread = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String key = "key-" + t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                int allowed = 0;
+                for (int i = 0; i < perThread; i++) {
+                    StorageResult result = storage.tryConsume(StorageContext.forConsume(key, 1, null));
+                    if (result.isSuccess() && result.getAvailableTokens() == 100 - i - 1) {
+                        allowed++;
+                    }
+                }
+                return allowed;
+            }));
+        }
+        start.countDown();
+        int allowed = 0;
+        for (Future<Integer> future : futures) {
+            allowed += future.get();
+        }
+        executor.shutdown();
+
+        // Then - 결과는 각 요청자에게 올바르게 분배되고, 호출은 배치 단위로 줄어듦
+        assertThat(allowed).isEqualTo(threads * perThread);
+        assertThat(remote.calls.get()).isLessThan(threads * perThread / 2);
+    }
+
+    @Test
+    @DisplayName("배치 대기 시간 동안 최대 배치 크기까지 모아서 전송")
+    void shouldWaitForBatchWindow() throws Exception {
+        // Given
+        SlowStorage remote = new SlowStorage(Duration.ZERO);
+        CoalescingRateLimiterStorage storage = new CoalescingRateLimiterStorage(remote, 4, Duration.ofMillis(200));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<StorageResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String key = "key-" + i;
+            futures.add(executor.submit(() -> storage.tryConsume(StorageContext.forConsume(key, 1, null))));
+        }
+        for (Future<StorageResult> future : futures) {
+            assertThat(future.get().isSuccess()).isTrue();
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(remote.calls.get()).isEqualTo(1);
+        assertThat(remote.batchSizes).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("배치가 차면 대기 시간이 끝나기 전에 리더를 깨워 바로 전송")
+    void fullBatchShouldWakeLeaderEarly() throws Exception {
+        // Given - 대기 시간은 길지만 4개면 배치가 참
+        SlowStorage remote = new SlowStorage(Duration.ZERO);
+        CoalescingRateLimiterStorage storage = new CoalescingRateLimiterStorage(remote, 4, Duration.ofSeconds(30));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<StorageResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String key = "key-" + i;
+            futures.add(executor.submit(() -> storage.tryConsume(StorageContext.forConsume(key, 1, null))));
+        }
+
+        // Then
+        for (Future<StorageResult> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        }
+        executor.shutdown();
+        assertThat(remote.batchSizes).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("기다리는 중 인터럽트되어도 결과를 받은 뒤 인터럽트 상태를 되살림")
+    void interruptedWaiterShouldKeepResultAndInterruptFlag() throws Exception {
+        // Given - 배치 하나가 200ms 걸리는 동안 두 번째 요청자가 기다림
+        SlowStorage remote = new SlowStorage(Duration.ofMillis(200));
+        CoalescingRateLimiterStorage storage = new CoalescingRateLimiterStorage(remote, 1, Duration.ZERO);
+        Thread first = new Thread(() -> storage.tryConsume(StorageContext.forConsume("first", 1, null)));
+        AtomicReference<StorageResult> result = new AtomicReference<>();
+        AtomicBoolean interruptedAfter = new AtomicBoolean();
+        Thread second = new Thread(() -> {
+            result.set(storage.tryConsume(StorageContext.forConsume("second", 1, null)));
+            interruptedAfter.set(Thread.currentThread().isInterrupted());
+        });
+
+        // When
+        first.start();
+        Thread.sleep(50);
+        second.start();
+        Thread.sleep(50);
+        second.interrupt();
+        first.join(5_000);
+        second.join(5_000);
+
+        // Then
+        assertThat(second.isAlive()).isFalse();
+        assertThat(result.get().isSuccess()).isTrue();
+        assertThat(interruptedAfter).isTrue();
+        assertThat(remote.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비동기 호출은 park 하지 않고 위임 저장소의 비동기 경로로 보냄")
+    void asyncCallShouldUseDelegateAsyncPath() {
+        // Given
+        CompletableFuture<StorageResult> reply = new CompletableFuture<>();
+        SlowStorage remote = new SlowStorage(Duration.ZERO);
+        AsyncRateLimiterStorage asyncRemote = new AsyncRateLimiterStorage() {
+            @Override
+            public CompletionStage<StorageResult> tryConsumeAsync(StorageContext context) {
+                return reply;
+            }
+
+            @Override
+            public String getType() {
+                return remote.getType();
+            }
+
+            @Override
+            public StorageResult tryConsume(StorageContext context) {
+                return remote.tryConsume(context);
+            }
+
+            @Override
+            public StorageResult getTokenState(StorageContext context) {
+                return remote.getTokenState(context);
+            }
+
+            @Override
+            public void initialize(RateLimiterConfig config) {}
+
+            @Override
+            public void cleanup() {}
+
+            @Override
+            public void shutdown() {}
+        };
+        CoalescingRateLimiterStorage storage = new CoalescingRateLimiterStorage(asyncRemote, 64, Duration.ofMillis(50));
+
+        // When
+        CompletableFuture<StorageResult> result =
+                storage.tryConsumeAsync(StorageContext.forConsume("key", 1, null)).toCompletableFuture();
+        boolean doneBeforeReply = result.isDone();
+        reply.complete(StorageResult.success(9, 1));
+
+        // Then
+        assertThat(doneBeforeReply).isFalse();
+        assertThat(result.join().getAvailableTokens()).isEqualTo(9);
+        assertThat(remote.calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("원격 호출 실패는 배치의 모든 요청자에게 전파")
+    void failureShouldPropagateToWaiters() {
+        // Given
+        SlowStorage remote = new SlowStorage(Duration.ZERO);
+        remote.failure = new IllegalStateException("connection lost");
+        CoalescingRateLimiterStorage storage = new CoalescingRateLimiterStorage(remote, 8, Duration.ZERO);
+
+        // When & Then
+        assertThatThrownBy(() -> storage.tryConsume(StorageContext.forConsume("key", 1, null)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("connection lost");
+    }
+
+    /**
+     * 호출마다 고정 지연이 있는 원격 저장소 대역
+     */
+    private static class SlowStorage implements RateLimiterStorage {
+        private final Duration latency;
+        private final ConcurrentHashMap<String, Long> tokens = new ConcurrentHashMap<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private volatile RuntimeException failure;
+
+        SlowStorage(Duration latency) {
+            this.latency = latency;
+        }
+
+        @Override
+        public String getType() {
+            return "slow";
+        }
+
+        @Override
+        public StorageResult tryConsume(StorageContext context) {
+            return tryConsumeAll(List.of(context), false).get(0);
+        }
+
+        @Override
+        public synchronized List<StorageResult> tryConsumeAll(List<StorageContext> contexts, boolean allOrNothing) {
+            calls.incrementAndGet();
+            batchSizes.add(contexts.size());
+            if (failure != null) {
+                throw failure;
+            }
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            List<StorageResult> results = new ArrayList<>();
+            for (StorageContext context : contexts) {
+                long remaining = tokens.merge(context.getKey(), 100 - context.getTokens(), (a, b) -> a - context.getTokens());
+                results.add(StorageResult.success(remaining, context.getTokens()));
+            }
+            return results;
+        }
+
+        @Override
+        public StorageResult getTokenState(StorageContext context) {
+            return StorageResult.query(tokens.getOrDefault(context.getKey(), 100L), null);
+        }
+
+        @Override
+        public void initialize(RateLimiterConfig config) {}
+
+        @Override
+        public void cleanup() {}
+
+        @Override
+        public void shutdown() {}
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.ckaanf.ratelimiter.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConsumeDecisionTest {
+
+    @Test
+    @DisplayName("허용 판정 인코딩과 디코딩")
+    void shouldEncodeAllowedDecision() {
+        // When
+        long decision = ConsumeDecision.allowed(90);
+
+        // Then
+        assertThat(ConsumeDecision.isAllowed(decision)).isTrue();
+        assertThat(ConsumeDecision.remainingTokens(decision)).isEqualTo(90);
+        assertThat(ConsumeDecision.waitNanos(decision)).isZero();
+    }
+
+    @Test
+    @DisplayName("거부 판정 인코딩과 디코딩")
+    void shouldEncodeRejectedDecision() {
+        // When
+        long decision = ConsumeDecision.rejected(3, Duration.ofMillis(1500).toNanos());
+
+        // Then
+        assertThat(ConsumeDecision.isAllowed(decision)).isFalse();
+        assertThat(ConsumeDecision.remainingTokens(decision)).isEqualTo(3);
+        assertThat(ConsumeDecision.waitNanos(decision)).isEqualTo(Duration.ofMillis(1500).toNanos());
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 값은 포화되고 대기 시간은 올림")
+    void shouldSaturateOutOfRangeValues() {
+        // When
+        long decision = ConsumeDecision.rejected(Long.MAX_VALUE, Duration.ofDays(1).toNanos());
+        long negative = ConsumeDecision.rejected(-5, 1);
+
+        // Then
+        assertThat(ConsumeDecision.remainingTokens(decision)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(ConsumeDecision.waitNanos(decision)).isEqualTo(0xFFFF_FFFFL * 1000);
+        assertThat(ConsumeDecision.remainingTokens(negative)).isZero();
+        assertThat(ConsumeDecision.waitNanos(negative)).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("재사용 객체에 판정 기록")
+    void shouldUpdateReusableDecision() {
+        // Given
+        ConsumeDecision decision = new ConsumeDecision();
+
+        // When
+        boolean allowed = decision.update(ConsumeDecision.rejected(0, Duration.ofMillis(1200).toNanos()));
+
+        // Then
+        assertThat(allowed).isFalse();
+        assertThat(decision.isRejected()).isTrue();
+        assertThat(decision.getWaitMillis()).isEqualTo(1200);
+        assertThat(decision.getRetryAfterSeconds()).isEqualTo(2);
+
+        // When
+        decision.update(ConsumeDecision.allowed(7));
+
+        // Then
+        assertThat(decision.isAllowed()).isTrue();
+        assertThat(decision.getRemainingTokens()).isEqualTo(7);
+        assertThat(decision.getRetryAfterSeconds()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장소 결과를 판정 값으로 변환")
+    void shouldConvertStorageResult() {
+        // When
+        long decision = ConsumeDecision.fromStorageResult(StorageResult.failure(2, Duration.ofSeconds(1)));
+
+        // Then
+        assertThat(ConsumeDecision.isAllowed(decision)).isFalse();
+        assertThat(ConsumeDecision.remainingTokens(decision)).isEqualTo(2);
+        assertThat(ConsumeDecision.waitNanos(decision)).isEqualTo(Duration.ofSeconds(1).toNanos());
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.ckaanf.ratelimiter.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HotKeySamplerTest {
+
+    @Test
+    @DisplayName("등장 횟수가 많은 순서로 상위 키 반환")
+    void shouldReturnTopKeysInOrder() {
+        // Given
+        HotKeySampler sampler = new HotKeySampler(8, 1);
+
+        // When
+        for (int i = 0; i < 5; i++) sampler.record("a");
+        for (int i = 0; i < 3; i++) sampler.record("b");
+        sampler.record("c");
+
+        // Then
+        List<HotKeySampler.KeyCount> top = sampler.top(2);
+        assertThat(top).extracting(HotKeySampler.KeyCount::getKey).containsExactly("a", "b");
+        assertThat(top.get(0).getCount()).isEqualTo(5);
+        assertThat(top.get(0).getError()).isZero();
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 작은 카운터를 물려받아 빈번한 키를 유지")
+    void shouldKeepFrequentKeysWithinCapacity() {
+        // Given
+        HotKeySampler sampler = new HotKeySampler(2, 1);
+
+        // When
+        for (int i = 0; i < 10; i++) sampler.record("hot");
+        for (int i = 0; i < 5; i++) sampler.record("cold-" + i);
+
+        // Then
+        List<HotKeySampler.KeyCount> top = sampler.top(10);
+        assertThat(top).hasSize(2);
+        assertThat(top.get(0).getKey()).isEqualTo("hot");
+        assertThat(top.get(0).getCount()).isEqualTo(10);
+        assertThat(top.get(1).getError()).isEqualTo(top.get(1).getCount() - 1);
+    }
+
+    @Test
+    @DisplayName("교체가 반복되어도 최솟값 카운터를 물려받고 횟수 순서를 유지")
+    void shouldEvictMinimumRepeatedly() {
+        // Given
+        HotKeySampler sampler = new HotKeySampler(3, 1);
+
+        // When
+        for (int i = 0; i < 4; i++) sampler.record("a");
+        for (int i = 0; i < 2; i++) sampler.record("b");
+        for (int i = 0; i < 1000; i++) sampler.record("tail-" + i);
+
+        // Then
+        List<HotKeySampler.KeyCount> top = sampler.top(3);
+        assertThat(top).hasSize(3);
+        assertThat(top.get(0).getCount()).isEqualTo(top.get(0).getError() + 1);
+        assertThat(top).extracting(HotKeySampler.KeyCount::getCount).isSortedAccordingTo((x, y) -> Long.compare(y, x));
+        assertThat(top.stream().mapToLong(HotKeySampler.KeyCount::getCount).sum()).isEqualTo(1006);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 빈번한 키를 찾고 추정치가 실제 이상")
+    void shouldFindHotKeyUnderConcurrentRecording() throws Exception {
+        // Given
+        HotKeySampler sampler = new HotKeySampler(16, 1);
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    sampler.record(i % 2 == 0 ? "hot" : "cold-" + id + "-" + i);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        HotKeySampler.KeyCount hottest = sampler.top(1).get(0);
+        assertThat(hottest.getKey()).isEqualTo("hot");
+        assertThat(hottest.getCount()).isLessThanOrEqualTo((long) threads * perThread);
+        assertThat(hottest.getCount()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("샘플링 간격은 2의 거듭제곱이어야 함")
+    void shouldRejectInvalidSampleInterval() {
+        assertThatThrownBy(() -> new HotKeySampler(8, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HotKeySampler(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,261 @@
+package io.github.ckaanf.ratelimiter.core;
+
+import io.github.ckaanf.ratelimiter.core.time.ManualTimeSource;
+import io.github.ckaanf.ratelimiter.core.time.TimeSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LeasingRateLimiterStorageTest {
+
+    private ManualTimeSource timeSource;
+    private CountingStorage remote;
+    private LeasingRateLimiterStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        timeSource = TimeSource.manual();
+        remote = new CountingStorage(1_000);
+        storage = new LeasingRateLimiterStorage(remote, Duration.ofMillis(100), 500, timeSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.shutdown();
+    }
+
+    @Test
+    @DisplayName("뜨거운 키는 임대 크기가 커져 원격 호출이 요청 수보다 훨씬 적음")
+    void hotKeyShouldReduceRemoteCalls() {
+        // When - 1ms마다 1개씩 500회 소비
+        int allowed = 0;
+        for (int i = 0; i < 500; i++) {
+            if (storage.tryConsume(StorageContext.forConsume("hot", 1, null)).isSuccess()) {
+                allowed++;
+            }
+            timeSource.advanceMillis(1);
+        }
+
+        // Then
+        assertThat(allowed).isEqualTo(500);
+        assertThat(storage.getRemoteCallCount()).isLessThan(50);
+    }
+
+    @Test
+    @DisplayName("임대가 만료되면 남은 토큰을 원격에 반환")
+    void expiredLeaseShouldGiveBackLeftover() {
+        // Given - 임대 크기를 키운 뒤 일부만 사용
+        for (int i = 0; i < 50; i++) {
+            storage.tryConsume(StorageContext.forConsume("key", 1, null));
+        }
+        long leased = 1_000 - remote.tokens.get("key");
+
+        // When
+        timeSource.advance(Duration.ofMillis(150));
+        storage.cleanup();
+
+        // Then
+        assertThat(leased).isGreaterThan(50);
+        assertThat(remote.tokens.get("key")).isEqualTo(1_000 - 50);
+    }
+
+    @Test
+    @DisplayName("조정 결과는 원격에 실제로 반영된 양을 보고")
+    void adjustShouldReportAppliedDelta() {
+        // When - 가득 찬 원격 버킷에 반환
+        StorageResult refunded = storage.adjust(StorageContext.forAdjust("idle", -10, null));
+
+        // Then
+        assertThat(refunded.getAvailableTokens()).isEqualTo(1_000);
+        assertThat(refunded.getConsumedTokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("cleanup 호출 없이도 만료된 임대는 백그라운드에서 반환되고 제거됨")
+    void expiredLeasesShouldBeSweptInBackground() throws InterruptedException {
+        // Given
+        for (int i = 0; i < 50; i++) {
+            storage.tryConsume(StorageContext.forConsume("key-" + i % 5, 1, null));
+        }
+        assertThat(storage.getLeaseCount()).isEqualTo(5);
+
+        // When
+        timeSource.advance(Duration.ofMillis(150));
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (storage.getLeaseCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertThat(storage.getLeaseCount()).isZero();
+        for (int i = 0; i < 5; i++) {
+            assertThat(remote.tokens.get("key-" + i)).isEqualTo(1_000 - 10);
+        }
+    }
+
+    @Test
+    @DisplayName("임대를 거쳐도 원격 용량보다 많이 허용하지 않음")
+    void shouldNotAdmitMoreThanRemoteCapacity() {
+        // Given
+        remote = new CountingStorage(30);
+        storage = new LeasingRateLimiterStorage(remote, Duration.ofSeconds(1), 500, timeSource);
+
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (ConsumeDecision.isAllowed(storage.tryConsumeDecision(StorageContext.forConsume("key", 1, null)))) {
+                allowed++;
+            }
+        }
+
+        // Then
+        assertThat(allowed).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("조회 결과에는 로컬 임대분이 포함됨")
+    void tokenStateShouldIncludeLocalLease() {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            storage.tryConsume(StorageContext.forConsume("key", 1, null));
+        }
+
+        // When
+        StorageResult state = storage.getTokenState(StorageContext.forQuery("key", null));
+
+        // Then
+        assertThat(state.getAvailableTokens()).isEqualTo(1_000 - 20);
+    }
+
+    @Test
+    @DisplayName("종료 시 모든 임대 토큰을 반환")
+    void shutdownShouldReleaseLeases() {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            storage.tryConsume(StorageContext.forConsume("key", 1, null));
+        }
+
+        // When
+        storage.shutdown();
+
+        // Then
+        assertThat(remote.tokens.get("key")).isEqualTo(1_000 - 20);
+    }
+
+    @Test
+    @DisplayName("비동기 위임 저장소면 임대 갱신이 호출 스레드를 막지 않고, 갱신 중 요청은 같은 갱신을 기다림")
+    void asyncRenewalShouldNotBlockCaller() {
+        // Given - 응답을 직접 완료하는 비동기 원격 저장소
+        AsyncCountingStorage asyncRemote = new AsyncCountingStorage(1_000);
+        LeasingRateLimiterStorage asyncStorage =
+                new LeasingRateLimiterStorage(asyncRemote, Duration.ofMillis(100), 500, timeSource);
+
+        // When
+        CompletableFuture<StorageResult> first =
+                asyncStorage.tryConsumeAsync(StorageContext.forConsume("key", 1, null)).toCompletableFuture();
+        CompletableFuture<StorageResult> second =
+                asyncStorage.tryConsumeAsync(StorageContext.forConsume("key", 1, null)).toCompletableFuture();
+        boolean pendingBeforeReply = !first.isDone() && !second.isDone();
+        asyncRemote.replyAll();
+        asyncRemote.replyAll();
+
+        // Then
+        assertThat(pendingBeforeReply).isTrue();
+        assertThat(first.join().isSuccess()).isTrue();
+        assertThat(second.join().isSuccess()).isTrue();
+        assertThat(asyncStorage.getRemoteCallCount()).isEqualTo(2);
+        asyncStorage.shutdown();
+        assertThat(asyncRemote.tokens.get("key")).isEqualTo(1_000 - 2);
+    }
+
+    /**
+     * 응답을 테스트가 직접 완료하는 비동기 원격 저장소 대역
+     */
+    private static class AsyncCountingStorage extends CountingStorage implements AsyncRateLimiterStorage {
+        private final List<Runnable> replies = new ArrayList<>();
+
+        AsyncCountingStorage(long capacity) {
+            super(capacity);
+        }
+
+        @Override
+        public CompletionStage<StorageResult> tryConsumeAsync(StorageContext context) {
+            CompletableFuture<StorageResult> future = new CompletableFuture<>();
+            synchronized (replies) {
+                replies.add(() -> future.complete(tryConsume(context)));
+            }
+            return future;
+        }
+
+        void replyAll() {
+            List<Runnable> pending;
+            synchronized (replies) {
+                pending = new ArrayList<>(replies);
+                replies.clear();
+            }
+            pending.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * 리필 없이 키별 토큰 수만 관리하는 원격 저장소 대역
+     */
+    private static class CountingStorage implements RateLimiterStorage {
+        private final long capacity;
+        final Map<String, Long> tokens = new ConcurrentHashMap<>();
+
+        CountingStorage(long capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public String getType() {
+            return "counting";
+        }
+
+        @Override
+        public StorageResult tryConsume(StorageContext context) {
+            long current = tokens.getOrDefault(context.getKey(), capacity);
+            if (current < context.getTokens()) {
+                return StorageResult.failure(current, Duration.ofSeconds(1));
+            }
+            tokens.put(context.getKey(), current - context.getTokens());
+            return StorageResult.success(current - context.getTokens(), context.getTokens());
+        }
+
+        @Override
+        public StorageResult adjust(StorageContext context) {
+            long current = tokens.getOrDefault(context.getKey(), capacity);
+            long updated = context.getTokens() > 0
+                    ? current - context.getTokens()
+                    : Math.max(current, Math.min(capacity, current - context.getTokens()));
+            tokens.put(context.getKey(), updated);
+            return StorageResult.adjusted(updated, current - updated);
+        }
+
+        @Override
+        public StorageResult getTokenState(StorageContext context) {
+            return StorageResult.query(tokens.getOrDefault(context.getKey(), capacity), null);
+        }
+
+        @Override
+        public void initialize(RateLimiterConfig config) {}
+
+        @Override
+        public void cleanup() {}
+
+        @Override
+        public void shutdown() {}
+    }
+}
@@ -64,6 +64,26 @@ class RateLimiterConfigTest {
         assertThat(newConfig.getStorageConfig()).isEqualTo(storageConfig);
     }
 
+    @Test
+    @DisplayName("새로운 알고리즘 설정으로 복사")
+    void shouldCreateConfigWithNewAlgorithmConfig() {
+        // Given
+        TestStorageConfig storageConfig = new TestStorageConfig();
+        RateLimiterConfig original = new RateLimiterConfig(
+                "test-key", new TestAlgorithmConfig(), storageConfig, Map.of("env", "test")
+        );
+        TestAlgorithmConfig newAlgorithmConfig = new TestAlgorithmConfig();
+
+        // When
+        RateLimiterConfig updated = original.withAlgorithmConfig(newAlgorithmConfig);
+
+        // Then
+        assertThat(updated.getKey()).isEqualTo("test-key");
+        assertThat(updated.getAlgorithmConfig()).isSameAs(newAlgorithmConfig);
+        assertThat(updated.getStorageConfig()).isSameAs(storageConfig);
+        assertThat(updated.getMetadata()).containsEntry("env", "test");
+    }
+
     @Test
     @DisplayName("메타데이터 추가")
     void shouldAddMetadata() {
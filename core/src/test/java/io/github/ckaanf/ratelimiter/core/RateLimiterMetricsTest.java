@@ -0,0 +1,69 @@
+package io.github.ckaanf.ratelimiter.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RateLimiterMetricsTest {
+
+    @Test
+    @DisplayName("판정 값에 따라 허용/거부 횟수와 대기 시간 분포 누적")
+    void shouldRecordDecisions() {
+        // Given
+        RateLimiterMetrics metrics = RateLimiterMetrics.forStorage(Mockito.mock(RateLimiterStorage.class));
+
+        // When
+        metrics.record(ConsumeDecision.allowed(10));
+        metrics.record(ConsumeDecision.rejected(0, Duration.ofMillis(5).toNanos()));
+        metrics.record(ConsumeDecision.rejected(0, Duration.ofSeconds(2).toNanos()));
+
+        // Then
+        assertThat(metrics.getAllowedCount()).isEqualTo(1);
+        assertThat(metrics.getRejectedCount()).isEqualTo(2);
+        assertThat(metrics.getTotalWaitNanos()).isEqualTo(Duration.ofMillis(2005).toNanos());
+
+        // 1ms, 10ms, 100ms, 1s, 10s, ... 구간의 누적 횟수
+        assertThat(metrics.getCumulativeWaitCount(0)).isZero();
+        assertThat(metrics.getCumulativeWaitCount(1)).isEqualTo(1);
+        assertThat(metrics.getCumulativeWaitCount(3)).isEqualTo(1);
+        assertThat(metrics.getCumulativeWaitCount(4)).isEqualTo(2);
+        assertThat(metrics.getCumulativeWaitCount(metrics.getWaitBucketCount() - 1)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저장소의 버킷 수와 제거 횟수를 그대로 노출")
+    void shouldExposeStorageCounts() {
+        // Given
+        RateLimiterStorage storage = Mockito.mock(RateLimiterStorage.class);
+        Mockito.when(storage.getBucketCount()).thenReturn(42L);
+        Mockito.when(storage.getEvictionCount()).thenReturn(7L);
+
+        // When
+        RateLimiterMetrics metrics = RateLimiterMetrics.forStorage(storage);
+
+        // Then
+        assertThat(metrics.getActiveBuckets()).isEqualTo(42);
+        assertThat(metrics.getEvictionCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("비활성 메트릭스는 기록을 무시")
+    void shouldIgnoreRecordsWhenDisabled() {
+        // Given
+        RateLimiterMetrics metrics = RateLimiterMetrics.disabled();
+
+        // When
+        metrics.recordAllowed();
+        metrics.recordRejected(1_000);
+
+        // Then
+        assertThat(metrics.isEnabled()).isFalse();
+        assertThat(metrics.getAllowedCount()).isZero();
+        assertThat(metrics.getRejectedCount()).isZero();
+        assertThat(metrics.getActiveBuckets()).isEqualTo(-1);
+    }
+}
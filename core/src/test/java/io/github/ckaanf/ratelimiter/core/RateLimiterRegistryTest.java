@@ -0,0 +1,200 @@
+package io.github.ckaanf.ratelimiter.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class RateLimiterRegistryTest {
+
+    private RateLimiterRegistry registry;
+    private RateLimiter limiter;
+    private RateLimiterConfig config;
+    private RateLimiterStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        registry = RateLimiterRegistry.createForTesting();
+        limiter = mock(RateLimiter.class);
+
+        RateLimiterProvider algorithmProvider = mock(RateLimiterProvider.class);
+        when(algorithmProvider.getAlgorithmType()).thenReturn("test-algorithm");
+        when(algorithmProvider.supports(any())).thenReturn(true);
+        when(algorithmProvider.create(any(), any())).thenReturn(limiter);
+
+        StorageProvider storageProvider = mock(StorageProvider.class);
+        when(storageProvider.getStorageType()).thenReturn("test-storage");
+        when(storageProvider.supports(any())).thenReturn(true);
+        storage = mock(RateLimiterStorage.class);
+        when(storageProvider.create(any())).thenReturn(storage);
+
+        registry.registerAlgorithmProvider(algorithmProvider);
+        registry.registerStorageProvider(storageProvider);
+
+        config = new RateLimiterConfig("api", new TestAlgorithmConfig("test-algorithm"), new TestStorageConfig());
+        when(limiter.getConfiguration()).thenReturn(config);
+        when(limiter.supportsConfigurationUpdate()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("close 시 레지스트리가 만든 저장소를 종료하고 이후 생성을 거부")
+    void shouldShutdownStoragesOnClose() {
+        // Given
+        registry.getRateLimiter(config);
+
+        // When
+        registry.close();
+        registry.close();
+
+        // Then
+        verify(storage, times(1)).shutdown();
+        assertThat(registry.isClosed()).isTrue();
+        assertThat(registry.findRateLimiter("api")).isEmpty();
+        assertThatThrownBy(() -> registry.getRateLimiter(config))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("등록하지 않고 만든 Rate Limiter와 저장소는 레지스트리가 추적하지 않음")
+    void shouldNotTrackStoragesOwnedByCaller() {
+        // Given
+        registry.createRateLimiter(config);
+        registry.createStorage(config.getStorageConfig());
+
+        // When
+        registry.close();
+
+        // Then - 호출자가 소유하므로 레지스트리가 종료하지 않음
+        verify(storage, never()).shutdown();
+    }
+
+    @Test
+    @DisplayName("등록 중 Rate Limiter 생성이 실패하면 만든 저장소를 바로 종료")
+    void shouldShutdownStorageWhenLimiterCreationFails() {
+        // Given
+        doThrow(new IllegalArgumentException("bad config")).when(storage).initialize(any());
+
+        // When & Then
+        assertThatThrownBy(() -> registry.getRateLimiter(config))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(storage).shutdown();
+        assertThat(registry.findRateLimiter("api")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("워밍업은 등록된 모든 Rate Limiter의 조회 경로를 실행")
+    void shouldWarmUpRegisteredLimiters() {
+        // Given
+        registry.getRateLimiter(config);
+
+        // When
+        int warmedUp = registry.warmUp();
+
+        // Then
+        assertThat(warmedUp).isEqualTo(1);
+        verify(limiter).getAvailableTokens();
+        verify(limiter, never()).tryConsume(anyLong());
+    }
+
+    @Test
+    @DisplayName("등록된 Rate Limiter의 알고리즘 설정 교체")
+    void shouldUpdateAlgorithmConfigInPlace() {
+        // Given
+        registry.getRateLimiter(config);
+        TestAlgorithmConfig newAlgorithmConfig = new TestAlgorithmConfig("test-algorithm");
+
+        // When
+        RateLimiter updated = registry.updateConfig("api", newAlgorithmConfig);
+
+        // Then
+        ArgumentCaptor<RateLimiterConfig> captor = ArgumentCaptor.forClass(RateLimiterConfig.class);
+        verify(limiter).updateConfiguration(captor.capture());
+        assertThat(updated).isSameAs(limiter);
+        assertThat(captor.getValue().getKey()).isEqualTo("api");
+        assertThat(captor.getValue().getAlgorithmConfig()).isSameAs(newAlgorithmConfig);
+        assertThat(captor.getValue().getStorageConfig()).isSameAs(config.getStorageConfig());
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 키는 설정 교체 불가")
+    void shouldRejectUpdateForUnknownKey() {
+        assertThatThrownBy(() -> registry.updateConfig("unknown", new TestAlgorithmConfig("test-algorithm")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unknown");
+    }
+
+    @Test
+    @DisplayName("알고리즘 타입은 바꿀 수 없음")
+    void shouldRejectAlgorithmTypeChange() {
+        // Given
+        registry.getRateLimiter(config);
+
+        // When & Then
+        assertThatThrownBy(() -> registry.updateConfig("api", new TestAlgorithmConfig("other-algorithm")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("other-algorithm");
+        verify(limiter, never()).updateConfiguration(any());
+    }
+
+    @Test
+    @DisplayName("설정 교체를 지원하지 않는 Rate Limiter는 호출 전에 명확한 예외로 거부")
+    void shouldRejectUpdateForUnsupportedLimiter() {
+        // Given
+        registry.getRateLimiter(config);
+        when(limiter.supportsConfigurationUpdate()).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> registry.updateConfig("api", new TestAlgorithmConfig("test-algorithm")))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("'api'")
+                .hasMessageContaining("does not support configuration updates");
+        verify(limiter, never()).updateConfiguration(any());
+        assertThat(registry.findRateLimiter("api")).containsSame(limiter);
+    }
+
+    // === 테스트용 Helper 클래스들 ===
+
+    private static class TestAlgorithmConfig implements AlgorithmConfig {
+        private final String type;
+
+        TestAlgorithmConfig(String type) {
+            this.type = type;
+        }
+
+        @Override
+        public String getType() { return type; }
+
+        @Override
+        public void validate() {}
+
+        @Override
+        public Map<String, Object> toMap() {
+            return Map.of("type", type);
+        }
+    }
+
+    private static class TestStorageConfig implements StorageConfig {
+        @Override
+        public String getType() { return "test-storage"; }
+
+        @Override
+        public void validate() {}
+
+        @Override
+        public Map<String, Object> getConnectionProperties() {
+            return Map.of();
+        }
+
+        @Override
+        public Map<String, Object> getPerformanceProperties() {
+            return Map.of();
+        }
+    }
+}
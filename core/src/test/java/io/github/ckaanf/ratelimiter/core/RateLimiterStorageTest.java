@@ -0,0 +1,133 @@
+package io.github.ckaanf.ratelimiter.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RateLimiterStorageTest {
+
+    @Test
+    @DisplayName("기본 all-or-nothing 배치는 실패 시 조정으로 토큰을 되돌림")
+    void defaultAllOrNothingBatchShouldCompensateWithAdjust() {
+        // Given
+        CountingStorage storage = new CountingStorage(10);
+        List<StorageContext> contexts = List.of(
+                StorageContext.forConsume("a", 5, null),
+                StorageContext.forConsume("b", 20, null),
+                StorageContext.forConsume("c", 1, null)
+        );
+
+        // When
+        List<StorageResult> results = storage.tryConsumeAll(contexts, true);
+
+        // Then
+        assertThat(results).hasSize(3).extracting(StorageResult::isSuccess).containsOnly(false);
+        assertThat(results.get(0).getMetadata()).containsEntry("batchAborted", true);
+        assertThat(results.get(2).getMetadata()).containsEntry("batchAborted", true);
+        assertThat(storage.tokens).containsEntry("a", 10L);
+        assertThat(storage.tokens).doesNotContainKey("c");
+    }
+
+    @Test
+    @DisplayName("토큰 조정을 지원하지 않는 저장소는 all-or-nothing 배치를 소비 전에 거부")
+    void allOrNothingShouldBeRejectedUpFrontWithoutAdjust() {
+        // Given
+        CountingStorage delegate = new CountingStorage(10);
+        RateLimiterStorage storage = new RateLimiterStorage() {
+            @Override public String getType() { return "plain"; }
+            @Override public StorageResult tryConsume(StorageContext context) { return delegate.tryConsume(context); }
+            @Override public StorageResult getTokenState(StorageContext context) { return delegate.getTokenState(context); }
+            @Override public void initialize(RateLimiterConfig config) {}
+            @Override public void cleanup() {}
+            @Override public void shutdown() {}
+        };
+        List<StorageContext> contexts = List.of(
+                StorageContext.forConsume("a", 5, null),
+                StorageContext.forConsume("b", 20, null)
+        );
+
+        // When & Then
+        assertThatThrownBy(() -> storage.tryConsumeAll(contexts, true))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("plain");
+        assertThat(delegate.tokens).isEmpty();
+        assertThat(storage.tryConsumeAll(contexts, false)).extracting(StorageResult::isSuccess)
+                .containsExactly(true, false);
+    }
+
+    @Test
+    @DisplayName("토큰 조정을 지원하지 않는 저장소는 예외 발생")
+    void adjustShouldBeUnsupportedByDefault() {
+        CountingStorage storage = new CountingStorage(10);
+
+        assertThatThrownBy(() -> new RateLimiterStorage() {
+            @Override public String getType() { return "plain"; }
+            @Override public StorageResult tryConsume(StorageContext context) { return storage.tryConsume(context); }
+            @Override public StorageResult getTokenState(StorageContext context) { return storage.getTokenState(context); }
+            @Override public void initialize(RateLimiterConfig config) {}
+            @Override public void cleanup() {}
+            @Override public void shutdown() {}
+        }.adjust(StorageContext.forAdjust("a", -1, null)))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("plain");
+    }
+
+    /**
+     * 키별 토큰 수만 관리하는 단순 저장소
+     */
+    private static class CountingStorage implements RateLimiterStorage {
+        private final long capacity;
+        private final Map<String, Long> tokens = new HashMap<>();
+
+        CountingStorage(long capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public String getType() {
+            return "counting";
+        }
+
+        @Override
+        public StorageResult tryConsume(StorageContext context) {
+            long current = tokens.getOrDefault(context.getKey(), capacity);
+            if (current < context.getTokens()) {
+                return StorageResult.failure(current, Duration.ofSeconds(1));
+            }
+            tokens.put(context.getKey(), current - context.getTokens());
+            return StorageResult.success(current - context.getTokens(), context.getTokens());
+        }
+
+        @Override
+        public StorageResult adjust(StorageContext context) {
+            long updated = Math.min(capacity, tokens.getOrDefault(context.getKey(), capacity) - context.getTokens());
+            tokens.put(context.getKey(), updated);
+            return StorageResult.adjusted(updated, context.getTokens());
+        }
+
+        @Override
+        public boolean supportsAdjust() {
+            return true;
+        }
+
+        @Override
+        public StorageResult getTokenState(StorageContext context) {
+            return StorageResult.query(tokens.getOrDefault(context.getKey(), capacity), null);
+        }
+
+        @Override
+        public void initialize(RateLimiterConfig config) {}
+
+        @Override
+        public void cleanup() {}
+
+        @Override
+        public void shutdown() {}
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.ckaanf.ratelimiter.core.time;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TimeSourceTest {
+
+    @Test
+    @DisplayName("시스템 시간 소스는 단조 증가")
+    void systemTimeSourceShouldBeMonotonic() {
+        // Given
+        TimeSource timeSource = TimeSource.system();
+
+        // When
+        long first = timeSource.nanoTime();
+        long second = timeSource.nanoTime();
+
+        // Then
+        assertThat(second).isGreaterThanOrEqualTo(first);
+        assertThat(timeSource).isSameAs(TimeSource.system());
+    }
+
+    @Test
+    @DisplayName("수동 시간 소스는 진행시킨 만큼만 변함")
+    void manualTimeSourceShouldAdvanceExplicitly() {
+        // Given
+        ManualTimeSource timeSource = TimeSource.manual();
+        long start = timeSource.nanoTime();
+
+        // When
+        timeSource.advance(Duration.ofMillis(1500));
+
+        // Then
+        assertThat(timeSource.nanoTime() - start).isEqualTo(Duration.ofMillis(1500).toNanos());
+        assertThat(timeSource.currentTimeMillis()).isEqualTo(1500);
+        assertThat(timeSource.instant()).isEqualTo(Instant.ofEpochMilli(1500));
+    }
+
+    @Test
+    @DisplayName("수동 시간 소스는 뒤로 갈 수 없음")
+    void manualTimeSourceShouldRejectNegativeAdvance() {
+        ManualTimeSource timeSource = TimeSource.manual();
+
+        assertThatThrownBy(() -> timeSource.advance(Duration.ofMillis(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("나노초 값을 벽시계 시각으로 변환")
+    void shouldConvertNanoTimeToInstant() {
+        // Given
+        ManualTimeSource timeSource = TimeSource.manual();
+        timeSource.advanceMillis(1000);
+
+        // When
+        Instant instant = timeSource.toInstant(timeSource.nanoTime() + Duration.ofSeconds(2).toNanos());
+
+        // Then
+        assertThat(instant).isEqualTo(Instant.ofEpochMilli(3000));
+    }
+
+    @Test
+    @DisplayName("coarse 시간 소스는 티커에 의해 갱신")
+    void coarseTimeSourceShouldBeUpdatedByTicker() throws InterruptedException {
+        try (CoarseTimeSource timeSource = TimeSource.coarse(Duration.ofMillis(1))) {
+            // Given
+            long first = timeSource.nanoTime();
+
+            // When
+            Thread.sleep(20);
+
+            // Then
+            assertThat(timeSource.nanoTime()).isGreaterThan(first);
+            assertThat(timeSource.getTickInterval()).isEqualTo(Duration.ofMillis(1));
+        }
+    }
+
+    @Test
+    @DisplayName("coarse 시간 소스는 1마이크로초 미만 간격을 거부")
+    void coarseTimeSourceShouldRejectTooShortInterval() {
+        assertThatThrownBy(() -> TimeSource.coarse(Duration.ofNanos(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
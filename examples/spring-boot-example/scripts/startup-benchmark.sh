@@ -0,0 +1,72 @@
+#!/usr/bin/env bash
+#
+# spring-boot-example 콜드 스타트 측정 (JVM / JVM + AOT / 네이티브 이미지)
+#
+# 사전 빌드 (GraalVM 17+ 필요):
+#   ./gradlew :examples:spring-boot-example:bootJar :examples:spring-boot-example:nativeCompile
+#
+# 사용법:
+#   examples/spring-boot-example/scripts/startup-benchmark.sh [반복 횟수]
+#
+# jvm-spi는 ServiceLoader 탐색, 나머지는 프로바이더 목록(provider-discovery=index)으로 시작합니다.
+# 각 모드를 반복 실행하며 "Started Application in ... (process running for N)" 로그의
+# 프로세스 기준 시작 시간과 시작 직후 RSS를 기록한 뒤 평균을 출력합니다.
+# JAR, NATIVE 환경 변수로 실행 파일 경로를 바꿀 수 있습니다.
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+EXAMPLE_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="${JAR:-$(ls "$EXAMPLE_DIR"/build/libs/spring-boot-example-*.jar 2>/dev/null | grep -v plain | head -n 1 || true)}"
+NATIVE="${NATIVE:-$EXAMPLE_DIR/build/native/nativeCompile/spring-boot-example}"
+APP_ARGS=(--server.port=0)
+INDEX=(--rate-limiter.provider-discovery=index)
+SPI=(--rate-limiter.provider-discovery=service-loader)
+
+measure() {
+    local label="$1"
+    shift
+
+    local log total_startup=0 total_rss=0
+    log="$(mktemp)"
+    for ((i = 1; i <= RUNS; i++)); do
+        "$@" "${APP_ARGS[@]}" >"$log" 2>&1 &
+        local pid=$!
+
+        until grep -q "Started Application in" "$log"; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$label: 애플리케이션이 시작되지 않았습니다." >&2
+                cat "$log" >&2
+                exit 1
+            fi
+            sleep 0.05
+        done
+
+        local startup rss
+        startup="$(grep -o 'process running for [0-9.]*' "$log" | awk '{print $4}')"
+        rss="$(awk '/VmRSS/ {print $2}' "/proc/$pid/status" 2>/dev/null || echo 0)"
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+
+        total_startup="$(awk -v a="$total_startup" -v b="$startup" 'BEGIN {print a + b}')"
+        total_rss=$((total_rss + rss))
+    done
+    rm -f "$log"
+
+    awk -v label="$label" -v s="$total_startup" -v r="$total_rss" -v n="$RUNS" \
+        'BEGIN {printf "%-10s startup %6.3f s   rss %7.1f MB   (%d runs)\n", label, s / n, r / n / 1024, n}'
+}
+
+if [[ -n "$JAR" && -f "$JAR" ]]; then
+    measure "jvm-spi" java -jar "$JAR" "${SPI[@]}"
+    measure "jvm" java -jar "$JAR" "${INDEX[@]}"
+    measure "jvm-aot" java -Dspring.aot.enabled=true -jar "$JAR" "${INDEX[@]}"
+else
+    echo "bootJar가 없어 JVM 측정을 건너뜁니다." >&2
+fi
+
+if [[ -x "$NATIVE" ]]; then
+    measure "native" "$NATIVE" "${INDEX[@]}"
+else
+    echo "네이티브 실행 파일이 없어 네이티브 측정을 건너뜁니다. ($NATIVE)" >&2
+fi
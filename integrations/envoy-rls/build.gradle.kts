@@ -0,0 +1,16 @@
+dependencies {
+    api(project(":core"))
+    api(project(":algorithms:token-bucket"))
+    implementation(project(":storage:inmemory"))
+    api(platform("io.grpc:grpc-bom:1.62.2"))
+    api("io.grpc:grpc-api")
+    implementation("io.grpc:grpc-stub")
+    implementation("com.google.protobuf:protobuf-java:3.25.3")
+    // 기본 전송 계층 (Grpc.newServerBuilderForPort가 ServiceLoader로 찾음)
+    runtimeOnly("io.grpc:grpc-netty-shaded")
+
+    testImplementation(platform("org.junit:junit-bom:5.9.2"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testImplementation("org.assertj:assertj-core:3.24.2")
+    testRuntimeOnly("io.grpc:grpc-netty-shaded")
+}
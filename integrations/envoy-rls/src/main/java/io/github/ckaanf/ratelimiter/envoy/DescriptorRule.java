@@ -0,0 +1,87 @@
+package io.github.ckaanf.ratelimiter.envoy;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 디스크립터 매칭 규칙 (envoyproxy/ratelimit 설정의 descriptors 항목에 대응)
+ *
+ * <p>값을 지정하지 않은 규칙은 그 키의 모든 값에 매칭되며, 값마다 별도의 버킷을 가집니다.
+ * 디스크립터의 모든 엔트리가 규칙 경로를 따라 매칭되고 마지막 규칙에 한도가 있을 때만 한도가 적용됩니다.
+ *
+ * <pre>{@code
+ * DescriptorRule.of("remote_address").withLimit(100, RateLimitUnit.SECOND)
+ * DescriptorRule.of("path", "/login").withChildren(
+ *         DescriptorRule.of("remote_address").withLimit(5, RateLimitUnit.MINUTE))
+ * }</pre>
+ */
+public final class DescriptorRule {
+
+    private final String key;
+    private final String value;
+    private final long requestsPerUnit;
+    private final RateLimitUnit unit;
+    private final List<DescriptorRule> children;
+
+    private DescriptorRule(String key, String value, long requestsPerUnit, RateLimitUnit unit,
+                           List<DescriptorRule> children) {
+        this.key = Objects.requireNonNull(key, "Key cannot be null");
+        this.value = value;
+        this.requestsPerUnit = requestsPerUnit;
+        this.unit = unit;
+        this.children = List.copyOf(children);
+        validate();
+    }
+
+    /**
+     * 키의 모든 값에 매칭되는 규칙
+     */
+    public static DescriptorRule of(String key) {
+        return new DescriptorRule(key, null, 0, null, List.of());
+    }
+
+    /**
+     * 키와 값이 모두 일치할 때만 매칭되는 규칙 (같은 키의 값 없는 규칙보다 우선)
+     */
+    public static DescriptorRule of(String key, String value) {
+        return new DescriptorRule(key, Objects.requireNonNull(value, "Value cannot be null"), 0, null, List.of());
+    }
+
+    public DescriptorRule withLimit(long requestsPerUnit, RateLimitUnit unit) {
+        return new DescriptorRule(key, value, requestsPerUnit, Objects.requireNonNull(unit, "Unit cannot be null"),
+                children);
+    }
+
+    public DescriptorRule withChildren(DescriptorRule... children) {
+        return new DescriptorRule(key, value, requestsPerUnit, unit, List.of(children));
+    }
+
+    private void validate() {
+        if (key.isBlank()) {
+            throw new IllegalArgumentException("Descriptor key cannot be blank");
+        }
+        if (unit != null) {
+            if (unit.getDuration() == null) {
+                throw new IllegalArgumentException("Unit must be specified: " + unit);
+            }
+            if (requestsPerUnit <= 0) {
+                throw new IllegalArgumentException("Requests per unit must be positive: " + requestsPerUnit);
+            }
+        }
+    }
+
+    // === Getters ===
+
+    public String getKey() { return key; }
+    public String getValue() { return value; }
+    public boolean hasLimit() { return unit != null; }
+    public long getRequestsPerUnit() { return requestsPerUnit; }
+    public RateLimitUnit getUnit() { return unit; }
+    public List<DescriptorRule> getChildren() { return children; }
+
+    @Override
+    public String toString() {
+        String limit = hasLimit() ? ", limit=" + requestsPerUnit + "/" + unit : "";
+        return "DescriptorRule{" + key + (value != null ? "=" + value : "") + limit + ", children=" + children + "}";
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.ckaanf.ratelimiter.envoy;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.StorageConfig;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도메인별 규칙을 미리 컴파일한 매칭 트리
+ *
+ * <p>엔트리 하나당 키 조회와 값 조회 두 번으로 다음 노드를 찾으며 (값 일치 우선, 없으면 값 없는 규칙),
+ * 매칭 중에는 객체를 만들지 않습니다. 한도마다 설정 객체를 하나씩 미리 만들어 두므로
+ * 저장소가 요청마다 버킷을 새 설정으로 옮기는 일도 없습니다. 컴파일 후에는 읽기 전용입니다.
+ */
+final class DescriptorTrie {
+
+    private final Map<String, Node> domains = new HashMap<>();
+    private final List<Limit> limits = new ArrayList<>();
+
+    DescriptorTrie(Map<String, List<DescriptorRule>> rules, StorageConfig storageConfig) {
+        rules.forEach((domain, domainRules) -> {
+            if (domain == null || domain.isBlank()) {
+                throw new IllegalArgumentException("Domain cannot be blank");
+            }
+            Node root = new Node();
+            for (DescriptorRule rule : domainRules) {
+                compile(root, rule, domain, storageConfig);
+            }
+            domains.put(domain, root);
+        });
+    }
+
+    /**
+     * 디스크립터에 적용할 한도 (매칭되는 규칙이 없거나 마지막 규칙에 한도가 없으면 null)
+     */
+    Limit match(String domain, RateLimitDescriptor descriptor) {
+        Node node = domains.get(domain);
+        List<RateLimitDescriptor.Entry> entries = descriptor.getEntries();
+        if (node == null || entries.isEmpty()) {
+            return null;
+        }
+
+        for (int i = 0; i < entries.size(); i++) {
+            RateLimitDescriptor.Entry entry = entries.get(i);
+            KeyNode keyNode = node.children.get(entry.getKey());
+            if (keyNode == null) {
+                return null;
+            }
+            Node next = keyNode.values.get(entry.getValue());
+            node = next != null ? next : keyNode.any;
+            if (node == null) {
+                return null;
+            }
+        }
+        return node.limit;
+    }
+
+    List<Limit> getLimits() {
+        return limits;
+    }
+
+    // === 내부 메소드들 ===
+
+    private void compile(Node parent, DescriptorRule rule, String path, StorageConfig storageConfig) {
+        KeyNode keyNode = parent.children.computeIfAbsent(rule.getKey(), key -> new KeyNode());
+        Node node = new Node();
+        String name;
+        if (rule.getValue() == null) {
+            if (keyNode.any != null) {
+                throw new IllegalArgumentException("Duplicate descriptor rule: " + path + "." + rule.getKey());
+            }
+            keyNode.any = node;
+            name = path + "." + rule.getKey();
+        } else {
+            if (keyNode.values.putIfAbsent(rule.getValue(), node) != null) {
+                throw new IllegalArgumentException(
+                        "Duplicate descriptor rule: " + path + "." + rule.getKey() + "_" + rule.getValue());
+            }
+            name = path + "." + rule.getKey() + "_" + rule.getValue();
+        }
+
+        if (rule.hasLimit()) {
+            node.limit = new Limit(name, rule, storageConfig);
+            limits.add(node.limit);
+        }
+        for (DescriptorRule child : rule.getChildren()) {
+            compile(node, child, name, storageConfig);
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, KeyNode> children = new HashMap<>();
+        private Limit limit;
+    }
+
+    private static final class KeyNode {
+        private final Map<String, Node> values = new HashMap<>();
+        private Node any;
+    }
+
+    /**
+     * 컴파일된 한도 하나
+     * 버킷은 단위마다 한도만큼 채워지는 토큰 버킷 (Envoy 고정 윈도우의 가장 가까운 대응)
+     */
+    static final class Limit {
+        private final String name;
+        private final RateLimitResponse.CurrentLimit currentLimit;
+        private final RateLimiterConfig config;
+
+        private Limit(String name, DescriptorRule rule, StorageConfig storageConfig) {
+            long requests = rule.getRequestsPerUnit();
+            this.name = name;
+            this.currentLimit = new RateLimitResponse.CurrentLimit(name, requests, rule.getUnit());
+            this.config = new RateLimiterConfig(name,
+                    new TokenBucketAlgorithmConfig(requests, requests, rule.getUnit().getDuration(), requests),
+                    storageConfig);
+        }
+
+        String getName() { return name; }
+        RateLimitResponse.CurrentLimit getCurrentLimit() { return currentLimit; }
+        RateLimiterConfig getConfig() { return config; }
+    }
+}
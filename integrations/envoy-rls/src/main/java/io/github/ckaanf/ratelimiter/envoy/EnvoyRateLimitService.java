@@ -0,0 +1,198 @@
+package io.github.ckaanf.ratelimiter.envoy;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.StorageConfig;
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+import io.github.ckaanf.ratelimiter.core.StorageResult;
+import io.grpc.BindableService;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Envoy 외부 Rate Limit 서비스 ({@code envoy.service.ratelimit.v3.RateLimitService})
+ *
+ * <p>Envoy의 {@code ShouldRateLimit} 요청에 담긴 디스크립터를 미리 컴파일한 규칙 트리로 한도에 매칭하고,
+ * 한 요청의 디스크립터들을 저장소 배치 호출 한 번으로 판정합니다. 디스크립터는 서로 독립적으로 판정되며
+ * 하나라도 초과하면 전체 결과가 {@code OVER_LIMIT}입니다 (초과하지 않은 디스크립터의 토큰은 소비됨).
+ *
+ * <pre>{@code
+ * EnvoyRateLimitService service = new EnvoyRateLimitService(registry, new MemoryStorageConfig(), Map.of(
+ *         "edge", List.of(DescriptorRule.of("remote_address").withLimit(100, RateLimitUnit.SECOND))));
+ * Server server = Grpc.newServerBuilderForPort(8081, InsecureServerCredentials.create())
+ *         .addService(service)
+ *         .build()
+ *         .start();
+ * }</pre>
+ *
+ * <p>레지스트리로 만든 저장소는 이 서비스가 소유하므로, 서버를 내린 뒤 {@link #close()}로 종료하세요.
+ */
+public class EnvoyRateLimitService implements BindableService, AutoCloseable {
+
+    public static final String SERVICE_NAME = "envoy.service.ratelimit.v3.RateLimitService";
+
+    public static final MethodDescriptor<RateLimitRequest, RateLimitResponse> SHOULD_RATE_LIMIT =
+            MethodDescriptor.<RateLimitRequest, RateLimitResponse>newBuilder()
+                    .setType(MethodDescriptor.MethodType.UNARY)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "ShouldRateLimit"))
+                    .setRequestMarshaller(RlsCodec.REQUEST_MARSHALLER)
+                    .setResponseMarshaller(RlsCodec.RESPONSE_MARSHALLER)
+                    .build();
+
+    private static final RateLimitResponse.DescriptorStatus UNLIMITED =
+            new RateLimitResponse.DescriptorStatus(RateLimitResponse.Code.OK, null, 0, null);
+
+    private final RateLimiterStorage storage;
+    private final DescriptorTrie trie;
+
+    /**
+     * @param registry      저장소를 만들 레지스트리 (만든 저장소는 이 서비스가 소유)
+     * @param storageConfig 버킷을 보관할 저장소 설정
+     * @param rules         도메인별 디스크립터 규칙
+     */
+    public EnvoyRateLimitService(RateLimiterRegistry registry, StorageConfig storageConfig,
+                                 Map<String, List<DescriptorRule>> rules) {
+        Objects.requireNonNull(registry, "Registry cannot be null");
+        Objects.requireNonNull(storageConfig, "Storage config cannot be null");
+        Objects.requireNonNull(rules, "Rules cannot be null");
+
+        this.trie = new DescriptorTrie(rules, storageConfig);
+        this.storage = registry.createStorage(storageConfig);
+        for (DescriptorTrie.Limit limit : trie.getLimits()) {
+            storage.initialize(limit.getConfig());
+        }
+    }
+
+    /**
+     * 요청 하나 판정 (gRPC 없이 직접 호출 가능)
+     */
+    public RateLimitResponse shouldRateLimit(RateLimitRequest request) {
+        String domain = request.getDomain();
+        if (domain.isEmpty()) {
+            throw new IllegalArgumentException("Rate limit domain must not be empty");
+        }
+
+        List<RateLimitDescriptor> descriptors = request.getDescriptors();
+        int count = descriptors.size();
+        DescriptorTrie.Limit[] limits = new DescriptorTrie.Limit[count];
+        RateLimitResponse.DescriptorStatus[] statuses = new RateLimitResponse.DescriptorStatus[count];
+        List<StorageContext> contexts = new ArrayList<>(count);
+        int[] contextIndexes = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            RateLimitDescriptor descriptor = descriptors.get(i);
+            DescriptorTrie.Limit limit = trie.match(domain, descriptor);
+            if (limit == null) {
+                statuses[i] = UNLIMITED;
+                continue;
+            }
+
+            limits[i] = limit;
+            String key = bucketKey(domain, descriptor);
+            long hits = hits(request, descriptor);
+            if (hits == 0) {
+                // 소비 없이 상태만 조회
+                StorageResult state = storage.getTokenState(StorageContext.forQuery(key, limit.getConfig()));
+                statuses[i] = status(RateLimitResponse.Code.OK, limit, state.getAvailableTokens(), null);
+            } else {
+                contextIndexes[contexts.size()] = i;
+                contexts.add(StorageContext.forConsume(key, hits, limit.getConfig()));
+            }
+        }
+
+        // 한도가 걸린 디스크립터를 저장소 호출 한 번으로 판정
+        if (!contexts.isEmpty()) {
+            List<StorageResult> results = contexts.size() == 1
+                    ? List.of(storage.tryConsume(contexts.get(0)))
+                    : storage.tryConsumeAll(contexts, false);
+            for (int j = 0; j < results.size(); j++) {
+                int i = contextIndexes[j];
+                StorageResult result = results.get(j);
+                statuses[i] = result.isSuccess()
+                        ? status(RateLimitResponse.Code.OK, limits[i], result.getAvailableTokens(), null)
+                        : status(RateLimitResponse.Code.OVER_LIMIT, limits[i], 0, result.getWaitTime());
+            }
+        }
+
+        RateLimitResponse.Code overall = RateLimitResponse.Code.OK;
+        for (RateLimitResponse.DescriptorStatus status : statuses) {
+            if (status.getCode() == RateLimitResponse.Code.OVER_LIMIT) {
+                overall = RateLimitResponse.Code.OVER_LIMIT;
+                break;
+            }
+        }
+        return new RateLimitResponse(overall, List.of(statuses));
+    }
+
+    @Override
+    public ServerServiceDefinition bindService() {
+        return ServerServiceDefinition.builder(SERVICE_NAME)
+                .addMethod(SHOULD_RATE_LIMIT, ServerCalls.asyncUnaryCall(this::handle))
+                .build();
+    }
+
+    /**
+     * 이 서비스가 만든 저장소 종료
+     */
+    @Override
+    public void close() {
+        storage.shutdown();
+    }
+
+    // === 내부 메소드들 ===
+
+    private void handle(RateLimitRequest request, StreamObserver<RateLimitResponse> responseObserver) {
+        RateLimitResponse response;
+        try {
+            response = shouldRateLimit(request);
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+            return;
+        } catch (RuntimeException e) {
+            responseObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).withCause(e).asRuntimeException());
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * 디스크립터 전체 경로를 버킷 키로 사용 (값 없는 규칙은 값마다 다른 버킷)
+     * 도메인, 키, 값은 길이를 앞에 붙여 기록하므로 값에 구분자가 들어 있어도 다른 경로와 같은 키가 되지 않음
+     */
+    static String bucketKey(String domain, RateLimitDescriptor descriptor) {
+        StringBuilder key = new StringBuilder(64);
+        appendPart(key, domain);
+        for (RateLimitDescriptor.Entry entry : descriptor.getEntries()) {
+            appendPart(key.append('|'), entry.getKey());
+            appendPart(key.append('='), entry.getValue());
+        }
+        return key.toString();
+    }
+
+    private static void appendPart(StringBuilder key, String part) {
+        key.append(part.length()).append(':').append(part);
+    }
+
+    private static long hits(RateLimitRequest request, RateLimitDescriptor descriptor) {
+        if (descriptor.getHitsAddend() != RateLimitDescriptor.NO_HITS_ADDEND) {
+            return descriptor.getHitsAddend();
+        }
+        return request.getHitsAddend() == 0 ? 1 : request.getHitsAddend();
+    }
+
+    private static RateLimitResponse.DescriptorStatus status(RateLimitResponse.Code code, DescriptorTrie.Limit limit,
+                                                             long remaining, Duration durationUntilReset) {
+        return new RateLimitResponse.DescriptorStatus(code, limit.getCurrentLimit(), Math.max(0, remaining),
+                durationUntilReset);
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.ckaanf.ratelimiter.envoy;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 요청 디스크립터 ({@code envoy.extensions.common.ratelimit.v3.RateLimitDescriptor})
+ * 디스크립터별 한도 재정의(limit)는 지원하지 않음
+ */
+public final class RateLimitDescriptor {
+
+    /**
+     * 디스크립터별 hits_addend가 없음을 나타내는 값
+     */
+    public static final long NO_HITS_ADDEND = -1;
+
+    private final List<Entry> entries;
+    private final long hitsAddend;
+
+    /**
+     * @param entries    키/값 엔트리 (순서대로 규칙 경로와 매칭)
+     * @param hitsAddend 이 디스크립터의 소비량 ({@link #NO_HITS_ADDEND}이면 요청의 값 사용, 0이면 조회만)
+     */
+    public RateLimitDescriptor(List<Entry> entries, long hitsAddend) {
+        this.entries = List.copyOf(entries);
+        this.hitsAddend = hitsAddend;
+    }
+
+    public static RateLimitDescriptor of(Entry... entries) {
+        return new RateLimitDescriptor(List.of(entries), NO_HITS_ADDEND);
+    }
+
+    public List<Entry> getEntries() { return entries; }
+    public long getHitsAddend() { return hitsAddend; }
+
+    @Override
+    public String toString() {
+        return "RateLimitDescriptor{" + entries + (hitsAddend != NO_HITS_ADDEND ? ", hits=" + hitsAddend : "") + "}";
+    }
+
+    /**
+     * 디스크립터 엔트리 하나
+     */
+    public static final class Entry {
+        private final String key;
+        private final String value;
+
+        public Entry(String key, String value) {
+            this.key = Objects.requireNonNull(key, "Key cannot be null");
+            this.value = Objects.requireNonNull(value, "Value cannot be null");
+        }
+
+        public static Entry of(String key, String value) {
+            return new Entry(key, value);
+        }
+
+        public String getKey() { return key; }
+        public String getValue() { return value; }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}
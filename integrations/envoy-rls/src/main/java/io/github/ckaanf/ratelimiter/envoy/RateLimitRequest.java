@@ -0,0 +1,38 @@
+package io.github.ckaanf.ratelimiter.envoy;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@code ShouldRateLimit} 요청 ({@code envoy.service.ratelimit.v3.RateLimitRequest})
+ */
+public final class RateLimitRequest {
+
+    private final String domain;
+    private final List<RateLimitDescriptor> descriptors;
+    private final long hitsAddend;
+
+    /**
+     * @param domain      규칙 도메인
+     * @param descriptors 판정할 디스크립터들 (각각 독립 판정)
+     * @param hitsAddend  디스크립터당 소비량 (0이면 1)
+     */
+    public RateLimitRequest(String domain, List<RateLimitDescriptor> descriptors, long hitsAddend) {
+        this.domain = Objects.requireNonNull(domain, "Domain cannot be null");
+        this.descriptors = List.copyOf(descriptors);
+        this.hitsAddend = hitsAddend;
+    }
+
+    public RateLimitRequest(String domain, List<RateLimitDescriptor> descriptors) {
+        this(domain, descriptors, 0);
+    }
+
+    public String getDomain() { return domain; }
+    public List<RateLimitDescriptor> getDescriptors() { return descriptors; }
+    public long getHitsAddend() { return hitsAddend; }
+
+    @Override
+    public String toString() {
+        return "RateLimitRequest{domain=" + domain + ", descriptors=" + descriptors + "}";
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.ckaanf.ratelimiter.envoy;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@code ShouldRateLimit} 응답 ({@code envoy.service.ratelimit.v3.RateLimitResponse})
+ * 헤더 추가, 동적 메타데이터, 쿼터 필드는 사용하지 않음
+ */
+public final class RateLimitResponse {
+
+    public enum Code {
+        UNKNOWN(0),
+        OK(1),
+        OVER_LIMIT(2);
+
+        private final int number;
+
+        Code(int number) {
+            this.number = number;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        static Code forNumber(int number) {
+            for (Code code : values()) {
+                if (code.number == number) {
+                    return code;
+                }
+            }
+            return UNKNOWN;
+        }
+    }
+
+    private final Code overallCode;
+    private final List<DescriptorStatus> statuses;
+
+    public RateLimitResponse(Code overallCode, List<DescriptorStatus> statuses) {
+        this.overallCode = overallCode;
+        this.statuses = List.copyOf(statuses);
+    }
+
+    public Code getOverallCode() { return overallCode; }
+
+    /**
+     * 요청 디스크립터와 같은 순서의 판정 결과
+     */
+    public List<DescriptorStatus> getStatuses() { return statuses; }
+
+    @Override
+    public String toString() {
+        return "RateLimitResponse{" + overallCode + ", statuses=" + statuses + "}";
+    }
+
+    /**
+     * 디스크립터 하나의 판정 결과
+     */
+    public static final class DescriptorStatus {
+        private final Code code;
+        private final CurrentLimit currentLimit;
+        private final long limitRemaining;
+        private final Duration durationUntilReset;
+
+        /**
+         * @param currentLimit       적용된 한도 (매칭된 규칙이 없으면 null)
+         * @param durationUntilReset 다시 허용될 때까지 남은 시간 (없으면 null)
+         */
+        public DescriptorStatus(Code code, CurrentLimit currentLimit, long limitRemaining,
+                                Duration durationUntilReset) {
+            this.code = code;
+            this.currentLimit = currentLimit;
+            this.limitRemaining = limitRemaining;
+            this.durationUntilReset = durationUntilReset;
+        }
+
+        public Code getCode() { return code; }
+        public CurrentLimit getCurrentLimit() { return currentLimit; }
+        public long getLimitRemaining() { return limitRemaining; }
+        public Duration getDurationUntilReset() { return durationUntilReset; }
+
+        @Override
+        public String toString() {
+            return "DescriptorStatus{" + code + ", limit=" + currentLimit + ", remaining=" + limitRemaining
+                    + (durationUntilReset != null ? ", reset=" + durationUntilReset : "") + "}";
+        }
+    }
+
+    /**
+     * 적용된 한도 ({@code RateLimitResponse.RateLimit})
+     */
+    public static final class CurrentLimit {
+        private final String name;
+        private final long requestsPerUnit;
+        private final RateLimitUnit unit;
+
+        public CurrentLimit(String name, long requestsPerUnit, RateLimitUnit unit) {
+            this.name = name;
+            this.requestsPerUnit = requestsPerUnit;
+            this.unit = unit;
+        }
+
+        public String getName() { return name; }
+        public long getRequestsPerUnit() { return requestsPerUnit; }
+        public RateLimitUnit getUnit() { return unit; }
+
+        @Override
+        public String toString() {
+            return name + "(" + requestsPerUnit + "/" + unit + ")";
+        }
+    }
+}
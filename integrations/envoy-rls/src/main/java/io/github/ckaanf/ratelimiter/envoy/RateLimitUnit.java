@@ -0,0 +1,45 @@
+package io.github.ckaanf.ratelimiter.envoy;
+
+import java.time.Duration;
+
+/**
+ * Envoy RLS 한도 단위 ({@code RateLimitResponse.RateLimit.Unit})
+ */
+public enum RateLimitUnit {
+    UNKNOWN(0, null),
+    SECOND(1, Duration.ofSeconds(1)),
+    MINUTE(2, Duration.ofMinutes(1)),
+    HOUR(3, Duration.ofHours(1)),
+    DAY(4, Duration.ofDays(1));
+
+    private final int number;
+    private final Duration duration;
+
+    RateLimitUnit(int number, Duration duration) {
+        this.number = number;
+        this.duration = duration;
+    }
+
+    /**
+     * proto enum 번호
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * 단위 하나의 길이 (UNKNOWN은 null)
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    static RateLimitUnit forNumber(int number) {
+        for (RateLimitUnit unit : values()) {
+            if (unit.number == number) {
+                return unit;
+            }
+        }
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,330 @@
+package io.github.ckaanf.ratelimiter.envoy;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Envoy RLS v3 메시지의 protobuf 와이어 포맷 인코딩/디코딩
+ *
+ * <p>protoc 생성 코드와 Envoy proto 의존성 전체를 끌어오지 않도록, 사용하는 필드만 필드 번호로 직접 처리합니다.
+ * 모르는 필드는 건너뛰므로 proto가 확장되어도 호환됩니다.
+ */
+final class RlsCodec {
+
+    private static final int LENGTH_DELIMITED = WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    private static final int VARINT = WireFormat.WIRETYPE_VARINT;
+
+    // RateLimitRequest
+    private static final int REQUEST_DOMAIN = tag(1, LENGTH_DELIMITED);
+    private static final int REQUEST_DESCRIPTORS = tag(2, LENGTH_DELIMITED);
+    private static final int REQUEST_HITS_ADDEND = tag(3, VARINT);
+
+    // RateLimitDescriptor (2번 limit 재정의는 무시)
+    private static final int DESCRIPTOR_ENTRIES = tag(1, LENGTH_DELIMITED);
+    private static final int DESCRIPTOR_HITS_ADDEND = tag(3, LENGTH_DELIMITED);   // UInt64Value
+    private static final int ENTRY_KEY = tag(1, LENGTH_DELIMITED);
+    private static final int ENTRY_VALUE = tag(2, LENGTH_DELIMITED);
+    private static final int WRAPPER_VALUE = tag(1, VARINT);
+
+    // RateLimitResponse
+    private static final int RESPONSE_OVERALL_CODE = tag(1, VARINT);
+    private static final int RESPONSE_STATUSES = tag(2, LENGTH_DELIMITED);
+    private static final int STATUS_CODE = tag(1, VARINT);
+    private static final int STATUS_CURRENT_LIMIT = tag(2, LENGTH_DELIMITED);
+    private static final int STATUS_LIMIT_REMAINING = tag(3, VARINT);
+    private static final int STATUS_DURATION_UNTIL_RESET = tag(4, LENGTH_DELIMITED);
+    private static final int LIMIT_REQUESTS_PER_UNIT = tag(1, VARINT);
+    private static final int LIMIT_UNIT = tag(2, VARINT);
+    private static final int LIMIT_NAME = tag(3, LENGTH_DELIMITED);
+    private static final int DURATION_SECONDS = tag(1, VARINT);
+    private static final int DURATION_NANOS = tag(2, VARINT);
+
+    static final MethodDescriptor.Marshaller<RateLimitRequest> REQUEST_MARSHALLER = new MethodDescriptor.Marshaller<>() {
+        @Override
+        public InputStream stream(RateLimitRequest value) {
+            return new ByteArrayInputStream(encodeRequest(value));
+        }
+
+        @Override
+        public RateLimitRequest parse(InputStream stream) {
+            try {
+                return decodeRequest(CodedInputStream.newInstance(stream));
+            } catch (IOException e) {
+                throw Status.INVALID_ARGUMENT.withDescription("Malformed RateLimitRequest").withCause(e)
+                        .asRuntimeException();
+            }
+        }
+    };
+
+    static final MethodDescriptor.Marshaller<RateLimitResponse> RESPONSE_MARSHALLER = new MethodDescriptor.Marshaller<>() {
+        @Override
+        public InputStream stream(RateLimitResponse value) {
+            return new ByteArrayInputStream(encodeResponse(value));
+        }
+
+        @Override
+        public RateLimitResponse parse(InputStream stream) {
+            try {
+                return decodeResponse(CodedInputStream.newInstance(stream));
+            } catch (IOException e) {
+                throw Status.INTERNAL.withDescription("Malformed RateLimitResponse").withCause(e)
+                        .asRuntimeException();
+            }
+        }
+    };
+
+    private RlsCodec() {
+    }
+
+    // === 요청 ===
+
+    static RateLimitRequest decodeRequest(CodedInputStream in) throws IOException {
+        String domain = "";
+        List<RateLimitDescriptor> descriptors = new ArrayList<>();
+        long hitsAddend = 0;
+
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (tag == REQUEST_DOMAIN) {
+                domain = in.readStringRequireUtf8();
+            } else if (tag == REQUEST_DESCRIPTORS) {
+                int limit = in.pushLimit(in.readRawVarint32());
+                descriptors.add(decodeDescriptor(in));
+                in.popLimit(limit);
+            } else if (tag == REQUEST_HITS_ADDEND) {
+                hitsAddend = Integer.toUnsignedLong(in.readUInt32());
+            } else if (!in.skipField(tag)) {
+                break;
+            }
+        }
+        return new RateLimitRequest(domain, descriptors, hitsAddend);
+    }
+
+    private static RateLimitDescriptor decodeDescriptor(CodedInputStream in) throws IOException {
+        List<RateLimitDescriptor.Entry> entries = new ArrayList<>();
+        long hitsAddend = RateLimitDescriptor.NO_HITS_ADDEND;
+
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (tag == DESCRIPTOR_ENTRIES) {
+                int limit = in.pushLimit(in.readRawVarint32());
+                entries.add(decodeEntry(in));
+                in.popLimit(limit);
+            } else if (tag == DESCRIPTOR_HITS_ADDEND) {
+                int limit = in.pushLimit(in.readRawVarint32());
+                hitsAddend = decodeUInt64Value(in);
+                in.popLimit(limit);
+            } else if (!in.skipField(tag)) {
+                break;
+            }
+        }
+        return new RateLimitDescriptor(entries, hitsAddend);
+    }
+
+    private static RateLimitDescriptor.Entry decodeEntry(CodedInputStream in) throws IOException {
+        String key = "";
+        String value = "";
+
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (tag == ENTRY_KEY) {
+                key = in.readStringRequireUtf8();
+            } else if (tag == ENTRY_VALUE) {
+                value = in.readStringRequireUtf8();
+            } else if (!in.skipField(tag)) {
+                break;
+            }
+        }
+        return new RateLimitDescriptor.Entry(key, value);
+    }
+
+    private static long decodeUInt64Value(CodedInputStream in) throws IOException {
+        long value = 0;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (tag == WRAPPER_VALUE) {
+                value = in.readUInt64();
+            } else if (!in.skipField(tag)) {
+                break;
+            }
+        }
+        return value;
+    }
+
+    static byte[] encodeRequest(RateLimitRequest request) {
+        return encode(out -> {
+            out.writeString(1, request.getDomain());
+            for (RateLimitDescriptor descriptor : request.getDescriptors()) {
+                out.writeByteArray(2, encode(descriptorOut -> {
+                    for (RateLimitDescriptor.Entry entry : descriptor.getEntries()) {
+                        descriptorOut.writeByteArray(1, encode(entryOut -> {
+                            entryOut.writeString(1, entry.getKey());
+                            entryOut.writeString(2, entry.getValue());
+                        }));
+                    }
+                    if (descriptor.getHitsAddend() != RateLimitDescriptor.NO_HITS_ADDEND) {
+                        descriptorOut.writeByteArray(3,
+                                encode(wrapperOut -> wrapperOut.writeUInt64(1, descriptor.getHitsAddend())));
+                    }
+                }));
+            }
+            if (request.getHitsAddend() != 0) {
+                out.writeUInt32(3, (int) request.getHitsAddend());
+            }
+        });
+    }
+
+    // === 응답 ===
+
+    static byte[] encodeResponse(RateLimitResponse response) {
+        return encode(out -> {
+            out.writeEnum(1, response.getOverallCode().getNumber());
+            for (RateLimitResponse.DescriptorStatus status : response.getStatuses()) {
+                out.writeByteArray(2, encode(statusOut -> encodeStatus(statusOut, status)));
+            }
+        });
+    }
+
+    private static void encodeStatus(CodedOutputStream out, RateLimitResponse.DescriptorStatus status)
+            throws IOException {
+        out.writeEnum(1, status.getCode().getNumber());
+        RateLimitResponse.CurrentLimit limit = status.getCurrentLimit();
+        if (limit != null) {
+            out.writeByteArray(2, encode(limitOut -> {
+                limitOut.writeUInt32(1, saturatedUInt32(limit.getRequestsPerUnit()));
+                limitOut.writeEnum(2, limit.getUnit().getNumber());
+                limitOut.writeString(3, limit.getName());
+            }));
+        }
+        out.writeUInt32(3, saturatedUInt32(status.getLimitRemaining()));
+        Duration reset = status.getDurationUntilReset();
+        if (reset != null) {
+            out.writeByteArray(4, encode(durationOut -> {
+                durationOut.writeInt64(1, reset.getSeconds());
+                durationOut.writeInt32(2, reset.getNano());
+            }));
+        }
+    }
+
+    static RateLimitResponse decodeResponse(CodedInputStream in) throws IOException {
+        RateLimitResponse.Code overallCode = RateLimitResponse.Code.UNKNOWN;
+        List<RateLimitResponse.DescriptorStatus> statuses = new ArrayList<>();
+
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (tag == RESPONSE_OVERALL_CODE) {
+                overallCode = RateLimitResponse.Code.forNumber(in.readEnum());
+            } else if (tag == RESPONSE_STATUSES) {
+                int limit = in.pushLimit(in.readRawVarint32());
+                statuses.add(decodeStatus(in));
+                in.popLimit(limit);
+            } else if (!in.skipField(tag)) {
+                break;
+            }
+        }
+        return new RateLimitResponse(overallCode, statuses);
+    }
+
+    private static RateLimitResponse.DescriptorStatus decodeStatus(CodedInputStream in) throws IOException {
+        RateLimitResponse.Code code = RateLimitResponse.Code.UNKNOWN;
+        RateLimitResponse.CurrentLimit currentLimit = null;
+        long remaining = 0;
+        Duration reset = null;
+
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (tag == STATUS_CODE) {
+                code = RateLimitResponse.Code.forNumber(in.readEnum());
+            } else if (tag == STATUS_CURRENT_LIMIT) {
+                int limit = in.pushLimit(in.readRawVarint32());
+                currentLimit = decodeCurrentLimit(in);
+                in.popLimit(limit);
+            } else if (tag == STATUS_LIMIT_REMAINING) {
+                remaining = Integer.toUnsignedLong(in.readUInt32());
+            } else if (tag == STATUS_DURATION_UNTIL_RESET) {
+                int limit = in.pushLimit(in.readRawVarint32());
+                reset = decodeDuration(in);
+                in.popLimit(limit);
+            } else if (!in.skipField(tag)) {
+                break;
+            }
+        }
+        return new RateLimitResponse.DescriptorStatus(code, currentLimit, remaining, reset);
+    }
+
+    private static RateLimitResponse.CurrentLimit decodeCurrentLimit(CodedInputStream in) throws IOException {
+        String name = "";
+        long requestsPerUnit = 0;
+        RateLimitUnit unit = RateLimitUnit.UNKNOWN;
+
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (tag == LIMIT_REQUESTS_PER_UNIT) {
+                requestsPerUnit = Integer.toUnsignedLong(in.readUInt32());
+            } else if (tag == LIMIT_UNIT) {
+                unit = RateLimitUnit.forNumber(in.readEnum());
+            } else if (tag == LIMIT_NAME) {
+                name = in.readStringRequireUtf8();
+            } else if (!in.skipField(tag)) {
+                break;
+            }
+        }
+        return new RateLimitResponse.CurrentLimit(name, requestsPerUnit, unit);
+    }
+
+    private static Duration decodeDuration(CodedInputStream in) throws IOException {
+        long seconds = 0;
+        int nanos = 0;
+
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (tag == DURATION_SECONDS) {
+                seconds = in.readInt64();
+            } else if (tag == DURATION_NANOS) {
+                nanos = in.readInt32();
+            } else if (!in.skipField(tag)) {
+                break;
+            }
+        }
+        return Duration.ofSeconds(seconds, nanos);
+    }
+
+    // === 내부 메소드들 ===
+
+    private static int tag(int fieldNumber, int wireType) {
+        return fieldNumber << 3 | wireType;
+    }
+
+    private static int saturatedUInt32(long value) {
+        return (int) Math.min(value, 0xFFFF_FFFFL);
+    }
+
+    private static byte[] encode(MessageWriter writer) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+            writer.write(out);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface MessageWriter {
+        void write(CodedOutputStream out) throws IOException;
+    }
+}
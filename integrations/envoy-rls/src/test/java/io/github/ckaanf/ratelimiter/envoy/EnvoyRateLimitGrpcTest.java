@@ -0,0 +1,162 @@
+package io.github.ckaanf.ratelimiter.envoy;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnknownFieldSet;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
+import io.grpc.CallOptions;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCalls;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.ckaanf.ratelimiter.envoy.RateLimitDescriptor.Entry;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 로컬 gRPC 서버/클라이언트로 검증하는 Envoy RLS 전송 테스트
+ */
+class EnvoyRateLimitGrpcTest {
+
+    private RateLimiterRegistry registry;
+    private Server server;
+    private ManagedChannel channel;
+    private EnvoyRateLimitService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        registry = RateLimiterRegistry.create();
+        service = new EnvoyRateLimitService(registry, new MemoryStorageConfig(), Map.of(
+                "edge", List.of(DescriptorRule.of("remote_address").withLimit(1, RateLimitUnit.SECOND))));
+        server = Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                .addService(service)
+                .build()
+                .start();
+        channel = Grpc.newChannelBuilderForAddress("127.0.0.1", server.getPort(), InsecureChannelCredentials.create())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+        service.close();
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("gRPC로 ShouldRateLimit을 호출하여 허용 후 초과 판정")
+    void shouldRateLimitOverGrpc() {
+        // Given
+        RateLimitRequest request = new RateLimitRequest("edge",
+                List.of(RateLimitDescriptor.of(Entry.of("remote_address", "10.0.0.1"))));
+
+        // When
+        RateLimitResponse first = call(request);
+        RateLimitResponse second = call(request);
+
+        // Then
+        assertThat(first.getOverallCode()).isEqualTo(RateLimitResponse.Code.OK);
+        assertThat(second.getOverallCode()).isEqualTo(RateLimitResponse.Code.OVER_LIMIT);
+        assertThat(second.getStatuses().get(0).getCurrentLimit().getUnit()).isEqualTo(RateLimitUnit.SECOND);
+        assertThat(second.getStatuses().get(0).getDurationUntilReset()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Envoy proto 필드 번호로 직접 인코딩한 요청을 처리하고 모르는 필드는 무시")
+    void shouldAcceptEnvoyWireFormat() throws IOException {
+        // Given - RateLimitRequest{domain=1, descriptors=2{entries=1{key=1, value=2}, limit=2}, hits_addend=3}
+        byte[] entry = message(out -> {
+            out.writeString(1, "remote_address");
+            out.writeString(2, "10.0.0.9");
+        });
+        byte[] descriptor = message(out -> {
+            out.writeByteArray(1, entry);
+            out.writeByteArray(2, message(limit -> limit.writeUInt32(1, 99)));  // 지원하지 않는 limit 재정의
+        });
+        byte[] request = message(out -> {
+            out.writeString(1, "edge");
+            out.writeByteArray(2, descriptor);
+            out.writeUInt32(3, 1);
+        });
+
+        // When
+        UnknownFieldSet first = UnknownFieldSet.parseFrom(callRaw(request));
+        UnknownFieldSet second = UnknownFieldSet.parseFrom(callRaw(request));
+
+        // Then - overall_code=1 (OK=1, OVER_LIMIT=2), statuses=2{code=1, current_limit=2{requests_per_unit=1, unit=2}}
+        assertThat(first.getField(1).getVarintList()).containsExactly(1L);
+        assertThat(second.getField(1).getVarintList()).containsExactly(2L);
+        UnknownFieldSet status = UnknownFieldSet.parseFrom(second.getField(2).getLengthDelimitedList().get(0));
+        UnknownFieldSet limit = UnknownFieldSet.parseFrom(status.getField(2).getLengthDelimitedList().get(0));
+        assertThat(status.getField(1).getVarintList()).containsExactly(2L);
+        assertThat(limit.getField(1).getVarintList()).containsExactly(1L);
+        assertThat(limit.getField(2).getVarintList()).containsExactly((long) RateLimitUnit.SECOND.getNumber());
+    }
+
+    @Test
+    @DisplayName("빈 도메인 요청은 INVALID_ARGUMENT로 응답")
+    void emptyDomainShouldBeInvalidArgument() {
+        assertThatThrownBy(() -> call(new RateLimitRequest("", List.of())))
+                .isInstanceOf(StatusRuntimeException.class)
+                .satisfies(e -> assertThat(((StatusRuntimeException) e).getStatus().getCode())
+                        .isEqualTo(Status.Code.INVALID_ARGUMENT));
+    }
+
+    private RateLimitResponse call(RateLimitRequest request) {
+        return ClientCalls.blockingUnaryCall(channel, EnvoyRateLimitService.SHOULD_RATE_LIMIT, CallOptions.DEFAULT,
+                request);
+    }
+
+    private byte[] callRaw(byte[] request) {
+        MethodDescriptor<byte[], byte[]> method = EnvoyRateLimitService.SHOULD_RATE_LIMIT
+                .toBuilder(new BytesMarshaller(), new BytesMarshaller())
+                .build();
+        return ClientCalls.blockingUnaryCall(channel, method, CallOptions.DEFAULT, request);
+    }
+
+    private static byte[] message(MessageWriter writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        writer.write(out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private interface MessageWriter {
+        void write(CodedOutputStream out) throws IOException;
+    }
+
+    private static class BytesMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+        @Override
+        public InputStream stream(byte[] value) {
+            return new ByteArrayInputStream(value);
+        }
+
+        @Override
+        public byte[] parse(InputStream stream) {
+            try {
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.ckaanf.ratelimiter.envoy;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.github.ckaanf.ratelimiter.envoy.RateLimitDescriptor.Entry;
+import static org.assertj.core.api.Assertions.*;
+
+class EnvoyRateLimitServiceTest {
+
+    private RateLimiterRegistry registry;
+    private EnvoyRateLimitService service;
+
+    @BeforeEach
+    void setUp() {
+        registry = RateLimiterRegistry.create();
+        service = new EnvoyRateLimitService(registry, new MemoryStorageConfig(), Map.of("edge", List.of(
+                DescriptorRule.of("remote_address").withLimit(3, RateLimitUnit.MINUTE),
+                DescriptorRule.of("path").withLimit(100, RateLimitUnit.SECOND).withChildren(
+                        DescriptorRule.of("method", "POST").withLimit(1, RateLimitUnit.HOUR)),
+                DescriptorRule.of("path", "/login").withLimit(2, RateLimitUnit.MINUTE)
+        )));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("한도 이내면 OK와 남은 요청 수를 반환하고 초과하면 OVER_LIMIT과 리셋까지 남은 시간 반환")
+    void shouldReturnOverLimitWhenExhausted() {
+        // Given
+        RateLimitRequest request = request(RateLimitDescriptor.of(Entry.of("remote_address", "10.0.0.1")));
+        service.shouldRateLimit(request);
+        service.shouldRateLimit(request);
+
+        // When
+        RateLimitResponse third = service.shouldRateLimit(request);
+        RateLimitResponse fourth = service.shouldRateLimit(request);
+
+        // Then
+        assertThat(third.getOverallCode()).isEqualTo(RateLimitResponse.Code.OK);
+        assertThat(third.getStatuses().get(0).getLimitRemaining()).isZero();
+        assertThat(third.getStatuses().get(0).getCurrentLimit().getRequestsPerUnit()).isEqualTo(3);
+        assertThat(third.getStatuses().get(0).getCurrentLimit().getUnit()).isEqualTo(RateLimitUnit.MINUTE);
+
+        RateLimitResponse.DescriptorStatus status = fourth.getStatuses().get(0);
+        assertThat(fourth.getOverallCode()).isEqualTo(RateLimitResponse.Code.OVER_LIMIT);
+        assertThat(status.getCode()).isEqualTo(RateLimitResponse.Code.OVER_LIMIT);
+        assertThat(status.getDurationUntilReset()).isPositive();
+    }
+
+    @Test
+    @DisplayName("값 없는 규칙은 값마다 별도의 버킷 사용")
+    void wildcardRuleShouldUseBucketPerValue() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            service.shouldRateLimit(request(RateLimitDescriptor.of(Entry.of("remote_address", "10.0.0.1"))));
+        }
+
+        // When
+        RateLimitResponse other = service.shouldRateLimit(
+                request(RateLimitDescriptor.of(Entry.of("remote_address", "10.0.0.2"))));
+
+        // Then
+        assertThat(other.getOverallCode()).isEqualTo(RateLimitResponse.Code.OK);
+        assertThat(other.getStatuses().get(0).getLimitRemaining()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("값에 구분자가 들어 있어도 다른 디스크립터 경로와 버킷을 공유하지 않음")
+    void delimiterInValueShouldNotCollideWithNestedPath() {
+        // Given - 중첩 규칙(시간당 1회) 버킷을 소진
+        RateLimitDescriptor nested = RateLimitDescriptor.of(Entry.of("path", "/x"), Entry.of("method", "POST"));
+        RateLimitDescriptor forged = RateLimitDescriptor.of(Entry.of("path", "/x|method=POST"));
+        service.shouldRateLimit(request(nested));
+
+        // When
+        RateLimitResponse response = service.shouldRateLimit(request(forged));
+
+        // Then - 값 없는 path 규칙(초당 100회)의 새 버킷
+        assertThat(response.getOverallCode()).isEqualTo(RateLimitResponse.Code.OK);
+        assertThat(response.getStatuses().get(0).getLimitRemaining()).isEqualTo(99);
+        assertThat(EnvoyRateLimitService.bucketKey("edge", forged))
+                .isNotEqualTo(EnvoyRateLimitService.bucketKey("edge", nested));
+    }
+
+    @Test
+    @DisplayName("값이 일치하는 규칙이 값 없는 규칙보다 우선하고 중첩 규칙은 전체 경로가 매칭될 때 적용")
+    void shouldMatchMostSpecificRule() {
+        // When
+        RateLimitResponse response = service.shouldRateLimit(request(
+                RateLimitDescriptor.of(Entry.of("path", "/login")),
+                RateLimitDescriptor.of(Entry.of("path", "/orders")),
+                RateLimitDescriptor.of(Entry.of("path", "/orders"), Entry.of("method", "POST")),
+                RateLimitDescriptor.of(Entry.of("path", "/orders"), Entry.of("method", "GET"))
+        ));
+
+        // Then
+        List<RateLimitResponse.DescriptorStatus> statuses = response.getStatuses();
+        assertThat(statuses.get(0).getCurrentLimit().getName()).isEqualTo("edge.path_/login");
+        assertThat(statuses.get(1).getCurrentLimit().getName()).isEqualTo("edge.path");
+        assertThat(statuses.get(2).getCurrentLimit().getName()).isEqualTo("edge.path.method_POST");
+        assertThat(statuses.get(3).getCurrentLimit()).isNull();
+    }
+
+    @Test
+    @DisplayName("매칭되는 규칙이 없는 디스크립터와 도메인은 제한하지 않음")
+    void unmatchedDescriptorShouldBeUnlimited() {
+        // When
+        RateLimitResponse unknownKey = service.shouldRateLimit(request(RateLimitDescriptor.of(Entry.of("user", "u1"))));
+        RateLimitResponse unknownDomain = service.shouldRateLimit(new RateLimitRequest("internal",
+                List.of(RateLimitDescriptor.of(Entry.of("remote_address", "10.0.0.1")))));
+
+        // Then
+        assertThat(unknownKey.getOverallCode()).isEqualTo(RateLimitResponse.Code.OK);
+        assertThat(unknownKey.getStatuses().get(0).getCurrentLimit()).isNull();
+        assertThat(unknownDomain.getOverallCode()).isEqualTo(RateLimitResponse.Code.OK);
+    }
+
+    @Test
+    @DisplayName("하나라도 초과하면 전체 OVER_LIMIT이지만 나머지 디스크립터는 독립 판정")
+    void descriptorsShouldBeDecidedIndependently() {
+        // Given
+        service.shouldRateLimit(request(RateLimitDescriptor.of(Entry.of("path", "/orders"), Entry.of("method", "POST"))));
+
+        // When
+        RateLimitResponse response = service.shouldRateLimit(request(
+                RateLimitDescriptor.of(Entry.of("remote_address", "10.0.0.1")),
+                RateLimitDescriptor.of(Entry.of("path", "/orders"), Entry.of("method", "POST"))
+        ));
+
+        // Then
+        assertThat(response.getOverallCode()).isEqualTo(RateLimitResponse.Code.OVER_LIMIT);
+        assertThat(response.getStatuses()).extracting(RateLimitResponse.DescriptorStatus::getCode)
+                .containsExactly(RateLimitResponse.Code.OK, RateLimitResponse.Code.OVER_LIMIT);
+        assertThat(response.getStatuses().get(0).getLimitRemaining()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("hits_addend만큼 소비하고 디스크립터별 값 0은 조회만 수행")
+    void shouldApplyHitsAddend() {
+        // Given
+        RateLimitDescriptor descriptor = RateLimitDescriptor.of(Entry.of("remote_address", "10.0.0.1"));
+        service.shouldRateLimit(new RateLimitRequest("edge", List.of(descriptor), 2));
+
+        // When
+        RateLimitResponse query = service.shouldRateLimit(request(
+                new RateLimitDescriptor(descriptor.getEntries(), 0)));
+
+        // Then
+        assertThat(query.getStatuses().get(0).getLimitRemaining()).isEqualTo(1);
+        assertThat(service.shouldRateLimit(request(descriptor)).getStatuses().get(0).getLimitRemaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("빈 도메인과 중복 규칙은 거부")
+    void shouldRejectInvalidInput() {
+        assertThatThrownBy(() -> service.shouldRateLimit(new RateLimitRequest("", List.of())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EnvoyRateLimitService(registry, new MemoryStorageConfig(), Map.of("edge", List.of(
+                DescriptorRule.of("remote_address").withLimit(1, RateLimitUnit.SECOND),
+                DescriptorRule.of("remote_address").withLimit(2, RateLimitUnit.SECOND)))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate descriptor rule");
+    }
+
+    private static RateLimitRequest request(RateLimitDescriptor... descriptors) {
+        return new RateLimitRequest("edge", List.of(descriptors));
+    }
+}
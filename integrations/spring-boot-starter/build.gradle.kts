@@ -1,6 +1,9 @@
+import java.util.zip.ZipFile
+
 plugins {
     id("org.springframework.boot") version "3.2.0"
     id("io.spring.dependency-management") version "1.1.4"
+    id("me.champeau.jmh") version "0.7.2"
     java
 }
 
@@ -23,8 +26,86 @@ dependencies {
     implementation(project(":core"))
     implementation(project(":algorithms:token-bucket"))
     implementation(project(":storage:inmemory"))
+    // 필터는 애플리케이션의 웹 스택(서블릿/리액티브)에 맞춰 선택적으로 활성화
+    compileOnly("org.springframework:spring-web")
+    compileOnly("jakarta.servlet:jakarta.servlet-api")
+    compileOnly("io.projectreactor:reactor-core")
+    compileOnly("io.micrometer:micrometer-core")
+    compileOnly("org.springframework.boot:spring-boot-actuator-autoconfigure")
     testImplementation("org.springframework.boot:spring-boot-starter-test:3.2.0")
     testImplementation("org.springframework.boot:spring-boot-starter-web:3.2.0")
+    testImplementation("io.projectreactor:reactor-core")
+    testImplementation("io.micrometer:micrometer-core")
+    testImplementation("org.springframework.boot:spring-boot-actuator")
+}
+
+// 의존 모듈의 META-INF/services 파일에서 프로바이더 목록(GeneratedProviderIndex)을 생성
+// 프로바이더를 추가해도 서비스 파일만 갱신하면 RateLimiterProviderIndex가 따라감
+val providerIndexDir = layout.buildDirectory.dir("generated/sources/providerIndex/java/main")
+val generateProviderIndex by tasks.registering {
+    val classpath = configurations.runtimeClasspath.get()
+    val services = mapOf(
+        "io.github.ckaanf.ratelimiter.core.RateLimiterProvider" to "algorithmProviders",
+        "io.github.ckaanf.ratelimiter.core.StorageProvider" to "storageProviders"
+    )
+    inputs.files(classpath)
+    outputs.dir(providerIndexDir)
+
+    doLast {
+        val found = services.keys.associateWith { linkedSetOf<String>() }
+        fun collect(service: String, text: String) {
+            text.lineSequence()
+                .map { it.substringBefore('#').trim() }
+                .filter { it.isNotEmpty() }
+                .forEach { found.getValue(service).add(it) }
+        }
+        classpath.files.forEach { file ->
+            services.keys.forEach { service ->
+                val path = "META-INF/services/$service"
+                when {
+                    file.isDirectory -> file.resolve(path).takeIf { it.isFile }?.let { collect(service, it.readText()) }
+                    file.name.endsWith(".jar") -> ZipFile(file).use { zip ->
+                        zip.getEntry(path)?.let { collect(service, zip.getInputStream(it).reader().readText()) }
+                    }
+                }
+            }
+        }
+
+        val source = buildString {
+            appendLine("package io.github.ckaanf.ratelimiter.springboot.autoconfigure;")
+            appendLine()
+            appendLine("import java.util.List;")
+            appendLine()
+            appendLine("/**")
+            appendLine(" * 빌드 시 의존 모듈의 META-INF/services 파일에서 생성된 프로바이더 목록 (직접 수정하지 말 것)")
+            appendLine(" */")
+            appendLine("final class GeneratedProviderIndex {")
+            appendLine()
+            appendLine("    private GeneratedProviderIndex() {")
+            appendLine("    }")
+            services.forEach { (service, method) ->
+                val providers = found.getValue(service)
+                appendLine()
+                appendLine("    static List<$service> $method() {")
+                appendLine("        return List.of(${providers.joinToString(", ") { "new $it()" }});")
+                appendLine("    }")
+            }
+            appendLine("}")
+        }
+        val target = providerIndexDir.get().file("io/github/ckaanf/ratelimiter/springboot/autoconfigure/GeneratedProviderIndex.java").asFile
+        target.parentFile.mkdirs()
+        target.writeText(source)
+    }
+}
+
+sourceSets.main {
+    java.srcDir(generateProviderIndex)
+}
+
+jmh {
+    warmupIterations.set(2)
+    iterations.set(3)
+    fork.set(1)
 }
 
 tasks.withType<Test> {
@@ -0,0 +1,133 @@
+package io.github.ckaanf.ratelimiter.springboot.starter;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketProvider;
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.core.exceptions.RateLimitExceededException;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageProvider;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimiterAspect 어드바이스 오버헤드 측정
+ *
+ * <ul>
+ *   <li>baseline: 프록시 없이 직접 호출</li>
+ *   <li>reflectiveAdvice: 호출마다 어노테이션 조회, 검증, 레지스트리 조회 (기존 방식)</li>
+ *   <li>cachedAdvice: 메서드별로 캐시된 어드바이스 정보 사용</li>
+ * </ul>
+ *
+ * 실행: ./gradlew :integrations:spring-boot-starter:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimiterAspectBenchmark {
+
+    private static final String LIMITER_NAME = "benchmark-limiter";
+
+    private Service target;
+    private Service reflectiveProxy;
+    private Service cachedProxy;
+
+    @Setup
+    public void setUp() {
+        RateLimiterRegistry registry = RateLimiterRegistry.createForTesting();
+        registry.registerAlgorithmProvider(new TokenBucketProvider());
+        registry.registerStorageProvider(new MemoryStorageProvider());
+
+        // 측정 중 토큰이 고갈되지 않도록 충분히 큰 버킷 사용
+        registry.getRateLimiter(new RateLimiterConfig(
+                LIMITER_NAME,
+                TokenBucketAlgorithmConfig.perSecond(1_000_000_000L, 1_000_000_000L),
+                MemoryStorageConfig.defaultConfig()));
+
+        target = new Service();
+        reflectiveProxy = proxy(target, new ReflectiveRateLimiterAspect(registry));
+        cachedProxy = proxy(target, new RateLimiterAspect(registry));
+    }
+
+    @Benchmark
+    public long baseline() {
+        return target.handle();
+    }
+
+    @Benchmark
+    public long reflectiveAdvice() {
+        return reflectiveProxy.handle();
+    }
+
+    @Benchmark
+    public long cachedAdvice() {
+        return cachedProxy.handle();
+    }
+
+    private static Service proxy(Service target, Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    public static class Service {
+
+        private long calls;
+
+        @RateLimit(limiterName = LIMITER_NAME)
+        public long handle() {
+            return ++calls;
+        }
+    }
+
+    /**
+     * 호출마다 메타데이터를 다시 계산하는 기존 어드바이스 (비교용)
+     */
+    @Aspect
+    public static class ReflectiveRateLimiterAspect {
+
+        private final RateLimiterRegistry registry;
+
+        public ReflectiveRateLimiterAspect(RateLimiterRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Around("@annotation(io.github.ckaanf.ratelimiter.springboot.starter.RateLimit)")
+        public Object rateLimit(ProceedingJoinPoint joinPoint) throws Throwable {
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            RateLimit rateLimit = method.getAnnotation(RateLimit.class);
+
+            String limiterName = rateLimit.limiterName();
+            long cost = rateLimit.cost();
+            if (cost <= 0) {
+                throw new IllegalArgumentException("RateLimit 'cost' must be a positive number.");
+            }
+
+            RateLimiter limiter = registry.findRateLimiter(limiterName)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "RateLimiter named '" + limiterName + "' is not configured."
+                    ));
+
+            if (limiter.tryConsume(cost)) {
+                return joinPoint.proceed();
+            }
+            throw new RateLimitExceededException(limiterName, cost, limiter.getAvailableTokens(), Duration.ZERO);
+        }
+    }
+}
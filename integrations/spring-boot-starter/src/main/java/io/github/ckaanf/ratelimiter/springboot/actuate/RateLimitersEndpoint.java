@@ -0,0 +1,168 @@
+package io.github.ckaanf.ratelimiter.springboot.actuate;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.AlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.HotKeySampler;
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+import io.github.ckaanf.ratelimiter.core.RateLimiterMetrics;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Rate Limiter 조회 및 런타임 설정 변경 Actuator 엔드포인트 ({@code /actuator/ratelimiters})
+ *
+ * <ul>
+ *   <li>GET {@code /actuator/ratelimiters}: 레지스트리 통계와 Rate Limiter별 설정, 메트릭스</li>
+ *   <li>GET {@code /actuator/ratelimiters/{name}}: 위 정보와 요청/거부가 많은 상위 키</li>
+ *   <li>POST {@code /actuator/ratelimiters/{name}}: Token Bucket 설정 변경 (버킷 상태 유지)</li>
+ * </ul>
+ *
+ * <p>모든 값은 누적 카운터와 고정 크기 샘플러에서 읽으므로 버킷 전체를 순회하지 않습니다.
+ */
+@Endpoint(id = "ratelimiters")
+public class RateLimitersEndpoint {
+
+    private static final int TOP_KEYS = 10;
+
+    private final RateLimiterRegistry registry;
+
+    public RateLimitersEndpoint(RateLimiterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public Map<String, Object> rateLimiters() {
+        RateLimiterRegistry.RegistryStats stats = registry.getStats();
+
+        Map<String, Object> registryInfo = new LinkedHashMap<>();
+        registryInfo.put("algorithmProviders", stats.getAlgorithmProviders());
+        registryInfo.put("storageProviders", stats.getStorageProviders());
+        registryInfo.put("rateLimiters", stats.getRateLimiters());
+
+        Map<String, Object> limiters = new TreeMap<>();
+        registry.getRateLimiters().forEach((name, limiter) -> limiters.put(name, describe(limiter)));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("registry", registryInfo);
+        body.put("limiters", limiters);
+        return body;
+    }
+
+    /**
+     * Rate Limiter 상세 조회 (없으면 404)
+     */
+    @ReadOperation
+    public Map<String, Object> rateLimiter(@Selector String name) {
+        RateLimiter limiter = registry.findRateLimiter(name).orElse(null);
+        if (limiter == null) {
+            return null;
+        }
+
+        RateLimiterMetrics metrics = limiter.getMetrics();
+        Map<String, Object> body = describe(limiter);
+        body.put("hottestKeys", describeKeys(metrics.getHottestKeys(TOP_KEYS)));
+        body.put("mostRejectedKeys", describeKeys(metrics.getMostRejectedKeys(TOP_KEYS)));
+        return body;
+    }
+
+    /**
+     * Token Bucket 설정 변경 (지정하지 않은 값은 현재 설정 유지, 없으면 404)
+     */
+    @WriteOperation
+    public Map<String, Object> updateRateLimiter(@Selector String name,
+                                                 @Nullable Long capacity,
+                                                 @Nullable Long refillTokens,
+                                                 @Nullable Duration refillPeriod,
+                                                 @Nullable Long initialTokens) {
+        RateLimiter limiter = registry.findRateLimiter(name).orElse(null);
+        if (limiter == null) {
+            return null;
+        }
+
+        AlgorithmConfig current = limiter.getConfiguration().getAlgorithmConfig();
+        if (!(current instanceof TokenBucketAlgorithmConfig)) {
+            throw new InvalidEndpointRequestException(
+                    "Unsupported algorithm: " + current.getType(), "Only token-bucket limiters can be updated");
+        }
+
+        try {
+            AlgorithmConfig updated = merge((TokenBucketAlgorithmConfig) current,
+                    capacity, refillTokens, refillPeriod, initialTokens);
+            registry.updateConfig(name, updated);
+        } catch (IllegalArgumentException | UnsupportedOperationException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+
+        return describe(limiter);
+    }
+
+    private static TokenBucketAlgorithmConfig merge(TokenBucketAlgorithmConfig current,
+                                                    Long capacity, Long refillTokens,
+                                                    Duration refillPeriod, Long initialTokens) {
+        long newCapacity = capacity != null ? capacity : current.getCapacity();
+
+        long newInitialTokens;
+        if (initialTokens != null) {
+            newInitialTokens = initialTokens;
+        } else if (current.getInitialTokens() == current.getCapacity()) {
+            newInitialTokens = newCapacity; // "가득 찬 상태로 시작" 설정은 새 용량에도 유지
+        } else {
+            newInitialTokens = Math.min(current.getInitialTokens(), newCapacity);
+        }
+
+        return new TokenBucketAlgorithmConfig(
+                newCapacity,
+                refillTokens != null ? refillTokens : current.getRefillTokens(),
+                refillPeriod != null ? refillPeriod : current.getRefillPeriod(),
+                newInitialTokens
+        );
+    }
+
+    private static Map<String, Object> describe(RateLimiter limiter) {
+        AlgorithmConfig algorithmConfig = limiter.getConfiguration().getAlgorithmConfig();
+        RateLimiterMetrics metrics = limiter.getMetrics();
+
+        Map<String, Object> algorithm = new LinkedHashMap<>();
+        algorithm.put("type", algorithmConfig.getType());
+        algorithm.putAll(algorithmConfig.toMap());
+
+        Map<String, Object> metricsInfo = new LinkedHashMap<>();
+        metricsInfo.put("allowed", metrics.getAllowedCount());
+        metricsInfo.put("rejected", metrics.getRejectedCount());
+        metricsInfo.put("totalWaitMillis", TimeUnit.NANOSECONDS.toMillis(metrics.getTotalWaitNanos()));
+        metricsInfo.put("activeBuckets", metrics.getActiveBuckets());
+        metricsInfo.put("evictedBuckets", metrics.getEvictionCount());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("algorithm", algorithm);
+        body.put("storage", limiter.getConfiguration().getStorageConfig().getType());
+        body.put("availableTokens", limiter.getAvailableTokens());
+        body.put("metrics", metricsInfo);
+        return body;
+    }
+
+    private static List<Map<String, Object>> describeKeys(List<HotKeySampler.KeyCount> keys) {
+        return keys.stream()
+                .map(keyCount -> {
+                    Map<String, Object> entry = new LinkedHashMap<>();
+                    entry.put("key", keyCount.getKey());
+                    entry.put("count", keyCount.getCount());
+                    entry.put("error", keyCount.getError());
+                    return entry;
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.ckaanf.ratelimiter.springboot.autoconfigure;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 'rate-limiter.limiters'로 정의되어 시작 시점에 생성, 등록된 Rate Limiter 목록
+ */
+public class NamedRateLimiters {
+
+    private final Map<String, RateLimiter> limiters;
+
+    public NamedRateLimiters(Map<String, RateLimiter> limiters) {
+        this.limiters = Collections.unmodifiableMap(limiters);
+    }
+
+    /**
+     * 이름으로 Rate Limiter 조회
+     */
+    public Optional<RateLimiter> find(String name) {
+        return Optional.ofNullable(limiters.get(name));
+    }
+
+    public Map<String, RateLimiter> asMap() {
+        return limiters;
+    }
+
+    public int size() {
+        return limiters.size();
+    }
+}
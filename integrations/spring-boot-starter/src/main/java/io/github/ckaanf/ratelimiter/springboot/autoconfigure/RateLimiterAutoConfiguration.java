@@ -6,26 +6,69 @@ import io.github.ckaanf.ratelimiter.core.RateLimiter;
 import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
 import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
 import io.github.ckaanf.ratelimiter.springboot.autoconfigure.properties.RateLimiterProperties;
+import io.github.ckaanf.ratelimiter.springboot.autoconfigure.properties.RateLimiterProperties.ProviderDiscovery;
+import io.github.ckaanf.ratelimiter.springboot.starter.RateLimiterAspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.io.ResourceLoader;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Rate Limiter 자동 설정 클래스
  */
-@Configuration
+@Configuration(proxyBeanMethods = false)
 @EnableConfigurationProperties(RateLimiterProperties.class)
 // "rate-limiter.enabled=true"일 때만 이 설정을 활성화합니다.
 @ConditionalOnProperty(prefix = "rate-limiter", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ImportRuntimeHints(RateLimiterRuntimeHints.class)
 public class RateLimiterAutoConfiguration {
 
+    private static final Logger log = LoggerFactory.getLogger(RateLimiterAutoConfiguration.class);
+
+    /**
+     * 애플리케이션 컨텍스트 전용 레지스트리 (정적 싱글톤과 상태를 공유하지 않음)
+     * 컨텍스트가 닫히면 저장소와 정리 스레드를 함께 종료합니다.
+     *
+     * <p>'rate-limiter.provider-discovery=index'이거나, 지정하지 않은 상태에서 네이티브/AOT 환경이면
+     * {@link java.util.ServiceLoader} 스캔 없이 {@link RateLimiterProviderIndex}로 프로바이더를 등록합니다.
+     * 지정하지 않았는데 클래스패스에 목록에 없는 프로바이더가 있으면 {@link java.util.ServiceLoader}를 사용합니다.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public RateLimiterRegistry rateLimiterRegistry(RateLimiterProperties properties, ResourceLoader resourceLoader) {
+        ClassLoader classLoader = resourceLoader.getClassLoader();
+        ProviderDiscovery discovery = properties.getProviderDiscovery();
+        boolean useIndex = discovery != null
+                ? discovery == ProviderDiscovery.INDEX
+                : (NativeDetector.inNativeImage() || Boolean.getBoolean("spring.aot.processing"))
+                        && RateLimiterProviderIndex.missingProviders(classLoader).isEmpty();
+
+        return useIndex ? RateLimiterProviderIndex.createRegistry(classLoader) : RateLimiterRegistry.create();
+    }
+
+    /**
+     * 웹 서버가 요청을 받기 전에 등록된 Rate Limiter를 워밍업 ('rate-limiter.warm-up=false'로 끌 수 있음)
+     */
     @Bean
     @ConditionalOnMissingBean
-    public RateLimiter rateLimiter(RateLimiterProperties properties) {
-        RateLimiterRegistry registry = RateLimiterRegistry.getInstance();
+    @ConditionalOnProperty(prefix = "rate-limiter", name = "warm-up", havingValue = "true", matchIfMissing = true)
+    public RateLimiterWarmUp rateLimiterWarmUp(RateLimiterRegistry registry) {
+        return new RateLimiterWarmUp(registry);
+    }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public RateLimiter rateLimiter(RateLimiterProperties properties, RateLimiterRegistry registry) {
         // 주입받은 properties를 사용하여 RateLimiterConfig를 생성합니다.
         RateLimiterConfig config = new RateLimiterConfig(
                 properties.getName(),           // application.properties의 'name'
@@ -33,6 +76,39 @@ public class RateLimiterAutoConfiguration {
                 properties.getStorageConfig()   // application.properties의 'storageConfig'
         );
 
-        return registry.createRateLimiter(config);
+        // 레지스트리에 등록해야 이름으로 조회(findRateLimiter)할 수 있습니다.
+        return registry.getRateLimiter(config);
+    }
+
+    /**
+     * 'rate-limiter.limiters.&lt;name&gt;'의 모든 Rate Limiter를 시작 시점에 생성, 등록
+     * 첫 요청이 지연 생성과 SPI 조회 비용을 치르지 않도록 합니다. (워밍업은 {@link RateLimiterWarmUp})
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public NamedRateLimiters namedRateLimiters(RateLimiterProperties properties, RateLimiterRegistry registry) {
+        Map<String, RateLimiter> limiters = new LinkedHashMap<>();
+
+        properties.getLimiters().forEach((name, limiterProperties) -> {
+            RateLimiterConfig config = new RateLimiterConfig(
+                    name,
+                    limiterProperties.toAlgorithmConfig(),
+                    limiterProperties.toStorageConfig()
+            );
+
+            limiters.put(name, registry.getRateLimiter(config));
+        });
+
+        log.info("Registered {} named rate limiter(s): {}", limiters.size(), limiters.keySet());
+        return new NamedRateLimiters(limiters);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnClass(name = "org.aspectj.lang.annotation.Aspect")
+    public RateLimiterAspect rateLimiterAspect(RateLimiterRegistry registry, NamedRateLimiters namedRateLimiters,
+                                               RateLimiterProperties properties) {
+        // 이름 있는 Rate Limiter가 먼저 등록되도록 NamedRateLimiters에 의존합니다.
+        return new RateLimiterAspect(registry, properties.getRejectionStrategy());
     }
 }
\ No newline at end of file
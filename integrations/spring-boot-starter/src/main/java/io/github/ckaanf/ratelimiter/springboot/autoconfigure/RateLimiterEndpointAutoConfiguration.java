@@ -0,0 +1,30 @@
+package io.github.ckaanf.ratelimiter.springboot.autoconfigure;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.springboot.actuate.RateLimitersEndpoint;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Actuator 엔드포인트 자동 설정 클래스
+ * Actuator가 클래스패스에 있고 엔드포인트가 노출되었으며 컨텍스트가 관리하는 {@link RateLimiterRegistry} 빈이 있을 때
+ * {@link RateLimitersEndpoint}를 등록합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureAfter(RateLimiterAutoConfiguration.class)
+@ConditionalOnBean(RateLimiterRegistry.class)
+@ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+public class RateLimiterEndpointAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnAvailableEndpoint(endpoint = RateLimitersEndpoint.class)
+    public RateLimitersEndpoint rateLimitersEndpoint(RateLimiterRegistry registry) {
+        return new RateLimitersEndpoint(registry);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.ckaanf.ratelimiter.springboot.autoconfigure;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.springboot.autoconfigure.properties.RateLimiterProperties;
+import io.github.ckaanf.ratelimiter.springboot.web.RateLimitRoute;
+import io.github.ckaanf.ratelimiter.springboot.web.RateLimitRouteMatcher;
+import io.github.ckaanf.ratelimiter.springboot.web.RateLimitServletFilter;
+import io.github.ckaanf.ratelimiter.springboot.web.RateLimitWebFilter;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 경로 기반 Rate Limit 필터 자동 설정 클래스
+ * 서블릿 애플리케이션에는 {@link RateLimitServletFilter}, 리액티브 애플리케이션에는 {@link RateLimitWebFilter}를 등록합니다.
+ * 컨텍스트가 관리하는 {@link RateLimiterRegistry} 빈이 있을 때만 활성화됩니다 (정적 싱글톤으로 대체하지 않음).
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureAfter(RateLimiterAutoConfiguration.class)
+@ConditionalOnBean(RateLimiterRegistry.class)
+@EnableConfigurationProperties(RateLimiterProperties.class)
+// "rate-limiter.filter.enabled=true"일 때만 이 설정을 활성화합니다.
+@ConditionalOnProperty(prefix = "rate-limiter.filter", name = "enabled", havingValue = "true")
+@ConditionalOnClass(name = "org.springframework.web.util.pattern.PathPattern")
+public class RateLimiterFilterAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RateLimitRouteMatcher rateLimitRouteMatcher(RateLimiterProperties properties) {
+        // 패턴 파싱과 cost 검증은 여기서 끝나므로 잘못된 설정은 시작 시점에 실패합니다.
+        List<RateLimitRoute> routes = properties.getFilter().getRoutes().stream()
+                .map(route -> RateLimitRoute.of(route.getPattern(), route.getLimiterName(), route.getCost()))
+                .toList();
+        return new RateLimitRouteMatcher(routes);
+    }
+
+    /**
+     * 모든 빈이 만들어진 뒤 라우트가 참조하는 Rate Limiter를 찾아 둠
+     * 등록되지 않은 이름이 있으면 첫 요청의 500 대신 시작 실패로 알립니다.
+     */
+    @Bean
+    public SmartInitializingSingleton rateLimitRouteValidator(RateLimiterRegistry registry,
+                                                              RateLimitRouteMatcher matcher) {
+        return () -> matcher.resolveLimiters(registry);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(name = "org.springframework.web.filter.OncePerRequestFilter")
+    static class ServletFilterConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public FilterRegistrationBean<RateLimitServletFilter> rateLimitServletFilter(
+                RateLimiterRegistry registry,
+                RateLimitRouteMatcher matcher,
+                RateLimiterProperties properties) {
+            RateLimitServletFilter filter = new RateLimitServletFilter(registry, matcher);
+
+            FilterRegistrationBean<RateLimitServletFilter> registration = new FilterRegistrationBean<>(filter);
+            registration.setOrder(properties.getFilter().getOrder());
+            return registration;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnClass(name = {"org.springframework.web.server.WebFilter", "reactor.core.publisher.Mono"})
+    static class ReactiveFilterConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public RateLimitWebFilter rateLimitWebFilter(RateLimiterRegistry registry,
+                                                     RateLimitRouteMatcher matcher,
+                                                     RateLimiterProperties properties) {
+            return new RateLimitWebFilter(registry, matcher, properties.getFilter().getOrder());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.ckaanf.ratelimiter.springboot.autoconfigure;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.springboot.metrics.RateLimiterMetricsBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Micrometer 메트릭스 자동 설정 클래스
+ * Micrometer가 클래스패스에 있고 컨텍스트가 관리하는 {@link RateLimiterRegistry} 빈이 있을 때
+ * {@link RateLimiterMetricsBinder}를 등록합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureAfter(RateLimiterAutoConfiguration.class)
+@ConditionalOnBean(RateLimiterRegistry.class)
+@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+// "rate-limiter.metrics.enabled=false"로 끌 수 있습니다.
+@ConditionalOnProperty(prefix = "rate-limiter.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimiterMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RateLimiterMetricsBinder rateLimiterMetricsBinder(RateLimiterRegistry registry,
+                                                             ObjectProvider<NamedRateLimiters> namedRateLimiters) {
+        // 바인딩 전에 이름 있는 Rate Limiter가 모두 등록되도록 먼저 생성합니다.
+        namedRateLimiters.getIfAvailable();
+        return new RateLimiterMetricsBinder(registry);
+    }
+}
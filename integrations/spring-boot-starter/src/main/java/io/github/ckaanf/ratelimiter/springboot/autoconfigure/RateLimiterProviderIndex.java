@@ -0,0 +1,114 @@
+package io.github.ckaanf.ratelimiter.springboot.autoconfigure;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterProvider;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.core.StorageProvider;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 스타터에 포함된 프로바이더의 컴파일 타임 목록
+ *
+ * <p>목록은 빌드 시 의존 모듈의 {@code META-INF/services} 파일에서 생성되며({@code GeneratedProviderIndex}),
+ * 프로바이더를 생성자로 직접 참조하므로 클래스패스 스캔과 리플렉션 없이 레지스트리를 만들 수 있고
+ * 네이티브 이미지 분석에도 그대로 드러납니다.
+ *
+ * <p>애플리케이션이 목록에 없는 프로바이더 모듈(Redis 저장소 등)을 추가했다면 그 프로바이더는 이 목록으로 등록되지 않으므로,
+ * {@link #createRegistry()}는 클래스패스의 서비스 파일과 비교해 빠진 프로바이더가 있으면 바로 실패합니다.
+ */
+public final class RateLimiterProviderIndex {
+
+    private RateLimiterProviderIndex() {
+    }
+
+    public static List<RateLimiterProvider> algorithmProviders() {
+        return GeneratedProviderIndex.algorithmProviders();
+    }
+
+    public static List<StorageProvider> storageProviders() {
+        return GeneratedProviderIndex.storageProviders();
+    }
+
+    /**
+     * 목록의 프로바이더만 등록된 레지스트리 생성
+     *
+     * @throws IllegalStateException 클래스패스에 목록에 없는 프로바이더가 있는 경우
+     */
+    public static RateLimiterRegistry createRegistry() {
+        return createRegistry(RateLimiterProviderIndex.class.getClassLoader());
+    }
+
+    /**
+     * 주어진 클래스 로더의 서비스 파일과 비교한 뒤 목록의 프로바이더만 등록된 레지스트리 생성
+     *
+     * @throws IllegalStateException 클래스패스에 목록에 없는 프로바이더가 있는 경우
+     */
+    public static RateLimiterRegistry createRegistry(ClassLoader classLoader) {
+        List<String> missing = missingProviders(classLoader);
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Providers " + missing + " are registered in META-INF/services but not in "
+                    + "the provider index; use rate-limiter.provider-discovery=service-loader");
+        }
+        return RateLimiterRegistry.withProviders(algorithmProviders(), storageProviders());
+    }
+
+    /**
+     * 클래스패스의 서비스 파일에 있지만 목록에는 없는 프로바이더 클래스 이름 (클래스는 로드하지 않음)
+     */
+    public static List<String> missingProviders(ClassLoader classLoader) {
+        Set<String> indexed = Stream.concat(algorithmProviders().stream(), storageProviders().stream())
+                .map(provider -> provider.getClass().getName())
+                .collect(Collectors.toSet());
+
+        List<String> missing = new ArrayList<>();
+        for (String name : serviceProviderNames(classLoader)) {
+            if (!indexed.contains(name)) {
+                missing.add(name);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * 클래스패스의 모든 알고리즘/저장소 서비스 파일에 등록된 프로바이더 클래스 이름
+     */
+    static Set<String> serviceProviderNames(ClassLoader classLoader) {
+        Set<String> names = new LinkedHashSet<>();
+        for (Class<?> service : List.of(RateLimiterProvider.class, StorageProvider.class)) {
+            try {
+                Enumeration<URL> files = classLoader.getResources("META-INF/services/" + service.getName());
+                while (files.hasMoreElements()) {
+                    readServiceFile(files.nextElement(), names);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read service files for " + service.getName(), e);
+            }
+        }
+        return names;
+    }
+
+    private static void readServiceFile(URL file, Set<String> names) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int comment = line.indexOf('#');
+                String name = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                if (!name.isEmpty()) {
+                    names.add(name);
+                }
+            }
+        }
+    }
+}
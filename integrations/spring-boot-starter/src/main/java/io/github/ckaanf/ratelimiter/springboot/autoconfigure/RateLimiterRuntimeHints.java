@@ -0,0 +1,35 @@
+package io.github.ckaanf.ratelimiter.springboot.autoconfigure;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterProvider;
+import io.github.ckaanf.ratelimiter.core.StorageProvider;
+import io.github.ckaanf.ratelimiter.springboot.starter.RateLimit;
+import io.github.ckaanf.ratelimiter.springboot.starter.RateLimiterAspect;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * 네이티브 이미지용 런타임 힌트
+ *
+ * <ul>
+ *   <li>{@link java.util.ServiceLoader} 프로바이더 탐색 경로:
+ *       서비스 파일과, 빌드 시점 클래스패스의 서비스 파일에 등록된 모든 프로바이더의 생성자</li>
+ *   <li>{@link RateLimiterAspect}: 어드바이스 메서드와 {@link RateLimit} 속성 조회</li>
+ * </ul>
+ */
+class RateLimiterRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern("META-INF/services/" + RateLimiterProvider.class.getName());
+        hints.resources().registerPattern("META-INF/services/" + StorageProvider.class.getName());
+
+        // 스타터 목록에 없는 프로바이더 모듈도 ServiceLoader로 찾을 수 있도록 서비스 파일 기준으로 등록
+        RateLimiterProviderIndex.serviceProviderNames(classLoader).forEach(name ->
+                hints.reflection().registerType(TypeReference.of(name), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS));
+
+        hints.reflection().registerType(RateLimiterAspect.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(RateLimit.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
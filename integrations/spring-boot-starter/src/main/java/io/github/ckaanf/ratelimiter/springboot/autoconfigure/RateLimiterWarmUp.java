@@ -0,0 +1,54 @@
+package io.github.ckaanf.ratelimiter.springboot.autoconfigure;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * 레지스트리 워밍업 단계
+ *
+ * <p>모든 싱글톤이 생성된 뒤, 웹 서버가 요청을 받기 시작하기 전({@link #PHASE})에
+ * {@link RateLimiterRegistry#warmUp()}을 실행합니다. 레지스트리 종료는 컨텍스트가 닫힐 때
+ * 레지스트리 빈의 {@code close()}가 담당합니다.
+ */
+public class RateLimiterWarmUp implements SmartLifecycle {
+
+    /**
+     * 웹 서버 시작 단계({@code Integer.MAX_VALUE - 1})보다 먼저 실행
+     */
+    public static final int PHASE = Integer.MAX_VALUE - 2048;
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimiterWarmUp.class);
+
+    private final RateLimiterRegistry registry;
+
+    private volatile boolean running;
+
+    public RateLimiterWarmUp(RateLimiterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void start() {
+        long start = System.nanoTime();
+        int count = registry.warmUp();
+        running = true;
+        log.debug("Warmed up {} rate limiter(s) in {} us", count, (System.nanoTime() - start) / 1_000);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
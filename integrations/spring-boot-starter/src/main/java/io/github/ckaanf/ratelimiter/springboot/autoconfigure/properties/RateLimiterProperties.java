@@ -4,7 +4,15 @@ import io.github.ckaanf.ratelimiter.core.AlgorithmConfig;
 import io.github.ckaanf.ratelimiter.core.StorageConfig;
 import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
 import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
+import io.github.ckaanf.ratelimiter.springboot.starter.RejectionStrategy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Rate Limiter 설정 속성 클래스
@@ -17,6 +25,11 @@ public class RateLimiterProperties {
     private String key = "default";
     private AlgorithmConfig algorithmConfig = TokenBucketAlgorithmConfig.perSecond(10, 100);
     private StorageConfig storageConfig = new MemoryStorageConfig();
+    private Map<String, Limiter> limiters = new LinkedHashMap<>();
+    private final Filter filter = new Filter();
+    private ProviderDiscovery providerDiscovery; // 지정하지 않으면 네이티브/AOT 환경에서만 INDEX
+    private boolean warmUp = true;
+    private RejectionStrategy rejectionStrategy = RejectionStrategy.STACKLESS;
 
     public boolean isEnabled() {
         return enabled;
@@ -57,4 +70,221 @@ public class RateLimiterProperties {
     public void setStorageConfig(StorageConfig storageConfig) {
         this.storageConfig = storageConfig;
     }
-} 
\ No newline at end of file
+
+    public Map<String, Limiter> getLimiters() {
+        return limiters;
+    }
+
+    public void setLimiters(Map<String, Limiter> limiters) {
+        this.limiters = limiters;
+    }
+
+    public Filter getFilter() {
+        return filter;
+    }
+
+    public boolean isWarmUp() {
+        return warmUp;
+    }
+
+    public void setWarmUp(boolean warmUp) {
+        this.warmUp = warmUp;
+    }
+
+    public RejectionStrategy getRejectionStrategy() {
+        return rejectionStrategy;
+    }
+
+    public void setRejectionStrategy(RejectionStrategy rejectionStrategy) {
+        this.rejectionStrategy = rejectionStrategy;
+    }
+
+    public ProviderDiscovery getProviderDiscovery() {
+        return providerDiscovery;
+    }
+
+    public void setProviderDiscovery(ProviderDiscovery providerDiscovery) {
+        this.providerDiscovery = providerDiscovery;
+    }
+
+    /**
+     * 알고리즘/저장소 프로바이더 탐색 방식 ('rate-limiter.provider-discovery')
+     */
+    public enum ProviderDiscovery {
+        /** {@link java.util.ServiceLoader}로 클래스패스 전체를 스캔 */
+        SERVICE_LOADER,
+        /** 스타터에 포함된 프로바이더 목록을 직접 등록 (SPI 스캔, 리플렉션 없음) */
+        INDEX
+    }
+
+    /**
+     * 이름이 지정된 Rate Limiter 설정 ('rate-limiter.limiters.&lt;name&gt;')
+     * 기본값은 초당 10개 리필, 용량 100인 Token Bucket과 메모리 저장소입니다.
+     */
+    public static class Limiter {
+
+        private long capacity = 100;
+        private long refillTokens = 10;
+        private Duration refillPeriod = Duration.ofSeconds(1);
+        private Long initialTokens; // 지정하지 않으면 capacity
+        private final Storage storage = new Storage();
+
+        public AlgorithmConfig toAlgorithmConfig() {
+            long initial = initialTokens != null ? initialTokens : capacity;
+            return new TokenBucketAlgorithmConfig(capacity, refillTokens, refillPeriod, initial);
+        }
+
+        public StorageConfig toStorageConfig() {
+            return new MemoryStorageConfig(storage.getEntryTtl(), storage.getCleanupInterval(),
+                    storage.getMaxEntries(), storage.isEnableMetrics());
+        }
+
+        public long getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(long capacity) {
+            this.capacity = capacity;
+        }
+
+        public long getRefillTokens() {
+            return refillTokens;
+        }
+
+        public void setRefillTokens(long refillTokens) {
+            this.refillTokens = refillTokens;
+        }
+
+        public Duration getRefillPeriod() {
+            return refillPeriod;
+        }
+
+        public void setRefillPeriod(Duration refillPeriod) {
+            this.refillPeriod = refillPeriod;
+        }
+
+        public Long getInitialTokens() {
+            return initialTokens;
+        }
+
+        public void setInitialTokens(Long initialTokens) {
+            this.initialTokens = initialTokens;
+        }
+
+        public Storage getStorage() {
+            return storage;
+        }
+    }
+
+    /**
+     * 메모리 저장소 설정 ('rate-limiter.limiters.&lt;name&gt;.storage')
+     */
+    public static class Storage {
+
+        private Duration entryTtl = Duration.ofHours(1);
+        private Duration cleanupInterval = Duration.ofMinutes(10);
+        private int maxEntries = 10000;
+        private boolean enableMetrics = true;
+
+        public Duration getEntryTtl() {
+            return entryTtl;
+        }
+
+        public void setEntryTtl(Duration entryTtl) {
+            this.entryTtl = entryTtl;
+        }
+
+        public Duration getCleanupInterval() {
+            return cleanupInterval;
+        }
+
+        public void setCleanupInterval(Duration cleanupInterval) {
+            this.cleanupInterval = cleanupInterval;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public boolean isEnableMetrics() {
+            return enableMetrics;
+        }
+
+        public void setEnableMetrics(boolean enableMetrics) {
+            this.enableMetrics = enableMetrics;
+        }
+    }
+
+    /**
+     * 경로 기반 Rate Limit 필터 설정 ('rate-limiter.filter')
+     */
+    public static class Filter {
+
+        private boolean enabled = false;
+        // 보안 필터 등 다른 필터보다 먼저 거부하도록 가장 높은 우선순위를 기본값으로 사용
+        private int order = Ordered.HIGHEST_PRECEDENCE;
+        private List<Route> routes = new ArrayList<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getOrder() {
+            return order;
+        }
+
+        public void setOrder(int order) {
+            this.order = order;
+        }
+
+        public List<Route> getRoutes() {
+            return routes;
+        }
+
+        public void setRoutes(List<Route> routes) {
+            this.routes = routes;
+        }
+    }
+
+    /**
+     * 경로 패턴과 Rate Limiter 매핑 ('rate-limiter.filter.routes[n]')
+     */
+    public static class Route {
+
+        private String pattern;
+        private String limiterName;
+        private long cost = 1;
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public String getLimiterName() {
+            return limiterName;
+        }
+
+        public void setLimiterName(String limiterName) {
+            this.limiterName = limiterName;
+        }
+
+        public long getCost() {
+            return cost;
+        }
+
+        public void setCost(long cost) {
+            this.cost = cost;
+        }
+    }
+}
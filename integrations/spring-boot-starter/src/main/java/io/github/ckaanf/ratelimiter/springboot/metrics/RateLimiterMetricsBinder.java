@@ -0,0 +1,94 @@
+package io.github.ckaanf.ratelimiter.springboot.metrics;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+import io.github.ckaanf.ratelimiter.core.RateLimiterMetrics;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레지스트리에 등록된 Rate Limiter의 메트릭스를 Micrometer로 노출
+ *
+ * <p>모든 미터는 {@link RateLimiterMetrics}의 누적 값을 읽는 함수형 미터이므로
+ * 판정 경로에는 Micrometer 호출이 없고, 수집 비용은 키 수와 무관하게 Rate Limiter 수에 비례합니다.
+ * 바인딩 시점에 등록된 Rate Limiter만 노출됩니다.
+ *
+ * <ul>
+ *   <li>{@code ratelimiter.requests} (result=allowed|rejected): 판정 횟수</li>
+ *   <li>{@code ratelimiter.wait}: 거부된 요청의 대기 시간 합계와 횟수</li>
+ *   <li>{@code ratelimiter.wait.buckets} (le=초): 대기 시간 분포 (누적)</li>
+ *   <li>{@code ratelimiter.buckets.active}: 저장소의 버킷 수</li>
+ *   <li>{@code ratelimiter.buckets.evicted}: 만료 또는 용량 초과로 제거된 버킷 수</li>
+ * </ul>
+ */
+public class RateLimiterMetricsBinder implements MeterBinder {
+
+    private static final String TAG_LIMITER = "limiter";
+
+    private final RateLimiterRegistry rateLimiterRegistry;
+
+    public RateLimiterMetricsBinder(RateLimiterRegistry rateLimiterRegistry) {
+        this.rateLimiterRegistry = rateLimiterRegistry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Map.Entry<String, RateLimiter> entry : rateLimiterRegistry.getRateLimiters().entrySet()) {
+            RateLimiterMetrics metrics = entry.getValue().getMetrics();
+            if (metrics.isEnabled()) {
+                bind(registry, entry.getKey(), metrics);
+            }
+        }
+    }
+
+    private void bind(MeterRegistry registry, String name, RateLimiterMetrics metrics) {
+        FunctionCounter.builder("ratelimiter.requests", metrics, RateLimiterMetrics::getAllowedCount)
+                .description("Number of rate limit decisions")
+                .tags(TAG_LIMITER, name, "result", "allowed")
+                .register(registry);
+
+        FunctionCounter.builder("ratelimiter.requests", metrics, RateLimiterMetrics::getRejectedCount)
+                .description("Number of rate limit decisions")
+                .tags(TAG_LIMITER, name, "result", "rejected")
+                .register(registry);
+
+        FunctionTimer.builder("ratelimiter.wait", metrics,
+                        RateLimiterMetrics::getRejectedCount,
+                        RateLimiterMetrics::getTotalWaitNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("Wait time until enough tokens are available, for rejected requests")
+                .tag(TAG_LIMITER, name)
+                .register(registry);
+
+        for (int i = 0; i < metrics.getWaitBucketCount(); i++) {
+            int bucket = i;
+            FunctionCounter.builder("ratelimiter.wait.buckets", metrics, m -> m.getCumulativeWaitCount(bucket))
+                    .description("Rejected requests whose wait time is at most 'le' seconds")
+                    .tags(TAG_LIMITER, name, "le", formatBound(metrics.getWaitBucketBoundNanos(bucket)))
+                    .register(registry);
+        }
+
+        Gauge.builder("ratelimiter.buckets.active", metrics, RateLimiterMetrics::getActiveBuckets)
+                .description("Number of buckets held by the storage")
+                .tag(TAG_LIMITER, name)
+                .register(registry);
+
+        FunctionCounter.builder("ratelimiter.buckets.evicted", metrics, RateLimiterMetrics::getEvictionCount)
+                .description("Number of buckets removed by expiry or size limit")
+                .tag(TAG_LIMITER, name)
+                .register(registry);
+    }
+
+    private static String formatBound(long boundNanos) {
+        if (boundNanos == Long.MAX_VALUE) {
+            return "+Inf";
+        }
+        return Double.toString(boundNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.ckaanf.ratelimiter.springboot.starter;
+
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link RateLimit#key()}의 SpEL 표현식으로 버킷 키를 계산하는 {@link KeyResolver}
+ *
+ * <p>표현식은 메서드당 한 번 파싱되며 {@link SpelCompilerMode#IMMEDIATE} 모드로
+ * 첫 평가 이후 바이트코드로 컴파일됩니다. 파라미터 이름도 생성 시점에 한 번만 조회합니다.
+ * 런타임 클래스 생성이 불가능한 네이티브 이미지에서는 인터프리터 모드로 평가합니다.
+ */
+final class ExpressionKeyResolver implements KeyResolver {
+
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(
+                    NativeDetector.inNativeImage() ? SpelCompilerMode.OFF : SpelCompilerMode.IMMEDIATE,
+                    ExpressionKeyResolver.class.getClassLoader()));
+
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final String expressionString;
+    private final Expression expression;
+    private final String[] parameterNames;
+    private final String[] positionalNames;
+    private final String[] aliasNames;
+
+    private ExpressionKeyResolver(String expressionString, Expression expression, Method method) {
+        this.expressionString = expressionString;
+        this.expression = expression;
+
+        int count = method.getParameterCount();
+        String[] discovered = PARAMETER_NAMES.getParameterNames(method);
+        this.parameterNames = discovered != null ? discovered : new String[count];
+        this.positionalNames = new String[count];
+        this.aliasNames = new String[count];
+        for (int i = 0; i < count; i++) {
+            positionalNames[i] = "p" + i;
+            aliasNames[i] = "a" + i;
+        }
+    }
+
+    /**
+     * 표현식 파싱
+     *
+     * @throws IllegalArgumentException 표현식 문법이 잘못된 경우
+     */
+    static ExpressionKeyResolver parse(String expressionString, Method method) {
+        try {
+            return new ExpressionKeyResolver(expressionString, PARSER.parseExpression(expressionString), method);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException(
+                    "Invalid RateLimit 'key' expression '" + expressionString + "': " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String resolve(Method method, Object target, Object[] args) {
+        StandardEvaluationContext context = new StandardEvaluationContext(target);
+        for (int i = 0; i < args.length && i < positionalNames.length; i++) {
+            if (parameterNames[i] != null) {
+                context.setVariable(parameterNames[i], args[i]);
+            }
+            context.setVariable(positionalNames[i], args[i]);
+            context.setVariable(aliasNames[i], args[i]);
+        }
+
+        Object key = expression.getValue(context);
+        if (key == null) {
+            throw new IllegalStateException(
+                    "RateLimit 'key' expression '" + expressionString + "' evaluated to null.");
+        }
+        return key.toString();
+    }
+
+    @Override
+    public String toString() {
+        return expressionString;
+    }
+}
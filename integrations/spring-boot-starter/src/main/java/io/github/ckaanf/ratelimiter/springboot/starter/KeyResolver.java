@@ -0,0 +1,24 @@
+package io.github.ckaanf.ratelimiter.springboot.starter;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link RateLimit} 메서드 호출에서 버킷 키를 계산하는 SPI.
+ * 빈으로 등록한 뒤 {@link RateLimit#keyResolver()}에 빈 이름을 지정합니다.
+ *
+ * <p>같은 키를 반환하는 호출은 하나의 버킷을 공유하고, 키가 다르면 독립된 버킷을 사용합니다.
+ * 호출마다 실행되므로 가볍고 스레드 안전해야 합니다.
+ */
+@FunctionalInterface
+public interface KeyResolver {
+
+    /**
+     * 버킷 키 계산
+     *
+     * @param method 호출된 메서드
+     * @param target 호출 대상 객체
+     * @param args   호출 인자
+     * @return 버킷 키 (null 불가)
+     */
+    String resolve(Method method, Object target, Object[] args);
+}
@@ -23,4 +23,34 @@ public @interface RateLimit {
      * 기본값은 1입니다.
      */
     long cost() default 1;
+
+    /**
+     * 버킷을 나눌 키를 계산하는 SpEL 표현식 (예: {@code #userId}, {@code #request.remoteAddr}).
+     * 메서드 파라미터는 이름({@code #userId}) 또는 위치({@code #p0}, {@code #a0})로 참조합니다.
+     * 비어 있으면 모든 호출이 하나의 버킷을 공유합니다.
+     */
+    String key() default "";
+
+    /**
+     * 버킷 키를 계산할 {@link KeyResolver} 빈의 이름.
+     * {@link #key()}와 함께 사용할 수 없습니다.
+     */
+    String keyResolver() default "";
+
+    /**
+     * 토큰이 부족할 때 즉시 거부하지 않고 기다릴 최대 시간 (예: {@code 500ms}, {@code 2s}, {@code PT1S}).
+     * 비어 있으면 기다리지 않고 즉시 거부합니다.
+     *
+     * <p>{@code Mono}/{@code Flux}와 {@code CompletableFuture} 반환 메서드는 스레드를 점유하지 않고
+     * 지연 실행으로 기다리며, 일반 메서드는 호출 스레드에서 기다립니다.
+     * 단, 논블로킹(이벤트 루프) 스레드에서 호출된 일반 메서드는 기다리지 않고 즉시 거부합니다.
+     */
+    String maxWait() default "";
+
+    /**
+     * 한도 초과 시 예외 대신 호출할 같은 빈의 메서드 이름.
+     * 원래 메서드와 같은 파라미터를 받거나, 마지막에 {@code RateLimitExceededException} 파라미터를
+     * 하나 더 받아야 하며 반환 타입이 호환되어야 합니다. 예외 파라미터가 없으면 예외를 만들지 않습니다.
+     */
+    String fallbackMethod() default "";
 }
\ No newline at end of file
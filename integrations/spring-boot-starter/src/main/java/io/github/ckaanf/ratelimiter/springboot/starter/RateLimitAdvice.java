@@ -0,0 +1,265 @@
+package io.github.ckaanf.ratelimiter.springboot.starter;
+
+import io.github.ckaanf.ratelimiter.core.ConsumeDecision;
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+import io.github.ckaanf.ratelimiter.core.exceptions.RateLimitExceededException;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * {@link RateLimit}이 붙은 메서드 하나에 대한 사전 계산된 어드바이스 정보 (메서드당 한 번 생성)
+ *
+ * <p>어노테이션 조회, cost 검증, 키 표현식 파싱, Rate Limiter 조회는 모두 생성 시점에 끝나며
+ * 생성된 뒤에는 바뀌지 않습니다. 설정이 잘못되었거나 Rate Limiter가 없으면 생성이 실패합니다.
+ */
+final class RateLimitAdvice {
+
+    static final boolean REACTOR_PRESENT =
+            ClassUtils.isPresent("reactor.core.publisher.Mono", RateLimitAdvice.class.getClassLoader());
+
+    /**
+     * 메서드 반환 타입에 따른 토큰 획득 방식
+     */
+    enum InvocationType {
+        /** 호출 스레드에서 즉시 획득 */
+        BLOCKING,
+        /** 획득 후 원래 메서드 호출, 대기 시 지연 실행 */
+        COMPLETION_STAGE,
+        /** 구독 시점에 획득 */
+        MONO,
+        /** 구독 시점에 획득 */
+        FLUX
+    }
+
+    private final String limiterName;
+    private final long cost;
+    private final KeyResolver keyResolver; // null이면 모든 호출이 하나의 버킷을 공유
+    private final long maxWaitNanos;
+    private final InvocationType invocationType;
+    private final Method fallback; // null이면 예외로 거부
+    private final boolean fallbackTakesException;
+    private final RateLimiter limiter;
+
+    private RateLimitAdvice(String limiterName, long cost, KeyResolver keyResolver, long maxWaitNanos,
+                            InvocationType invocationType, Method fallback, boolean fallbackTakesException,
+                            RateLimiter limiter) {
+        this.limiterName = limiterName;
+        this.cost = cost;
+        this.keyResolver = keyResolver;
+        this.maxWaitNanos = maxWaitNanos;
+        this.invocationType = invocationType;
+        this.fallback = fallback;
+        this.fallbackTakesException = fallbackTakesException;
+        this.limiter = limiter;
+    }
+
+    /**
+     * 메서드의 {@link RateLimit} 설정을 검증하고 어드바이스 정보 생성
+     *
+     * @param keyResolvers 이름으로 {@link KeyResolver} 빈을 찾는 함수
+     * @param limiters     이름으로 Rate Limiter를 찾는 함수 (없으면 IllegalArgumentException)
+     * @throws IllegalArgumentException cost가 0 이하이거나 키, 대기 시간, 폴백 설정이 잘못되었거나
+     *                                  Rate Limiter가 없는 경우
+     */
+    static RateLimitAdvice of(Method method, RateLimit rateLimit, Function<String, KeyResolver> keyResolvers,
+                              Function<String, RateLimiter> limiters) {
+        if (rateLimit.cost() <= 0) {
+            throw new IllegalArgumentException("RateLimit 'cost' must be a positive number.");
+        }
+
+        boolean hasKey = !rateLimit.key().isEmpty();
+        boolean hasKeyResolver = !rateLimit.keyResolver().isEmpty();
+        if (hasKey && hasKeyResolver) {
+            throw new IllegalArgumentException("RateLimit 'key' and 'keyResolver' cannot be used together.");
+        }
+
+        KeyResolver keyResolver = null;
+        if (hasKey) {
+            keyResolver = ExpressionKeyResolver.parse(rateLimit.key(), method);
+        } else if (hasKeyResolver) {
+            keyResolver = keyResolvers.apply(rateLimit.keyResolver());
+        }
+
+        Method fallback = findFallback(method, rateLimit.fallbackMethod());
+        boolean fallbackTakesException = fallback != null
+                && fallback.getParameterCount() == method.getParameterCount() + 1;
+
+        long maxWaitNanos = parseMaxWait(rateLimit.maxWait());
+        RateLimiter limiter = limiters.apply(rateLimit.limiterName());
+
+        return new RateLimitAdvice(rateLimit.limiterName(), rateLimit.cost(), keyResolver,
+                maxWaitNanos, invocationType(method.getReturnType()),
+                fallback, fallbackTakesException, limiter);
+    }
+
+    /**
+     * 같은 클래스에서 (원래 파라미터) 또는 (원래 파라미터, RateLimitExceededException) 시그니처의 메서드 조회
+     */
+    private static Method findFallback(Method method, String name) {
+        if (name.isEmpty()) {
+            return null;
+        }
+
+        Class<?> type = method.getDeclaringClass();
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Class<?>[] withException = Arrays.copyOf(parameterTypes, parameterTypes.length + 1);
+        withException[parameterTypes.length] = RateLimitExceededException.class;
+
+        Method fallback = ReflectionUtils.findMethod(type, name, withException);
+        if (fallback == null) {
+            fallback = ReflectionUtils.findMethod(type, name, parameterTypes);
+        }
+        if (fallback == null) {
+            throw new IllegalArgumentException("RateLimit 'fallbackMethod' " + name
+                    + " with matching parameters is not defined on " + type.getName() + ".");
+        }
+        if (!method.getReturnType().isAssignableFrom(fallback.getReturnType())) {
+            throw new IllegalArgumentException("RateLimit 'fallbackMethod' " + name
+                    + " must return " + method.getReturnType().getSimpleName() + ".");
+        }
+
+        ReflectionUtils.makeAccessible(fallback);
+        return fallback;
+    }
+
+    private static long parseMaxWait(String maxWait) {
+        if (maxWait.isEmpty()) {
+            return 0;
+        }
+
+        Duration duration;
+        try {
+            duration = DurationStyle.detectAndParse(maxWait);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("RateLimit 'maxWait' is not a valid duration: " + maxWait);
+        }
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("RateLimit 'maxWait' must not be negative.");
+        }
+        return duration.toNanos();
+    }
+
+    private static InvocationType invocationType(Class<?> returnType) {
+        if (CompletionStage.class.isAssignableFrom(returnType)
+                && returnType.isAssignableFrom(CompletableFuture.class)) {
+            return InvocationType.COMPLETION_STAGE;
+        }
+        if (REACTOR_PRESENT) {
+            if (ReactiveRateLimitSupport.isMono(returnType)) {
+                return InvocationType.MONO;
+            }
+            if (ReactiveRateLimitSupport.isFlux(returnType)) {
+                return InvocationType.FLUX;
+            }
+        }
+        return InvocationType.BLOCKING;
+    }
+
+    /**
+     * 생성 시점에 찾아 둔 Rate Limiter
+     */
+    RateLimiter getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * 호출별 버킷 키 계산 (키 설정이 없으면 null)
+     */
+    String resolveKey(Method method, Object target, Object[] args) {
+        return keyResolver == null ? null : keyResolver.resolve(method, target, args);
+    }
+
+    /**
+     * 토큰 소비를 한 번 시도하고 인코딩된 판정 값 반환 ({@link io.github.ckaanf.ratelimiter.core.ConsumeDecision})
+     *
+     * @param key 호출별 버킷 키 (키 설정이 없으면 null)
+     */
+    long tryAcquire(RateLimiter limiter, String key) {
+        return key == null ? limiter.tryConsumeDecision(cost) : limiter.tryConsumeDecision(key, cost);
+    }
+
+    /**
+     * 스레드를 점유하지 않고 토큰 소비를 한 번 시도 (리액티브 경로용)
+     *
+     * @param key 호출별 버킷 키 (키 설정이 없으면 null)
+     */
+    CompletionStage<Long> tryAcquireAsync(RateLimiter limiter, String key) {
+        return key == null ? limiter.tryConsumeDecisionAsync(cost) : limiter.tryConsumeDecisionAsync(key, cost);
+    }
+
+    /**
+     * 호출별 거부 예외 생성 (남은 토큰과 대기 시간은 판정 값에서 읽으므로 추가 저장소 조회 없음)
+     * {@link RejectionStrategy#PREALLOCATED}는 Rate Limiter 이름별로 공유하므로 애스펙트가 처리합니다.
+     */
+    RateLimitExceededException rejection(RejectionStrategy strategy, String key, long decision) {
+        String message = message(key);
+        long available = ConsumeDecision.remainingTokens(decision);
+        Duration waitTime = Duration.ofNanos(ConsumeDecision.waitNanos(decision));
+        return strategy == RejectionStrategy.STACKLESS
+                ? RateLimitExceededException.stackless(message, cost, available, waitTime)
+                : new RateLimitExceededException(message, cost, available, waitTime);
+    }
+
+    /**
+     * {@link RejectionStrategy#PREALLOCATED}에서 공유할 예외 (호출별 값 없음)
+     */
+    static RateLimitExceededException preallocatedRejection(String limiterName) {
+        return RateLimitExceededException.stackless(
+                String.format("Rate limit exceeded for '%s'", limiterName), 0, 0, null);
+    }
+
+    private String message(String key) {
+        return key == null
+                ? String.format("Rate limit exceeded for '%s'", limiterName)
+                : String.format("Rate limit exceeded for '%s' (key '%s')", limiterName, key);
+    }
+
+    /**
+     * 폴백 메서드 호출 인자 (예외 파라미터가 있으면 마지막에 거부 예외를 덧붙임)
+     */
+    Object[] fallbackArguments(Object[] args, RateLimitExceededException rejection) {
+        Object[] withException = Arrays.copyOf(args, args.length + 1);
+        withException[args.length] = rejection;
+        return withException;
+    }
+
+    boolean fallbackTakesException() {
+        return fallbackTakesException;
+    }
+
+    Method getFallback() {
+        return fallback;
+    }
+
+    boolean hasFallback() {
+        return fallback != null;
+    }
+
+    boolean isKeyed() {
+        return keyResolver != null;
+    }
+
+    String getLimiterName() {
+        return limiterName;
+    }
+
+    long getCost() {
+        return cost;
+    }
+
+    long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    InvocationType getInvocationType() {
+        return invocationType;
+    }
+}
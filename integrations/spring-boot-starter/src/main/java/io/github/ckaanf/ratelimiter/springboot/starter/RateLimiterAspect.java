@@ -1,5 +1,6 @@
 package io.github.ckaanf.ratelimiter.springboot.starter;
 
+import io.github.ckaanf.ratelimiter.core.ConsumeDecision;
 import io.github.ckaanf.ratelimiter.core.RateLimiter;
 import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
 import io.github.ckaanf.ratelimiter.core.exceptions.RateLimitExceededException;
@@ -7,49 +8,289 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.stereotype.Component;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Aspect
-@Component
-public class RateLimiterAspect {
+public class RateLimiterAspect implements BeanFactoryAware, SmartInitializingSingleton {
 
     private final RateLimiterRegistry registry;
+    private final RejectionStrategy rejectionStrategy;
+
+    // 메서드별 어드바이스 정보 (어노테이션 조회와 검증은 메서드당 한 번만 수행)
+    private final Map<Method, RateLimitAdvice> adviceCache = new ConcurrentHashMap<>();
+
+    // PREALLOCATED 전략에서 Rate Limiter 이름별로 공유하는 거부 예외
+    private final Map<String, RateLimitExceededException> preallocatedRejections = new ConcurrentHashMap<>();
+
+    private ListableBeanFactory beanFactory;
 
     public RateLimiterAspect(RateLimiterRegistry registry) {
+        this(registry, RejectionStrategy.STACKLESS);
+    }
+
+    public RateLimiterAspect(RateLimiterRegistry registry, RejectionStrategy rejectionStrategy) {
         this.registry = registry;
+        this.rejectionStrategy = rejectionStrategy;
     }
 
     @Around("@annotation(io.github.ckaanf.ratelimiter.springboot.starter.RateLimit)")
     public Object rateLimit(ProceedingJoinPoint joinPoint) throws Throwable {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        RateLimit rateLimitAnnotation = method.getAnnotation(RateLimit.class);
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        RateLimitAdvice cached = adviceCache.get(method);
+        RateLimitAdvice advice = cached != null ? cached : adviceCache.computeIfAbsent(method, this::createAdvice);
+
+        RateLimiter limiter = advice.getLimiter();
 
-        String limiterName = rateLimitAnnotation.limiterName();
-        long cost = rateLimitAnnotation.cost();
+        // 호출 인자로 키를 계산하므로 지연 실행되는 반환 타입도 호출 시점에 키를 확정합니다.
+        String key = advice.isKeyed()
+                ? advice.resolveKey(method, joinPoint.getTarget(), joinPoint.getArgs())
+                : null;
+
+        switch (advice.getInvocationType()) {
+            case MONO:
+                return ReactiveRateLimitSupport.limitMono(
+                        () -> advice.tryAcquireAsync(limiter, key), advice.getMaxWaitNanos(),
+                        decision -> rejectUnchecked(joinPoint, advice, key, decision),
+                        () -> proceedUnchecked(joinPoint));
+            case FLUX:
+                return ReactiveRateLimitSupport.limitFlux(
+                        () -> advice.tryAcquireAsync(limiter, key), advice.getMaxWaitNanos(),
+                        decision -> rejectUnchecked(joinPoint, advice, key, decision),
+                        () -> proceedUnchecked(joinPoint));
+            case COMPLETION_STAGE:
+                return proceedAsync(joinPoint, advice, limiter, key);
+            default:
+                break;
+        }
 
-        // cost 값이 0 이하인 경우, 잘못된 설정으로 간주하고 예외를 발생시킵니다.
-        if (cost <= 0) {
-            throw new IllegalArgumentException("RateLimit 'cost' must be a positive number.");
+        // 한 번의 저장소 호출로 허용 여부, 남은 토큰, 대기 시간을 함께 받습니다.
+        long decision = advice.tryAcquire(limiter, key);
+        if (ConsumeDecision.isAllowed(decision)) {
+            return joinPoint.proceed();
+        }
+        if (advice.getMaxWaitNanos() > 0) {
+            return proceedWaiting(joinPoint, advice, limiter, key, decision);
         }
+        return reject(joinPoint, advice, key, decision);
+    }
+
+    /**
+     * 일반 메서드의 대기 모드: 최대 대기 시간 안에서 호출 스레드가 기다린 뒤 다시 시도
+     * 논블로킹 스레드에서는 기다리지 않고 즉시 거부합니다.
+     */
+    private Object proceedWaiting(ProceedingJoinPoint joinPoint, RateLimitAdvice advice,
+                                  RateLimiter limiter, String key, long decision) throws Throwable {
+        long deadline = System.nanoTime() + advice.getMaxWaitNanos();
 
-        RateLimiter limiter = registry.findRateLimiter(limiterName)
-                .orElseThrow(() -> new IllegalStateException(
-                        "RateLimiter named '" + limiterName + "' is not configured."
-                ));
+        while (!ConsumeDecision.isAllowed(decision)) {
+            long waitNanos = ConsumeDecision.waitNanos(decision);
+            if (waitNanos <= 0 || waitNanos > deadline - System.nanoTime() || isInNonBlockingThread()) {
+                return reject(joinPoint, advice, key, decision);
+            }
 
-        // cost 값만큼 토큰 소비를 시도합니다.
-        if (limiter.tryConsume(cost)) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return reject(joinPoint, advice, key, decision);
+            }
+            decision = advice.tryAcquire(limiter, key);
+        }
+        return joinPoint.proceed();
+    }
+
+    /**
+     * {@code CompletableFuture}/{@code CompletionStage} 반환 메서드
+     * 거부는 예외 대신 실패한 future로 전달하고, 대기가 필요하면 지연 실행기로 다시 시도합니다.
+     */
+    private Object proceedAsync(ProceedingJoinPoint joinPoint, RateLimitAdvice advice,
+                                RateLimiter limiter, String key) throws Throwable {
+        long decision = advice.tryAcquire(limiter, key);
+        if (ConsumeDecision.isAllowed(decision)) {
             return joinPoint.proceed();
-        } else {
-            throw new RateLimitExceededException(
-                    String.format("Rate limit exceeded for '%s'", limiterName),
-                    cost, // 예외 메시지에도 실제 소비 시도한 cost 값을 전달합니다.
-                    limiter.getAvailableTokens(),
-                    null // waitTime은 여기서 계산하기 복잡하므로 생략
-            );
         }
+
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        retryAsync(joinPoint, advice, limiter, key, decision,
+                System.nanoTime() + advice.getMaxWaitNanos(), result);
+        return result;
+    }
+
+    private void retryAsync(ProceedingJoinPoint joinPoint, RateLimitAdvice advice, RateLimiter limiter,
+                            String key, long decision, long deadline, CompletableFuture<Object> result) {
+        if (!ConsumeDecision.isAllowed(decision)) {
+            long waitNanos = ConsumeDecision.waitNanos(decision);
+            if (waitNanos > 0 && waitNanos <= deadline - System.nanoTime()) {
+                CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS).execute(() ->
+                        retryAsync(joinPoint, advice, limiter, key, advice.tryAcquire(limiter, key), deadline, result));
+                return;
+            }
+        }
+
+        try {
+            Object stage = ConsumeDecision.isAllowed(decision)
+                    ? joinPoint.proceed()
+                    : reject(joinPoint, advice, key, decision);
+            if (stage == null) {
+                result.complete(null);
+                return;
+            }
+            ((CompletionStage<?>) stage).whenComplete((value, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 거부 처리: 폴백 메서드가 있으면 그 결과를 반환하고, 없으면 전략에 따라 만든 예외를 던짐
+     */
+    private Object reject(ProceedingJoinPoint joinPoint, RateLimitAdvice advice,
+                          String key, long decision) throws Throwable {
+        if (!advice.hasFallback()) {
+            throw rejection(advice, key, decision);
+        }
+
+        // 폴백이 예외 파라미터를 받지 않으면 예외를 만들지 않음
+        Object[] args = advice.fallbackTakesException()
+                ? advice.fallbackArguments(joinPoint.getArgs(), rejection(advice, key, decision))
+                : joinPoint.getArgs();
+        try {
+            return advice.getFallback().invoke(joinPoint.getTarget(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private RateLimitExceededException rejection(RateLimitAdvice advice, String key, long decision) {
+        if (rejectionStrategy != RejectionStrategy.PREALLOCATED) {
+            return advice.rejection(rejectionStrategy, key, decision);
+        }
+        String limiterName = advice.getLimiterName();
+        RateLimitExceededException shared = preallocatedRejections.get(limiterName);
+        return shared != null
+                ? shared
+                : preallocatedRejections.computeIfAbsent(limiterName, RateLimitAdvice::preallocatedRejection);
+    }
+
+    private Object rejectUnchecked(ProceedingJoinPoint joinPoint, RateLimitAdvice advice, String key, long decision) {
+        try {
+            return reject(joinPoint, advice, key, decision);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private static boolean isInNonBlockingThread() {
+        return RateLimitAdvice.REACTOR_PRESENT && ReactiveRateLimitSupport.isInNonBlockingThread();
+    }
+
+    private static Object proceedUnchecked(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        if (beanFactory instanceof ListableBeanFactory) {
+            this.beanFactory = (ListableBeanFactory) beanFactory;
+        }
+    }
+
+    /**
+     * 모든 싱글톤 생성이 끝난 뒤 {@link RateLimit} 메서드의 어드바이스 정보를 미리 만들고 검증
+     * 잘못된 설정이나 등록되지 않은 Rate Limiter 이름이 있으면 모아서 애플리케이션 시작을 실패시킵니다.
+     *
+     * @throws BeanInitializationException 잘못된 {@link RateLimit} 설정이 하나라도 있는 경우
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (beanFactory == null) {
+            return;
+        }
+
+        List<String> errors = new ArrayList<>();
+
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            Class<?> beanType = beanFactory.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+
+            Map<Method, RateLimit> annotated = MethodIntrospector.selectMethods(
+                    ClassUtils.getUserClass(beanType),
+                    (MethodIntrospector.MetadataLookup<RateLimit>) m ->
+                            AnnotatedElementUtils.findMergedAnnotation(m, RateLimit.class));
+
+            annotated.forEach((method, rateLimit) -> {
+                try {
+                    adviceCache.computeIfAbsent(method, this::createAdvice);
+                } catch (IllegalStateException e) {
+                    errors.add(e.getMessage());
+                }
+            });
+        }
+
+        if (!errors.isEmpty()) {
+            throw new BeanInitializationException("Invalid @RateLimit configuration:\n  " + String.join("\n  ", errors));
+        }
+    }
+
+    private RateLimitAdvice createAdvice(Method method) {
+        RateLimit rateLimit = AnnotatedElementUtils.findMergedAnnotation(method, RateLimit.class);
+        if (rateLimit == null) {
+            throw new IllegalStateException("@RateLimit not found on " + method);
+        }
+
+        try {
+            return RateLimitAdvice.of(method, rateLimit, this::findKeyResolver, this::findLimiter);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(
+                    "Invalid @RateLimit on " + method.toGenericString() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private RateLimiter findLimiter(String limiterName) {
+        return registry.findRateLimiter(limiterName)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "RateLimiter named '" + limiterName + "' is not configured."));
+    }
+
+    private KeyResolver findKeyResolver(String beanName) {
+        if (beanFactory == null || !beanFactory.containsBean(beanName)) {
+            throw new IllegalArgumentException("KeyResolver bean '" + beanName + "' is not defined.");
+        }
+        return beanFactory.getBean(beanName, KeyResolver.class);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+package io.github.ckaanf.ratelimiter.springboot.starter;
+
+import io.github.ckaanf.ratelimiter.core.ConsumeDecision;
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * {@code Mono}/{@code Flux} 반환 메서드용 Rate Limiting (Reactor가 클래스패스에 있을 때만 로딩)
+ *
+ * <p>토큰 획득은 구독 시점으로 미뤄지며, 판정은 {@link RateLimiter#tryConsumeDecisionAsync(long)}로
+ * 받으므로 원격 저장소의 응답을 기다리는 동안에도 스레드를 점유하지 않습니다.
+ * 대기가 필요하면 {@link Mono#delay(Duration)}로 기다린 뒤 다시 시도합니다.
+ */
+final class ReactiveRateLimitSupport {
+
+    private ReactiveRateLimitSupport() {
+    }
+
+    static boolean isMono(Class<?> type) {
+        return Mono.class.isAssignableFrom(type);
+    }
+
+    static boolean isFlux(Class<?> type) {
+        return Flux.class.isAssignableFrom(type);
+    }
+
+    static boolean isInNonBlockingThread() {
+        return Schedulers.isInNonBlockingThread();
+    }
+
+    /**
+     * 구독할 때마다 토큰을 획득한 뒤 원래 메서드를 호출하는 {@code Mono} 반환
+     *
+     * @param rejection 거부된 판정 값으로 대신 구독할 결과(폴백)를 반환하거나 예외를 던지는 함수
+     */
+    static Mono<Object> limitMono(Supplier<? extends CompletionStage<Long>> attempt, long maxWaitNanos,
+                                  LongFunction<Object> rejection,
+                                  Supplier<Object> invocation) {
+        return acquire(attempt, maxWaitNanos)
+                .flatMap(decision -> asMono(ConsumeDecision.isAllowed(decision)
+                        ? invocation.get()
+                        : rejection.apply(decision)));
+    }
+
+    /**
+     * 구독할 때마다 토큰을 획득한 뒤 원래 메서드를 호출하는 {@code Flux} 반환
+     *
+     * @param rejection 거부된 판정 값으로 대신 구독할 결과(폴백)를 반환하거나 예외를 던지는 함수
+     */
+    static Flux<Object> limitFlux(Supplier<? extends CompletionStage<Long>> attempt, long maxWaitNanos,
+                                  LongFunction<Object> rejection,
+                                  Supplier<Object> invocation) {
+        return acquire(attempt, maxWaitNanos)
+                .flatMapMany(decision -> asFlux(ConsumeDecision.isAllowed(decision)
+                        ? invocation.get()
+                        : rejection.apply(decision)));
+    }
+
+    /**
+     * 허용되거나 더 기다릴 수 없을 때까지 시도하고 마지막 판정 값을 발행
+     */
+    private static Mono<Long> acquire(Supplier<? extends CompletionStage<Long>> attempt, long maxWaitNanos) {
+        return Mono.defer(() -> retryUntil(attempt, System.nanoTime() + maxWaitNanos));
+    }
+
+    private static Mono<Long> retryUntil(Supplier<? extends CompletionStage<Long>> attempt, long deadline) {
+        return Mono.fromCompletionStage(attempt).flatMap(decision -> {
+            if (ConsumeDecision.isAllowed(decision)) {
+                return Mono.just(decision);
+            }
+
+            long waitNanos = ConsumeDecision.waitNanos(decision);
+            if (waitNanos <= 0 || waitNanos > deadline - System.nanoTime()) {
+                return Mono.just(decision);
+            }
+            return Mono.delay(Duration.ofNanos(waitNanos))
+                    .then(retryUntil(attempt, deadline));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Mono<Object> asMono(Object result) {
+        return result == null ? Mono.empty() : (Mono<Object>) result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Flux<Object> asFlux(Object result) {
+        return result == null ? Flux.empty() : Flux.from((Publisher<Object>) result);
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.ckaanf.ratelimiter.springboot.starter;
+
+import io.github.ckaanf.ratelimiter.core.exceptions.RateLimitExceededException;
+
+/**
+ * {@link RateLimit} 초과 시 던질 {@link RateLimitExceededException}의 생성 방식
+ * ('rate-limiter.rejection-strategy', {@link RateLimit#fallbackMethod()}가 지정된 메서드에는 적용되지 않음)
+ */
+public enum RejectionStrategy {
+
+    /**
+     * 매번 스택 트레이스를 포함한 예외 생성 (디버깅용, 거부가 잦으면 스택 수집이 CPU를 차지함)
+     */
+    FULL_STACK_TRACE,
+
+    /**
+     * 매번 스택 트레이스 없는 예외 생성 (키, 남은 토큰, 대기 시간은 호출별 값)
+     */
+    STACKLESS,
+
+    /**
+     * Rate Limiter 이름마다 미리 만든 예외 하나를 공유 (할당 없음)
+     *
+     * <p>여러 호출과 메서드가 같은 인스턴스를 받으므로 호출별 값을 담을 수 없습니다.
+     * 메시지에 키가 없고, {@link RateLimitExceededException#getTokensRequested()}와
+     * {@link RateLimitExceededException#getAvailableTokens()}는 0, {@link RateLimitExceededException#getWaitTime()}은
+     * null입니다. 예외 처리기에서 {@code Retry-After} 같은 HTTP 응답 헤더를 만든다면 {@link #STACKLESS}를 사용하세요.
+     */
+    PREALLOCATED
+}
@@ -0,0 +1,74 @@
+package io.github.ckaanf.ratelimiter.springboot.web;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.AlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.ConsumeDecision;
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimit 응답 헤더 계산 (IETF RateLimit 헤더 초안 기준)
+ *
+ * <p>값은 {@link ConsumeDecision} 인코딩에서 바로 계산하므로 판정 결과 객체를 만들지 않습니다.
+ */
+public final class RateLimitHeaders {
+
+    public static final String LIMIT = "RateLimit-Limit";
+    public static final String REMAINING = "RateLimit-Remaining";
+    public static final String RESET = "RateLimit-Reset";
+    public static final String RETRY_AFTER = "Retry-After";
+
+    private RateLimitHeaders() {
+    }
+
+    /**
+     * 헤더를 쓰는 대상 (서블릿 응답, 리액티브 응답 헤더 등)
+     */
+    @FunctionalInterface
+    interface Writer {
+        void set(String name, String value);
+    }
+
+    /**
+     * 판정 값으로 RateLimit 헤더 기록
+     * 거부된 경우 Retry-After도 함께 기록합니다.
+     */
+    static void write(RateLimiter limiter, long decision, Writer writer) {
+        AlgorithmConfig algorithmConfig = limiter.getConfiguration().getAlgorithmConfig();
+        long remaining = ConsumeDecision.remainingTokens(decision);
+
+        if (algorithmConfig instanceof TokenBucketAlgorithmConfig) {
+            writer.set(LIMIT, Long.toString(((TokenBucketAlgorithmConfig) algorithmConfig).getCapacity()));
+        }
+        writer.set(REMAINING, Long.toString(remaining));
+
+        if (ConsumeDecision.isAllowed(decision)) {
+            writer.set(RESET, Long.toString(secondsUntilFull(algorithmConfig, remaining)));
+        } else {
+            String retryAfter = Long.toString(toSecondsCeil(ConsumeDecision.waitNanos(decision)));
+            writer.set(RESET, retryAfter);
+            writer.set(RETRY_AFTER, retryAfter);
+        }
+    }
+
+    /**
+     * 버킷이 가득 찰 때까지 남은 시간 (초 단위 올림, 알 수 없으면 0)
+     */
+    private static long secondsUntilFull(AlgorithmConfig algorithmConfig, long remaining) {
+        if (!(algorithmConfig instanceof TokenBucketAlgorithmConfig)) {
+            return 0;
+        }
+
+        TokenBucketAlgorithmConfig tokenBucket = (TokenBucketAlgorithmConfig) algorithmConfig;
+        long missing = tokenBucket.getCapacity() - remaining;
+        if (missing <= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(missing / tokenBucket.getRefillRatePerSecond());
+    }
+
+    private static long toSecondsCeil(long nanos) {
+        return TimeUnit.NANOSECONDS.toSeconds(nanos + 999_999_999);
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.ckaanf.ratelimiter.springboot.web;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Objects;
+
+/**
+ * 경로 패턴과 Rate Limiter를 연결하는 필터 라우트
+ *
+ * <p>패턴 파싱과 cost 검증은 생성 시점에 끝나며, Rate Limiter는 처음 찾은 뒤 캐시됩니다.
+ * 자동 설정은 시작 시점에 {@link RateLimitRouteMatcher#resolveLimiters(RateLimiterRegistry)}로 미리 찾아 둡니다.
+ */
+public final class RateLimitRoute {
+
+    private final PathPattern pattern;
+    private final String limiterName;
+    private final long cost;
+
+    private volatile RateLimiter limiter;
+
+    private RateLimitRoute(PathPattern pattern, String limiterName, long cost) {
+        this.pattern = pattern;
+        this.limiterName = limiterName;
+        this.cost = cost;
+    }
+
+    /**
+     * 라우트 생성
+     *
+     * @param pattern     경로 패턴 (예: {@code /api/**})
+     * @param limiterName 적용할 Rate Limiter 이름
+     * @param cost        요청당 소비할 토큰 수
+     * @throws IllegalArgumentException 패턴이 잘못되었거나 cost가 0 이하인 경우
+     */
+    public static RateLimitRoute of(String pattern, String limiterName, long cost) {
+        Objects.requireNonNull(pattern, "Route pattern cannot be null");
+        Objects.requireNonNull(limiterName, "Route limiterName cannot be null");
+        if (cost <= 0) {
+            throw new IllegalArgumentException("Route 'cost' must be a positive number: " + pattern);
+        }
+        return new RateLimitRoute(PathPatternParser.defaultInstance.parse(pattern), limiterName, cost);
+    }
+
+    boolean matches(PathContainer path) {
+        return pattern.matches(path);
+    }
+
+    /**
+     * 레지스트리에서 Rate Limiter를 찾아 캐시
+     *
+     * @return 찾았으면 true
+     */
+    boolean resolve(RateLimiterRegistry registry) {
+        if (limiter == null) {
+            registry.findRateLimiter(limiterName).ifPresent(found -> limiter = found);
+        }
+        return limiter != null;
+    }
+
+    /**
+     * 적용할 Rate Limiter 반환
+     * 처음 한 번만 레지스트리에서 찾고, 이후에는 필드 읽기만 수행
+     */
+    RateLimiter limiter(RateLimiterRegistry registry) {
+        RateLimiter resolved = limiter;
+        if (resolved == null) {
+            resolved = registry.findRateLimiter(limiterName)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "RateLimiter named '" + limiterName + "' is not configured."
+                    ));
+            limiter = resolved;
+        }
+        return resolved;
+    }
+
+    public String getPattern() {
+        return pattern.getPatternString();
+    }
+
+    public String getLimiterName() {
+        return limiterName;
+    }
+
+    public long getCost() {
+        return cost;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RateLimitRoute{pattern='%s', limiter='%s', cost=%d}",
+                pattern.getPatternString(), limiterName, cost);
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.ckaanf.ratelimiter.springboot.web;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import org.springframework.http.server.PathContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 경로에 맞는 첫 번째 라우트를 찾는 매처 (설정 순서대로 검사)
+ */
+public final class RateLimitRouteMatcher {
+
+    private final RateLimitRoute[] routes;
+
+    public RateLimitRouteMatcher(List<RateLimitRoute> routes) {
+        this.routes = routes.toArray(new RateLimitRoute[0]);
+    }
+
+    /**
+     * 경로에 맞는 라우트 반환
+     *
+     * @return 일치하는 라우트, 없으면 null
+     */
+    public RateLimitRoute match(PathContainer path) {
+        for (RateLimitRoute route : routes) {
+            if (route.matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 모든 라우트의 Rate Limiter를 미리 찾아 둠
+     * 요청 시점에 500으로 드러나지 않도록 시작 시점에 호출합니다.
+     *
+     * @throws IllegalStateException 등록되지 않은 이름을 참조하는 라우트가 있는 경우
+     */
+    public void resolveLimiters(RateLimiterRegistry registry) {
+        List<String> unresolved = new ArrayList<>();
+        for (RateLimitRoute route : routes) {
+            if (!route.resolve(registry)) {
+                unresolved.add(route.getPattern() + " -> " + route.getLimiterName());
+            }
+        }
+        if (!unresolved.isEmpty()) {
+            throw new IllegalStateException("Rate limit routes reference RateLimiters that are not configured: "
+                    + unresolved);
+        }
+    }
+
+    public boolean isEmpty() {
+        return routes.length == 0;
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.ckaanf.ratelimiter.springboot.web;
+
+import io.github.ckaanf.ratelimiter.core.ConsumeDecision;
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * 핸들러 매핑 전에 경로별 Rate Limit을 적용하는 WebFlux 필터
+ *
+ * <p>판정은 저장소 호출 한 번으로 끝나며, 거부 시 본문 없이 429와 헤더만 반환합니다.
+ * 저장소 호출은 {@link RateLimiter#tryConsumeDecisionAsync(long)}로 수행하므로 네트워크 저장소에서도 블로킹하지 않습니다.
+ */
+public class RateLimitWebFilter implements WebFilter, Ordered {
+
+    private final RateLimiterRegistry registry;
+    private final RateLimitRouteMatcher matcher;
+    private final int order;
+
+    public RateLimitWebFilter(RateLimiterRegistry registry, RateLimitRouteMatcher matcher, int order) {
+        this.registry = registry;
+        this.matcher = matcher;
+        this.order = order;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        RateLimitRoute route = matcher.match(exchange.getRequest().getPath().pathWithinApplication());
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+
+        RateLimiter limiter = route.limiter(registry);
+        long cost = route.getCost();
+
+        // 원격 저장소의 응답을 기다리는 동안 이벤트 루프 스레드를 점유하지 않음
+        return Mono.defer(() -> Mono.fromCompletionStage(limiter.tryConsumeDecisionAsync(cost)))
+                .flatMap(decision -> {
+                    ServerHttpResponse response = exchange.getResponse();
+                    HttpHeaders headers = response.getHeaders();
+                    RateLimitHeaders.write(limiter, decision, headers::set);
+
+                    if (ConsumeDecision.isAllowed(decision)) {
+                        return chain.filter(exchange);
+                    }
+                    response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                    return response.setComplete();
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return order;
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.ckaanf.ratelimiter.springboot.actuate;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketProvider;
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitersEndpointTest {
+
+    private RateLimiterRegistry registry;
+    private RateLimiter limiter;
+    private RateLimitersEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        registry = RateLimiterRegistry.createForTesting();
+        registry.registerAlgorithmProvider(new TokenBucketProvider());
+        registry.registerStorageProvider(new MemoryStorageProvider());
+        limiter = registry.getRateLimiter(new RateLimiterConfig(
+                "api", TokenBucketAlgorithmConfig.perSecond(10, 100), new MemoryStorageConfig()));
+
+        endpoint = new RateLimitersEndpoint(registry);
+    }
+
+    @Test
+    @DisplayName("목록 조회는 레지스트리 통계와 Rate Limiter별 설정, 메트릭스를 반환해야 한다")
+    @SuppressWarnings("unchecked")
+    void whenListed_thenReturnsConfigAndStats() {
+        // Given
+        limiter.tryConsume(30);
+
+        // When
+        Map<String, Object> body = endpoint.rateLimiters();
+
+        // Then
+        Map<String, Object> registryInfo = (Map<String, Object>) body.get("registry");
+        assertThat(registryInfo).containsEntry("rateLimiters", 1);
+
+        Map<String, Object> api = (Map<String, Object>) ((Map<String, Object>) body.get("limiters")).get("api");
+        assertThat(api).containsEntry("availableTokens", 70L).containsEntry("storage", "memory");
+        assertThat((Map<String, Object>) api.get("algorithm")).containsEntry("capacity", 100L);
+        assertThat((Map<String, Object>) api.get("metrics")).containsEntry("allowed", 1L);
+    }
+
+    @Test
+    @DisplayName("상세 조회는 요청과 거부가 많은 하위 키를 반환해야 한다")
+    @SuppressWarnings("unchecked")
+    void whenDetailRequested_thenReturnsHotKeys() {
+        // Given
+        for (int i = 0; i < 400; i++) {
+            limiter.tryConsume("abuser", 1);
+        }
+        limiter.tryConsume("normal-user", 1);
+
+        // When
+        Map<String, Object> body = endpoint.rateLimiter("api");
+
+        // Then
+        List<Map<String, Object>> hottest = (List<Map<String, Object>>) body.get("hottestKeys");
+        List<Map<String, Object>> rejected = (List<Map<String, Object>>) body.get("mostRejectedKeys");
+        assertThat(hottest.get(0)).containsEntry("key", "abuser");
+        assertThat(rejected.get(0)).containsEntry("key", "abuser");
+        assertThat(endpoint.rateLimiter("unknown")).isNull();
+    }
+
+    @Test
+    @DisplayName("설정 변경은 지정한 값만 바꾸고 버킷 상태를 유지해야 한다")
+    void whenUpdated_thenAppliesInPlace() {
+        // Given
+        limiter.tryConsume(50);
+
+        // When
+        endpoint.updateRateLimiter("api", 200L, null, Duration.ofMillis(500), null);
+
+        // Then
+        TokenBucketAlgorithmConfig updated =
+                (TokenBucketAlgorithmConfig) registry.findRateLimiter("api").orElseThrow()
+                        .getConfiguration().getAlgorithmConfig();
+        assertThat(updated.getCapacity()).isEqualTo(200);
+        assertThat(updated.getRefillTokens()).isEqualTo(10);
+        assertThat(updated.getRefillPeriod()).isEqualTo(Duration.ofMillis(500));
+        assertThat(updated.getInitialTokens()).isEqualTo(200);
+        assertThat(limiter.getAvailableTokens()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정 값은 잘못된 요청으로 거부되어야 한다")
+    void whenInvalidUpdate_thenRejected() {
+        assertThatThrownBy(() -> endpoint.updateRateLimiter("api", -1L, null, null, null))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+}
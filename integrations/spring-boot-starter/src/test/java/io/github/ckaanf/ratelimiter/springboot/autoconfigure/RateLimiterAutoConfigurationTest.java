@@ -1,24 +1,45 @@
 package io.github.ckaanf.ratelimiter.springboot.autoconfigure;
 
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
 import io.github.ckaanf.ratelimiter.core.RateLimiter;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.springboot.starter.RateLimiterAspect;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
 
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(classes = RateLimiterAutoConfiguration.class)
 @TestPropertySource(properties = {
     "rate-limiter.enabled=true",
-    "rate-limiter.key=test-key"
+    "rate-limiter.key=test-key",
+    "rate-limiter.limiters.default-api.capacity=5",
+    "rate-limiter.limiters.critical-api.capacity=50",
+    "rate-limiter.limiters.critical-api.refill-tokens=5",
+    "rate-limiter.limiters.critical-api.refill-period=1m",
+    "rate-limiter.limiters.critical-api.storage.max-entries=100"
 })
 public class RateLimiterAutoConfigurationTest {
 
     @Autowired
     private RateLimiter rateLimiter;
 
+    @Autowired
+    private NamedRateLimiters namedRateLimiters;
+
+    @Autowired
+    private RateLimiterAspect rateLimiterAspect;
+
+    @Autowired
+    private RateLimiterRegistry registry;
+
     @Test
     public void testRateLimiterBeanCreation() {
         assertNotNull(rateLimiter, "RateLimiter bean should be created");
@@ -28,4 +49,25 @@ public class RateLimiterAutoConfigurationTest {
     public void testRateLimiterTryConsume() {
         assertTrue(rateLimiter.tryConsume(), "RateLimiter should allow token consumption");
     }
-} 
\ No newline at end of file
+
+    @Test
+    public void testNamedRateLimitersRegisteredAtStartup() {
+        assertEquals(2, namedRateLimiters.size());
+        assertSame(namedRateLimiters.find("default-api").orElseThrow(),
+                registry.findRateLimiter("default-api").orElseThrow());
+        assertTrue(registry.findRateLimiter("critical-api").isPresent());
+        assertNotNull(rateLimiterAspect, "RateLimiterAspect bean should be created");
+    }
+
+    @Test
+    public void testNamedRateLimiterUsesConfiguredSettings() {
+        RateLimiter critical = namedRateLimiters.find("critical-api").orElseThrow();
+        TokenBucketAlgorithmConfig config =
+                (TokenBucketAlgorithmConfig) critical.getConfiguration().getAlgorithmConfig();
+
+        assertEquals(50, config.getCapacity());
+        assertEquals(5, config.getRefillTokens());
+        assertEquals(Duration.ofMinutes(1), config.getRefillPeriod());
+        assertEquals(5, namedRateLimiters.find("default-api").orElseThrow().getAvailableTokens());
+    }
+}
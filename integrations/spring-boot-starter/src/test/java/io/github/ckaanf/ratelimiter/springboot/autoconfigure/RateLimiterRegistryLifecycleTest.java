@@ -0,0 +1,121 @@
+package io.github.ckaanf.ratelimiter.springboot.autoconfigure;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.core.exceptions.RateLimitExceededException;
+import io.github.ckaanf.ratelimiter.springboot.metrics.RateLimiterMetricsBinder;
+import io.github.ckaanf.ratelimiter.springboot.starter.RateLimit;
+import io.github.ckaanf.ratelimiter.springboot.starter.RateLimiterAspect;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class RateLimiterRegistryLifecycleTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(RateLimiterAutoConfiguration.class))
+            .withPropertyValues(
+                    "rate-limiter.limiters.api.capacity=10",
+                    "rate-limiter.limiters.api.storage.cleanup-interval=1m");
+
+    @Test
+    @DisplayName("애플리케이션 컨텍스트마다 별도의 레지스트리를 사용해야 한다")
+    void eachContextShouldHaveItsOwnRegistry() {
+        AtomicReference<RateLimiterRegistry> first = new AtomicReference<>();
+
+        contextRunner.run(context -> first.set(context.getBean(RateLimiterRegistry.class)));
+        contextRunner.run(context -> {
+            RateLimiterRegistry second = context.getBean(RateLimiterRegistry.class);
+            assertThat(second).isNotSameAs(first.get()).isNotSameAs(RateLimiterRegistry.getInstance());
+            assertThat(second.findRateLimiter("api")).isPresent();
+        });
+        assertThat(RateLimiterRegistry.getInstance().findRateLimiter("api")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("컨텍스트가 닫히면 레지스트리와 저장소 정리 스레드를 종료해야 한다")
+    void whenContextClosed_thenShutsDownStorages() throws InterruptedException {
+        // Given
+        int before = cleanupThreads();
+        AtomicReference<RateLimiterRegistry> registry = new AtomicReference<>();
+
+        // When
+        contextRunner.run(context -> {
+            registry.set(context.getBean(RateLimiterRegistry.class));
+            assertThat(context).hasSingleBean(RateLimiterWarmUp.class);
+            assertThat(context.getBean(RateLimiterWarmUp.class).isRunning()).isTrue();
+            assertThat(cleanupThreads()).isGreaterThan(before);
+        });
+
+        // Then
+        assertThat(registry.get().isClosed()).isTrue();
+        for (int i = 0; i < 50 && cleanupThreads() > before; i++) {
+            Thread.sleep(20);
+        }
+        assertThat(cleanupThreads()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("관리되는 레지스트리 빈이 없으면 메트릭 바인더를 정적 싱글톤으로 만들지 않아야 한다")
+    void whenRegistryDisabled_thenMetricsBinderNotBackedBySingleton() {
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(RateLimiterMetricsAutoConfiguration.class))
+                .withPropertyValues("rate-limiter.enabled=false")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(RateLimiterRegistry.class);
+                    assertThat(context).doesNotHaveBean(RateLimiterMetricsBinder.class);
+                });
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(RateLimiterMetricsAutoConfiguration.class))
+                .run(context -> assertThat(context).hasSingleBean(RateLimiterMetricsBinder.class));
+    }
+
+    @Test
+    @DisplayName("warm-up=false이면 워밍업 단계를 등록하지 않아야 한다")
+    void whenWarmUpDisabled_thenNoWarmUpBean() {
+        contextRunner
+                .withPropertyValues("rate-limiter.warm-up=false")
+                .run(context -> assertThat(context).doesNotHaveBean(RateLimiterWarmUp.class));
+    }
+
+    @Test
+    @DisplayName("자동 구성한 애스펙트는 rejection-strategy 설정을 따라야 한다")
+    void aspectShouldHonourRejectionStrategy() {
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(AopAutoConfiguration.class))
+                .withPropertyValues("rate-limiter.limiters.api.capacity=1", "rate-limiter.rejection-strategy=preallocated")
+                .withBean(LimitedService.class)
+                .run(context -> {
+                    // Given
+                    assertThat(context).hasSingleBean(RateLimiterAspect.class);
+                    LimitedService service = context.getBean(LimitedService.class);
+                    service.call();
+
+                    // When
+                    Throwable first = catchThrowable(service::call);
+                    Throwable second = catchThrowable(service::call);
+
+                    // Then - PREALLOCATED는 같은 예외 인스턴스를 재사용
+                    assertThat(first).isInstanceOf(RateLimitExceededException.class);
+                    assertThat(second).isSameAs(first);
+                });
+    }
+
+    static class LimitedService {
+        @RateLimit(limiterName = "api")
+        public void call() {
+        }
+    }
+
+    private static int cleanupThreads() {
+        return (int) Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.isAlive() && thread.getName().equals("memory-storage-cleanup"))
+                .count();
+    }
+}
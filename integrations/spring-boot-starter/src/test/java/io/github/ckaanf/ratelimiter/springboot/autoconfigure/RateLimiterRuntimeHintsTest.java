@@ -0,0 +1,129 @@
+package io.github.ckaanf.ratelimiter.springboot.autoconfigure;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterProvider;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.core.StorageProvider;
+import io.github.ckaanf.ratelimiter.springboot.starter.RateLimiterAspect;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterRuntimeHintsTest {
+
+    private static final String EXTRA_PROVIDER = "com.example.ratelimiter.ExternalStorageProvider";
+
+    @TempDir
+    Path tempDir;
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(RateLimiterAutoConfiguration.class));
+
+    @Test
+    @DisplayName("SPI 서비스 파일과 프로바이더 생성자, 애스펙트에 대한 힌트를 등록해야 한다")
+    void shouldRegisterHintsForServiceLoaderAndAspect() {
+        // Given
+        RuntimeHints hints = new RuntimeHints();
+
+        // When
+        new RateLimiterRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Then
+        assertThat(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/" + RateLimiterProvider.class.getName())).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/" + StorageProvider.class.getName())).accepts(hints);
+        RateLimiterProviderIndex.storageProviders().forEach(provider ->
+                assertThat(RuntimeHintsPredicates.reflection().onType(provider.getClass())).accepts(hints));
+        assertThat(RuntimeHintsPredicates.reflection().onType(RateLimiterAspect.class)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("프로바이더 목록은 META-INF/services에 등록된 프로바이더와 일치해야 한다")
+    void indexShouldMatchServiceLoader() {
+        assertThat(typesOf(RateLimiterProviderIndex.algorithmProviders()))
+                .isEqualTo(typesOf(ServiceLoader.load(RateLimiterProvider.class).stream()
+                        .map(ServiceLoader.Provider::get).collect(Collectors.toList())));
+        assertThat(typesOf(RateLimiterProviderIndex.storageProviders()))
+                .isEqualTo(typesOf(ServiceLoader.load(StorageProvider.class).stream()
+                        .map(ServiceLoader.Provider::get).collect(Collectors.toList())));
+    }
+
+    @Test
+    @DisplayName("provider-discovery=index이면 SPI 스캔 없이 만든 레지스트리 빈을 사용해야 한다")
+    void whenIndexDiscovery_thenRegistersIndexedRegistry() {
+        contextRunner
+                .withPropertyValues("rate-limiter.provider-discovery=index")
+                .run(context -> {
+                    RateLimiterRegistry registry = context.getBean(RateLimiterRegistry.class);
+                    assertThat(registry).isNotSameAs(RateLimiterRegistry.getInstance());
+                    assertThat(registry.getAvailableAlgorithms()).containsExactly("token-bucket");
+                    assertThat(registry.getAvailableStorages()).containsExactly("memory", "gossip");
+                    assertThat(registry.findRateLimiter("defaultRateLimiter")).isPresent();
+                });
+    }
+
+    @Test
+    @DisplayName("JVM에서 provider-discovery를 지정하지 않으면 ServiceLoader로 프로바이더를 찾아야 한다")
+    void whenDiscoveryNotSet_thenUsesServiceLoader() {
+        contextRunner.run(context -> {
+            RateLimiterRegistry registry = context.getBean(RateLimiterRegistry.class);
+            assertThat(registry).isNotSameAs(RateLimiterRegistry.getInstance());
+            assertThat(registry.getAvailableAlgorithms()).contains("token-bucket");
+        });
+    }
+
+    @Test
+    @DisplayName("provider-discovery=index인데 목록에 없는 프로바이더가 클래스패스에 있으면 시작 시 실패해야 한다")
+    void whenIndexDiscoveryMissesProvider_thenFailsFast() throws IOException {
+        contextRunner
+                .withClassLoader(classLoaderWithExtraProvider())
+                .withPropertyValues("rate-limiter.provider-discovery=index")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure().rootCause().hasMessageContaining(EXTRA_PROVIDER));
+    }
+
+    @Test
+    @DisplayName("서비스 파일에 등록된 목록 밖 프로바이더에도 생성자 힌트를 등록해야 한다")
+    void shouldRegisterHintsForProvidersOutsideIndex() throws IOException {
+        // Given
+        RuntimeHints hints = new RuntimeHints();
+
+        // When
+        new RateLimiterRuntimeHints().registerHints(hints, classLoaderWithExtraProvider());
+
+        // Then
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of(EXTRA_PROVIDER))).accepts(hints);
+        assertThat(RateLimiterProviderIndex.missingProviders(classLoaderWithExtraProvider()))
+                .containsExactly(EXTRA_PROVIDER);
+    }
+
+    /**
+     * 목록에 없는 저장소 프로바이더가 서비스 파일에 등록된 클래스 로더 (클래스 자체는 없어도 됨)
+     */
+    private ClassLoader classLoaderWithExtraProvider() throws IOException {
+        Path services = tempDir.resolve("META-INF/services");
+        Files.createDirectories(services);
+        Files.writeString(services.resolve(StorageProvider.class.getName()), "# 외부 모듈\n" + EXTRA_PROVIDER + "\n");
+        return new URLClassLoader(new URL[]{tempDir.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private static List<String> typesOf(List<?> providers) {
+        return providers.stream().map(provider -> provider.getClass().getName()).sorted().collect(Collectors.toList());
+    }
+}
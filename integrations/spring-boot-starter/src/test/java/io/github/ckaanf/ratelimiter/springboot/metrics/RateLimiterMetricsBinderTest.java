@@ -0,0 +1,71 @@
+package io.github.ckaanf.ratelimiter.springboot.metrics;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketProvider;
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterMetricsBinderTest {
+
+    private RateLimiterRegistry rateLimiterRegistry;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiterRegistry = RateLimiterRegistry.createForTesting();
+        rateLimiterRegistry.registerAlgorithmProvider(new TokenBucketProvider());
+        rateLimiterRegistry.registerStorageProvider(new MemoryStorageProvider());
+        limiter = rateLimiterRegistry.getRateLimiter(new RateLimiterConfig(
+                "api", TokenBucketAlgorithmConfig.perSecond(1, 2), new MemoryStorageConfig()));
+
+        meterRegistry = new SimpleMeterRegistry();
+        new RateLimiterMetricsBinder(rateLimiterRegistry).bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("허용/거부 횟수와 대기 시간이 Rate Limiter 태그로 노출되어야 한다")
+    void whenDecisionsMade_thenCountersReflectThem() {
+        // Given & When
+        limiter.tryConsume(1);
+        limiter.tryConsume(1);
+        limiter.tryConsume(1); // 거부, 1초 대기
+
+        // Then
+        assertThat(meterRegistry.get("ratelimiter.requests")
+                .tags("limiter", "api", "result", "allowed").functionCounter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("ratelimiter.requests")
+                .tags("limiter", "api", "result", "rejected").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("ratelimiter.wait").tag("limiter", "api").functionTimer()
+                .totalTime(TimeUnit.SECONDS)).isEqualTo(1.0);
+        assertThat(meterRegistry.get("ratelimiter.wait.buckets")
+                .tags("limiter", "api", "le", "1.0").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("ratelimiter.wait.buckets")
+                .tags("limiter", "api", "le", "0.1").functionCounter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장소의 활성 버킷 수와 제거 횟수가 노출되어야 한다")
+    void whenBucketsCreated_thenGaugeReflectsStorage() {
+        // Given & When
+        limiter.tryConsume("user-a", 1);
+        limiter.tryConsume("user-b", 1);
+
+        // Then
+        assertThat(meterRegistry.get("ratelimiter.buckets.active").tag("limiter", "api").gauge().value())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("ratelimiter.buckets.evicted").tag("limiter", "api").functionCounter().count())
+                .isZero();
+    }
+}
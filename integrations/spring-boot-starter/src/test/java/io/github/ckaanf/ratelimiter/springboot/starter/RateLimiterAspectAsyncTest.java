@@ -0,0 +1,225 @@
+package io.github.ckaanf.ratelimiter.springboot.starter;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketProvider;
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.core.exceptions.RateLimitExceededException;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class RateLimiterAspectAsyncTest {
+
+    private RateLimiterRegistry registry;
+    private RateLimiter limiter;
+    private AsyncService target;
+    private AsyncService service;
+
+    @BeforeEach
+    void setUp() {
+        registry = RateLimiterRegistry.createForTesting();
+        registry.registerAlgorithmProvider(new TokenBucketProvider());
+        registry.registerStorageProvider(new MemoryStorageProvider());
+        // 용량 1, 100ms마다 1개 보충
+        limiter = registry.getRateLimiter(new RateLimiterConfig(
+                "async", new TokenBucketAlgorithmConfig(1, 1, Duration.ofMillis(100), 1), new MemoryStorageConfig()));
+
+        target = new AsyncService();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new RateLimiterAspect(registry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Mono는 구독 시점에 토큰을 획득하고 초과 시 오류 신호로 거부해야 한다")
+    void whenMono_thenAcquiresOnSubscription() {
+        // Given
+        Mono<String> first = service.mono();
+        Mono<String> second = service.mono();
+
+        // Then: 조립만으로는 토큰을 소비하지 않음
+        assertThat(limiter.getAvailableTokens()).isEqualTo(1);
+        assertThat(target.invocations.get()).isZero();
+
+        // When & Then
+        assertThat(first.block()).isEqualTo("OK");
+        assertThatThrownBy(second::block).isInstanceOf(RateLimitExceededException.class);
+        assertThat(target.invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("maxWait가 지정된 Mono는 스레드를 점유하지 않고 기다린 뒤 실행해야 한다")
+    void whenMonoWithMaxWait_thenDelaysInsteadOfRejecting() {
+        // Given
+        service.monoWithWait().block();
+        long start = System.nanoTime();
+
+        // When
+        String result = service.monoWithWait().block();
+
+        // Then
+        assertThat(result).isEqualTo("OK");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(50);
+        assertThat(target.invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Flux도 구독 시점에 토큰을 획득해야 한다")
+    void whenFlux_thenAcquiresOnSubscription() {
+        // Given
+        Flux<Integer> flux = service.flux();
+
+        // When & Then
+        assertThat(flux.collectList().block()).containsExactly(1, 2, 3);
+        assertThatThrownBy(() -> flux.collectList().block()).isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("CompletableFuture는 예외를 던지는 대신 실패한 future를 반환해야 한다")
+    void whenCompletableFutureRejected_thenReturnsFailedFuture() {
+        // Given
+        service.future().join();
+
+        // When
+        CompletableFuture<String> rejected = service.future();
+
+        // Then
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("maxWait가 지정된 CompletableFuture는 토큰이 보충된 뒤 완료되어야 한다")
+    void whenCompletableFutureWithMaxWait_thenCompletesAfterRefill() {
+        // Given
+        service.futureWithWait().join();
+
+        // When
+        CompletableFuture<String> delayed = service.futureWithWait();
+
+        // Then
+        assertThat(delayed).isNotDone();
+        assertThat(delayed.orTimeout(1, TimeUnit.SECONDS).join()).isEqualTo("OK");
+    }
+
+    @Test
+    @DisplayName("논블로킹 스레드에서 호출된 일반 메서드는 기다리지 않고 즉시 거부해야 한다")
+    void whenBlockingMethodOnEventLoop_thenRejectsWithoutWaiting() {
+        // Given
+        service.blockingWithWait();
+
+        // When & Then
+        Mono<String> onEventLoop = Mono.fromCallable(service::blockingWithWait)
+                .subscribeOn(Schedulers.parallel());
+        assertThatThrownBy(onEventLoop::block).isInstanceOf(RateLimitExceededException.class);
+
+        // 일반 스레드에서는 기다린 뒤 실행
+        assertThat(service.blockingWithWait()).isEqualTo("OK");
+    }
+
+    @Test
+    @DisplayName("PREALLOCATED 전략은 같은 Rate Limiter를 쓰는 메서드끼리 하나의 예외 인스턴스를 공유해야 한다")
+    void whenPreallocated_thenSharesExceptionPerLimiter() {
+        // Given
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new RateLimiterAspect(registry, RejectionStrategy.PREALLOCATED));
+        AsyncService preallocated = factory.getProxy();
+        preallocated.blocking();
+
+        // When - 같은 Rate Limiter를 쓰는 서로 다른 메서드
+        Throwable first = catchThrowable(preallocated::blocking);
+        Throwable second = catchThrowable(preallocated::blocking);
+        Throwable other = catchThrowable(() -> preallocated.mono().block());
+
+        // Then - 호출별 값은 담지 않음
+        assertThat(first).isInstanceOf(RateLimitExceededException.class).isSameAs(second).isSameAs(other);
+        assertThat(first.getStackTrace()).isEmpty();
+        RateLimitExceededException shared = (RateLimitExceededException) first;
+        assertThat(shared.getWaitTime()).isNull();
+        assertThat(shared.getAvailableTokens()).isZero();
+        assertThat(shared.getTokensRequested()).isZero();
+    }
+
+    @Test
+    @DisplayName("Mono 메서드의 fallbackMethod는 거부 시 폴백 Mono를 구독해야 한다")
+    void whenMonoFallback_thenSubscribesFallback() {
+        // Given
+        service.monoWithFallback().block();
+
+        // When & Then
+        assertThat(service.monoWithFallback().block()).isEqualTo("fallback");
+    }
+
+    public static class AsyncService {
+
+        final AtomicInteger invocations = new AtomicInteger();
+
+        @RateLimit(limiterName = "async")
+        public Mono<String> mono() {
+            return Mono.fromSupplier(() -> {
+                invocations.incrementAndGet();
+                return "OK";
+            });
+        }
+
+        @RateLimit(limiterName = "async", maxWait = "1s")
+        public Mono<String> monoWithWait() {
+            invocations.incrementAndGet();
+            return Mono.just("OK");
+        }
+
+        @RateLimit(limiterName = "async")
+        public Flux<Integer> flux() {
+            return Flux.fromIterable(List.of(1, 2, 3));
+        }
+
+        @RateLimit(limiterName = "async")
+        public CompletableFuture<String> future() {
+            return CompletableFuture.completedFuture("OK");
+        }
+
+        @RateLimit(limiterName = "async", maxWait = "1s")
+        public CompletableFuture<String> futureWithWait() {
+            return CompletableFuture.completedFuture("OK");
+        }
+
+        @RateLimit(limiterName = "async", maxWait = "1s")
+        public String blockingWithWait() {
+            return "OK";
+        }
+
+        @RateLimit(limiterName = "async")
+        public String blocking() {
+            return "OK";
+        }
+
+        @RateLimit(limiterName = "async", fallbackMethod = "monoFallback")
+        public Mono<String> monoWithFallback() {
+            return Mono.just("OK");
+        }
+
+        public Mono<String> monoFallback() {
+            return Mono.just("fallback");
+        }
+    }
+}
@@ -1,15 +1,17 @@
 package io.github.ckaanf.ratelimiter.springboot.starter;
 
+import io.github.ckaanf.ratelimiter.core.ConsumeDecision;
 import io.github.ckaanf.ratelimiter.core.RateLimiter;
 import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
 import io.github.ckaanf.ratelimiter.core.exceptions.RateLimitExceededException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -18,23 +20,26 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = RateLimiterAspectTest.TestController.class)
 @Import({
         AopAutoConfiguration.class,
-        RateLimiterAspect.class,
         RateLimiterAspectTest.TestConfig.class
 })
 class RateLimiterAspectTest {
@@ -42,16 +47,17 @@ class RateLimiterAspectTest {
     @Autowired
     private MockMvc mockMvc;
 
-    @MockBean
+    @Autowired
     private RateLimiterRegistry rateLimiterRegistry;
 
-    private RateLimiter mockRateLimiter;
+    // 어드바이스가 시작 시점에 RateLimiter를 찾아 고정하므로 테스트 간에 같은 mock을 재사용
+    private static final RateLimiter mockRateLimiter = mock(RateLimiter.class);
 
     @BeforeEach
     void setUp() {
-        mockRateLimiter = mock(RateLimiter.class);
-        when(mockRateLimiter.tryConsume(anyLong())).thenReturn(true);
-        when(rateLimiterRegistry.findRateLimiter(anyString())).thenReturn(Optional.of(mockRateLimiter));
+        reset(mockRateLimiter);
+        clearInvocations(rateLimiterRegistry); // 시작 시점의 조회 호출 제외
+        when(mockRateLimiter.tryConsumeDecision(anyLong())).thenReturn(ConsumeDecision.allowed(10));
     }
 
     @Test
@@ -59,7 +65,7 @@ class RateLimiterAspectTest {
     void whenDefaultCost_thenTryConsumeWithOne() throws Exception {
         mockMvc.perform(get("/test/default-cost"))
                 .andExpect(status().isOk());
-        verify(mockRateLimiter).tryConsume(1L);
+        verify(mockRateLimiter).tryConsumeDecision(1L);
     }
 
     @Test
@@ -67,54 +73,184 @@ class RateLimiterAspectTest {
     void whenCustomCost_thenTryConsumeWithFive() throws Exception {
         mockMvc.perform(get("/test/custom-cost"))
                 .andExpect(status().isOk());
-        verify(mockRateLimiter).tryConsume(5L);
+        verify(mockRateLimiter).tryConsumeDecision(5L);
     }
 
     @Test
     @DisplayName("RateLimit 초과 시 429 Too Many Requests를 반환해야 한다")
     void whenRateLimitExceeded_thenReturns429() throws Exception {
-        when(mockRateLimiter.tryConsume(3L)).thenReturn(false);
-        when(mockRateLimiter.getAvailableTokens()).thenReturn(0L);
+        when(mockRateLimiter.tryConsumeDecision(3L)).thenReturn(ConsumeDecision.rejected(0, 1_000_000));
 
         mockMvc.perform(get("/test/exceeded"))
                 .andExpect(status().isTooManyRequests())
                 .andExpect(jsonPath("$.message").value("Too Many Requests"))
                 .andExpect(jsonPath("$.details").value("Rate limit exceeded for 'fail-limiter'"));
 
-        verify(mockRateLimiter).tryConsume(3L);
+        verify(mockRateLimiter).tryConsumeDecision(3L);
+    }
+
+    @Test
+    @DisplayName("RateLimiter는 시작 시점에 찾아 두고 호출 시에는 다시 조회하지 않아야 한다")
+    void whenCalledRepeatedly_thenLimiterNotLookedUpAgain() throws Exception {
+        // Given & When
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/test/cached"))
+                    .andExpect(status().isOk());
+        }
+
+        // Then
+        verify(rateLimiterRegistry, never()).findRateLimiter(anyString());
+        verify(mockRateLimiter, times(3)).tryConsumeDecision(2L);
+    }
+
+    @Test
+    @DisplayName("SpEL key가 지정되면 호출별 키의 버킷에서 토큰을 소비해야 한다")
+    void whenSpelKey_thenConsumesFromKeyedBucket() throws Exception {
+        // Given
+        when(mockRateLimiter.tryConsumeDecision(anyString(), anyLong())).thenReturn(ConsumeDecision.allowed(10));
+
+        // When
+        mockMvc.perform(get("/test/keyed").param("userId", "user-1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/test/keyed").param("userId", "user-2"))
+                .andExpect(status().isOk());
+
+        // Then
+        verify(mockRateLimiter).tryConsumeDecision("user-1", 1L);
+        verify(mockRateLimiter).tryConsumeDecision("user-2", 1L);
+        verify(mockRateLimiter, never()).tryConsumeDecision(anyLong());
+    }
+
+    @Test
+    @DisplayName("키별 버킷이 초과되면 키를 포함한 429를 반환해야 한다")
+    void whenKeyedBucketExceeded_thenReturns429() throws Exception {
+        // Given
+        when(mockRateLimiter.tryConsumeDecision("blocked", 1L)).thenReturn(ConsumeDecision.rejected(0, 1_000_000));
+
+        // When & Then
+        mockMvc.perform(get("/test/keyed").param("userId", "blocked"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.details").value("Rate limit exceeded for 'keyed-limiter' (key 'blocked')"));
+    }
+
+    @Test
+    @DisplayName("keyResolver가 지정되면 해당 빈이 계산한 키를 사용해야 한다")
+    void whenKeyResolver_thenUsesResolvedKey() throws Exception {
+        // Given
+        when(mockRateLimiter.tryConsumeDecision(anyString(), anyLong())).thenReturn(ConsumeDecision.allowed(10));
+
+        // When
+        mockMvc.perform(get("/test/resolver"))
+                .andExpect(status().isOk());
+
+        // Then
+        verify(mockRateLimiter).tryConsumeDecision("resolved:resolver", 2L);
     }
 
     @Test
-    @DisplayName("cost가 0일 때 400 Bad Request를 반환해야 한다")
-    void whenCostIsZero_thenReturns400() throws Exception {
-        mockMvc.perform(get("/test/invalid-cost-zero"))
-                .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.message").value("Bad Request"))
-                .andExpect(jsonPath("$.details").value("RateLimit 'cost' must be a positive number."));
+    @DisplayName("거부 시 판정 결과만으로 스택 트레이스 없는 예외를 만들어야 한다")
+    void whenRejected_thenStacklessExceptionWithoutExtraLookup() throws Exception {
+        // Given
+        when(mockRateLimiter.tryConsumeDecision(3L)).thenReturn(ConsumeDecision.rejected(2, 1_500_000_000L));
 
-        verify(mockRateLimiter, never()).tryConsume(anyLong());
+        // When
+        mockMvc.perform(get("/test/exceeded"))
+                .andExpect(status().isTooManyRequests());
+
+        // Then
+        RateLimitExceededException exception = TestGlobalExceptionHandler.lastRejection;
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getAvailableTokens()).isEqualTo(2);
+        assertThat(exception.getWaitTime()).isEqualTo(Duration.ofMillis(1500));
+        verify(mockRateLimiter, never()).getAvailableTokens();
     }
 
     @Test
-    @DisplayName("cost가 음수일 때 400 Bad Request를 반환해야 한다")
-    void whenCostIsNegative_thenReturns400() throws Exception {
-        mockMvc.perform(get("/test/invalid-cost-negative"))
-                .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.message").value("Bad Request"))
-                .andExpect(jsonPath("$.details").value("RateLimit 'cost' must be a positive number."));
+    @DisplayName("fallbackMethod가 지정되면 거부 시 예외 대신 폴백 결과를 반환해야 한다")
+    void whenFallbackMethod_thenReturnsFallbackResult() throws Exception {
+        // Given
+        when(mockRateLimiter.tryConsumeDecision(anyLong())).thenReturn(ConsumeDecision.rejected(0, 1_000_000));
+        when(mockRateLimiter.tryConsumeDecision(anyString(), anyLong())).thenReturn(ConsumeDecision.rejected(0, 1_000_000));
 
-        verify(mockRateLimiter, never()).tryConsume(anyLong());
+        // When & Then
+        mockMvc.perform(get("/test/fallback").param("userId", "user-1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("fallback:user-1"));
+        mockMvc.perform(get("/test/fallback-with-exception"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Rate limit exceeded for 'fallback-limiter'"));
+    }
+
+    @Test
+    @DisplayName("cost가 0 이하이면 애플리케이션 시작이 실패해야 한다")
+    void whenCostIsNotPositive_thenStartupFails() {
+        assertStartupFails(InvalidCostService.class, "RateLimit 'cost' must be a positive number.");
+    }
+
+    @Test
+    @DisplayName("key와 keyResolver를 함께 지정하면 애플리케이션 시작이 실패해야 한다")
+    void whenKeyAndKeyResolverBothSet_thenStartupFails() {
+        assertStartupFails(InvalidKeyService.class, "RateLimit 'key' and 'keyResolver' cannot be used together.");
+    }
+
+    @Test
+    @DisplayName("시그니처가 맞지 않는 fallbackMethod가 있으면 애플리케이션 시작이 실패해야 한다")
+    void whenFallbackSignatureMismatch_thenStartupFails() {
+        assertStartupFails(InvalidFallbackService.class, "invalidFallback");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 limiterName이 있으면 애플리케이션 시작이 실패해야 한다")
+    void whenLimiterNameUnknown_thenStartupFails() {
+        assertStartupFails(UnknownLimiterService.class, "RateLimiter named 'unknown-limiter' is not configured.");
+    }
+
+    @Test
+    @DisplayName("잘못된 설정이 여러 개면 모두 모아서 보고해야 한다")
+    void whenSeveralInvalid_thenAllReported() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(StartupConfig.class, InvalidCostService.class, UnknownLimiterService.class)
+                .run(context -> assertThat(context).getFailure()
+                        .isInstanceOf(BeanInitializationException.class)
+                        .hasMessageContaining("invalidCost")
+                        .hasMessageContaining("unknown-limiter"));
+    }
+
+    private static void assertStartupFails(Class<?> serviceClass, String expectedMessage) {
+        new ApplicationContextRunner()
+                .withUserConfiguration(StartupConfig.class, serviceClass)
+                .run(context -> assertThat(context).getFailure()
+                        .isInstanceOf(BeanInitializationException.class)
+                        .hasMessageContaining(expectedMessage));
     }
 
     // --- 테스트를 위한 내부 설정 및 컨트롤러 ---
 
     @Configuration
     static class TestConfig {
+        @Bean
+        public RateLimiterRegistry rateLimiterRegistry() {
+            // 어드바이스가 시작 시점에 조회하므로 빈 생성 시점에 미리 응답을 정해 둠
+            RateLimiterRegistry registry = mock(RateLimiterRegistry.class);
+            when(registry.findRateLimiter(anyString())).thenReturn(Optional.of(mockRateLimiter));
+            return registry;
+        }
+
+        @Bean
+        public RateLimiterAspect rateLimiterAspect(RateLimiterRegistry registry) {
+            return new RateLimiterAspect(registry);
+        }
+
         @Bean
         public TestController testController() {
             return new TestController();
         }
 
+        @Bean
+        public KeyResolver methodNameKeyResolver() {
+            return (method, target, args) -> "resolved:" + method.getName();
+        }
+
         @Bean
         public TestGlobalExceptionHandler testGlobalExceptionHandler() {
             return new TestGlobalExceptionHandler();
@@ -135,37 +271,87 @@ class RateLimiterAspectTest {
         @RateLimit(limiterName = "fail-limiter", cost = 3)
         public String exceeded() { return "Should not be reached"; }
 
-        @GetMapping("/test/invalid-cost-zero")
-        @RateLimit(limiterName = "invalid-limiter", cost = 0)
-        public String invalidCostZero() { return "Should not be reached"; }
+        @GetMapping("/test/cached")
+        @RateLimit(limiterName = "cached-limiter", cost = 2)
+        public String cached() { return "OK"; }
+
+        @GetMapping("/test/keyed")
+        @RateLimit(limiterName = "keyed-limiter", key = "#userId")
+        public String keyed(@RequestParam("userId") String userId) { return "OK"; }
 
-        @GetMapping("/test/invalid-cost-negative")
-        @RateLimit(limiterName = "invalid-limiter", cost = -1)
-        public String invalidCostNegative() { return "Should not be reached"; }
+        @GetMapping("/test/resolver")
+        @RateLimit(limiterName = "resolver-limiter", cost = 2, keyResolver = "methodNameKeyResolver")
+        public String resolver() { return "OK"; }
+
+        @GetMapping("/test/fallback")
+        @RateLimit(limiterName = "fallback-limiter", key = "#userId", fallbackMethod = "busy")
+        public String fallback(@RequestParam("userId") String userId) { return "Should not be reached"; }
+
+        public String busy(String userId) { return "fallback:" + userId; }
+
+        @GetMapping("/test/fallback-with-exception")
+        @RateLimit(limiterName = "fallback-limiter", fallbackMethod = "busyWithException")
+        public String fallbackWithException() { return "Should not be reached"; }
+
+        public String busyWithException(RateLimitExceededException e) { return e.getMessage(); }
+    }
+
+    // --- 시작 실패 검증용 설정 (@WebMvcTest가 중첩 설정으로 읽지 않도록 @Configuration 없이 둠) ---
+
+    static class StartupConfig {
+        @Bean
+        public RateLimiterRegistry rateLimiterRegistry() {
+            RateLimiterRegistry registry = mock(RateLimiterRegistry.class);
+            when(registry.findRateLimiter(anyString())).thenReturn(Optional.empty());
+            when(registry.findRateLimiter("known-limiter")).thenReturn(Optional.of(mock(RateLimiter.class)));
+            return registry;
+        }
+
+        @Bean
+        public RateLimiterAspect rateLimiterAspect(RateLimiterRegistry registry) {
+            return new RateLimiterAspect(registry);
+        }
+
+        @Bean
+        public KeyResolver methodNameKeyResolver() {
+            return (method, target, args) -> "resolved:" + method.getName();
+        }
+    }
+
+    static class InvalidCostService {
+        @RateLimit(limiterName = "known-limiter", cost = 0)
+        public String invalidCost() { return "Should not be reached"; }
+    }
+
+    static class InvalidKeyService {
+        @RateLimit(limiterName = "known-limiter", key = "#p0", keyResolver = "methodNameKeyResolver")
+        public String invalidKey(String userId) { return "Should not be reached"; }
+    }
+
+    static class InvalidFallbackService {
+        @RateLimit(limiterName = "known-limiter", fallbackMethod = "busy")
+        public String invalidFallback() { return "Should not be reached"; }
+
+        public String busy(String userId) { return "fallback:" + userId; }
+    }
+
+    static class UnknownLimiterService {
+        @RateLimit(limiterName = "unknown-limiter")
+        public String unknown() { return "Should not be reached"; }
     }
 
     @RestControllerAdvice
     static class TestGlobalExceptionHandler {
+        static volatile RateLimitExceededException lastRejection;
+
         @ExceptionHandler(RateLimitExceededException.class)
         public ResponseEntity<Map<String, String>> handleRateLimitExceeded(RateLimitExceededException ex) {
+            lastRejection = ex;
             Map<String, String> body = Map.of(
                     "message", "Too Many Requests",
                     "details", ex.getMessage()
             );
             return new ResponseEntity<>(body, HttpStatus.TOO_MANY_REQUESTS);
         }
-
-        /**
-         * 잘못된 인자 값(예: cost <= 0)에 대한 예외를 처리합니다.
-         * 400 Bad Request를 반환합니다.
-         */
-        @ExceptionHandler(IllegalArgumentException.class)
-        public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException ex) {
-            Map<String, String> body = Map.of(
-                    "message", "Bad Request",
-                    "details", ex.getMessage()
-            );
-            return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
-        }
     }
 }
\ No newline at end of file
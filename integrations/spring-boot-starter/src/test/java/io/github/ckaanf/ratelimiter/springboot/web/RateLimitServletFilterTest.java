@@ -0,0 +1,142 @@
+package io.github.ckaanf.ratelimiter.springboot.web;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketProvider;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageProvider;
+import io.github.ckaanf.ratelimiter.springboot.autoconfigure.RateLimiterAutoConfiguration;
+import io.github.ckaanf.ratelimiter.springboot.autoconfigure.RateLimiterFilterAutoConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitServletFilterTest {
+
+    private RateLimitServletFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimiterRegistry registry = RateLimiterRegistry.createForTesting();
+        registry.registerAlgorithmProvider(new TokenBucketProvider());
+        registry.registerStorageProvider(new MemoryStorageProvider());
+        registry.getRateLimiter(new RateLimiterConfig(
+                "api", TokenBucketAlgorithmConfig.perSecond(1, 2), new MemoryStorageConfig()));
+
+        RateLimitRouteMatcher matcher = new RateLimitRouteMatcher(List.of(
+                RateLimitRoute.of("/api/**", "api", 1)));
+        filter = new RateLimitServletFilter(registry, matcher);
+    }
+
+    @Test
+    @DisplayName("허용된 요청은 다음 필터로 전달되고 RateLimit 헤더가 기록되어야 한다")
+    void whenAllowed_thenProceedsWithHeaders() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/orders"), response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(RateLimitHeaders.LIMIT)).isEqualTo("2");
+        assertThat(response.getHeader(RateLimitHeaders.REMAINING)).isEqualTo("1");
+        assertThat(response.getHeader(RateLimitHeaders.RESET)).isEqualTo("1");
+        assertThat(response.getHeader(RateLimitHeaders.RETRY_AFTER)).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰이 고갈되면 디스패치 없이 429와 Retry-After를 반환해야 한다")
+    void whenExhausted_thenRejectsWith429() throws Exception {
+        // Given
+        for (int i = 0; i < 2; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/orders"),
+                    new MockHttpServletResponse(), new MockFilterChain());
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/orders"), response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(RateLimitHeaders.REMAINING)).isEqualTo("0");
+        assertThat(response.getHeader(RateLimitHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("라우트에 해당하지 않는 경로는 제한 없이 통과해야 한다")
+    void whenNoRouteMatches_thenPassesThrough() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/health"), response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getHeader(RateLimitHeaders.REMAINING)).isNull();
+    }
+
+    @Test
+    @DisplayName("컨텍스트 경로를 뺀 디코딩된 경로로 라우트를 매칭해야 한다")
+    void whenPathIsEncoded_thenMatchesDecodedPathWithinApplication() throws Exception {
+        // Given - 컨테이너가 디코딩된 컨텍스트 경로를 돌려주고, 요청 URI는 인코딩되어 있음
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/my%20app/ap%69/orders;jsessionid=1");
+        request.setContextPath("/my app");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getHeader(RateLimitHeaders.REMAINING)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 Rate Limiter를 참조하는 라우트는 시작 시점에 거부되어야 한다")
+    void whenRouteLimiterUnknown_thenFailsAtStartup() {
+        // Given
+        ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(
+                        RateLimiterAutoConfiguration.class, RateLimiterFilterAutoConfiguration.class))
+                .withPropertyValues(
+                        "rate-limiter.limiters.api.capacity=10",
+                        "rate-limiter.filter.enabled=true",
+                        "rate-limiter.filter.routes[0].pattern=/api/**",
+                        "rate-limiter.filter.routes[0].limiter-name=api",
+                        "rate-limiter.filter.routes[1].pattern=/admin/**",
+                        "rate-limiter.filter.routes[1].limiter-name=admn");
+
+        // When & Then
+        contextRunner.run(context -> assertThat(context).hasFailed()
+                .getFailure().isInstanceOf(IllegalStateException.class).hasMessageContaining("/admin/** -> admn")
+                .hasMessageNotContaining("/api/**"));
+        contextRunner.withPropertyValues("rate-limiter.filter.routes[1].limiter-name=api")
+                .run(context -> assertThat(context).hasNotFailed());
+    }
+
+    @Test
+    @DisplayName("cost가 0 이하인 라우트는 생성 시점에 거부되어야 한다")
+    void whenRouteCostNotPositive_thenThrows() {
+        assertThatThrownBy(() -> RateLimitRoute.of("/api/**", "api", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.ckaanf.ratelimiter.springboot.web;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketProvider;
+import io.github.ckaanf.ratelimiter.core.AsyncRateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.StorageConfig;
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+import io.github.ckaanf.ratelimiter.core.StorageProvider;
+import io.github.ckaanf.ratelimiter.core.StorageResult;
+import io.github.ckaanf.ratelimiter.inmemory.InMemoryRateLimiterStorage;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitWebFilterTest {
+
+    private RateLimitWebFilter filter;
+    private AtomicInteger dispatched;
+    private WebFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        RateLimiterRegistry registry = RateLimiterRegistry.createForTesting();
+        registry.registerAlgorithmProvider(new TokenBucketProvider());
+        registry.registerStorageProvider(new MemoryStorageProvider());
+        registry.getRateLimiter(new RateLimiterConfig(
+                "api", TokenBucketAlgorithmConfig.perSecond(1, 1), new MemoryStorageConfig()));
+
+        RateLimitRouteMatcher matcher = new RateLimitRouteMatcher(List.of(
+                RateLimitRoute.of("/api/**", "api", 1)));
+        filter = new RateLimitWebFilter(registry, matcher, Ordered.HIGHEST_PRECEDENCE);
+
+        dispatched = new AtomicInteger();
+        chain = exchange -> {
+            dispatched.incrementAndGet();
+            return Mono.empty();
+        };
+    }
+
+    @Test
+    @DisplayName("허용된 요청은 체인으로 전달되고 초과 요청은 429로 종료되어야 한다")
+    void whenExhausted_thenRejectsWith429() {
+        // Given
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders"));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders"));
+
+        // When
+        filter.filter(first, chain).block();
+        filter.filter(second, chain).block();
+
+        // Then
+        assertThat(dispatched).hasValue(1);
+        assertThat(first.getResponse().getHeaders().getFirst(RateLimitHeaders.REMAINING)).isEqualTo("0");
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(second.getResponse().getHeaders().getFirst(RateLimitHeaders.LIMIT)).isEqualTo("1");
+        assertThat(second.getResponse().getHeaders().getFirst(RateLimitHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("라우트에 해당하지 않는 경로는 제한 없이 통과해야 한다")
+    void whenNoRouteMatches_thenPassesThrough() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/health"));
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertThat(dispatched).hasValue(1);
+        assertThat(exchange.getResponse().getHeaders().containsKey(RateLimitHeaders.REMAINING)).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장소 응답이 나중에 완료되어도 호출 스레드를 막지 않고 완료 후 판정해야 한다")
+    void whenStorageCompletesLater_thenDoesNotBlock() {
+        // Given - 판정을 테스트가 직접 완료하는 비동기 저장소
+        DeferredStorage storage = new DeferredStorage();
+        RateLimiterRegistry registry = RateLimiterRegistry.createForTesting();
+        registry.registerAlgorithmProvider(new TokenBucketProvider());
+        registry.registerStorageProvider(new StorageProvider() {
+            @Override
+            public String getStorageType() { return "memory"; }
+
+            @Override
+            public RateLimiterStorage create(StorageConfig config) { return storage; }
+
+            @Override
+            public boolean supports(StorageConfig config) { return true; }
+        });
+        registry.getRateLimiter(new RateLimiterConfig(
+                "remote", TokenBucketAlgorithmConfig.perSecond(1, 1), new MemoryStorageConfig()));
+        RateLimitWebFilter remoteFilter = new RateLimitWebFilter(registry,
+                new RateLimitRouteMatcher(List.of(RateLimitRoute.of("/api/**", "remote", 1))),
+                Ordered.HIGHEST_PRECEDENCE);
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders"));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders"));
+
+        // When - 구독해도 저장소 응답 전에는 판정이 진행되지 않음
+        CompletableFuture<Void> allowed = remoteFilter.filter(first, chain).toFuture();
+        boolean allowedDoneEarly = allowed.isDone();
+        storage.completePending();
+        allowed.join();
+
+        CompletableFuture<Void> rejected = remoteFilter.filter(second, chain).toFuture();
+        boolean rejectedDoneEarly = rejected.isDone();
+        storage.completePending();
+        rejected.join();
+
+        // Then
+        assertThat(allowedDoneEarly).isFalse();
+        assertThat(rejectedDoneEarly).isFalse();
+        assertThat(dispatched).hasValue(1);
+        assertThat(first.getResponse().getHeaders().getFirst(RateLimitHeaders.REMAINING)).isEqualTo("0");
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(second.getResponse().getHeaders().getFirst(RateLimitHeaders.RETRY_AFTER)).isEqualTo("1");
+        registry.close();
+    }
+
+    /**
+     * 동기 판정은 실패시키고, 비동기 판정은 completePending 호출 시 완료하는 저장소
+     */
+    private static class DeferredStorage implements AsyncRateLimiterStorage {
+        private final InMemoryRateLimiterStorage delegate = new InMemoryRateLimiterStorage(new MemoryStorageConfig());
+        private volatile StorageContext pendingContext;
+        private volatile CompletableFuture<StorageResult> pending;
+
+        @Override
+        public CompletionStage<StorageResult> tryConsumeAsync(StorageContext context) {
+            pendingContext = context;
+            pending = new CompletableFuture<>();
+            return pending;
+        }
+
+        void completePending() {
+            pending.complete(delegate.tryConsume(pendingContext));
+        }
+
+        @Override
+        public StorageResult tryConsume(StorageContext context) {
+            throw new AssertionError("Blocking call on the reactive path");
+        }
+
+        @Override
+        public String getType() { return "memory"; }
+
+        @Override
+        public StorageResult getTokenState(StorageContext context) { return delegate.getTokenState(context); }
+
+        @Override
+        public void initialize(RateLimiterConfig config) {}
+
+        @Override
+        public void cleanup() {}
+
+        @Override
+        public void shutdown() { delegate.shutdown(); }
+    }
+}
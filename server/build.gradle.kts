@@ -0,0 +1,10 @@
+dependencies {
+    api(project(":core"))
+    api(project(":algorithms:token-bucket"))
+    implementation(project(":storage:inmemory"))
+
+    testImplementation(platform("org.junit:junit-bom:5.9.2"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testImplementation("org.assertj:assertj-core:3.24.2")
+}
+
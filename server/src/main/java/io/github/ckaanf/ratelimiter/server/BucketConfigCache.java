@@ -0,0 +1,52 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.StorageConfig;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청에 담긴 버킷 설정을 설정 객체 하나로 공유
+ *
+ * <p>저장소는 설정 객체가 바뀌면 버킷을 새 설정으로 옮기므로, 같은 파라미터에는 항상 같은 인스턴스를 넘겨야
+ * 요청마다 옮기는 비용이 생기지 않습니다. 클라이언트가 보낸 값으로 채워지므로 종류 수를 제한합니다.
+ */
+final class BucketConfigCache {
+
+    static final int MAX_CONFIGS = 10_000;
+
+    private final RateLimiterStorage storage;
+    private final StorageConfig storageConfig;
+    private final ConcurrentHashMap<BucketSpec, RateLimiterConfig> configs = new ConcurrentHashMap<>();
+
+    BucketConfigCache(RateLimiterStorage storage, StorageConfig storageConfig) {
+        this.storage = storage;
+        this.storageConfig = storageConfig;
+    }
+
+    RateLimiterConfig get(long capacity, long refillTokens, long refillPeriodNanos, long initialTokens) {
+        BucketSpec spec = new BucketSpec(capacity, refillTokens, refillPeriodNanos, initialTokens);
+        RateLimiterConfig config = configs.get(spec);
+        if (config != null) {
+            return config;
+        }
+        if (configs.size() >= MAX_CONFIGS) {
+            throw new IllegalArgumentException("Too many distinct bucket configs (max " + MAX_CONFIGS + ")");
+        }
+        return configs.computeIfAbsent(spec, this::create);
+    }
+
+    private RateLimiterConfig create(BucketSpec spec) {
+        TokenBucketAlgorithmConfig algorithmConfig = new TokenBucketAlgorithmConfig(spec.capacity(),
+                spec.refillTokens(), Duration.ofNanos(spec.refillPeriodNanos()), spec.initialTokens());
+        RateLimiterConfig config = new RateLimiterConfig("remote", algorithmConfig, storageConfig);
+        storage.initialize(config);
+        return config;
+    }
+
+    private record BucketSpec(long capacity, long refillTokens, long refillPeriodNanos, long initialTokens) {
+    }
+}
@@ -0,0 +1,223 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+import io.github.ckaanf.ratelimiter.core.StorageResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.ckaanf.ratelimiter.server.RateLimitProtocol.*;
+
+/**
+ * 판정 서버와의 연결 하나
+ *
+ * <p>여러 스레드가 응답을 기다리지 않고 요청을 이어서 쓰고(파이프라이닝),
+ * 전용 읽기 스레드가 응답을 요청 ID로 찾아 future를 완료합니다.
+ * 연결이 끊기면 대기 중인 모든 요청을 실패로 완료합니다.
+ */
+final class ClientConnection {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final SocketChannel channel;
+    private final Map<Integer, Pending> pending = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final Thread reader;
+    private volatile boolean open = true;
+
+    private ClientConnection(SocketChannel channel, String name) {
+        this.channel = channel;
+        this.reader = new Thread(this::readLoop, "rate-limit-client-" + name);
+        this.reader.setDaemon(true);
+    }
+
+    static ClientConnection open(InetSocketAddress address, Duration connectTimeout) {
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Socket socket = channel.socket();
+            socket.connect(address, (int) connectTimeout.toMillis());
+
+            ClientConnection connection = new ClientConnection(channel, address.getHostString() + ":" + address.getPort());
+            connection.reader.start();
+            return connection;
+        } catch (IOException e) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // 연결 실패 정리 중 오류는 무시
+                }
+            }
+            throw new UncheckedIOException("Failed to connect to rate limit server " + address, e);
+        }
+    }
+
+    boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * 요청 전송 (응답은 반환된 future로 전달)
+     */
+    CompletableFuture<List<StorageResult>> send(int requestId, byte command, List<StorageContext> contexts) {
+        Pending request = new Pending(command, contexts);
+        ByteBuffer frame;
+        try {
+            frame = encodeRequest(requestId, command, contexts);
+        } catch (RuntimeException e) {
+            request.future.completeExceptionally(e);
+            return request.future;
+        }
+
+        pending.put(requestId, request);
+        request.future.whenComplete((result, error) -> pending.remove(requestId, request));
+        if (!open) {
+            request.future.completeExceptionally(new IllegalStateException("Connection to rate limit server is closed"));
+            return request.future;
+        }
+
+        try {
+            synchronized (writeLock) {
+                while (frame.hasRemaining()) {
+                    channel.write(frame);
+                }
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+        return request.future;
+    }
+
+    void close() {
+        fail(new IllegalStateException("Connection to rate limit server is closed"));
+    }
+
+    // === 내부 메소드들 ===
+
+    private void readLoop() {
+        ByteBuffer in = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        try {
+            while (open) {
+                if (channel.read(in) < 0) {
+                    throw new IOException("Rate limit server closed the connection");
+                }
+
+                in.flip();
+                while (in.remaining() >= LENGTH_SIZE) {
+                    int length = in.getInt(in.position());
+                    if (length < HEADER_SIZE || length > MAX_FRAME_SIZE) {
+                        throw new IOException("Invalid frame length: " + length);
+                    }
+                    if (in.remaining() < LENGTH_SIZE + length) {
+                        break;
+                    }
+                    int frameEnd = in.position() + LENGTH_SIZE + length;
+                    in.position(in.position() + LENGTH_SIZE);
+                    complete(in);
+                    in.position(frameEnd);
+                }
+                in.compact();
+
+                if (in.position() >= LENGTH_SIZE) {
+                    int needed = LENGTH_SIZE + in.getInt(0);
+                    if (needed > in.capacity() && needed <= LENGTH_SIZE + MAX_FRAME_SIZE) {
+                        ByteBuffer grown = ByteBuffer.allocate(needed);
+                        in.flip();
+                        grown.put(in);
+                        in = grown;
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    private void complete(ByteBuffer in) {
+        int requestId = in.getInt();
+        byte status = in.get();
+        int count = Short.toUnsignedInt(in.getShort());
+
+        Pending request = pending.remove(requestId);
+        if (status == STATUS_ERROR) {
+            String message = readString(in, Short.toUnsignedInt(in.getShort()));
+            if (request != null) {
+                request.future.completeExceptionally(new IllegalStateException("Rate limit server error: " + message));
+            }
+            return;
+        }
+        if (request == null) {
+            return; // 타임아웃으로 이미 포기한 요청
+        }
+
+        List<StorageResult> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(toResult(request, i, in.get(), in.getLong(), in.getLong()));
+        }
+        request.future.complete(results);
+    }
+
+    private static StorageResult toResult(Pending request, int index, byte verdict, long available, long nanos) {
+        long tokens = request.contexts.get(index).getTokens();
+        switch (request.command) {
+            case QUERY:
+                Instant nextRefill = nanos == 0 ? null
+                        : Instant.ofEpochSecond(nanos / 1_000_000, (nanos % 1_000_000) * 1_000);
+                return StorageResult.query(available, nextRefill);
+            case ADJUST:
+                return StorageResult.adjusted(available, tokens);
+            default:
+                if (verdict == ALLOWED) {
+                    return StorageResult.success(available, tokens);
+                }
+                if (verdict == ABORTED) {
+                    return StorageResult.aborted(available);
+                }
+                return StorageResult.failure(available, Duration.ofNanos(nanos));
+        }
+    }
+
+    private void fail(Throwable cause) {
+        open = false;
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 이미 닫힌 채널
+        }
+
+        RuntimeException failure = cause instanceof RuntimeException runtime ? runtime
+                : new UncheckedIOException("Connection to rate limit server failed", (IOException) cause);
+        Iterator<Pending> iterator = pending.values().iterator();
+        while (iterator.hasNext()) {
+            Pending request = iterator.next();
+            iterator.remove();
+            request.future.completeExceptionally(failure);
+        }
+    }
+
+    private static final class Pending {
+        private final byte command;
+        private final List<StorageContext> contexts;
+        private final CompletableFuture<List<StorageResult>> future = new CompletableFuture<>();
+
+        Pending(byte command, List<StorageContext> contexts) {
+            this.command = command;
+            this.contexts = contexts;
+        }
+    }
+}
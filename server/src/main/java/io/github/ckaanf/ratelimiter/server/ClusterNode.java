@@ -0,0 +1,61 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import java.net.InetSocketAddress;
+import java.util.Objects;
+
+/**
+ * 클러스터 멤버 하나
+ * 키 소유권은 ID로만 결정되므로 주소가 바뀌어도 소유 범위는 유지됨
+ */
+public final class ClusterNode {
+
+    private final String id;
+    private final String host;
+    private final int port;
+
+    public ClusterNode(String id, String host, int port) {
+        this.id = Objects.requireNonNull(id, "Node id cannot be null");
+        this.host = Objects.requireNonNull(host, "Host cannot be null");
+        this.port = port;
+        if (id.isBlank()) {
+            throw new IllegalArgumentException("Node id cannot be blank");
+        }
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Port must be between 0 and 65535: " + port);
+        }
+    }
+
+    public static ClusterNode of(String id, String host, int port) {
+        return new ClusterNode(id, host, port);
+    }
+
+    public ClusterNode withPort(int port) {
+        return new ClusterNode(id, host, port);
+    }
+
+    public InetSocketAddress toAddress() {
+        return new InetSocketAddress(host, port);
+    }
+
+    public String getId() { return id; }
+    public String getHost() { return host; }
+    public int getPort() { return port; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ClusterNode)) return false;
+        ClusterNode that = (ClusterNode) o;
+        return port == that.port && id.equals(that.id) && host.equals(that.host);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, host, port);
+    }
+
+    @Override
+    public String toString() {
+        return id + "@" + host + ":" + port;
+    }
+}
@@ -0,0 +1,314 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import io.github.ckaanf.ratelimiter.core.AsyncRateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+import io.github.ckaanf.ratelimiter.core.StorageResult;
+import io.github.ckaanf.ratelimiter.inmemory.InMemoryRateLimiterStorage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 없이 노드들이 키를 나눠 갖는 클러스터 저장소
+ *
+ * <p>각 노드는 {@link ConsistentHashRing}으로 정해지는 자기 소유 키의 버킷만 메모리에 두고,
+ * 다른 노드 소유 키의 요청은 소유 노드의 {@link RateLimitServer}로 전달합니다. 키마다 판정하는 노드가 하나이므로
+ * 한도는 클러스터 전체에 대해 적용되고, 버킷 메모리는 노드 수만큼 나뉩니다.
+ *
+ * <p>노드 간 전달은 노드 쌍마다 파이프라이닝되는 연결 하나({@link RemoteRateLimiterStorage})를 공유합니다.
+ * {@link #updateMembers(List)}로 멤버가 바뀌면 소유자가 바뀐 구간의 버킷만 새 소유 노드로 넘깁니다.
+ * 더 이상 쓰지 않는 연결은 이전 멤버 구성으로 보낸 요청이 끝나도록 요청 타임아웃만큼 기다린 뒤 닫습니다.
+ */
+public class ClusterRateLimiterStorage implements AsyncRateLimiterStorage {
+
+    private final ClusterStorageConfig config;
+    private final String localNodeId;
+    private final InMemoryRateLimiterStorage local;
+    private final RateLimitServer server;
+    private final ScheduledExecutorService retireExecutor;
+    // 닫기를 기다리는 이전 연결 (종료 시 바로 닫음)
+    private final Set<RemoteRateLimiterStorage> retiringPeers = ConcurrentHashMap.newKeySet();
+    private volatile Membership membership;
+
+    public ClusterRateLimiterStorage(ClusterStorageConfig config) {
+        this.config = config;
+        this.localNodeId = config.getLocalNodeId();
+        this.local = new InMemoryRateLimiterStorage(config.getLocalStorage());
+
+        ClusterNode localNode = config.getLocalNode();
+        this.server = new RateLimitServer(local, config.getLocalStorage(), localNode.toAddress(), config.getIoThreads());
+        try {
+            server.start();
+        } catch (IOException e) {
+            local.shutdown();
+            throw new UncheckedIOException("Failed to start cluster node " + localNode, e);
+        }
+        this.retireExecutor = createRetireExecutor();
+        this.membership = createMembership(config.getMembers(), Map.of());
+    }
+
+    @Override
+    public String getType() {
+        return "cluster";
+    }
+
+    @Override
+    public StorageResult tryConsume(StorageContext context) {
+        return route(context.getKey()).tryConsume(context);
+    }
+
+    @Override
+    public long tryConsumeDecision(StorageContext context) {
+        return route(context.getKey()).tryConsumeDecision(context);
+    }
+
+    @Override
+    public CompletionStage<StorageResult> tryConsumeAsync(StorageContext context) {
+        RateLimiterStorage owner = route(context.getKey());
+        if (owner instanceof RemoteRateLimiterStorage remote) {
+            return remote.tryConsumeAsync(context);
+        }
+        return CompletableFuture.completedFuture(owner.tryConsume(context));
+    }
+
+    /**
+     * 소유 노드별로 묶어 노드마다 한 번씩 호출
+     *
+     * <p>all-or-nothing 모드는 모든 키가 한 노드 소유일 때만 그 노드에서 원자적으로 처리하고,
+     * 여러 노드에 걸치면 순서대로 소비한 뒤 실패 시 되돌리는 기본 구현을 따릅니다.
+     */
+    @Override
+    public List<StorageResult> tryConsumeAll(List<StorageContext> contexts, boolean allOrNothing) {
+        Membership current = membership;
+        Map<RateLimiterStorage, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < contexts.size(); i++) {
+            groups.computeIfAbsent(current.route(contexts.get(i).getKey()), owner -> new ArrayList<>()).add(i);
+        }
+
+        if (groups.size() == 1) {
+            return groups.keySet().iterator().next().tryConsumeAll(contexts, allOrNothing);
+        }
+        if (allOrNothing) {
+            return AsyncRateLimiterStorage.super.tryConsumeAll(contexts, true);
+        }
+
+        StorageResult[] results = new StorageResult[contexts.size()];
+        groups.forEach((owner, indexes) -> {
+            List<StorageContext> group = new ArrayList<>(indexes.size());
+            for (int index : indexes) {
+                group.add(contexts.get(index));
+            }
+            List<StorageResult> groupResults = owner.tryConsumeAll(group, false);
+            for (int i = 0; i < indexes.size(); i++) {
+                results[indexes.get(i)] = groupResults.get(i);
+            }
+        });
+        return List.of(results);
+    }
+
+    @Override
+    public StorageResult adjust(StorageContext context) {
+        return route(context.getKey()).adjust(context);
+    }
+
+    @Override
+    public boolean supportsAdjust() {
+        return true;
+    }
+
+    @Override
+    public StorageResult getTokenState(StorageContext context) {
+        return route(context.getKey()).getTokenState(context);
+    }
+
+    /**
+     * 멤버 변경
+     *
+     * <p>새 링에서 다른 노드 소유가 된 로컬 버킷을 제거하고, 남은 토큰 상태를 새 소유 노드에 조정으로 반영합니다.
+     * 소유자가 바뀌지 않은 키는 그대로 유지됩니다. 모든 노드에 같은 멤버 목록을 적용해야 합니다.
+     *
+     * @param members 새 멤버 목록 (로컬 노드 포함)
+     * @return 다른 노드로 넘긴 버킷 수
+     */
+    public synchronized int updateMembers(List<ClusterNode> members) {
+        if (members.stream().noneMatch(member -> member.getId().equals(localNodeId))) {
+            throw new IllegalArgumentException("Local node is not a cluster member: " + localNodeId);
+        }
+        return applyMembers(members);
+    }
+
+    /**
+     * 클러스터에서 빠짐
+     * 보관 중인 모든 버킷을 남은 멤버에 넘기고, 이후 요청은 남은 멤버로 전달
+     *
+     * @return 다른 노드로 넘긴 버킷 수
+     */
+    public synchronized int leave() {
+        List<ClusterNode> remaining = membership.members.stream()
+                .filter(member -> !member.getId().equals(localNodeId))
+                .toList();
+        if (remaining.isEmpty()) {
+            throw new IllegalStateException("Cannot leave a single-node cluster");
+        }
+        return applyMembers(remaining);
+    }
+
+    /**
+     * 키를 소유한 노드
+     */
+    public ClusterNode ownerOf(String key) {
+        return membership.ring.ownerOf(key);
+    }
+
+    /**
+     * 실제 바인드된 주소를 반영한 로컬 노드
+     */
+    public ClusterNode getLocalNode() {
+        return config.getLocalNode().withPort(server.getPort());
+    }
+
+    @Override
+    public void initialize(RateLimiterConfig config) {
+        local.initialize(config);
+    }
+
+    @Override
+    public void cleanup() {
+        local.cleanup();
+    }
+
+    /**
+     * 이 노드가 보관 중인 버킷 수 (클러스터 전체가 아님)
+     */
+    @Override
+    public long getBucketCount() {
+        return local.getBucketCount();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return local.getEvictionCount();
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        server.close();
+        retireExecutor.shutdownNow();
+        retiringPeers.forEach(RemoteRateLimiterStorage::shutdown);
+        retiringPeers.clear();
+        membership.peers.values().forEach(RemoteRateLimiterStorage::shutdown);
+        local.shutdown();
+    }
+
+    public ClusterStorageConfig getConfig() {
+        return config;
+    }
+
+    // === 내부 메소드들 ===
+
+    private RateLimiterStorage route(String key) {
+        return membership.route(key);
+    }
+
+    private int applyMembers(List<ClusterNode> members) {
+        Membership previous = membership;
+        Membership next = createMembership(members, previous.peers);
+        membership = next;
+        previous.peers.forEach((id, peer) -> {
+            if (next.peers.get(id) != peer) {
+                retire(peer);
+            }
+        });
+
+        return local.drainBuckets(key -> next.route(key) != local, (key, bucket, available) -> {
+            // 새 소유 노드에 초기 상태 대비 차이만큼 조정 (이미 버킷이 있으면 근사치)
+            long delta = bucket.getInitialTokens() - available;
+            if (delta == 0) {
+                return;
+            }
+            RateLimiterConfig handoff = new RateLimiterConfig("cluster-handoff", bucket, config);
+            try {
+                next.route(key).adjust(StorageContext.forAdjust(key, delta, handoff));
+            } catch (RuntimeException e) {
+                System.err.println("Failed to hand off bucket " + key + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 이전 멤버 구성에서 쓰던 연결을 진행 중인 요청이 끝날 시간(요청 타임아웃)이 지난 뒤 닫음
+     */
+    private void retire(RemoteRateLimiterStorage peer) {
+        if (retireExecutor.isShutdown()) {
+            peer.shutdown();
+            return;
+        }
+        retiringPeers.add(peer);
+        retireExecutor.schedule(() -> {
+            if (retiringPeers.remove(peer)) {
+                peer.shutdown();
+            }
+        }, config.getRequestTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private ScheduledExecutorService createRetireExecutor() {
+        return Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cluster-peer-retire");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 링과 다른 노드 연결 구성 (주소가 같은 기존 연결은 재사용)
+     */
+    private Membership createMembership(List<ClusterNode> members, Map<String, RemoteRateLimiterStorage> existing) {
+        ConsistentHashRing ring = new ConsistentHashRing(members, config.getVirtualNodes());
+        Map<String, RemoteRateLimiterStorage> peers = new HashMap<>();
+        for (ClusterNode member : members) {
+            if (member.getId().equals(localNodeId)) {
+                continue;
+            }
+            RemoteRateLimiterStorage peer = existing.get(member.getId());
+            RemoteStorageConfig peerConfig = peer != null ? peer.getConfig() : null;
+            if (peerConfig == null || !peerConfig.getHost().equals(member.getHost())
+                    || peerConfig.getPort() != member.getPort()) {
+                peer = new RemoteRateLimiterStorage(new RemoteStorageConfig(member.getHost(), member.getPort(),
+                        config.getConnectTimeout(), config.getRequestTimeout()));
+            }
+            peers.put(member.getId(), peer);
+        }
+        return new Membership(List.copyOf(members), ring, peers);
+    }
+
+    private final class Membership {
+        private final List<ClusterNode> members;
+        private final ConsistentHashRing ring;
+        private final Map<String, RemoteRateLimiterStorage> peers;
+
+        Membership(List<ClusterNode> members, ConsistentHashRing ring, Map<String, RemoteRateLimiterStorage> peers) {
+            this.members = members;
+            this.ring = ring;
+            this.peers = peers;
+        }
+
+        RateLimiterStorage route(String key) {
+            String owner = ring.ownerOf(key).getId();
+            return owner.equals(localNodeId) ? local : peers.get(owner);
+        }
+    }
+}
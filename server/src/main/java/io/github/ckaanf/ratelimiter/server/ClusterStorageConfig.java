@@ -0,0 +1,122 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import io.github.ckaanf.ratelimiter.core.StorageConfig;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 클러스터 저장소 설정
+ *
+ * <p>각 노드는 일관된 해시로 나눈 키 구간의 버킷만 메모리에 두고, 다른 노드 소유의 키는 그 노드로 전달합니다.
+ * 멤버 목록은 모든 노드에 같게 주어야 하며, 로컬 노드의 포트가 0이면 임의 포트로 바인드합니다.
+ */
+public final class ClusterStorageConfig implements StorageConfig {
+
+    private final String localNodeId;
+    private final List<ClusterNode> members;
+    private final int virtualNodes;
+    private final int ioThreads;
+    private final MemoryStorageConfig localStorage;
+    private final Duration connectTimeout;
+    private final Duration requestTimeout;
+
+    /**
+     * @param localNodeId    이 노드의 ID (members에 포함되어야 함)
+     * @param members        전체 멤버 (로컬 노드 포함)
+     * @param virtualNodes   노드당 가상 노드 수
+     * @param ioThreads      노드 간 요청을 받는 I/O 스레드 수
+     * @param localStorage   이 노드 소유 버킷을 보관할 메모리 저장소 설정
+     * @param connectTimeout 다른 노드 연결 타임아웃
+     * @param requestTimeout 다른 노드로 전달한 요청의 응답 대기 타임아웃
+     */
+    public ClusterStorageConfig(String localNodeId, List<ClusterNode> members, int virtualNodes, int ioThreads,
+                                MemoryStorageConfig localStorage, Duration connectTimeout, Duration requestTimeout) {
+        this.localNodeId = Objects.requireNonNull(localNodeId, "Local node id cannot be null");
+        this.members = List.copyOf(members);
+        this.virtualNodes = virtualNodes;
+        this.ioThreads = ioThreads;
+        this.localStorage = Objects.requireNonNull(localStorage, "Local storage config cannot be null");
+        this.connectTimeout = Objects.requireNonNull(connectTimeout, "Connect timeout cannot be null");
+        this.requestTimeout = Objects.requireNonNull(requestTimeout, "Request timeout cannot be null");
+        validate();
+    }
+
+    public ClusterStorageConfig(String localNodeId, List<ClusterNode> members) {
+        this(localNodeId, members, 160, 2, new MemoryStorageConfig(), Duration.ofSeconds(1), Duration.ofMillis(500));
+    }
+
+    @Override
+    public String getType() {
+        return "cluster";
+    }
+
+    @Override
+    public void validate() {
+        if (getLocalNode() == null) {
+            throw new IllegalArgumentException("Local node is not a cluster member: " + localNodeId);
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("Virtual nodes must be positive");
+        }
+        if (ioThreads < 1) {
+            throw new IllegalArgumentException("IO threads must be positive");
+        }
+        if (connectTimeout.isNegative() || connectTimeout.isZero()) {
+            throw new IllegalArgumentException("Connect timeout must be positive");
+        }
+        if (requestTimeout.isNegative() || requestTimeout.isZero()) {
+            throw new IllegalArgumentException("Request timeout must be positive");
+        }
+        localStorage.validate();
+    }
+
+    @Override
+    public Map<String, Object> getConnectionProperties() {
+        Map<String, Object> props = new HashMap<>();
+        props.put("localNodeId", localNodeId);
+        props.put("members", members.toString());
+        props.put("connectTimeoutMs", connectTimeout.toMillis());
+        return props;
+    }
+
+    @Override
+    public Map<String, Object> getPerformanceProperties() {
+        Map<String, Object> props = new HashMap<>();
+        props.put("virtualNodes", virtualNodes);
+        props.put("ioThreads", ioThreads);
+        props.put("requestTimeoutMs", requestTimeout.toMillis());
+        return props;
+    }
+
+    /**
+     * 로컬 노드 (멤버가 아니면 null)
+     */
+    public ClusterNode getLocalNode() {
+        for (ClusterNode member : members) {
+            if (member.getId().equals(localNodeId)) {
+                return member;
+            }
+        }
+        return null;
+    }
+
+    // === Getters ===
+
+    public String getLocalNodeId() { return localNodeId; }
+    public List<ClusterNode> getMembers() { return members; }
+    public int getVirtualNodes() { return virtualNodes; }
+    public int getIoThreads() { return ioThreads; }
+    public MemoryStorageConfig getLocalStorage() { return localStorage; }
+    public Duration getConnectTimeout() { return connectTimeout; }
+    public Duration getRequestTimeout() { return requestTimeout; }
+
+    @Override
+    public String toString() {
+        return String.format("ClusterStorage{local=%s, members=%s, vnodes=%d}", localNodeId, members, virtualNodes);
+    }
+}
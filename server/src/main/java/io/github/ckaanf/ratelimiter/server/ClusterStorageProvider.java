@@ -0,0 +1,36 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.StorageConfig;
+import io.github.ckaanf.ratelimiter.core.StorageProvider;
+
+/**
+ * 클러스터 저장소 프로바이더
+ * SPI를 통해 자동 등록됨
+ */
+public class ClusterStorageProvider implements StorageProvider {
+
+    @Override
+    public String getStorageType() {
+        return "cluster";
+    }
+
+    @Override
+    public RateLimiterStorage create(StorageConfig config) {
+        if (!(config instanceof ClusterStorageConfig)) {
+            throw new IllegalArgumentException("Invalid storage config type: " + config.getClass());
+        }
+
+        return new ClusterRateLimiterStorage((ClusterStorageConfig) config);
+    }
+
+    @Override
+    public boolean supports(StorageConfig config) {
+        return config instanceof ClusterStorageConfig;
+    }
+
+    @Override
+    public int getPriority() {
+        return 50;
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 가상 노드를 둔 일관된 해시 링
+ *
+ * <p>노드마다 ID로부터 정해지는 가상 노드 여러 개를 링에 배치하고, 키는 해시값 이후 처음 만나는 가상 노드의
+ * 소유가 됩니다. 노드가 추가/제거되면 그 노드의 가상 노드가 차지하는 구간의 키만 소유자가 바뀝니다.
+ * 조회는 정렬된 배열에 대한 이진 탐색이며 불변입니다.
+ */
+final class ConsistentHashRing {
+
+    private final long[] points;
+    private final ClusterNode[] owners;
+
+    ConsistentHashRing(Collection<ClusterNode> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("Cluster must have at least one node");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("Virtual nodes must be positive: " + virtualNodes);
+        }
+
+        Set<String> ids = new HashSet<>();
+        Point[] ring = new Point[nodes.size() * virtualNodes];
+        int index = 0;
+        for (ClusterNode node : nodes) {
+            if (!ids.add(node.getId())) {
+                throw new IllegalArgumentException("Duplicate node id: " + node.getId());
+            }
+            for (int i = 0; i < virtualNodes; i++) {
+                ring[index++] = new Point(hash(node.getId() + "#" + i), node);
+            }
+        }
+        // 해시 충돌 시에도 노드 순서와 무관하게 같은 링이 되도록 ID로 정렬
+        Arrays.sort(ring, Comparator.comparingLong(Point::hash).thenComparing(p -> p.node().getId()));
+
+        this.points = new long[ring.length];
+        this.owners = new ClusterNode[ring.length];
+        for (int i = 0; i < ring.length; i++) {
+            points[i] = ring[i].hash();
+            owners[i] = ring[i].node();
+        }
+    }
+
+    ClusterNode ownerOf(String key) {
+        int index = Arrays.binarySearch(points, hash(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    /**
+     * 64비트 FNV-1a 후 MurmurHash3 finalizer로 비트를 섞음
+     */
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private record Point(long hash, ClusterNode node) {
+    }
+}
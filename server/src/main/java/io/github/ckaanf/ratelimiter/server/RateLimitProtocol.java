@@ -0,0 +1,140 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 판정 서버 바이너리 프로토콜
+ *
+ * <p>모든 정수는 빅 엔디언이며, 프레임은 길이 접두사로 구분됩니다. 한 연결에서 응답을 기다리지 않고
+ * 여러 요청을 연속으로 보낼 수 있고(파이프라이닝), 응답은 요청 순서대로 오며 요청 ID로도 구분됩니다.
+ *
+ * <pre>
+ * 요청: [int 길이][int 요청 ID][byte 명령][short 항목 수] 항목...
+ *   항목: [short 키 길이][UTF-8 키][long 토큰 수]
+ *         [long 용량][long 리필 토큰 수][long 리필 주기(ns)][long 초기 토큰 수]
+ *
+ * 응답: [int 길이][int 요청 ID][byte 상태][short 항목 수] 결과...
+ *   결과: [byte 판정][long 남은 토큰 수][long 대기 시간(ns) 또는 다음 리필 시각(epoch μs, 조회)]
+ *   오류(상태 1): [short 메시지 길이][UTF-8 메시지]
+ * </pre>
+ *
+ * <p>길이는 길이 필드 자신을 제외한 바이트 수입니다. 버킷 설정을 항목마다 담으므로
+ * 서버에 미리 등록할 필요 없이 JVM 밖의 서비스도 같은 키와 설정으로 같은 버킷을 공유할 수 있습니다.
+ */
+final class RateLimitProtocol {
+
+    // 명령
+    static final byte CONSUME = 1;       // 항목별 독립 소비
+    static final byte CONSUME_ALL = 2;   // all-or-nothing 소비
+    static final byte QUERY = 3;         // 조회 (토큰 수 무시)
+    static final byte ADJUST = 4;        // 사후 조정 (토큰 수 = 조정량)
+    static final byte PING = 5;          // 항목 없음
+
+    // 응답 상태
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_ERROR = 1;
+
+    // 항목 판정
+    static final byte REJECTED = 0;
+    static final byte ALLOWED = 1;
+    static final byte ABORTED = 2;
+
+    static final int LENGTH_SIZE = 4;
+    static final int HEADER_SIZE = 4 + 1 + 2;           // 요청 ID, 명령/상태, 항목 수
+    static final int ENTRY_FIXED_SIZE = 2 + 8 * 5;      // 키 길이 + long 5개
+    static final int RESULT_SIZE = 1 + 8 + 8;
+    static final int MAX_FRAME_SIZE = 1 << 20;
+    static final int MAX_KEY_BYTES = Short.MAX_VALUE;
+    static final int MAX_ENTRIES = (MAX_FRAME_SIZE - HEADER_SIZE) / ENTRY_FIXED_SIZE;
+    static final int MAX_ERROR_MESSAGE_BYTES = 1024;
+    static final int MAX_ERROR_SIZE = LENGTH_SIZE + HEADER_SIZE + 2 + MAX_ERROR_MESSAGE_BYTES;
+
+    private RateLimitProtocol() {
+    }
+
+    /**
+     * 요청 프레임 인코딩
+     *
+     * @return 쓰기 준비가 된(flip된) 버퍼
+     */
+    static ByteBuffer encodeRequest(int requestId, byte command, List<StorageContext> contexts) {
+        if (contexts.size() > MAX_ENTRIES) {
+            throw new IllegalArgumentException("Too many entries in one request: " + contexts.size());
+        }
+
+        byte[][] keys = new byte[contexts.size()][];
+        int length = HEADER_SIZE;
+        for (int i = 0; i < contexts.size(); i++) {
+            keys[i] = contexts.get(i).getKey().getBytes(StandardCharsets.UTF_8);
+            if (keys[i].length > MAX_KEY_BYTES) {
+                throw new IllegalArgumentException("Key is too long: " + keys[i].length + " bytes");
+            }
+            length += ENTRY_FIXED_SIZE + keys[i].length;
+        }
+        if (length > MAX_FRAME_SIZE) {
+            throw new IllegalArgumentException("Request exceeds max frame size: " + length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH_SIZE + length);
+        buffer.putInt(length).putInt(requestId).put(command).putShort((short) contexts.size());
+        for (int i = 0; i < contexts.size(); i++) {
+            StorageContext context = contexts.get(i);
+            TokenBucketAlgorithmConfig bucket =
+                    (TokenBucketAlgorithmConfig) context.getConfig().getAlgorithmConfig();
+            buffer.putShort((short) keys[i].length).put(keys[i])
+                    .putLong(context.getTokens())
+                    .putLong(bucket.getCapacity())
+                    .putLong(bucket.getRefillTokens())
+                    .putLong(bucket.getRefillPeriod().toNanos())
+                    .putLong(bucket.getInitialTokens());
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * 응답 헤더 쓰기 (길이는 {@link #finishFrame}에서 채움)
+     *
+     * @return 길이 필드 위치
+     */
+    static int beginResponse(ByteBuffer out, int requestId, byte status, int count) {
+        int start = out.position();
+        out.putInt(0).putInt(requestId).put(status).putShort((short) count);
+        return start;
+    }
+
+    static void putResult(ByteBuffer out, byte verdict, long availableTokens, long nanos) {
+        out.put(verdict).putLong(availableTokens).putLong(nanos);
+    }
+
+    static void finishFrame(ByteBuffer out, int start) {
+        out.putInt(start, out.position() - start - LENGTH_SIZE);
+    }
+
+    static void putError(ByteBuffer out, int requestId, String message) {
+        byte[] bytes = truncate(message == null ? "Unknown error" : message);
+        int start = beginResponse(out, requestId, STATUS_ERROR, 0);
+        out.putShort((short) bytes.length).put(bytes);
+        finishFrame(out, start);
+    }
+
+    static String readString(ByteBuffer in, int length) {
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static byte[] truncate(String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_ERROR_MESSAGE_BYTES) {
+            return bytes;
+        }
+        byte[] truncated = new byte[MAX_ERROR_MESSAGE_BYTES];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        return truncated;
+    }
+}
@@ -0,0 +1,281 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.StorageConfig;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 독립 실행형 Rate Limit 판정 서버
+ *
+ * <p>레지스트리로 만든 저장소 하나를 {@link RateLimitProtocol} 바이너리 프로토콜로 제공합니다.
+ * JVM 밖의 서비스도 같은 키와 버킷 설정으로 판정을 받을 수 있고, Java 서비스는
+ * {@link RemoteRateLimiterStorage}를 저장소로 사용하면 됩니다.
+ *
+ * <p>Netty 없이 NIO {@link SocketChannel}과 {@link Selector}로 동작합니다. 수락 스레드 하나가 연결을 받아
+ * I/O 스레드들에 순서대로 배분하고, 각 I/O 스레드는 읽은 프레임을 그 자리에서 판정한 뒤 한 번에 씁니다.
+ * 파이프라이닝된 요청은 한 번의 읽기/쓰기로 묶여 처리됩니다.
+ */
+public class RateLimitServer implements AutoCloseable {
+
+    private final RateLimiterStorage storage;
+    private final StorageConfig storageConfig;
+    private final InetSocketAddress address;
+    private final int ioThreads;
+    private final boolean ownsStorage;
+
+    private ServerSocketChannel serverChannel;
+    private Worker[] workers;
+    private Thread acceptor;
+    private volatile boolean running;
+
+    /**
+     * @param registry      저장소를 만들 레지스트리 (만든 저장소는 이 서버가 소유하며 {@link #close()}에서 종료)
+     * @param storageConfig 판정에 사용할 저장소 설정
+     * @param address       바인드 주소 (포트 0이면 임의 포트)
+     * @param ioThreads     I/O 스레드 수
+     */
+    public RateLimitServer(RateLimiterRegistry registry, StorageConfig storageConfig,
+                           InetSocketAddress address, int ioThreads) {
+        this(Objects.requireNonNull(registry, "Registry cannot be null").createStorage(storageConfig),
+                storageConfig, address, ioThreads, true);
+    }
+
+    /**
+     * 이미 만든 저장소를 제공 (저장소 종료는 호출자가 담당)
+     *
+     * @param storage       판정에 사용할 저장소
+     * @param storageConfig 저장소 설정 (버킷 설정 객체에 담김)
+     * @param address       바인드 주소 (포트 0이면 임의 포트)
+     * @param ioThreads     I/O 스레드 수
+     */
+    public RateLimitServer(RateLimiterStorage storage, StorageConfig storageConfig,
+                           InetSocketAddress address, int ioThreads) {
+        this(storage, storageConfig, address, ioThreads, false);
+    }
+
+    private RateLimitServer(RateLimiterStorage storage, StorageConfig storageConfig,
+                            InetSocketAddress address, int ioThreads, boolean ownsStorage) {
+        this.ownsStorage = ownsStorage;
+        this.storage = Objects.requireNonNull(storage, "Storage cannot be null");
+        this.storageConfig = Objects.requireNonNull(storageConfig, "Storage config cannot be null");
+        this.address = Objects.requireNonNull(address, "Address cannot be null");
+        if (ioThreads < 1) {
+            throw new IllegalArgumentException("IO threads must be positive");
+        }
+        this.ioThreads = ioThreads;
+    }
+
+    /**
+     * 시작 (바인드 후 수락/I/O 스레드 기동)
+     */
+    public synchronized RateLimitServer start() throws IOException {
+        if (running) {
+            return this;
+        }
+
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+        serverChannel.bind(address, 1024);
+
+        BucketConfigCache configs = new BucketConfigCache(storage, storageConfig);
+        workers = new Worker[ioThreads];
+        for (int i = 0; i < ioThreads; i++) {
+            workers[i] = new Worker(i, new RequestHandler(storage, configs));
+        }
+
+        running = true;
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+        acceptor = new Thread(this::acceptLoop, "rate-limit-server-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return this;
+    }
+
+    /**
+     * 실제 바인드된 포트
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 수락/I/O 스레드를 멈추고, 레지스트리로 직접 만든 저장소라면 함께 종료
+     */
+    @Override
+    public synchronized void close() {
+        if (ownsStorage) {
+            storage.shutdown();
+        }
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close server channel: " + e.getMessage());
+        }
+        for (Worker worker : workers) {
+            worker.selector.wakeup();
+        }
+        try {
+            acceptor.join(1000);
+            for (Worker worker : workers) {
+                worker.thread.join(1000);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // === 내부 메소드들 ===
+
+    private void acceptLoop() {
+        int next = 0;
+        while (running) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                workers[next].register(channel);
+                next = (next + 1) % workers.length;
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                if (running) {
+                    System.err.println("Failed to accept connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 셀렉터 하나로 여러 연결을 처리하는 I/O 스레드
+     */
+    private final class Worker implements Runnable {
+        private final Selector selector;
+        private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+        private final RequestHandler handler;
+        private final Thread thread;
+
+        Worker(int index, RequestHandler handler) throws IOException {
+            this.selector = Selector.open();
+            this.handler = handler;
+            this.thread = new Thread(this, "rate-limit-server-io-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        void register(SocketChannel channel) {
+            pending.add(channel);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    selector.select();
+                    registerPending();
+
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        process(key);
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("Rate limit server IO thread failed: " + e.getMessage());
+            } finally {
+                closeAll();
+            }
+        }
+
+        private void registerPending() {
+            SocketChannel channel;
+            while ((channel = pending.poll()) != null) {
+                try {
+                    SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                    key.attach(new ServerConnection(channel, key, handler));
+                } catch (IOException e) {
+                    closeQuietly(channel);
+                }
+            }
+        }
+
+        private void process(SelectionKey key) {
+            ServerConnection connection = (ServerConnection) key.attachment();
+            try {
+                if (key.isValid() && key.isReadable()) {
+                    connection.read();
+                }
+                if (key.isValid() && key.isWritable()) {
+                    connection.flush();
+                }
+            } catch (IOException | RuntimeException e) {
+                connection.close();
+            }
+        }
+
+        private void closeAll() {
+            for (SelectionKey key : selector.keys()) {
+                closeQuietly(key.channel());
+            }
+            SocketChannel channel;
+            while ((channel = pending.poll()) != null) {
+                closeQuietly(channel);
+            }
+            closeQuietly(selector);
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+            // 종료 중 오류는 무시
+        }
+    }
+
+    /**
+     * 메모리 저장소로 판정 서버 실행
+     *
+     * <p>사용법: {@code RateLimitServer [port] [ioThreads]}
+     */
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7878;
+        int ioThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        RateLimiterRegistry registry = RateLimiterRegistry.create();
+        RateLimitServer server = new RateLimitServer(registry, new MemoryStorageConfig(),
+                new InetSocketAddress(port), ioThreads).start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            registry.close();
+        }));
+
+        System.out.println("Rate limit server listening on port " + server.getPort());
+        Thread.currentThread().join();
+    }
+}
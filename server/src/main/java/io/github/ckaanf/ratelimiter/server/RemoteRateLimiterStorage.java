@@ -0,0 +1,205 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import io.github.ckaanf.ratelimiter.core.AsyncRateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+import io.github.ckaanf.ratelimiter.core.StorageResult;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 판정 서버({@link RateLimitServer})를 사용하는 저장소 클라이언트
+ *
+ * <p>연결 하나를 모든 스레드가 공유하며 요청을 파이프라이닝합니다.
+ * {@link #tryConsumeAll(List, boolean)}은 여러 키를 한 프레임으로 보내고,
+ * all-or-nothing 모드는 서버 저장소에서 원자적으로 처리됩니다.
+ * 연결이 끊기면 다음 요청에서 다시 연결합니다. 비동기 요청은 호출 스레드에서 연결을 기다리지 않도록
+ * 재연결을 별도 스레드에서 진행하고, 연결 실패는 예외 대신 실패한 future로 전달합니다.
+ */
+public class RemoteRateLimiterStorage implements AsyncRateLimiterStorage {
+
+    private final RemoteStorageConfig config;
+    private final InetSocketAddress address;
+    private final AtomicInteger requestIds = new AtomicInteger();
+    private volatile ClientConnection connection;
+    private CompletableFuture<ClientConnection> connecting;
+    private volatile boolean closed;
+
+    public RemoteRateLimiterStorage(RemoteStorageConfig config) {
+        this.config = config;
+        this.address = new InetSocketAddress(config.getHost(), config.getPort());
+    }
+
+    @Override
+    public String getType() {
+        return "remote";
+    }
+
+    @Override
+    public StorageResult tryConsume(StorageContext context) {
+        return await(send(RateLimitProtocol.CONSUME, List.of(context))).get(0);
+    }
+
+    @Override
+    public CompletionStage<StorageResult> tryConsumeAsync(StorageContext context) {
+        return sendAsync(RateLimitProtocol.CONSUME, List.of(context)).thenApply(results -> results.get(0));
+    }
+
+    /**
+     * 여러 키를 한 프레임으로 소비
+     * 한 프레임에 담을 수 없을 만큼 많으면 나눠서 파이프라이닝 (all-or-nothing 모드는 나눌 수 없음)
+     */
+    @Override
+    public List<StorageResult> tryConsumeAll(List<StorageContext> contexts, boolean allOrNothing) {
+        if (allOrNothing) {
+            return await(send(RateLimitProtocol.CONSUME_ALL, contexts));
+        }
+
+        int chunk = RateLimitProtocol.MAX_ENTRIES;
+        List<CompletableFuture<List<StorageResult>>> futures = new ArrayList<>();
+        for (int from = 0; from < contexts.size(); from += chunk) {
+            futures.add(send(RateLimitProtocol.CONSUME, contexts.subList(from, Math.min(contexts.size(), from + chunk))));
+        }
+
+        List<StorageResult> results = new ArrayList<>(contexts.size());
+        for (CompletableFuture<List<StorageResult>> future : futures) {
+            results.addAll(await(future));
+        }
+        return results;
+    }
+
+    @Override
+    public StorageResult adjust(StorageContext context) {
+        return await(send(RateLimitProtocol.ADJUST, List.of(context))).get(0);
+    }
+
+    @Override
+    public boolean supportsAdjust() {
+        return true;
+    }
+
+    @Override
+    public StorageResult getTokenState(StorageContext context) {
+        return await(send(RateLimitProtocol.QUERY, List.of(context))).get(0);
+    }
+
+    @Override
+    public CompletionStage<StorageResult> getTokenStateAsync(StorageContext context) {
+        return sendAsync(RateLimitProtocol.QUERY, List.of(context)).thenApply(results -> results.get(0));
+    }
+
+    /**
+     * 서버 연결 확인 (연결할 수 없으면 예외)
+     */
+    @Override
+    public void initialize(RateLimiterConfig config) {
+        this.config.validate();
+        await(send(RateLimitProtocol.PING, List.of()));
+    }
+
+    @Override
+    public void cleanup() {
+        // 버킷 만료는 서버 저장소가 처리
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        closed = true;
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+    }
+
+    public RemoteStorageConfig getConfig() {
+        return config;
+    }
+
+    // === 내부 메소드들 ===
+
+    private CompletableFuture<List<StorageResult>> send(byte command, List<StorageContext> contexts) {
+        return send(connection(), command, contexts);
+    }
+
+    private CompletableFuture<List<StorageResult>> send(ClientConnection target, byte command, List<StorageContext> contexts) {
+        return target.send(requestIds.incrementAndGet(), command, contexts)
+                .orTimeout(config.getRequestTimeout().toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 연결이 열려 있으면 바로 보내고, 아니면 재연결이 끝난 뒤 전송 (호출 스레드는 막지 않음)
+     */
+    private CompletableFuture<List<StorageResult>> sendAsync(byte command, List<StorageContext> contexts) {
+        ClientConnection current = connection;
+        if (current != null && current.isOpen()) {
+            return send(current, command, contexts);
+        }
+        return connectAsync().thenCompose(opened -> send(opened, command, contexts));
+    }
+
+    /**
+     * 진행 중인 재연결이 있으면 함께 기다리고, 없으면 새 스레드에서 시작
+     */
+    private synchronized CompletableFuture<ClientConnection> connectAsync() {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Remote storage is shut down"));
+        }
+        if (connecting == null) {
+            CompletableFuture<ClientConnection> attempt = CompletableFuture.supplyAsync(this::connection, task -> {
+                Thread thread = new Thread(task, "rate-limit-connect-" + address.getPort());
+                thread.setDaemon(true);
+                thread.start();
+            });
+            connecting = attempt;
+            attempt.whenComplete((opened, error) -> clearConnecting(attempt));
+        }
+        return connecting;
+    }
+
+    private synchronized void clearConnecting(CompletableFuture<ClientConnection> attempt) {
+        if (connecting == attempt) {
+            connecting = null;
+        }
+    }
+
+    private ClientConnection connection() {
+        ClientConnection current = connection;
+        if (current != null && current.isOpen()) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Remote storage is shut down");
+            }
+            if (connection == null || !connection.isOpen()) {
+                connection = ClientConnection.open(address, config.getConnectTimeout());
+            }
+            return connection;
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                throw new IllegalStateException(
+                        "Rate limit server did not respond within " + config.getRequestTimeout(), cause);
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
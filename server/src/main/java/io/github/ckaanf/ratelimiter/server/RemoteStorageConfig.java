@@ -0,0 +1,92 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import io.github.ckaanf.ratelimiter.core.StorageConfig;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 판정 서버({@link RateLimitServer}) 저장소 설정
+ */
+public final class RemoteStorageConfig implements StorageConfig {
+
+    private final String host;
+    private final int port;
+    private final Duration connectTimeout;
+    private final Duration requestTimeout;
+
+    /**
+     * @param host           판정 서버 호스트
+     * @param port           판정 서버 포트
+     * @param connectTimeout 연결 타임아웃
+     * @param requestTimeout 요청 하나의 응답 대기 타임아웃
+     */
+    public RemoteStorageConfig(String host, int port, Duration connectTimeout, Duration requestTimeout) {
+        this.host = Objects.requireNonNull(host, "Host cannot be null");
+        this.port = port;
+        this.connectTimeout = Objects.requireNonNull(connectTimeout, "Connect timeout cannot be null");
+        this.requestTimeout = Objects.requireNonNull(requestTimeout, "Request timeout cannot be null");
+        validate();
+    }
+
+    public RemoteStorageConfig(String host, int port) {
+        this(host, port, Duration.ofSeconds(1), Duration.ofMillis(500));
+    }
+
+    @Override
+    public String getType() {
+        return "remote";
+    }
+
+    @Override
+    public void validate() {
+        if (host.isBlank()) {
+            throw new IllegalArgumentException("Host cannot be blank");
+        }
+        if (port < 1 || port > 65535) {
+            throw new IllegalArgumentException("Port must be between 1 and 65535: " + port);
+        }
+        if (connectTimeout.isNegative() || connectTimeout.isZero()) {
+            throw new IllegalArgumentException("Connect timeout must be positive");
+        }
+        if (requestTimeout.isNegative() || requestTimeout.isZero()) {
+            throw new IllegalArgumentException("Request timeout must be positive");
+        }
+    }
+
+    @Override
+    public Map<String, Object> getConnectionProperties() {
+        Map<String, Object> props = new HashMap<>();
+        props.put("host", host);
+        props.put("port", port);
+        props.put("connectTimeoutMs", connectTimeout.toMillis());
+        return props;
+    }
+
+    @Override
+    public Map<String, Object> getPerformanceProperties() {
+        Map<String, Object> props = new HashMap<>();
+        props.put("requestTimeoutMs", requestTimeout.toMillis());
+        return props;
+    }
+
+    // === Factory methods ===
+
+    public static RemoteStorageConfig localhost(int port) {
+        return new RemoteStorageConfig("127.0.0.1", port);
+    }
+
+    // === Getters ===
+
+    public String getHost() { return host; }
+    public int getPort() { return port; }
+    public Duration getConnectTimeout() { return connectTimeout; }
+    public Duration getRequestTimeout() { return requestTimeout; }
+
+    @Override
+    public String toString() {
+        return String.format("RemoteStorage{%s:%d, timeout=%s}", host, port, requestTimeout);
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.StorageConfig;
+import io.github.ckaanf.ratelimiter.core.StorageProvider;
+
+/**
+ * 판정 서버 저장소 프로바이더
+ * SPI를 통해 자동 등록됨
+ */
+public class RemoteStorageProvider implements StorageProvider {
+
+    @Override
+    public String getStorageType() {
+        return "remote";
+    }
+
+    @Override
+    public RateLimiterStorage create(StorageConfig config) {
+        if (!(config instanceof RemoteStorageConfig)) {
+            throw new IllegalArgumentException("Invalid storage config type: " + config.getClass());
+        }
+
+        return new RemoteRateLimiterStorage((RemoteStorageConfig) config);
+    }
+
+    @Override
+    public boolean supports(StorageConfig config) {
+        return config instanceof RemoteStorageConfig;
+    }
+
+    @Override
+    public int getPriority() {
+        return 50;
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import io.github.ckaanf.ratelimiter.core.ConsumeDecision;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+import io.github.ckaanf.ratelimiter.core.StorageResult;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.ckaanf.ratelimiter.server.RateLimitProtocol.*;
+
+/**
+ * 요청 프레임 하나를 판정하여 응답 프레임을 쓰는 처리기
+ * I/O 스레드마다 하나씩 두며 스레드 안전하지 않음
+ */
+final class RequestHandler {
+
+    private final RateLimiterStorage storage;
+    private final BucketConfigCache configs;
+
+    // 직전 항목의 설정 (같은 설정이 연속되는 일반적인 경우 캐시 조회 생략)
+    private long lastCapacity = -1;
+    private long lastRefillTokens;
+    private long lastRefillPeriodNanos;
+    private long lastInitialTokens;
+    private RateLimiterConfig lastConfig;
+
+    // 현재 항목 (readEntry가 채움)
+    private String key;
+    private long tokens;
+    private RateLimiterConfig config;
+
+    RequestHandler(RateLimiterStorage storage, BucketConfigCache configs) {
+        this.storage = storage;
+        this.configs = configs;
+    }
+
+    /**
+     * 응답 하나에 필요한 최대 바이트 수
+     */
+    static int maxResponseSize(int count) {
+        return Math.max(LENGTH_SIZE + HEADER_SIZE + count * RESULT_SIZE, MAX_ERROR_SIZE);
+    }
+
+    /**
+     * 길이 필드 다음부터 frameEnd까지의 요청을 처리
+     * 잘못된 요청과 저장소 오류는 오류 응답으로 돌려주고 연결은 유지
+     */
+    void handle(ByteBuffer in, int frameEnd, ByteBuffer out) {
+        int requestId = in.getInt();
+        byte command = in.get();
+        int count = Short.toUnsignedInt(in.getShort());
+
+        int start = out.position();
+        try {
+            switch (command) {
+                case CONSUME -> consume(in, frameEnd, requestId, count, out);
+                case CONSUME_ALL -> consumeAll(in, frameEnd, requestId, count, out);
+                case QUERY -> query(in, frameEnd, requestId, count, out);
+                case ADJUST -> adjust(in, frameEnd, requestId, count, out);
+                case PING -> finishFrame(out, beginResponse(out, requestId, STATUS_OK, 0));
+                default -> throw new IllegalArgumentException("Unknown command: " + command);
+            }
+        } catch (RuntimeException e) {
+            out.position(start);
+            putError(out, requestId, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    private void consume(ByteBuffer in, int frameEnd, int requestId, int count, ByteBuffer out) {
+        validateEntries(in, frameEnd, count, true);
+        int start = beginResponse(out, requestId, STATUS_OK, count);
+        for (int i = 0; i < count; i++) {
+            readEntry(in, frameEnd);
+            long decision = storage.tryConsumeDecision(StorageContext.forConsume(key, tokens, config));
+            putResult(out, ConsumeDecision.isAllowed(decision) ? ALLOWED : REJECTED,
+                    ConsumeDecision.remainingTokens(decision), ConsumeDecision.waitNanos(decision));
+        }
+        finishFrame(out, start);
+    }
+
+    private void consumeAll(ByteBuffer in, int frameEnd, int requestId, int count, ByteBuffer out) {
+        List<StorageContext> contexts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            readEntry(in, frameEnd);
+            requirePositiveTokens();
+            contexts.add(StorageContext.forConsume(key, tokens, config));
+        }
+
+        List<StorageResult> results = storage.tryConsumeAll(contexts, true);
+        int start = beginResponse(out, requestId, STATUS_OK, count);
+        for (StorageResult result : results) {
+            byte verdict = result.isSuccess() ? ALLOWED
+                    : Boolean.TRUE.equals(result.getMetadata().get("batchAborted")) ? ABORTED : REJECTED;
+            putResult(out, verdict, result.getAvailableTokens(), result.getWaitTime().toNanos());
+        }
+        finishFrame(out, start);
+    }
+
+    private void query(ByteBuffer in, int frameEnd, int requestId, int count, ByteBuffer out) {
+        int start = beginResponse(out, requestId, STATUS_OK, count);
+        for (int i = 0; i < count; i++) {
+            readEntry(in, frameEnd);
+            StorageResult result = storage.getTokenState(StorageContext.forQuery(key, config));
+            Instant nextRefill = result.getNextRefillTime();
+            long nextRefillMicros = nextRefill == null ? 0
+                    : nextRefill.getEpochSecond() * 1_000_000 + nextRefill.getNano() / 1_000;
+            putResult(out, ALLOWED, result.getAvailableTokens(), nextRefillMicros);
+        }
+        finishFrame(out, start);
+    }
+
+    private void adjust(ByteBuffer in, int frameEnd, int requestId, int count, ByteBuffer out) {
+        validateEntries(in, frameEnd, count, false);
+        int start = beginResponse(out, requestId, STATUS_OK, count);
+        for (int i = 0; i < count; i++) {
+            readEntry(in, frameEnd);
+            StorageResult result = storage.adjust(StorageContext.forAdjust(key, tokens, config));
+            putResult(out, ALLOWED, result.getAvailableTokens(), 0);
+        }
+        finishFrame(out, start);
+    }
+
+    /**
+     * 저장소를 건드리기 전에 모든 항목을 한 번 읽어 검증 (중간 항목이 잘못돼도 앞 항목이 이미 적용되지 않도록)
+     * 읽기 위치는 첫 항목으로 되돌려 놓음
+     */
+    private void validateEntries(ByteBuffer in, int frameEnd, int count, boolean positiveTokens) {
+        int entriesStart = in.position();
+        for (int i = 0; i < count; i++) {
+            readEntry(in, frameEnd);
+            if (positiveTokens) {
+                requirePositiveTokens();
+            }
+        }
+        in.position(entriesStart);
+    }
+
+    private void readEntry(ByteBuffer in, int frameEnd) {
+        if (frameEnd - in.position() < 2) {
+            throw new IllegalArgumentException("Malformed request entry");
+        }
+        int keyLength = Short.toUnsignedInt(in.getShort());
+        if (frameEnd - in.position() < keyLength + ENTRY_FIXED_SIZE - 2) {
+            throw new IllegalArgumentException("Malformed request entry");
+        }
+
+        key = readString(in, keyLength);
+        tokens = in.getLong();
+        config = config(in.getLong(), in.getLong(), in.getLong(), in.getLong());
+    }
+
+    private RateLimiterConfig config(long capacity, long refillTokens, long refillPeriodNanos, long initialTokens) {
+        if (capacity != lastCapacity || refillTokens != lastRefillTokens
+                || refillPeriodNanos != lastRefillPeriodNanos || initialTokens != lastInitialTokens) {
+            lastConfig = configs.get(capacity, refillTokens, refillPeriodNanos, initialTokens);
+            lastCapacity = capacity;
+            lastRefillTokens = refillTokens;
+            lastRefillPeriodNanos = refillPeriodNanos;
+            lastInitialTokens = initialTokens;
+        }
+        return lastConfig;
+    }
+
+    private void requirePositiveTokens() {
+        if (tokens <= 0) {
+            throw new IllegalArgumentException("Tokens must be positive: " + tokens);
+        }
+    }
+}
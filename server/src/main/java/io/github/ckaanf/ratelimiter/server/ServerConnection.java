@@ -0,0 +1,112 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+import static io.github.ckaanf.ratelimiter.server.RateLimitProtocol.*;
+
+/**
+ * 서버 측 연결 하나의 읽기/쓰기 버퍼
+ *
+ * <p>한 번의 읽기에 들어온 완성된 프레임을 모두 처리하고 응답을 모아 한 번에 씁니다.
+ * 쓰지 못한 응답이 쌓이면 읽기를 멈춰 느린 클라이언트가 서버 메모리를 소모하지 않게 합니다.
+ */
+final class ServerConnection {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_PENDING_OUTPUT = 4 * 1024 * 1024;
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final RequestHandler handler;
+
+    private ByteBuffer in = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private ByteBuffer out = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);   // 쓰기 모드로 유지
+
+    ServerConnection(SocketChannel channel, SelectionKey key, RequestHandler handler) {
+        this.channel = channel;
+        this.key = key;
+        this.handler = handler;
+    }
+
+    void read() throws IOException {
+        if (channel.read(in) < 0) {
+            close();
+            return;
+        }
+
+        in.flip();
+        while (in.remaining() >= LENGTH_SIZE) {
+            int length = in.getInt(in.position());
+            if (length < HEADER_SIZE || length > MAX_FRAME_SIZE) {
+                throw new IOException("Invalid frame length: " + length);
+            }
+            if (in.remaining() < LENGTH_SIZE + length) {
+                break;
+            }
+
+            int frameEnd = in.position() + LENGTH_SIZE + length;
+            int count = Short.toUnsignedInt(in.getShort(in.position() + LENGTH_SIZE + 5));
+            ensureOutput(RequestHandler.maxResponseSize(count));
+
+            in.position(in.position() + LENGTH_SIZE);
+            handler.handle(in, frameEnd, out);
+            in.position(frameEnd);
+        }
+        in.compact();
+        ensureInputForNextFrame();
+
+        flush();
+    }
+
+    void flush() throws IOException {
+        out.flip();
+        channel.write(out);
+        out.compact();
+
+        boolean pending = out.position() > 0;
+        int ops = pending ? SelectionKey.OP_WRITE : 0;
+        if (out.position() < MAX_PENDING_OUTPUT) {
+            ops |= SelectionKey.OP_READ;
+        }
+        if (key.interestOps() != ops) {
+            key.interestOps(ops);
+        }
+    }
+
+    void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 이미 끊긴 연결
+        }
+    }
+
+    private void ensureOutput(int size) {
+        if (out.remaining() < size) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + size));
+            out.flip();
+            grown.put(out);
+            out = grown;
+        }
+    }
+
+    /**
+     * 다음 프레임 전체가 들어갈 수 있도록 입력 버퍼 확장
+     */
+    private void ensureInputForNextFrame() {
+        if (in.position() < LENGTH_SIZE) {
+            return;
+        }
+        int needed = LENGTH_SIZE + in.getInt(0);
+        if (needed > in.capacity() && needed <= LENGTH_SIZE + MAX_FRAME_SIZE) {
+            ByteBuffer grown = ByteBuffer.allocate(needed);
+            in.flip();
+            grown.put(in);
+            in = grown;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+import io.github.ckaanf.ratelimiter.core.StorageResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 한 JVM의 루프백 노드 3개로 구성한 클러스터 테스트
+ */
+class ClusterRateLimiterStorageTest {
+
+    private final List<ClusterRateLimiterStorage> nodes = new ArrayList<>();
+    private RateLimiterConfig config;
+
+    @BeforeEach
+    void setUp() {
+        for (String id : List.of("a", "b", "c")) {
+            ClusterNode self = ClusterNode.of(id, "127.0.0.1", 0);
+            nodes.add(new ClusterRateLimiterStorage(new ClusterStorageConfig(id, List.of(self))));
+        }
+        List<ClusterNode> members = nodes.stream().map(ClusterRateLimiterStorage::getLocalNode).toList();
+        nodes.forEach(node -> node.updateMembers(members));
+
+        config = new RateLimiterConfig(
+                "test-key",
+                new TokenBucketAlgorithmConfig(10, 1, Duration.ofHours(1), 10),
+                nodes.get(0).getConfig()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ClusterRateLimiterStorage::shutdown);
+    }
+
+    @Test
+    @DisplayName("어느 노드로 요청해도 키마다 하나의 전역 한도가 적용")
+    void limitShouldBeGlobalAcrossNodes() {
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 6; i++) {
+            for (ClusterRateLimiterStorage node : nodes) {
+                if (node.tryConsume(StorageContext.forConsume("user-1", 1, config)).isSuccess()) {
+                    allowed++;
+                }
+            }
+        }
+
+        // Then
+        assertThat(allowed).isEqualTo(10);
+        assertThat(nodes).allSatisfy(node -> assertThat(node.ownerOf("user-1")).isEqualTo(nodes.get(0).ownerOf("user-1")));
+    }
+
+    @Test
+    @DisplayName("버킷은 소유 노드에만 생성되어 노드 수만큼 나뉨")
+    void bucketsShouldBeSpreadAcrossNodes() {
+        // When
+        for (int i = 0; i < 300; i++) {
+            nodes.get(0).tryConsume(StorageContext.forConsume("user-" + i, 1, config));
+        }
+
+        // Then
+        long total = nodes.stream().mapToLong(ClusterRateLimiterStorage::getBucketCount).sum();
+        assertThat(total).isEqualTo(300);
+        assertThat(nodes).allSatisfy(node -> assertThat(node.getBucketCount()).isBetween(50L, 150L));
+    }
+
+    @Test
+    @DisplayName("비동기 요청도 소유 노드로 전달되어 판정")
+    void asyncRequestsShouldBeForwarded() {
+        // When
+        long allowed = IntStream.range(0, 30)
+                .mapToObj(i -> nodes.get(i % 3).tryConsumeAsync(StorageContext.forConsume("shared", 1, config))
+                        .toCompletableFuture())
+                .toList().stream()
+                .map(future -> future.join().isSuccess())
+                .filter(Boolean::booleanValue)
+                .count();
+
+        // Then
+        assertThat(allowed).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("여러 노드에 걸친 배치는 노드별로 판정하고 all-or-nothing 실패 시 모두 되돌림")
+    void batchShouldSpanNodes() {
+        // Given - 서로 다른 노드가 소유한 키 두 개
+        ClusterRateLimiterStorage node = nodes.get(0);
+        String first = "batch-0";
+        String second = IntStream.range(1, 100).mapToObj(i -> "batch-" + i)
+                .filter(key -> !node.ownerOf(key).equals(node.ownerOf(first)))
+                .findFirst().orElseThrow();
+        node.tryConsume(StorageContext.forConsume(second, 10, config));
+
+        // When
+        List<StorageResult> independent = node.tryConsumeAll(List.of(
+                StorageContext.forConsume(first, 2, config),
+                StorageContext.forConsume(second, 1, config)), false);
+        List<StorageResult> atomic = node.tryConsumeAll(List.of(
+                StorageContext.forConsume(first, 2, config),
+                StorageContext.forConsume(second, 1, config)), true);
+
+        // Then
+        assertThat(independent).extracting(StorageResult::isSuccess).containsExactly(true, false);
+        assertThat(atomic).noneMatch(StorageResult::isSuccess);
+        assertThat(node.getTokenState(StorageContext.forQuery(first, config)).getAvailableTokens()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("노드가 빠지면 그 노드 소유 버킷만 상태와 함께 남은 노드로 이동")
+    void leavingNodeShouldHandOffOnlyItsBuckets() {
+        // Given
+        for (int i = 0; i < 90; i++) {
+            nodes.get(0).tryConsume(StorageContext.forConsume("user-" + i, 3, config));
+        }
+        ClusterRateLimiterStorage leaving = nodes.get(2);
+        long leavingBuckets = leaving.getBucketCount();
+        List<ClusterNode> remaining = List.of(nodes.get(0).getLocalNode(), nodes.get(1).getLocalNode());
+
+        // When
+        int movedFromA = nodes.get(0).updateMembers(remaining);
+        int movedFromB = nodes.get(1).updateMembers(remaining);
+        int movedFromC = leaving.leave();
+
+        // Then - 남은 노드 사이의 소유권은 그대로이고, 빠진 노드의 버킷은 소비 상태를 유지한 채 이동
+        assertThat(movedFromA).isZero();
+        assertThat(movedFromB).isZero();
+        assertThat(movedFromC).isEqualTo(leavingBuckets).isPositive();
+        assertThat(leaving.getBucketCount()).isZero();
+        assertThat(nodes.get(0).getBucketCount() + nodes.get(1).getBucketCount()).isEqualTo(90);
+        for (int i = 0; i < 90; i++) {
+            StorageResult state = nodes.get(i % 2).getTokenState(StorageContext.forQuery("user-" + i, config));
+            assertThat(state.getAvailableTokens()).isEqualTo(7);
+        }
+    }
+
+    @Test
+    @DisplayName("멤버가 바뀌어도 이전 연결로 보낸 요청은 연결이 닫히기 전에 완료")
+    void inFlightRequestsShouldSurviveMembershipChange() {
+        // Given - 노드 a에서 c 소유 키로 보낸 비동기 요청들
+        ClusterRateLimiterStorage node = nodes.get(0);
+        ClusterNode removed = nodes.get(2).getLocalNode();
+        String key = IntStream.range(0, 100).mapToObj(i -> "moving-" + i)
+                .filter(candidate -> node.ownerOf(candidate).equals(removed))
+                .findFirst().orElseThrow();
+        RateLimiterConfig large = config.withAlgorithmConfig(
+                new TokenBucketAlgorithmConfig(1000, 1, Duration.ofHours(1), 1000));
+        List<CompletableFuture<StorageResult>> inFlight = IntStream.range(0, 200)
+                .mapToObj(i -> node.tryConsumeAsync(StorageContext.forConsume(key, 1, large)).toCompletableFuture())
+                .toList();
+
+        // When - 응답을 기다리는 중에 c가 빠진 멤버 구성으로 교체
+        node.updateMembers(List.of(node.getLocalNode(), nodes.get(1).getLocalNode()));
+
+        // Then
+        assertThat(inFlight).allSatisfy(future -> assertThat(future.join().isSuccess()).isTrue());
+        assertThat(node.ownerOf(key)).isNotEqualTo(removed);
+    }
+
+    @Test
+    @DisplayName("요청마다 값이 같은 다른 설정 객체로 전달해도 소유 노드의 버킷이 초기화되지 않음")
+    void equalConfigsShouldNotResetForwardedBuckets() {
+        // Given - 원격 노드가 받는 설정처럼 요청마다 새로 만든 같은 값의 설정
+        ClusterRateLimiterStorage node = nodes.get(0);
+        String key = IntStream.range(0, 100).mapToObj(i -> "forwarded-" + i)
+                .filter(candidate -> !node.ownerOf(candidate).equals(node.getLocalNode()))
+                .findFirst().orElseThrow();
+
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 20; i++) {
+            RateLimiterConfig sameValues = config.withAlgorithmConfig(
+                    new TokenBucketAlgorithmConfig(10, 1, Duration.ofHours(1), 10));
+            ClusterRateLimiterStorage entry = i % 2 == 0 ? node : nodes.get(1);
+            if (entry.tryConsume(StorageContext.forConsume(key, 1, sameValues)).isSuccess()) {
+                allowed++;
+            }
+        }
+
+        // Then
+        assertThat(allowed).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("레지스트리에서 클러스터 저장소 설정으로 Rate Limiter 생성")
+    void registryShouldCreateClusterLimiter() {
+        // Given
+        RateLimiterRegistry registry = RateLimiterRegistry.create();
+        RateLimiter limiter = registry.getRateLimiter(new RateLimiterConfig(
+                "registry-key",
+                new TokenBucketAlgorithmConfig(2, 1, Duration.ofHours(1), 2),
+                new ClusterStorageConfig("solo", List.of(ClusterNode.of("solo", "127.0.0.1", 0)))
+        ));
+
+        // When & Then
+        try {
+            assertThat(limiter.tryConsume("user", 1)).isTrue();
+            assertThat(limiter.tryConsume("user", 1)).isTrue();
+            assertThat(limiter.tryConsume("user", 1)).isFalse();
+        } finally {
+            registry.close();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final ClusterNode A = ClusterNode.of("a", "127.0.0.1", 7001);
+    private static final ClusterNode B = ClusterNode.of("b", "127.0.0.1", 7002);
+    private static final ClusterNode C = ClusterNode.of("c", "127.0.0.1", 7003);
+    private static final ClusterNode D = ClusterNode.of("d", "127.0.0.1", 7004);
+
+    @Test
+    @DisplayName("가상 노드로 키가 노드들에 고르게 분산")
+    void keysShouldBeSpreadEvenly() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(A, B, C), 160);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // When
+        for (int i = 0; i < 30_000; i++) {
+            counts.merge(ring.ownerOf("user-" + i).getId(), 1, Integer::sum);
+        }
+
+        // Then
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(8_000, 12_000));
+    }
+
+    @Test
+    @DisplayName("노드 추가 시 새 노드로 가는 키만 소유자가 바뀜")
+    void addingNodeShouldMoveOnlyItsRange() {
+        // Given
+        ConsistentHashRing before = new ConsistentHashRing(List.of(A, B, C), 160);
+        ConsistentHashRing after = new ConsistentHashRing(List.of(A, B, C, D), 160);
+        int moved = 0;
+
+        // When & Then
+        for (int i = 0; i < 30_000; i++) {
+            String key = "user-" + i;
+            ClusterNode previous = before.ownerOf(key);
+            ClusterNode current = after.ownerOf(key);
+            if (!previous.equals(current)) {
+                assertThat(current).isEqualTo(D);
+                moved++;
+            }
+        }
+        assertThat(moved).isBetween(30_000 / 4 - 2_500, 30_000 / 4 + 2_500);
+    }
+
+    @Test
+    @DisplayName("멤버 순서와 무관하게 같은 소유자를 계산하고 중복 ID는 거부")
+    void ringShouldBeIndependentOfMemberOrder() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(A, B, C), 64);
+        ConsistentHashRing reordered = new ConsistentHashRing(List.of(C, A, B), 64);
+
+        // When & Then
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(reordered.ownerOf("key-" + i)).isEqualTo(ring.ownerOf("key-" + i));
+        }
+        assertThatThrownBy(() -> new ConsistentHashRing(List.of(A, A.withPort(9000)), 64))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
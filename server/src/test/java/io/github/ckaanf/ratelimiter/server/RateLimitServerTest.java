@@ -0,0 +1,198 @@
+package io.github.ckaanf.ratelimiter.server;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+import io.github.ckaanf.ratelimiter.core.StorageResult;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 루프백 판정 서버와 원격 저장소 클라이언트 테스트
+ */
+class RateLimitServerTest {
+
+    private RateLimiterRegistry registry;
+    private RateLimitServer server;
+    private RemoteRateLimiterStorage storage;
+    private RateLimiterConfig config;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = RateLimiterRegistry.create();
+        server = new RateLimitServer(registry, new MemoryStorageConfig(),
+                new InetSocketAddress("127.0.0.1", 0), 2).start();
+
+        RemoteStorageConfig storageConfig = RemoteStorageConfig.localhost(server.getPort());
+        storage = new RemoteRateLimiterStorage(storageConfig);
+        config = new RateLimiterConfig(
+                "test-key",
+                new TokenBucketAlgorithmConfig(10, 1, Duration.ofHours(1), 10),
+                storageConfig
+        );
+        storage.initialize(config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.shutdown();
+        server.close();
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("토큰 소비 성공 후 부족하면 대기 시간과 함께 거부")
+    void shouldConsumeAndRejectWithWaitTime() {
+        // When
+        StorageResult first = storage.tryConsume(StorageContext.forConsume("test-key", 10, config));
+        StorageResult second = storage.tryConsume(StorageContext.forConsume("test-key", 1, config));
+
+        // Then
+        assertThat(first.isSuccess()).isTrue();
+        assertThat(first.getAvailableTokens()).isZero();
+        assertThat(second.isSuccess()).isFalse();
+        assertThat(second.getWaitTime()).isPositive();
+    }
+
+    @Test
+    @DisplayName("배치 소비는 키별로 독립 판정")
+    void batchShouldDecideEachKeyIndependently() {
+        // Given
+        storage.tryConsume(StorageContext.forConsume("exhausted", 10, config));
+
+        // When
+        List<StorageResult> results = storage.tryConsumeAll(List.of(
+                StorageContext.forConsume("a", 3, config),
+                StorageContext.forConsume("exhausted", 1, config),
+                StorageContext.forConsume("b", 5, config)
+        ), false);
+
+        // Then
+        assertThat(results).extracting(StorageResult::isSuccess).containsExactly(true, false, true);
+        assertThat(results.get(0).getAvailableTokens()).isEqualTo(7);
+        assertThat(results.get(2).getAvailableTokens()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("all-or-nothing 배치는 하나라도 실패하면 아무 토큰도 소비하지 않음")
+    void allOrNothingShouldAbortWholeBatch() {
+        // Given
+        storage.tryConsume(StorageContext.forConsume("exhausted", 10, config));
+
+        // When
+        List<StorageResult> results = storage.tryConsumeAll(List.of(
+                StorageContext.forConsume("a", 3, config),
+                StorageContext.forConsume("exhausted", 1, config)
+        ), true);
+
+        // Then
+        assertThat(results).noneMatch(StorageResult::isSuccess);
+        assertThat(results.get(0).getMetadata()).containsEntry("batchAborted", true);
+        assertThat(storage.getTokenState(StorageContext.forQuery("a", config)).getAvailableTokens()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("조정으로 토큰을 돌려받고 조회에 반영")
+    void adjustShouldBeVisibleInQuery() {
+        // Given
+        storage.tryConsume(StorageContext.forConsume("test-key", 6, config));
+
+        // When
+        StorageResult adjusted = storage.adjust(StorageContext.forAdjust("test-key", -4, config));
+        StorageResult state = storage.getTokenState(StorageContext.forQuery("test-key", config));
+
+        // Then
+        assertThat(adjusted.getAvailableTokens()).isEqualTo(8);
+        assertThat(state.getAvailableTokens()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("파이프라이닝된 동시 비동기 요청도 용량을 초과해 허용하지 않음")
+    void pipelinedRequestsShouldNotExceedCapacity() {
+        // When
+        List<CompletableFuture<StorageResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(storage.tryConsumeAsync(StorageContext.forConsume("shared", 1, config)).toCompletableFuture());
+        }
+        long allowed = futures.stream().map(CompletableFuture::join).filter(StorageResult::isSuccess).count();
+
+        // Then
+        assertThat(allowed).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("서버에서 거부된 요청은 예외로 전달되고 연결은 유지")
+    void serverErrorShouldSurfaceAsException() {
+        // When & Then
+        assertThatThrownBy(() -> storage.tryConsume(StorageContext.forConsume("test-key", 0, config)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Tokens must be positive");
+        assertThat(storage.tryConsume(StorageContext.forConsume("test-key", 1, config)).isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("배치에 잘못된 항목이 있으면 앞 항목도 적용하지 않고 전체를 거부")
+    void invalidEntryShouldRejectWholeBatch() {
+        // When & Then
+        assertThatThrownBy(() -> storage.tryConsumeAll(List.of(
+                StorageContext.forConsume("first", 3, config),
+                StorageContext.forConsume("second", 0, config)
+        ), false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Tokens must be positive");
+        assertThat(storage.getTokenState(StorageContext.forQuery("first", config)).getAvailableTokens()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 서버에 연결할 수 없어도 예외를 던지지 않고 실패한 future를 반환")
+    void asyncRequestShouldFailFutureWhenServerIsDown() throws Exception {
+        // Given - 닫힌 서버 포트
+        RateLimitServer stopped = new RateLimitServer(registry, new MemoryStorageConfig(),
+                new InetSocketAddress("127.0.0.1", 0), 1).start();
+        int port = stopped.getPort();
+        stopped.close();
+        RemoteRateLimiterStorage unreachable = new RemoteRateLimiterStorage(new RemoteStorageConfig(
+                "127.0.0.1", port, Duration.ofMillis(200), Duration.ofSeconds(1)));
+
+        // When
+        CompletableFuture<StorageResult> future = unreachable
+                .tryConsumeAsync(StorageContext.forConsume("user", 1, config)).toCompletableFuture();
+
+        // Then
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("Failed to connect");
+        unreachable.shutdown();
+    }
+
+    @Test
+    @DisplayName("레지스트리에서 원격 저장소 설정으로 Rate Limiter 생성")
+    void registryShouldCreateRemoteLimiter() {
+        // Given
+        RateLimiter limiter = registry.getRateLimiter(new RateLimiterConfig(
+                "registry-key",
+                new TokenBucketAlgorithmConfig(2, 1, Duration.ofHours(1), 2),
+                RemoteStorageConfig.localhost(server.getPort())
+        ));
+
+        // When & Then
+        assertThat(limiter.tryConsume("user", 1)).isTrue();
+        assertThat(limiter.tryConsume("user", 1)).isTrue();
+        assertThat(limiter.tryConsume("user", 1)).isFalse();
+    }
+}
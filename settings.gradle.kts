@@ -12,6 +12,9 @@ include(":core")
 include(":algorithms:token-bucket")
 include(":storage:inmemory")
 include(":storage:redis")
+include(":storage:mmap")
+include(":server")
 include(":integrations:spring-boot-starter")
+include(":integrations:envoy-rls")
 include(":examples:api-rate-limiting")
 include(":examples:spring-boot-example")
\ No newline at end of file
@@ -0,0 +1,173 @@
+package io.github.ckaanf.ratelimiter.inmemory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 메모리 저장소 스냅샷의 바이너리 형식
+ *
+ * <pre>
+ * 헤더:  "RLSN" | 버전 | 스냅샷 시각 (epoch 밀리초)
+ * 레코드: CONFIG | 용량 | 리필 토큰 수 | 리필 주기 (나노초) | 초기 토큰 수
+ *        BUCKET | 설정 번호 | 키 길이 | 키 (UTF-8) | 잔량 (zigzag) | 마지막 리필 경과 (나노초) | 마지막 접근 경과 (나노초)
+ *        END    | 버킷 수
+ * </pre>
+ * 숫자는 모두 varint이며, 설정은 처음 나올 때 한 번만 기록하고 이후에는 등장 순서 번호로 참조합니다.
+ * 시각은 스냅샷 시점 기준의 경과 시간이므로 복원하는 쪽의 시간 소스와 무관합니다.
+ */
+final class BucketSnapshotFormat {
+
+    static final int VERSION = 1;
+    static final int CONFIG = 1;
+    static final int BUCKET = 2;
+    static final int END = 0;
+
+    private static final byte[] MAGIC = {'R', 'L', 'S', 'N'};
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_VARINT_SIZE = 10;
+
+    private BucketSnapshotFormat() {
+    }
+
+    /**
+     * 버퍼에 모아 채널에 쓰는 varint 기록기
+     */
+    static final class Writer {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        Writer(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        void writeHeader(long snapshotEpochMillis) throws IOException {
+            buffer.put(MAGIC);
+            writeVarLong(VERSION);
+            writeVarLong(snapshotEpochMillis);
+        }
+
+        void writeVarLong(long value) throws IOException {
+            ensure(MAX_VARINT_SIZE);
+            while ((value & ~0x7FL) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        void writeZigZag(long value) throws IOException {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            for (int offset = 0; offset < bytes.length; ) {
+                ensure(1);
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * 채널에서 버퍼 단위로 읽는 varint 판독기
+     */
+    static final class Reader {
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).flip();
+
+        Reader(ReadableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * 헤더 검증
+         *
+         * @return 스냅샷 시각 (epoch 밀리초)
+         */
+        long readHeader() throws IOException {
+            ensure(MAGIC.length);
+            for (byte expected : MAGIC) {
+                if (buffer.get() != expected) {
+                    throw new IOException("Not a rate limiter snapshot");
+                }
+            }
+            long version = readVarLong();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version: " + version);
+            }
+            return readVarLong();
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                ensure(1);
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint in snapshot");
+        }
+
+        int readVarInt() throws IOException {
+            long value = readVarLong();
+            if (value < 0 || value > Integer.MAX_VALUE) {
+                throw new IOException("Value out of range in snapshot: " + value);
+            }
+            return (int) value;
+        }
+
+        long readZigZag() throws IOException {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() throws IOException {
+            int length = readVarInt();
+            byte[] bytes = new byte[length];
+            for (int offset = 0; offset < length; ) {
+                ensure(1);
+                int chunk = Math.min(buffer.remaining(), length - offset);
+                buffer.get(bytes, offset, chunk);
+                offset += chunk;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Truncated snapshot");
+                }
+            }
+            buffer.flip();
+        }
+    }
+}
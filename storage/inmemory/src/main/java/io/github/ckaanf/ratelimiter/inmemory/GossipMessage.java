@@ -0,0 +1,34 @@
+package io.github.ckaanf.ratelimiter.inmemory;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 노드 하나가 한 라운드 동안 요청받은 키별 토큰 수와, 라운드를 마친 뒤의 키별 몫
+ * 요청이 없던 라운드에도 빈 메시지를 보내 살아 있음을 알림
+ */
+public final class GossipMessage {
+
+    private final String nodeId;
+    private final Map<String, Long> deltas;
+    private final Map<String, Double> shares;
+
+    public GossipMessage(String nodeId, Map<String, Long> deltas, Map<String, Double> shares) {
+        this.nodeId = Objects.requireNonNull(nodeId, "Node id cannot be null");
+        this.deltas = Map.copyOf(deltas);
+        this.shares = Map.copyOf(shares);
+    }
+
+    public GossipMessage(String nodeId, Map<String, Long> deltas) {
+        this(nodeId, deltas, Map.of());
+    }
+
+    public String getNodeId() { return nodeId; }
+    public Map<String, Long> getDeltas() { return deltas; }
+    public Map<String, Double> getShares() { return shares; }
+
+    @Override
+    public String toString() {
+        return "GossipMessage{" + nodeId + ", keys=" + deltas.size() + ", shares=" + shares.size() + "}";
+    }
+}
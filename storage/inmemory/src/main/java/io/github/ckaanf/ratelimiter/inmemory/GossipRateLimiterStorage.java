@@ -0,0 +1,442 @@
+package io.github.ckaanf.ratelimiter.inmemory;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.ConsumeDecision;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+import io.github.ckaanf.ratelimiter.core.StorageResult;
+import io.github.ckaanf.ratelimiter.core.time.TimeSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가십으로 수요를 공유하는 근사 전역 한도 저장소 (eventually consistent)
+ *
+ * <p>노드마다 키별 몫(share)을 두고 한도 × 몫 크기의 로컬 버킷으로 판정하므로, 판정은 항상 메모리 저장소 속도입니다.
+ * 주기마다 키별 요청량(거부된 요청 포함)과 자기 몫을 다른 노드에 알리고, 관찰된 수요에 비례하도록 몫을 다시 나눕니다.
+ *
+ * <p>몫은 다른 노드들이 알린 몫(알리지 않은 노드는 균등 몫)을 뺀 나머지보다 커지지 않고,
+ * 라운드마다 {@code maxError / 노드 수}보다 크게 늘지 않습니다. 그래서 노드들이 한 라운드 늦은 몫을 보고 동시에 몫을 키워도
+ * 몫의 합은 {@code 1 + maxError}를 넘지 않습니다 (메시지가 한 라운드 안에 도착하고 멤버가 바뀌지 않는 동안).
+ * 로컬 버킷 용량은 한도 × 몫을 내림하므로 노드 용량의 합도 한도의 {@code 1 + maxError}배를 넘지 않으며,
+ * 몫이 한 토큰보다 작은 노드는 몫을 받을 때까지 요청을 거부합니다 (작은 한도를 많은 노드가 나누면 처음 몇 라운드는 거부될 수 있음).
+ *
+ * <p>"플릿 전체 테넌트당 분당 1만 건"처럼 엄격한 조정이 과한 거친 한도에 적합합니다.
+ * 결과의 남은 토큰 수는 이 노드 몫 기준입니다.
+ */
+public class GossipRateLimiterStorage implements RateLimiterStorage {
+
+    // 라운드별 소비량에 대한 지수 이동 평균 가중치
+    private static final double DEMAND_SMOOTHING = 0.5;
+    // 이보다 작은 수요는 없는 것으로 봄
+    private static final double MIN_RATE = 0.01;
+    // 이보다 작은 몫 변화는 무시하여 버킷 재조정을 줄임
+    private static final double SHARE_EPSILON = 0.001;
+    // 이 라운드 수 동안 메시지가 없는 노드는 빠진 것으로 봄
+    private static final int PEER_EXPIRY_ROUNDS = 3;
+    // 몫 × 한도의 부동소수점 오차로 내림이 한 토큰 모자라지 않도록 더하는 값
+    private static final double ROUNDING_SLACK = 1e-9;
+
+    private final GossipStorageConfig config;
+    private final InMemoryRateLimiterStorage local;
+    private final GossipTransport transport;
+    private final TimeSource timeSource;
+    private final ConcurrentHashMap<String, KeyState> keys = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> peerLastRound = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private volatile long round;
+
+    public GossipRateLimiterStorage(GossipStorageConfig config) {
+        this.config = config;
+        this.local = new InMemoryRateLimiterStorage(config.getLocalStorage());
+        this.transport = config.getTransport();
+        this.timeSource = local.getTimeSource();
+        transport.subscribe(this::receive);
+
+        Duration interval = config.getGossipInterval();
+        if (interval.isZero()) {
+            this.scheduler = null;
+        } else {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "gossip-storage-" + config.getNodeId());
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleAtFixedRate(this::runGossipRoundSafely,
+                    interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public String getType() {
+        return "gossip";
+    }
+
+    @Override
+    public StorageResult tryConsume(StorageContext context) {
+        KeyState state = state(context.getKey());
+        state.requested.add(context.getTokens());
+        ScaledConfig scaled = state.scaled(context.getConfig());
+        if (scaled.config == null) {
+            return StorageResult.failure(0, scaled.waitTime);
+        }
+        return local.tryConsume(scaled.scale(context));
+    }
+
+    @Override
+    public long tryConsumeDecision(StorageContext context) {
+        KeyState state = state(context.getKey());
+        state.requested.add(context.getTokens());
+        ScaledConfig scaled = state.scaled(context.getConfig());
+        if (scaled.config == null) {
+            return ConsumeDecision.rejected(0, scaled.waitTime.toNanos());
+        }
+        return local.tryConsumeDecision(scaled.scale(context));
+    }
+
+    /**
+     * 몫이 있는 항목만 로컬 저장소에 한 번에 전달
+     * 몫이 한 토큰보다 작은 항목은 거부되며, all-or-nothing 모드에서는 이때 나머지 항목도 소비하지 않음
+     */
+    @Override
+    public List<StorageResult> tryConsumeAll(List<StorageContext> contexts, boolean allOrNothing) {
+        int size = contexts.size();
+        ScaledConfig[] configs = new ScaledConfig[size];
+        List<StorageContext> scaled = new ArrayList<>(size);
+        boolean unshared = false;
+        for (int i = 0; i < size; i++) {
+            StorageContext context = contexts.get(i);
+            KeyState state = state(context.getKey());
+            state.requested.add(context.getTokens());
+            configs[i] = state.scaled(context.getConfig());
+            if (configs[i].config == null) {
+                unshared = true;
+            } else {
+                scaled.add(configs[i].scale(context));
+            }
+        }
+
+        if (!unshared) {
+            return local.tryConsumeAll(scaled, allOrNothing);
+        }
+        List<StorageResult> localResults = allOrNothing ? null : local.tryConsumeAll(scaled, false);
+        List<StorageResult> results = new ArrayList<>(size);
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            if (configs[i].config == null) {
+                results.add(StorageResult.failure(0, configs[i].waitTime));
+            } else if (localResults != null) {
+                results.add(localResults.get(next++));
+            } else {
+                StorageContext aborted = scaled.get(next++);
+                StorageContext query = StorageContext.forQuery(aborted.getKey(), aborted.getConfig());
+                results.add(StorageResult.aborted(local.getTokenState(query).getAvailableTokens()));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public StorageResult adjust(StorageContext context) {
+        KeyState state = state(context.getKey());
+        state.requested.add(context.getTokens());
+        ScaledConfig scaled = state.scaled(context.getConfig());
+        if (scaled.config == null) {
+            return StorageResult.adjusted(0, 0);
+        }
+        return local.adjust(scaled.scale(context));
+    }
+
+    @Override
+    public boolean supportsAdjust() {
+        return true;
+    }
+
+    @Override
+    public StorageResult getTokenState(StorageContext context) {
+        ScaledConfig scaled = state(context.getKey()).scaled(context.getConfig());
+        if (scaled.config == null) {
+            return StorageResult.query(0, timeSource.instant().plus(scaled.waitTime));
+        }
+        return local.getTokenState(scaled.scale(context));
+    }
+
+    /**
+     * 가십 라운드 한 번 실행
+     *
+     * <p>받은 요청량과 지난 라운드 이후의 요청량으로 수요를 갱신하여 몫을 다시 계산하고,
+     * 요청량과 균등 몫이 아닌 키의 새 몫을 다른 노드에 보냅니다.
+     * 가십 주기가 0이면 호출자가 직접 호출해야 합니다.
+     */
+    public synchronized void runGossipRound() {
+        long current = ++round;
+        peerLastRound.values().removeIf(lastRound -> current - lastRound > PEER_EXPIRY_ROUNDS);
+        int nodes = clusterSize();
+
+        Map<String, Long> deltas = new HashMap<>();
+        Map<String, Double> shares = new HashMap<>();
+        Iterator<Map.Entry<String, KeyState>> iterator = keys.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, KeyState> entry = iterator.next();
+            KeyState state = entry.getValue();
+            long requested = state.requested.sumThenReset();
+            if (requested != 0) {
+                deltas.put(entry.getKey(), requested);
+            }
+
+            if (state.rebalance(requested, nodes)) {
+                iterator.remove(); // 어느 노드에서도 수요가 없는 키
+            } else if (state.share != 1.0 / nodes) {
+                // 균등 몫은 알리지 않아도 다른 노드가 그렇게 가정
+                shares.put(entry.getKey(), state.share);
+            }
+        }
+
+        transport.publish(new GossipMessage(config.getNodeId(), deltas, shares));
+    }
+
+    /**
+     * 이 노드의 키별 몫 (아직 사용하지 않은 키는 균등 몫)
+     */
+    public double getShare(String key) {
+        KeyState state = keys.get(key);
+        return state != null ? state.share : 1.0 / clusterSize();
+    }
+
+    /**
+     * 최근 메시지를 보낸 다른 노드 수
+     */
+    public int getLivePeerCount() {
+        return peerLastRound.size();
+    }
+
+    @Override
+    public long getBucketCount() {
+        return local.getBucketCount();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return local.getEvictionCount();
+    }
+
+    @Override
+    public void initialize(RateLimiterConfig config) {
+        local.initialize(config);
+    }
+
+    @Override
+    public void cleanup() {
+        local.cleanup();
+    }
+
+    @Override
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        transport.close();
+        local.shutdown();
+    }
+
+    public GossipStorageConfig getConfig() {
+        return config;
+    }
+
+    // === 내부 메소드들 ===
+
+    private KeyState state(String key) {
+        KeyState state = keys.get(key);
+        if (state == null) {
+            state = keys.computeIfAbsent(key, k -> new KeyState(1.0 / clusterSize()));
+        }
+        return state;
+    }
+
+    private int clusterSize() {
+        return Math.max(transport.clusterSize(), peerLastRound.size() + 1);
+    }
+
+    private void receive(GossipMessage message) {
+        String nodeId = message.getNodeId();
+        if (nodeId.equals(config.getNodeId())) {
+            return;
+        }
+        long received = round;
+        peerLastRound.put(nodeId, received);
+        message.getDeltas().forEach((key, delta) -> state(key).peerDemand(nodeId).pending.add(delta));
+
+        // 다른 노드가 몫을 키웠으면 라운드를 기다리지 않고 바로 이 노드 몫을 줄임
+        int nodes = clusterSize();
+        message.getShares().forEach((key, share) -> {
+            KeyState state = share > 1.0 / nodes ? state(key) : keys.get(key);
+            if (state != null) {
+                state.peerDemand(nodeId).announce(share, received);
+                state.limitShare(nodes);
+            }
+        });
+    }
+
+    private void runGossipRoundSafely() {
+        try {
+            runGossipRound();
+        } catch (RuntimeException e) {
+            System.err.println("Gossip round failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 키별 수요와 몫
+     */
+    private final class KeyState {
+        private final LongAdder requested = new LongAdder();
+        private final ConcurrentHashMap<String, PeerDemand> peers = new ConcurrentHashMap<>();
+        private volatile double share;
+        private double localRate;
+
+        // 요청 설정과 그에 맞춰 몫만큼 줄인 설정 (요청 설정이 바뀌거나 몫이 바뀌면 다시 만듦)
+        private volatile ScaledConfig scaled;
+
+        KeyState(double share) {
+            this.share = share;
+        }
+
+        PeerDemand peerDemand(String nodeId) {
+            return peers.computeIfAbsent(nodeId, id -> new PeerDemand());
+        }
+
+        ScaledConfig scaled(RateLimiterConfig requested) {
+            ScaledConfig current = scaled;
+            if (current == null || current.requested != requested || current.share != share) {
+                current = new ScaledConfig(requested, share, config.getGossipInterval());
+                scaled = current;
+            }
+            return current;
+        }
+
+        /**
+         * 수요 갱신 후 몫 재계산
+         *
+         * @return 어느 노드에서도 수요가 없어 상태를 버려도 되면 true
+         */
+        synchronized boolean rebalance(long requestedThisRound, int nodes) {
+            localRate = DEMAND_SMOOTHING * requestedThisRound + (1 - DEMAND_SMOOTHING) * localRate;
+
+            double peerRate = 0;
+            Iterator<Map.Entry<String, PeerDemand>> iterator = peers.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, PeerDemand> entry = iterator.next();
+                if (!peerLastRound.containsKey(entry.getKey())) {
+                    iterator.remove();
+                    continue;
+                }
+                PeerDemand demand = entry.getValue();
+                demand.rate = DEMAND_SMOOTHING * demand.pending.sumThenReset() + (1 - DEMAND_SMOOTHING) * demand.rate;
+                peerRate += demand.rate;
+            }
+
+            double total = localRate + peerRate;
+            double target = total < MIN_RATE
+                    ? 1.0 / nodes
+                    : config.getReservedShare() / nodes + (1 - config.getReservedShare()) * localRate / total;
+            double next = Math.min(Math.min(target, share + config.getMaxError() / nodes), headroom(nodes));
+            // 줄이는 변화는 작아도 바로 반영하여 다른 노드 몫과의 합이 늘지 않게 함
+            if (next < share || next - share >= SHARE_EPSILON) {
+                share = next;
+            }
+
+            return total < MIN_RATE && requested.sum() == 0 && Math.abs(share - 1.0 / nodes) < SHARE_EPSILON;
+        }
+
+        /**
+         * 다른 노드가 알린 몫을 반영하여 이 노드 몫을 줄임 (늘리지는 않음)
+         */
+        synchronized void limitShare(int nodes) {
+            double limit = headroom(nodes);
+            if (share > limit) {
+                share = limit;
+            }
+        }
+
+        /**
+         * 1에서 다른 노드들의 몫을 뺀 나머지 (최근 메시지에 몫이 없던 노드는 균등 몫으로 봄)
+         */
+        private double headroom(int nodes) {
+            double uniform = 1.0 / nodes;
+            double others = (nodes - 1) * uniform;
+            for (Map.Entry<String, PeerDemand> entry : peers.entrySet()) {
+                Long lastRound = peerLastRound.get(entry.getKey());
+                PeerDemand demand = entry.getValue();
+                if (lastRound != null && demand.shareRound == lastRound) {
+                    others += demand.share - uniform;
+                }
+            }
+            return Math.max(0, 1 - others);
+        }
+    }
+
+    private static final class PeerDemand {
+        private final LongAdder pending = new LongAdder();
+        private double rate;
+        // 마지막으로 알린 몫과 그 메시지를 받은 라운드
+        private volatile double share;
+        private volatile long shareRound = -1;
+
+        void announce(double share, long round) {
+            this.share = share;
+            this.shareRound = round;
+        }
+    }
+
+    /**
+     * 한도 × 몫 크기로 줄인 버킷 설정
+     * 용량과 초기 토큰 수는 내림하여 몫보다 크게 허용하지 않고, 리필 속도(토큰 / 주기)는 몫에 비례하도록
+     * 리필 토큰 수와 주기를 함께 조정. 용량이 한 토큰보다 작으면 설정이 없고, 다음 가십 라운드까지 기다리도록 안내
+     */
+    private static final class ScaledConfig {
+        private final RateLimiterConfig requested;
+        private final double share;
+        private final RateLimiterConfig config;
+        private final Duration waitTime;
+
+        ScaledConfig(RateLimiterConfig requested, double share, Duration gossipInterval) {
+            this.requested = requested;
+            this.share = share;
+
+            TokenBucketAlgorithmConfig bucket = (TokenBucketAlgorithmConfig) requested.getAlgorithmConfig();
+            this.waitTime = gossipInterval.isZero() ? bucket.getRefillPeriod() : gossipInterval;
+            long capacity = (long) Math.floor(bucket.getCapacity() * share + ROUNDING_SLACK);
+            if (capacity < 1) {
+                this.config = null;
+                return;
+            }
+            double refillTokens = bucket.getRefillTokens() * share;
+            long scaledRefillTokens = Math.max(1, Math.round(refillTokens));
+            long refillPeriodNanos = Math.max(1,
+                    Math.round(bucket.getRefillPeriod().toNanos() * (scaledRefillTokens / refillTokens)));
+            long initialTokens = Math.min(capacity, (long) Math.floor(bucket.getInitialTokens() * share + ROUNDING_SLACK));
+
+            this.config = requested.withAlgorithmConfig(new TokenBucketAlgorithmConfig(
+                    capacity, scaledRefillTokens, Duration.ofNanos(refillPeriodNanos), initialTokens));
+        }
+
+        StorageContext scale(StorageContext context) {
+            return switch (context.getOperation()) {
+                case CONSUME -> StorageContext.forConsume(context.getKey(), context.getTokens(), config);
+                case ADJUST -> StorageContext.forAdjust(context.getKey(), context.getTokens(), config);
+                default -> StorageContext.forQuery(context.getKey(), config);
+            };
+        }
+    }
+}
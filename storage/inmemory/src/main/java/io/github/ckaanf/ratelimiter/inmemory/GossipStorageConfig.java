@@ -0,0 +1,103 @@
+package io.github.ckaanf.ratelimiter.inmemory;
+
+import io.github.ckaanf.ratelimiter.core.StorageConfig;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 가십 기반 근사 전역 한도 저장소 설정
+ */
+public final class GossipStorageConfig implements StorageConfig {
+
+    private final String nodeId;
+    private final GossipTransport transport;
+    private final Duration gossipInterval;
+    private final double maxError;
+    private final double reservedShare;
+    private final MemoryStorageConfig localStorage;
+
+    /**
+     * @param nodeId         이 노드의 ID
+     * @param transport      가십 전달 계층
+     * @param gossipInterval 가십 주기 (0이면 자동 전파 없이 {@link GossipRateLimiterStorage#runGossipRound()} 직접 호출)
+     * @param maxError       한도 대비 허용하는 전역 초과 비율 (몫이 라운드마다 이 값 / 노드 수 이상 커지지 않음)
+     * @param reservedShare  수요와 무관하게 노드들에 고르게 나눠 두는 한도 비율 (유휴 노드의 첫 요청 몫)
+     * @param localStorage   로컬 버킷 저장소 설정
+     */
+    public GossipStorageConfig(String nodeId, GossipTransport transport, Duration gossipInterval,
+                               double maxError, double reservedShare, MemoryStorageConfig localStorage) {
+        this.nodeId = Objects.requireNonNull(nodeId, "Node id cannot be null");
+        this.transport = Objects.requireNonNull(transport, "Transport cannot be null");
+        this.gossipInterval = Objects.requireNonNull(gossipInterval, "Gossip interval cannot be null");
+        this.maxError = maxError;
+        this.reservedShare = reservedShare;
+        this.localStorage = Objects.requireNonNull(localStorage, "Local storage config cannot be null");
+        validate();
+    }
+
+    public GossipStorageConfig(String nodeId, GossipTransport transport) {
+        this(nodeId, transport, Duration.ofMillis(100), 0.05, 0.1, new MemoryStorageConfig());
+    }
+
+    @Override
+    public String getType() {
+        return "gossip";
+    }
+
+    @Override
+    public void validate() {
+        if (nodeId.isBlank()) {
+            throw new IllegalArgumentException("Node id cannot be blank");
+        }
+        if (gossipInterval.isNegative()) {
+            throw new IllegalArgumentException("Gossip interval cannot be negative");
+        }
+        if (!(maxError > 0 && maxError <= 1)) {
+            throw new IllegalArgumentException("Max error must be in (0, 1]: " + maxError);
+        }
+        if (!(reservedShare >= 0 && reservedShare < 1)) {
+            throw new IllegalArgumentException("Reserved share must be in [0, 1): " + reservedShare);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getConnectionProperties() {
+        Map<String, Object> props = new HashMap<>();
+        props.put("nodeId", nodeId);
+        return props;
+    }
+
+    @Override
+    public Map<String, Object> getPerformanceProperties() {
+        Map<String, Object> props = new HashMap<>();
+        props.put("gossipIntervalMs", gossipInterval.toMillis());
+        props.put("maxError", maxError);
+        props.put("reservedShare", reservedShare);
+        return props;
+    }
+
+    public GossipStorageConfig withGossipInterval(Duration gossipInterval) {
+        return new GossipStorageConfig(nodeId, transport, gossipInterval, maxError, reservedShare, localStorage);
+    }
+
+    public GossipStorageConfig withMaxError(double maxError) {
+        return new GossipStorageConfig(nodeId, transport, gossipInterval, maxError, reservedShare, localStorage);
+    }
+
+    // === Getters ===
+
+    public String getNodeId() { return nodeId; }
+    public GossipTransport getTransport() { return transport; }
+    public Duration getGossipInterval() { return gossipInterval; }
+    public double getMaxError() { return maxError; }
+    public double getReservedShare() { return reservedShare; }
+    public MemoryStorageConfig getLocalStorage() { return localStorage; }
+
+    @Override
+    public String toString() {
+        return String.format("GossipStorage{node=%s, interval=%s, maxError=%.3f}", nodeId, gossipInterval, maxError);
+    }
+}
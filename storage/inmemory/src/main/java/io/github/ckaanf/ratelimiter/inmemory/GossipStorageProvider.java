@@ -0,0 +1,36 @@
+package io.github.ckaanf.ratelimiter.inmemory;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.StorageConfig;
+import io.github.ckaanf.ratelimiter.core.StorageProvider;
+
+/**
+ * 가십 기반 근사 전역 한도 저장소 프로바이더
+ * SPI를 통해 자동 등록됨
+ */
+public class GossipStorageProvider implements StorageProvider {
+
+    @Override
+    public String getStorageType() {
+        return "gossip";
+    }
+
+    @Override
+    public RateLimiterStorage create(StorageConfig config) {
+        if (!(config instanceof GossipStorageConfig)) {
+            throw new IllegalArgumentException("Invalid storage config type: " + config.getClass());
+        }
+
+        return new GossipRateLimiterStorage((GossipStorageConfig) config);
+    }
+
+    @Override
+    public boolean supports(StorageConfig config) {
+        return config instanceof GossipStorageConfig;
+    }
+
+    @Override
+    public int getPriority() {
+        return 50;
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.ckaanf.ratelimiter.inmemory;
+
+import java.util.function.Consumer;
+
+/**
+ * 가십 메시지 전달 계층
+ *
+ * <p>전달은 최선 노력(best effort)이면 충분합니다. 메시지가 유실되면 그만큼 수요 추정이 늦어질 뿐이며,
+ * 판정은 항상 로컬에서 이루어집니다.
+ */
+public interface GossipTransport {
+
+    /**
+     * 예상 클러스터 노드 수 (자기 포함)
+     * 아직 메시지를 받지 못한 노드 몫을 처음부터 남겨 두는 데 사용
+     */
+    int clusterSize();
+
+    /**
+     * 다른 모든 노드에 메시지 전송
+     */
+    void publish(GossipMessage message);
+
+    /**
+     * 다른 노드의 메시지 수신 리스너 등록 (여러 스레드에서 호출될 수 있음)
+     */
+    void subscribe(Consumer<GossipMessage> listener);
+
+    /**
+     * 전달 계층 종료
+     */
+    default void close() {
+    }
+}
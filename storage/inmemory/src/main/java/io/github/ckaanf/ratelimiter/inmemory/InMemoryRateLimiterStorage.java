@@ -1,21 +1,41 @@
 package io.github.ckaanf.ratelimiter.inmemory;
 
 import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.ConsumeDecision;
 import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
 import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
 import io.github.ckaanf.ratelimiter.core.StorageContext;
 import io.github.ckaanf.ratelimiter.core.StorageResult;
-
+import io.github.ckaanf.ratelimiter.core.time.CoarseTimeSource;
+import io.github.ckaanf.ratelimiter.core.time.TimeSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Map;import java.util.concurrent.ConcurrentHashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 
 /**
  * 메모리 기반 Rate Limiter 저장소
@@ -24,12 +44,22 @@ import java.util.concurrent.locks.ReentrantLock;
 public class InMemoryRateLimiterStorage implements RateLimiterStorage {
 
     private final MemoryStorageConfig config;
+    private final TimeSource timeSource;
+    // 설정의 coarse 간격으로 이 저장소가 직접 만든 시간 소스 (종료 시 닫음, 없으면 null)
+    private final CoarseTimeSource ownedClock;
     private final ConcurrentHashMap<String, TokenBucketEntry> buckets = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, Instant> lastAccessTimes = new ConcurrentHashMap<>();
     private final ScheduledExecutorService cleanupExecutor;
 
+    // 통계 조회 시 버킷 전체를 순회하지 않도록 저장소 단위로 누적
+    private final LongAdder totalRequested = new LongAdder();
+    private final LongAdder evictedEntries = new LongAdder();
+    // 정리 주기마다 교체되는 활성 버킷 집계 (버킷마다 주기당 한 번만 셈)
+    private volatile ActivityWindow activity = new ActivityWindow(0);
+
     public InMemoryRateLimiterStorage(MemoryStorageConfig config) {
         this.config = config;
+        this.ownedClock = config.getCoarseClockTick().isZero() ? null : TimeSource.coarse(config.getCoarseClockTick());
+        this.timeSource = ownedClock != null ? ownedClock : config.getTimeSource();
         this.cleanupExecutor = createCleanupExecutor();
 
         if (!config.getCleanupInterval().isZero()) {
@@ -48,35 +78,90 @@ public class InMemoryRateLimiterStorage implements RateLimiterStorage {
 
     @Override
     public StorageResult tryConsume(StorageContext context) {
-        String key = context.getKey();
-        long tokensToConsume = context.getTokens();
+        long now = timeSource.nanoTime();
+        TokenBucketEntry entry = getOrCreateEntry(context.getKey(), context.getConfig(), now);
 
-        updateLastAccess(key);
+        // 접근 시간 갱신 및 리필 수행
+        touch(entry, now);
+        entry.refillIfNeeded(now);
 
-        TokenBucketEntry entry = getOrCreateEntry(key, context.getConfig());
+        // 토큰 소비 시도
+        return entry.tryConsume(context.getTokens());
+    }
 
-        // 리필 수행
-        entry.refillIfNeeded();
+    @Override
+    public long tryConsumeDecision(StorageContext context) {
+        long now = timeSource.nanoTime();
+        TokenBucketEntry entry = getOrCreateEntry(context.getKey(), context.getConfig(), now);
 
-        // 토큰 소비 시도
-        return entry.tryConsume(tokensToConsume);
+        touch(entry, now);
+        entry.refillIfNeeded(now);
+
+        return entry.tryConsumeDecision(context.getTokens());
     }
 
     @Override
-    public StorageResult getTokenState(StorageContext context) {
-        String key = context.getKey();
+    public List<StorageResult> tryConsumeAll(List<StorageContext> contexts, boolean allOrNothing) {
+        int size = contexts.size();
+        long now = timeSource.nanoTime(); // 배치 전체에서 시간 소스는 한 번만 읽음
+
+        // 엔트리 조회를 먼저 한 번에 수행
+        TokenBucketEntry[] entries = new TokenBucketEntry[size];
+        for (int i = 0; i < size; i++) {
+            StorageContext context = contexts.get(i);
+            TokenBucketEntry entry = getOrCreateEntry(context.getKey(), context.getConfig(), now);
+            touch(entry, now);
+            entries[i] = entry;
+        }
 
-        updateLastAccess(key);
+        if (allOrNothing) {
+            return consumeAllOrNothing(contexts, entries, now);
+        }
 
-        TokenBucketEntry entry = buckets.get(key);
+        for (TokenBucketEntry entry : entries) {
+            entry.refillIfNeeded(now);
+        }
+
+        List<StorageResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(entries[i].tryConsume(contexts.get(i).getTokens()));
+        }
+        return results;
+    }
+
+    @Override
+    public StorageResult adjust(StorageContext context) {
+        long now = timeSource.nanoTime();
+        TokenBucketEntry entry = getOrCreateEntry(context.getKey(), context.getConfig(), now);
+
+        touch(entry, now);
+        entry.refillIfNeeded(now);
+
+        long applied = entry.adjust(context.getTokens());
+        return StorageResult.adjusted(entry.availableTokens.get(), applied);
+    }
+
+    @Override
+    public boolean supportsAdjust() {
+        return true;
+    }
+
+    @Override
+    public StorageResult getTokenState(StorageContext context) {
+        TokenBucketAlgorithmConfig algorithmConfig =
+                (TokenBucketAlgorithmConfig) context.getConfig().getAlgorithmConfig();
+
+        TokenBucketEntry entry = buckets.get(context.getKey());
         if (entry == null) {
             // 엔트리가 없으면 초기 상태 반환
-            TokenBucketAlgorithmConfig algorithmConfig =
-                    (TokenBucketAlgorithmConfig) context.getConfig().getAlgorithmConfig();
-            return StorageResult.query(algorithmConfig.getInitialTokens(), Instant.now());
+            return StorageResult.query(algorithmConfig.getInitialTokens(), timeSource.instant());
         }
 
-        entry.refillIfNeeded();
+        migrateIfNeeded(entry, algorithmConfig);
+
+        long now = timeSource.nanoTime();
+        touch(entry, now);
+        entry.refillIfNeeded(now);
         return entry.getState();
     }
 
@@ -89,21 +174,22 @@ public class InMemoryRateLimiterStorage implements RateLimiterStorage {
 
     @Override
     public void cleanup() {
+        activity = new ActivityWindow(activity.epoch + 1);
         if (config.getEntryTtl().isZero()) {
             return; // TTL이 0이면 정리하지 않음
         }
 
-        Instant cutoff = Instant.now().minus(config.getEntryTtl());
+        long cutoff = timeSource.nanoTime() - config.getEntryTtl().toNanos();
         int removedCount = 0;
 
-        for (Map.Entry<String, Instant> entry : lastAccessTimes.entrySet()) {
-            if (entry.getValue().isBefore(cutoff)) {
-                String key = entry.getKey();
-                buckets.remove(key);
-                lastAccessTimes.remove(key);
+        Iterator<TokenBucketEntry> iterator = buckets.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().lastAccessNanos - cutoff < 0) {
+                iterator.remove();
                 removedCount++;
             }
         }
+        evictedEntries.add(removedCount);
 
         // 메모리 사용량 제한 체크
         if (buckets.size() > config.getMaxEntries()) {
@@ -128,20 +214,297 @@ public class InMemoryRateLimiterStorage implements RateLimiterStorage {
                 Thread.currentThread().interrupt();
             }
         }
+        // 직접 만든 시간 소스만 닫음 (설정으로 받은 시간 소스는 다른 저장소와 공유될 수 있음)
+        if (ownedClock != null) {
+            ownedClock.close();
+        }
+    }
+
+    /**
+     * 키 조건에 맞는 버킷을 제거하고, 제거 시점의 설정과 잔량을 전달
+     * 클러스터 멤버십이 바뀌어 다른 노드가 소유하게 된 버킷을 넘겨줄 때 사용합니다.
+     *
+     * <p>제거와 동시에 진행 중이던 소비는 제거된 버킷에 반영되어 전달 값에서 빠질 수 있습니다.
+     *
+     * @param keyFilter 제거할 키 조건
+     * @param consumer  제거된 버킷의 키, 설정, 리필을 반영한 잔량을 받는 콜백
+     * @return 제거한 버킷 수
+     */
+    public int drainBuckets(Predicate<String> keyFilter, BucketConsumer consumer) {
+        long now = timeSource.nanoTime();
+        int drained = 0;
+
+        for (Map.Entry<String, TokenBucketEntry> bucket : buckets.entrySet()) {
+            String key = bucket.getKey();
+            TokenBucketEntry entry = bucket.getValue();
+            if (!keyFilter.test(key) || !buckets.remove(key, entry)) {
+                continue;
+            }
+
+            entry.refillIfNeeded(now);
+            consumer.accept(key, entry.config, entry.availableTokens.get());
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * {@link #drainBuckets}로 제거된 버킷을 받는 콜백
+     */
+    @FunctionalInterface
+    public interface BucketConsumer {
+        void accept(String key, TokenBucketAlgorithmConfig config, long availableTokens);
+    }
+
+    /**
+     * 모든 버킷 상태를 스냅샷으로 기록 (블루/그린 전환 시 새 인스턴스에 상태 전달용)
+     *
+     * <p>버킷을 하나씩 읽어 바로 기록하므로 전체 복사본을 만들지 않습니다. 버킷마다 설정, 잔량, 리필 시각은
+     * 리필/설정 교체와 같은 엔트리 잠금 아래에서 함께 읽어 서로 어긋나지 않게 하고, 기록은 잠금 밖에서 합니다.
+     * 소비는 이 잠금을 잡지 않으므로 스냅샷 중에도 {@link #tryConsume(StorageContext)}가 막히지 않습니다.
+     * 대신 스냅샷은 한 시점의 상태가 아니며, 순회 중 바뀐 버킷은 바뀌기 전이나 후의 값으로 기록됩니다.
+     * 매번 전체 버킷을 기록하며, 이전 스냅샷 이후 바뀐 버킷만 기록하는 증분 스냅샷은 지원하지 않습니다.
+     * 형식은 {@link BucketSnapshotFormat}을 참고하세요.
+     *
+     * @param channel 기록할 채널 (닫지 않음)
+     * @return 기록한 버킷 수
+     */
+    public long snapshot(WritableByteChannel channel) throws IOException {
+        BucketSnapshotFormat.Writer writer = new BucketSnapshotFormat.Writer(channel);
+        Map<TokenBucketAlgorithmConfig, Integer> configIds = new HashMap<>();
+        long now = timeSource.nanoTime();
+        long written = 0;
+
+        writer.writeHeader(timeSource.currentTimeMillis());
+        for (Map.Entry<String, TokenBucketEntry> bucket : buckets.entrySet()) {
+            TokenBucketEntry entry = bucket.getValue();
+            TokenBucketAlgorithmConfig bucketConfig;
+            long available;
+            long lastRefill;
+            entry.lock.lock();
+            try {
+                bucketConfig = entry.config;
+                available = entry.availableTokens.get();
+                lastRefill = entry.lastRefillNanos;
+            } finally {
+                entry.lock.unlock();
+            }
+
+            Integer configId = configIds.get(bucketConfig);
+            if (configId == null) {
+                configId = configIds.size();
+                configIds.put(bucketConfig, configId);
+                writer.writeVarLong(BucketSnapshotFormat.CONFIG);
+                writer.writeVarLong(bucketConfig.getCapacity());
+                writer.writeVarLong(bucketConfig.getRefillTokens());
+                writer.writeVarLong(bucketConfig.getRefillPeriod().toNanos());
+                writer.writeVarLong(bucketConfig.getInitialTokens());
+            }
+
+            writer.writeVarLong(BucketSnapshotFormat.BUCKET);
+            writer.writeVarLong(configId);
+            writer.writeString(bucket.getKey());
+            writer.writeZigZag(available);
+            writer.writeVarLong(Math.max(0, now - lastRefill));
+            writer.writeVarLong(Math.max(0, now - entry.lastAccessNanos));
+            written++;
+        }
+
+        writer.writeVarLong(BucketSnapshotFormat.END);
+        writer.writeVarLong(written);
+        writer.flush();
+        return written;
+    }
+
+    /**
+     * @see #snapshot(WritableByteChannel)
+     */
+    public long snapshot(OutputStream out) throws IOException {
+        long written = snapshot(Channels.newChannel(out));
+        out.flush();
+        return written;
+    }
+
+    /**
+     * 스냅샷으로 버킷 상태 복원
+     *
+     * <p>스냅샷 이후 흐른 시간만큼 리필 시각을 앞당겨 두므로, 다음 접근에서 그동안의 리필이 반영됩니다.
+     * 같은 키의 버킷이 이미 있으면 스냅샷 상태로 바뀝니다. 경과 시간은 두 인스턴스의 벽시계로 계산합니다.
+     * 버킷 수가 최대 항목 수를 넘으면 복원 중에 가장 오래 접근되지 않은 버킷부터 정리합니다.
+     *
+     * @param channel 읽을 채널 (닫지 않음)
+     * @return 스냅샷에서 읽은 버킷 수 (최대 항목 수를 넘어 정리된 버킷 포함)
+     * @throws IOException 형식이 맞지 않거나 스냅샷이 잘린 경우
+     */
+    public long restore(ReadableByteChannel channel) throws IOException {
+        BucketSnapshotFormat.Reader reader = new BucketSnapshotFormat.Reader(channel);
+        long snapshotMillis = reader.readHeader();
+        long now = timeSource.nanoTime();
+        long elapsed = TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeSource.currentTimeMillis() - snapshotMillis));
+        boolean enableMetrics = config.isEnableMetrics();
+
+        List<TokenBucketAlgorithmConfig> configs = new ArrayList<>();
+        long restored = 0;
+        while (true) {
+            int tag = reader.readVarInt();
+            switch (tag) {
+                case BucketSnapshotFormat.CONFIG:
+                    configs.add(new TokenBucketAlgorithmConfig(reader.readVarLong(), reader.readVarLong(),
+                            Duration.ofNanos(reader.readVarLong()), reader.readVarLong()));
+                    break;
+                case BucketSnapshotFormat.BUCKET:
+                    int configId = reader.readVarInt();
+                    if (configId >= configs.size()) {
+                        throw new IOException("Unknown config reference in snapshot: " + configId);
+                    }
+                    String key = reader.readString();
+                    long available = reader.readZigZag();
+                    long lastRefill = now - elapsed - reader.readVarLong();
+                    long lastAccess = now - elapsed - reader.readVarLong();
+                    buckets.put(key, new TokenBucketEntry(configs.get(configId), enableMetrics, timeSource,
+                            totalRequested, available, lastRefill, lastAccess));
+                    restored++;
+                    if (buckets.size() > config.getMaxEntries()) {
+                        cleanupOldestEntries();
+                    }
+                    break;
+                case BucketSnapshotFormat.END:
+                    long expected = reader.readVarLong();
+                    if (expected != restored) {
+                        throw new IOException("Snapshot declares " + expected + " buckets but contains " + restored);
+                    }
+                    return restored;
+                default:
+                    throw new IOException("Unknown record in snapshot: " + tag);
+            }
+        }
+    }
+
+    /**
+     * @see #restore(ReadableByteChannel)
+     */
+    public long restore(InputStream in) throws IOException {
+        return restore(Channels.newChannel(in));
     }
 
     // === 내부 메소드들 ===
 
-    private TokenBucketEntry getOrCreateEntry(String key, RateLimiterConfig config) {
-        return buckets.computeIfAbsent(key, k -> {
-            TokenBucketAlgorithmConfig algorithmConfig =
-                    (TokenBucketAlgorithmConfig) config.getAlgorithmConfig();
-            return new TokenBucketEntry(algorithmConfig, this.config.isEnableMetrics());
-        });
+    private TokenBucketEntry getOrCreateEntry(String key, RateLimiterConfig config, long now) {
+        TokenBucketAlgorithmConfig algorithmConfig = (TokenBucketAlgorithmConfig) config.getAlgorithmConfig();
+
+        TokenBucketEntry entry = buckets.get(key);
+        if (entry == null) {
+            return buckets.computeIfAbsent(key,
+                    k -> new TokenBucketEntry(algorithmConfig, this.config.isEnableMetrics(), timeSource, totalRequested,
+                            algorithmConfig.getInitialTokens(), now, now));
+        }
+
+        migrateIfNeeded(entry, algorithmConfig);
+        return entry;
+    }
+
+    /**
+     * 설정이 교체된 경우 다음 접근 시점에 버킷을 새 설정으로 옮김
+     * 값이 같은 다른 설정 객체(원격 노드가 보낸 설정 등)는 교체로 보지 않음
+     */
+    private void migrateIfNeeded(TokenBucketEntry entry, TokenBucketAlgorithmConfig algorithmConfig) {
+        if (entry.config != algorithmConfig && !entry.config.equals(algorithmConfig)) {
+            entry.migrate(algorithmConfig);
+        }
+    }
+
+    /**
+     * all-or-nothing 배치: 관련 버킷을 키 순서로 모두 잠근 뒤 잔량부터 확인하고, 모두 충분할 때만 소비
+     *
+     * <p>잠금 순서가 키 순서로 고정되어 키가 겹치는 배치끼리 교착되지 않으며, 잠금을 쥐는 동안에는
+     * 리필과 설정 교체가 끼어들지 않습니다. 단일 키 소비는 잠금 없이 진행되므로, 확인과 소비 사이에
+     * 다른 호출자가 토큰을 가져간 경우에만 이미 소비한 토큰을 되돌립니다.
+     */
+    private List<StorageResult> consumeAllOrNothing(List<StorageContext> contexts, TokenBucketEntry[] entries, long now) {
+        int size = contexts.size();
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer, String>comparing(i -> contexts.get(i).getKey())
+                .thenComparingInt(i -> System.identityHashCode(entries[i])));
+
+        List<TokenBucketEntry> locked = new ArrayList<>(size);
+        Set<TokenBucketEntry> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        try {
+            for (Integer i : order) {
+                TokenBucketEntry entry = entries[i];
+                if (seen.add(entry)) {
+                    entry.lock.lock();
+                    locked.add(entry);
+                    entry.refillTokens(now);
+                }
+            }
+
+            // 같은 키가 여러 번 나오면 요청 토큰을 합산하여 확인
+            Map<TokenBucketEntry, Long> required = new IdentityHashMap<>();
+            for (int i = 0; i < size; i++) {
+                long tokens = contexts.get(i).getTokens();
+                long needed = required.merge(entries[i], tokens, Long::sum);
+                if (entries[i].availableTokens.get() < needed) {
+                    return rejectBatch(contexts, entries, i, needed - tokens);
+                }
+            }
+
+            List<StorageResult> results = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                StorageResult result = entries[i].tryConsume(contexts.get(i).getTokens());
+                results.add(result);
+                if (!result.isSuccess()) {
+                    return rollbackBatch(contexts, entries, results, i);
+                }
+            }
+            return results;
+        } finally {
+            for (int i = locked.size() - 1; i >= 0; i--) {
+                locked.get(i).lock.unlock();
+            }
+        }
     }
 
-    private void updateLastAccess(String key) {
-        lastAccessTimes.put(key, Instant.now());
+    /**
+     * all-or-nothing 배치를 아무것도 소비하지 않은 채 거부
+     * 부족한 항목은 실패 결과, 나머지는 취소 결과로 반환
+     *
+     * @param reserved 부족한 항목보다 앞에서 같은 버킷에 이미 배정된 토큰 수
+     */
+    private List<StorageResult> rejectBatch(List<StorageContext> contexts, TokenBucketEntry[] entries,
+                                            int failedIndex, long reserved) {
+        List<StorageResult> rejected = new ArrayList<>(contexts.size());
+        for (int i = 0; i < contexts.size(); i++) {
+            if (i == failedIndex) {
+                rejected.add(entries[i].reject(contexts.get(i).getTokens(), reserved));
+            } else {
+                rejected.add(StorageResult.aborted(entries[i].availableTokens.get()));
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * all-or-nothing 배치에서 실패 지점 이전에 소비된 토큰을 되돌리고
+     * 모든 항목을 실패 결과로 반환
+     */
+    private List<StorageResult> rollbackBatch(List<StorageContext> contexts, TokenBucketEntry[] entries,
+                                              List<StorageResult> results, int failedIndex) {
+        for (int i = failedIndex - 1; i >= 0; i--) {
+            entries[i].adjust(-contexts.get(i).getTokens());
+        }
+
+        List<StorageResult> aborted = new ArrayList<>(contexts.size());
+        for (int i = 0; i < contexts.size(); i++) {
+            if (i == failedIndex) {
+                aborted.add(results.get(i));
+            } else {
+                aborted.add(StorageResult.aborted(entries[i].availableTokens.get()));
+            }
+        }
+        return aborted;
     }
 
     private ScheduledExecutorService createCleanupExecutor() {
@@ -161,80 +524,243 @@ public class InMemoryRateLimiterStorage implements RateLimiterStorage {
         // 가장 오래된 항목들을 제거하여 maxEntries 이하로 유지
         int targetSize = (int) (config.getMaxEntries() * 0.8); // 80%까지 줄임
 
-        lastAccessTimes.entrySet()
+        buckets.entrySet()
                 .stream()
-                .sorted(Map.Entry.<String, Instant>comparingByValue())
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessNanos))
                 .limit(buckets.size() - targetSize)
                 .forEach(entry -> {
-                    String key = entry.getKey();
-                    buckets.remove(key);
-                    lastAccessTimes.remove(key);
+                    if (buckets.remove(entry.getKey()) != null) {
+                        evictedEntries.increment();
+                    }
                 });
     }
 
+    @Override
+    public long getBucketCount() {
+        return buckets.size();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictedEntries.sum();
+    }
+
     /**
-     * 저장소 통계 조회
+     * 이 저장소가 판정에 쓰는 시간 소스
+     */
+    TimeSource getTimeSource() {
+        return timeSource;
+    }
+
+    /**
+     * 저장소 통계 조회 (버킷 수와 무관하게 상수 시간)
+     * 활성 버킷은 마지막 정리 이후 접근된 버킷 수이고, 추적 키는 정리 전의 만료 버킷을 포함한 전체 버킷 수
      */
     public MemoryStorageStats getStats() {
-        long totalRequests = buckets.values().stream()
-                .mapToLong(entry -> entry.totalRequested.get())
-                .sum();
+        int tracked = buckets.size();
+        int active = (int) Math.min(tracked, activity.touched.sum());
+        return new MemoryStorageStats(active, tracked, totalRequested.sum(), evictedEntries.sum());
+    }
 
-        return new MemoryStorageStats(
-                buckets.size(),
-                lastAccessTimes.size(),
-                totalRequests
-        );
+    /**
+     * 접근 시각 갱신과 함께, 이번 정리 주기에 처음 접근된 버킷이면 활성 버킷으로 집계
+     * 버킷마다 주기당 한 번만 CAS하므로 판정 경로에는 volatile 읽기 하나만 추가됨
+     */
+    private void touch(TokenBucketEntry entry, long now) {
+        entry.touch(now);
+        ActivityWindow window = activity;
+        int seen = entry.activityEpoch.get();
+        if (seen != window.epoch && entry.activityEpoch.compareAndSet(seen, window.epoch)) {
+            window.touched.increment();
+        }
     }
 
     // === 내부 클래스들 ===
 
+    private static final class ActivityWindow {
+        private final int epoch;
+        private final LongAdder touched = new LongAdder();
+
+        private ActivityWindow(int epoch) {
+            this.epoch = epoch;
+        }
+    }
+
     /**
      * 토큰 버킷 엔트리 (Thread-safe)
+     * 판정 경로에서 객체를 만들지 않도록 시간은 {@link TimeSource#nanoTime()} 값으로 보관
+     * 설정은 {@link #migrate(TokenBucketAlgorithmConfig)}로 교체될 수 있음
      */
     private static class TokenBucketEntry {
-        private final TokenBucketAlgorithmConfig config;
+        private volatile TokenBucketAlgorithmConfig config;
         private final boolean enableMetrics;
+        private final TimeSource timeSource;
+        private final LongAdder storageRequested;
+        private volatile long refillPeriodNanos;
         private final ReentrantLock lock = new ReentrantLock();
 
         private final AtomicLong availableTokens;
-        private final AtomicReference<Instant> lastRefillTime;
+        private volatile long lastRefillNanos;
+        private volatile long lastAccessNanos;
+        // 마지막으로 활성 버킷으로 집계된 정리 주기 (-1이면 아직 집계되지 않음)
+        private final AtomicInteger activityEpoch = new AtomicInteger(-1);
         private final AtomicLong totalConsumed = new AtomicLong(0);
         private final AtomicLong totalRequested = new AtomicLong(0);
         private final AtomicLong rejectedRequests = new AtomicLong(0);
 
-        TokenBucketEntry(TokenBucketAlgorithmConfig config, boolean enableMetrics) {
+        /**
+         * 주어진 상태로 생성 (새 버킷은 초기 토큰과 현재 시각, 스냅샷 복원은 저장된 상태)
+         */
+        TokenBucketEntry(TokenBucketAlgorithmConfig config, boolean enableMetrics, TimeSource timeSource,
+                         LongAdder storageRequested, long availableTokens, long lastRefillNanos, long lastAccessNanos) {
             this.config = config;
             this.enableMetrics = enableMetrics;
-            this.availableTokens = new AtomicLong(config.getInitialTokens());
-            this.lastRefillTime = new AtomicReference<>(Instant.now());
+            this.timeSource = timeSource;
+            this.storageRequested = storageRequested;
+            this.refillPeriodNanos = config.getRefillPeriod().toNanos();
+            this.availableTokens = new AtomicLong(availableTokens);
+            this.lastRefillNanos = lastRefillNanos;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+
+        void touch(long now) {
+            // 같은 시각의 반복 접근(coarse 시간 소스 등)은 쓰기를 생략하여 캐시 라인 경합을 줄임
+            if (lastAccessNanos != now) {
+                lastAccessNanos = now;
+            }
         }
 
         StorageResult tryConsume(long tokens) {
+            long observed = acquire(tokens);
+
+            if (observed >= tokens) {
+                return StorageResult.success(observed - tokens, tokens);
+            }
+            return StorageResult.failure(observed, calculateWaitTime(tokens - observed));
+        }
+
+        long tryConsumeDecision(long tokens) {
+            long observed = acquire(tokens);
+
+            if (observed >= tokens) {
+                return ConsumeDecision.allowed(observed - tokens);
+            }
+            return ConsumeDecision.rejected(observed, calculateWaitNanos(tokens - observed));
+        }
+
+        /**
+         * 소비하지 않고 거부 결과 생성 (all-or-nothing 배치의 사전 확인 실패)
+         *
+         * @param reserved 같은 배치에서 이 버킷에 먼저 배정된 토큰 수
+         */
+        StorageResult reject(long tokens, long reserved) {
+            if (enableMetrics) {
+                totalRequested.addAndGet(tokens);
+                storageRequested.add(tokens);
+                rejectedRequests.incrementAndGet();
+            }
+
+            long available = Math.max(0, availableTokens.get() - reserved);
+            return StorageResult.failure(available, calculateWaitTime(tokens - available));
+        }
+
+        /**
+         * 토큰 소비 시도
+         *
+         * @return 소비 직전에 관찰한 토큰 수 (tokens 이상이면 소비 성공)
+         */
+        private long acquire(long tokens) {
             if (enableMetrics) {
                 totalRequested.addAndGet(tokens);
+                storageRequested.add(tokens);
             }
 
             while (true) {
                 long current = availableTokens.get();
 
-                if (current >= tokens) {
-                    if (availableTokens.compareAndSet(current, current - tokens)) {
-                        if (enableMetrics) {
-                            totalConsumed.addAndGet(tokens);
-                        }
-                        return StorageResult.success(current - tokens, tokens);
-                    }
-                } else {
+                if (current < tokens) {
                     if (enableMetrics) {
                         rejectedRequests.incrementAndGet();
                     }
-                    Duration waitTime = calculateWaitTime(tokens - current);
-                    return StorageResult.failure(current, waitTime);
+                    return current;
+                }
+
+                if (availableTokens.compareAndSet(current, current - tokens)) {
+                    if (enableMetrics) {
+                        totalConsumed.addAndGet(tokens);
+                    }
+                    return current;
                 }
             }
         }
 
+        /**
+         * 토큰 수 조정
+         * 양수는 잔량과 무관하게 차감(부채 허용), 음수는 용량을 넘지 않는 범위에서 반환
+         *
+         * @return 실제로 반영된 조정량 (용량에 막혀 덜 반환됐으면 요청보다 절댓값이 작음)
+         */
+        long adjust(long delta) {
+            long current;
+            long updated;
+            while (true) {
+                current = availableTokens.get();
+                updated = delta > 0
+                        ? current - delta
+                        : Math.max(current, Math.min(config.getCapacity(), current - delta));
+
+                if (availableTokens.compareAndSet(current, updated)) {
+                    break;
+                }
+            }
+
+            long applied = current - updated;
+            if (enableMetrics) {
+                totalConsumed.addAndGet(applied);
+            }
+            return applied;
+        }
+
+        /**
+         * 버킷을 새 설정으로 옮김
+         * 이전 설정으로 지금까지의 리필을 반영한 뒤, 남은 토큰을 새 용량에 비례하여 조정
+         */
+        void migrate(TokenBucketAlgorithmConfig newConfig) {
+            lock.lock();
+            try {
+                TokenBucketAlgorithmConfig oldConfig = config;
+                if (oldConfig == newConfig) {
+                    return; // 다른 스레드가 이미 옮김
+                }
+
+                refillTokens(timeSource.nanoTime());
+
+                if (oldConfig.getCapacity() != newConfig.getCapacity()) {
+                    while (true) {
+                        long current = availableTokens.get();
+                        long rescaled = rescale(current, oldConfig.getCapacity(), newConfig.getCapacity());
+
+                        if (availableTokens.compareAndSet(current, rescaled)) {
+                            break;
+                        }
+                    }
+                }
+
+                refillPeriodNanos = newConfig.getRefillPeriod().toNanos();
+                config = newConfig;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static long rescale(long tokens, long fromCapacity, long toCapacity) {
+            try {
+                return Math.multiplyExact(tokens, toCapacity) / fromCapacity;
+            } catch (ArithmeticException e) {
+                return (long) ((double) tokens / fromCapacity * toCapacity);
+            }
+        }
+
         StorageResult getState() {
             Map<String, Object> metadata = new HashMap<>();
             if (enableMetrics) {
@@ -247,12 +773,8 @@ public class InMemoryRateLimiterStorage implements RateLimiterStorage {
                     .withMetadata(metadata);
         }
 
-        void refillIfNeeded() {
-            Instant now = Instant.now();
-            Instant lastRefill = lastRefillTime.get();
-
-            Duration timeSinceRefill = Duration.between(lastRefill, now);
-            if (timeSinceRefill.compareTo(config.getRefillPeriod()) >= 0) {
+        void refillIfNeeded(long now) {
+            if (now - lastRefillNanos >= refillPeriodNanos) {
                 lock.lock();
                 try {
                     refillTokens(now);
@@ -262,15 +784,15 @@ public class InMemoryRateLimiterStorage implements RateLimiterStorage {
             }
         }
 
-        private void refillTokens(Instant now) {
-            Instant lastRefill = lastRefillTime.get();
-            Duration timeSinceRefill = Duration.between(lastRefill, now);
+        private void refillTokens(long now) {
+            long lastRefill = lastRefillNanos;
+            long timeSinceRefill = now - lastRefill;
 
-            if (timeSinceRefill.compareTo(config.getRefillPeriod()) < 0) {
+            if (timeSinceRefill < refillPeriodNanos) {
                 return; // Double-checked locking
             }
 
-            long refillCycles = timeSinceRefill.toMillis() / config.getRefillPeriod().toMillis();
+            long refillCycles = timeSinceRefill / refillPeriodNanos;
             long tokensToAdd = refillCycles * config.getRefillTokens();
 
             if (tokensToAdd > 0) {
@@ -283,18 +805,24 @@ public class InMemoryRateLimiterStorage implements RateLimiterStorage {
                     }
                 }
 
-                Instant newRefillTime = lastRefill.plus(config.getRefillPeriod().multipliedBy(refillCycles));
-                lastRefillTime.set(newRefillTime);
+                lastRefillNanos = lastRefill + refillPeriodNanos * refillCycles;
             }
         }
 
+        private long refillCyclesFor(long neededTokens) {
+            return (neededTokens + config.getRefillTokens() - 1) / config.getRefillTokens();
+        }
+
         private Duration calculateWaitTime(long neededTokens) {
-            long refillCycles = (neededTokens + config.getRefillTokens() - 1) / config.getRefillTokens();
-            return config.getRefillPeriod().multipliedBy(refillCycles);
+            return config.getRefillPeriod().multipliedBy(refillCyclesFor(neededTokens));
+        }
+
+        private long calculateWaitNanos(long neededTokens) {
+            return refillPeriodNanos * refillCyclesFor(neededTokens);
         }
 
         private Instant getNextRefillTime() {
-            return lastRefillTime.get().plus(config.getRefillPeriod());
+            return timeSource.toInstant(lastRefillNanos + refillPeriodNanos);
         }
     }
 
@@ -302,24 +830,33 @@ public class InMemoryRateLimiterStorage implements RateLimiterStorage {
      * 메모리 저장소 통계
      */
     public static class MemoryStorageStats {
+        // 마지막 정리 이후 접근된 버킷 수
         private final int activeBuckets;
+        // 아직 정리되지 않은 만료 버킷을 포함한 전체 키 수
         private final int trackedKeys;
         private final long totalRequests;
+        private final long evictedEntries;
 
         public MemoryStorageStats(int activeBuckets, int trackedKeys, long totalRequests) {
+            this(activeBuckets, trackedKeys, totalRequests, 0);
+        }
+
+        public MemoryStorageStats(int activeBuckets, int trackedKeys, long totalRequests, long evictedEntries) {
             this.activeBuckets = activeBuckets;
             this.trackedKeys = trackedKeys;
             this.totalRequests = totalRequests;
+            this.evictedEntries = evictedEntries;
         }
 
         public int getActiveBuckets() { return activeBuckets; }
         public int getTrackedKeys() { return trackedKeys; }
         public long getTotalRequests() { return totalRequests; }
+        public long getEvictedEntries() { return evictedEntries; }
 
         @Override
         public String toString() {
-            return String.format("MemoryStorage{buckets=%d, keys=%d, requests=%d}",
-                    activeBuckets, trackedKeys, totalRequests);
+            return String.format("MemoryStorage{buckets=%d, keys=%d, requests=%d, evicted=%d}",
+                    activeBuckets, trackedKeys, totalRequests, evictedEntries);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package io.github.ckaanf.ratelimiter.inmemory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 한 JVM 안의 노드들을 잇는 가십 네트워크
+ * 노드 시뮬레이션과 테스트용이며, 메시지는 보낸 스레드에서 바로 다른 노드에 전달됨
+ */
+public class InProcessGossipNetwork {
+
+    private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+
+    /**
+     * 노드 참여
+     *
+     * @param nodeId 노드 ID
+     * @return 이 노드가 사용할 전달 계층 (닫으면 네트워크에서 빠짐)
+     */
+    public GossipTransport join(String nodeId) {
+        Node node = new Node(nodeId);
+        if (nodes.putIfAbsent(nodeId, node) != null) {
+            throw new IllegalArgumentException("Node already joined: " + nodeId);
+        }
+        return node;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    private final class Node implements GossipTransport {
+        private final String nodeId;
+        private final List<Consumer<GossipMessage>> listeners = new CopyOnWriteArrayList<>();
+
+        Node(String nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        @Override
+        public int clusterSize() {
+            return nodes.size();
+        }
+
+        @Override
+        public void publish(GossipMessage message) {
+            for (Node node : nodes.values()) {
+                if (node != this) {
+                    node.listeners.forEach(listener -> listener.accept(message));
+                }
+            }
+        }
+
+        @Override
+        public void subscribe(Consumer<GossipMessage> listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void close() {
+            nodes.remove(nodeId, this);
+        }
+    }
+}
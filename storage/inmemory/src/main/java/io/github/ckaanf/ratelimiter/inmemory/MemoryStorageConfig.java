@@ -1,10 +1,12 @@
 package io.github.ckaanf.ratelimiter.inmemory;
 
 import io.github.ckaanf.ratelimiter.core.StorageConfig;
+import io.github.ckaanf.ratelimiter.core.time.TimeSource;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * 메모리 저장소 설정
@@ -15,9 +17,22 @@ public final class MemoryStorageConfig implements StorageConfig {
     private final Duration cleanupInterval;
     private final int maxEntries;
     private final boolean enableMetrics;
+    private final TimeSource timeSource;
+    // 0이 아니면 저장소가 이 간격의 coarse 시간 소스를 직접 만들어 소유
+    private final Duration coarseClockTick;
 
     public MemoryStorageConfig(Duration entryTtl, Duration cleanupInterval,
                                int maxEntries, boolean enableMetrics) {
+        this(entryTtl, cleanupInterval, maxEntries, enableMetrics, TimeSource.system());
+    }
+
+    public MemoryStorageConfig(Duration entryTtl, Duration cleanupInterval,
+                               int maxEntries, boolean enableMetrics, TimeSource timeSource) {
+        this(entryTtl, cleanupInterval, maxEntries, enableMetrics, timeSource, Duration.ZERO);
+    }
+
+    private MemoryStorageConfig(Duration entryTtl, Duration cleanupInterval, int maxEntries,
+                                boolean enableMetrics, TimeSource timeSource, Duration coarseClockTick) {
         // 생성자에서 유효성 검증 수행
         if (entryTtl.isNegative()) {
             throw new IllegalArgumentException("Entry TTL cannot be negative");
@@ -33,6 +48,8 @@ public final class MemoryStorageConfig implements StorageConfig {
         this.cleanupInterval = cleanupInterval;
         this.maxEntries = maxEntries;
         this.enableMetrics = enableMetrics;
+        this.timeSource = Objects.requireNonNull(timeSource, "Time source cannot be null");
+        this.coarseClockTick = Objects.requireNonNull(coarseClockTick, "Coarse clock tick cannot be null");
     }
 
     public MemoryStorageConfig() {
@@ -69,6 +86,7 @@ public final class MemoryStorageConfig implements StorageConfig {
         props.put("cleanupIntervalMs", cleanupInterval.toMillis());
         props.put("maxEntries", maxEntries);
         props.put("enableMetrics", enableMetrics);
+        props.put("timeSource", coarseClockTick.isZero() ? timeSource.toString() : "coarse(" + coarseClockTick + ")");
         return props;
     }
 
@@ -86,6 +104,27 @@ public final class MemoryStorageConfig implements StorageConfig {
         return new MemoryStorageConfig(Duration.ofDays(365), Duration.ZERO, Integer.MAX_VALUE, false);
     }
 
+    /**
+     * 시간 소스만 바꾼 설정 복사본 생성
+     * 전달한 시간 소스는 호출자 소유이므로 저장소가 종료해도 닫지 않음 (여러 저장소가 공유 가능)
+     */
+    public MemoryStorageConfig withTimeSource(TimeSource timeSource) {
+        return new MemoryStorageConfig(entryTtl, cleanupInterval, maxEntries, enableMetrics, timeSource);
+    }
+
+    /**
+     * 저장소마다 주어진 간격의 coarse 시간 소스를 만들어 쓰는 설정 복사본 생성
+     * 시간 소스는 저장소가 만들고 저장소가 종료될 때 함께 닫음
+     *
+     * @param tickInterval 갱신 간격 (1마이크로초 이상)
+     */
+    public MemoryStorageConfig withCoarseClock(Duration tickInterval) {
+        if (tickInterval.isNegative() || tickInterval.toNanos() < 1000) {
+            throw new IllegalArgumentException("Tick interval must be at least 1 microsecond: " + tickInterval);
+        }
+        return new MemoryStorageConfig(entryTtl, cleanupInterval, maxEntries, enableMetrics, timeSource, tickInterval);
+    }
+
     // === Getters ===
 
     public Duration getEntryTtl() { return entryTtl; }
@@ -93,6 +132,14 @@ public final class MemoryStorageConfig implements StorageConfig {
     public int getMaxEntries() { return maxEntries; }
     public boolean isEnableMetrics() { return enableMetrics; }
 
+    /**
+     * 저장소가 직접 만들 coarse 시간 소스의 갱신 간격 (0이면 {@link #getTimeSource()} 사용)
+     */
+    public Duration getCoarseClockTick() { return coarseClockTick; }
+
+    @Override
+    public TimeSource getTimeSource() { return timeSource; }
+
     @Override
     public String toString() {
         return String.format("MemoryStorage{ttl=%s, maxEntries=%d}", entryTtl, maxEntries);
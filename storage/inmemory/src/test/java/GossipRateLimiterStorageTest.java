@@ -0,0 +1,227 @@
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+import io.github.ckaanf.ratelimiter.core.time.ManualTimeSource;
+import io.github.ckaanf.ratelimiter.core.time.TimeSource;
+import io.github.ckaanf.ratelimiter.inmemory.GossipRateLimiterStorage;
+import io.github.ckaanf.ratelimiter.inmemory.GossipStorageConfig;
+import io.github.ckaanf.ratelimiter.inmemory.GossipTransport;
+import io.github.ckaanf.ratelimiter.inmemory.InProcessGossipNetwork;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 한 JVM 안의 시뮬레이션 노드로 검증하는 가십 저장소 테스트
+ * 가십 주기를 0으로 두고 라운드를 직접 실행하여 결정적으로 검증
+ */
+class GossipRateLimiterStorageTest {
+
+    private static final double MAX_ERROR = 0.05;
+
+    private final InProcessGossipNetwork network = new InProcessGossipNetwork();
+    private final List<GossipRateLimiterStorage> nodes = new ArrayList<>();
+    private RateLimiterConfig config;
+
+    @BeforeEach
+    void setUp() {
+        for (String id : List.of("a", "b", "c")) {
+            nodes.add(new GossipRateLimiterStorage(config(id, network.join(id))));
+        }
+        config = new RateLimiterConfig(
+                "tenant",
+                new TokenBucketAlgorithmConfig(300, 300, Duration.ofHours(1), 300),
+                nodes.get(0).getConfig()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(GossipRateLimiterStorage::shutdown);
+    }
+
+    @Test
+    @DisplayName("가십 전에도 노드마다 균등 몫만 허용하여 전역 한도를 넘지 않음")
+    void initialSharesShouldSplitLimitEvenly() {
+        // When
+        int allowed = 0;
+        for (GossipRateLimiterStorage node : nodes) {
+            allowed += consumeUntilRejected(node, "tenant-1");
+        }
+
+        // Then
+        assertThat(allowed).isEqualTo(300);
+        assertThat(nodes).allSatisfy(node -> assertThat(node.getShare("tenant-1")).isCloseTo(1.0 / 3, within(1e-9)));
+    }
+
+    @Test
+    @DisplayName("수요가 한 노드에 몰리면 몫이 그 노드로 재분배되고 몫의 합은 오차 범위 이내")
+    void sharesShouldFollowDemand() {
+        // When - 모든 트래픽이 a로 들어옴
+        for (int round = 0; round < 60; round++) {
+            assertThat(nodes.get(0).tryConsume(StorageContext.forConsume("tenant-1", 1, config)).isSuccess()).isTrue();
+            nodes.forEach(GossipRateLimiterStorage::runGossipRound);
+
+            // Then - 재분배 중에도 몫의 합은 1 + maxError 이하
+            double sum = nodes.stream().mapToDouble(node -> node.getShare("tenant-1")).sum();
+            assertThat(sum).isLessThanOrEqualTo(1 + MAX_ERROR + 1e-9);
+        }
+
+        // Then - a는 예약분을 제외한 대부분을 가져감
+        assertThat(nodes.get(0).getShare("tenant-1")).isGreaterThan(0.9);
+        assertThat(nodes.get(1).getShare("tenant-1")).isLessThan(0.05);
+    }
+
+    @Test
+    @DisplayName("판정은 로컬에서 이루어지고 남은 토큰 수는 노드 몫 기준")
+    void decisionsShouldBeLocal() {
+        // When
+        var result = nodes.get(1).tryConsume(StorageContext.forConsume("tenant-1", 10, config));
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getAvailableTokens()).isEqualTo(90);
+        assertThat(nodes.get(0).getBucketCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("노드가 빠지면 메시지가 끊긴 뒤 남은 노드들이 몫을 나눠 가짐")
+    void sharesShouldGrowWhenNodeLeaves() {
+        // Given - 세 노드 모두 같은 수요
+        for (int round = 0; round < 5; round++) {
+            nodes.forEach(node -> node.tryConsume(StorageContext.forConsume("tenant-1", 2, config)));
+            nodes.forEach(GossipRateLimiterStorage::runGossipRound);
+        }
+        GossipRateLimiterStorage leaving = nodes.remove(2);
+        leaving.shutdown();
+
+        // When
+        for (int round = 0; round < 40; round++) {
+            nodes.forEach(node -> node.tryConsume(StorageContext.forConsume("tenant-1", 2, config)));
+            nodes.forEach(GossipRateLimiterStorage::runGossipRound);
+        }
+
+        // Then
+        assertThat(nodes).allSatisfy(node -> {
+            assertThat(node.getLivePeerCount()).isEqualTo(1);
+            assertThat(node.getShare("tenant-1")).isCloseTo(0.5, within(0.02));
+        });
+    }
+
+    @Test
+    @DisplayName("수요가 노드 사이를 옮겨 다녀도 전역 허용량은 한도의 1 + maxError배 이내")
+    void simulatedAdmissionsShouldStayWithinBound() {
+        // Given - 노드 5개, 분당 100건, 가십은 1초마다
+        ManualTimeSource clock = TimeSource.manual();
+        InProcessGossipNetwork simulated = new InProcessGossipNetwork();
+        List<GossipRateLimiterStorage> fleet = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String id = "sim-" + i;
+            fleet.add(new GossipRateLimiterStorage(new GossipStorageConfig(id, simulated.join(id), Duration.ZERO,
+                    MAX_ERROR, 0.1, MemoryStorageConfig.unlimited().withTimeSource(clock))));
+        }
+        RateLimiterConfig perMinute = config.withAlgorithmConfig(
+                new TokenBucketAlgorithmConfig(100, 100, Duration.ofMinutes(1), 100));
+        Random random = new Random(42);
+
+        // When - 150초마다 수요가 몰리는 노드가 바뀌고, 나머지 노드에도 간헐적 요청
+        int[] admittedPerSecond = new int[1200];
+        for (int second = 0; second < admittedPerSecond.length; second++) {
+            int hot = (second / 150) % fleet.size();
+            for (int n = 0; n < fleet.size(); n++) {
+                int requests = n == hot ? 200 : random.nextInt(3);
+                for (int r = 0; r < requests; r++) {
+                    if (fleet.get(n).tryConsume(StorageContext.forConsume("tenant", 1, perMinute)).isSuccess()) {
+                        admittedPerSecond[second]++;
+                    }
+                }
+            }
+            clock.advance(Duration.ofSeconds(1));
+            fleet.forEach(GossipRateLimiterStorage::runGossipRound);
+
+            double shares = fleet.stream().mapToDouble(node -> node.getShare("tenant")).sum();
+            assertThat(shares).isLessThanOrEqualTo(1 + MAX_ERROR + 1e-9);
+        }
+
+        // Then - 어느 1분 구간에서도 버킷 하나가 허용할 수 있는 양(용량 + 1분 리필)의 1 + maxError배 이내
+        int worst = 0;
+        for (int start = 0; start + 60 <= admittedPerSecond.length; start++) {
+            int window = 0;
+            for (int second = start; second < start + 60; second++) {
+                window += admittedPerSecond[second];
+            }
+            worst = Math.max(worst, window);
+        }
+        assertThat(worst).isLessThanOrEqualTo((int) (200 * (1 + MAX_ERROR)));
+        fleet.forEach(GossipRateLimiterStorage::shutdown);
+    }
+
+    @Test
+    @DisplayName("한도보다 노드가 많아도 몫을 올려 잡지 않아 전역 한도를 넘지 않음")
+    void smallLimitShouldNotBeRoundedUpPerNode() {
+        // Given - 한도 5를 노드 10개가 나눔 (균등 몫 0.5 토큰)
+        InProcessGossipNetwork crowded = new InProcessGossipNetwork();
+        List<GossipRateLimiterStorage> fleet = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String id = "crowd-" + i;
+            fleet.add(new GossipRateLimiterStorage(config(id, crowded.join(id))));
+        }
+        RateLimiterConfig small = config.withAlgorithmConfig(
+                new TokenBucketAlgorithmConfig(5, 5, Duration.ofHours(1), 5));
+
+        // When
+        int beforeGossip = 0;
+        for (GossipRateLimiterStorage node : fleet) {
+            beforeGossip += consumeUntilRejected(node, "tenant-small", small);
+        }
+        // 한 노드에만 수요가 이어지면 그 노드가 몫을 받아 요청을 허용하기 시작
+        int afterGossip = 0;
+        for (int round = 0; round < 200; round++) {
+            if (fleet.get(0).tryConsume(StorageContext.forConsume("tenant-small", 1, small)).isSuccess()) {
+                afterGossip++;
+            }
+            fleet.forEach(GossipRateLimiterStorage::runGossipRound);
+        }
+
+        // Then
+        assertThat(beforeGossip).isZero();
+        assertThat(afterGossip).isPositive().isLessThanOrEqualTo(5);
+        fleet.forEach(GossipRateLimiterStorage::shutdown);
+    }
+
+    @Test
+    @DisplayName("잘못된 오차/예약 비율은 거부")
+    void shouldValidateConfig() {
+        GossipTransport transport = network.join("d");
+        assertThatThrownBy(() -> new GossipStorageConfig("d", transport, Duration.ZERO, 0, 0.1,
+                new MemoryStorageConfig())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GossipStorageConfig("d", transport, Duration.ZERO, 0.05, 1.0,
+                new MemoryStorageConfig())).isInstanceOf(IllegalArgumentException.class);
+        transport.close();
+    }
+
+    private int consumeUntilRejected(GossipRateLimiterStorage node, String key) {
+        return consumeUntilRejected(node, key, config);
+    }
+
+    private static int consumeUntilRejected(GossipRateLimiterStorage node, String key, RateLimiterConfig config) {
+        int allowed = 0;
+        while (node.tryConsume(StorageContext.forConsume(key, 1, config)).isSuccess()) {
+            allowed++;
+        }
+        return allowed;
+    }
+
+    private static GossipStorageConfig config(String id, GossipTransport transport) {
+        return new GossipStorageConfig(id, transport, Duration.ZERO, MAX_ERROR, 0.03, new MemoryStorageConfig());
+    }
+}
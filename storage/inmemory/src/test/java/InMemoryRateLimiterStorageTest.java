@@ -1,8 +1,16 @@
 
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.StorageBasedTokenBucketRateLimiter;
 import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.AsyncRateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.ConsumeDecision;
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
 import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterMetrics;
 import io.github.ckaanf.ratelimiter.core.StorageContext;
 import io.github.ckaanf.ratelimiter.core.StorageResult;
+import io.github.ckaanf.ratelimiter.core.time.CoarseTimeSource;
+import io.github.ckaanf.ratelimiter.core.time.ManualTimeSource;
+import io.github.ckaanf.ratelimiter.core.time.TimeSource;
 import io.github.ckaanf.ratelimiter.inmemory.InMemoryRateLimiterStorage;
 import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +18,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -161,6 +180,8 @@ class InMemoryRateLimiterStorageTest {
         // Then
         InMemoryRateLimiterStorage.MemoryStorageStats stats = shortTtlStorage.getStats();
         assertThat(stats.getActiveBuckets()).isEqualTo(0);
+        assertThat(stats.getEvictedEntries()).isEqualTo(1);
+        assertThat(shortTtlStorage.getEvictionCount()).isEqualTo(1);
     }
 
     @Test
@@ -181,6 +202,510 @@ class InMemoryRateLimiterStorageTest {
         assertThat(stats.getTotalRequests()).isEqualTo(30);
     }
 
+    @Test
+    @DisplayName("활성 버킷은 마지막 정리 이후 접근된 버킷만 세고 추적 키는 전체 버킷을 셈")
+    void shouldCountOnlyRecentlyTouchedBucketsAsActive() {
+        // Given
+        ManualTimeSource timeSource = TimeSource.manual();
+        MemoryStorageConfig ttlConfig = new MemoryStorageConfig(Duration.ofMinutes(10), Duration.ZERO, 100, true, timeSource);
+        InMemoryRateLimiterStorage ttlStorage = new InMemoryRateLimiterStorage(ttlConfig);
+        RateLimiterConfig testConfig = new RateLimiterConfig(
+                "stats-ttl", TokenBucketAlgorithmConfig.perSecond(10, 100), ttlConfig
+        );
+        ttlStorage.tryConsume(StorageContext.forConsume("idle-1", 1, testConfig));
+        ttlStorage.tryConsume(StorageContext.forConsume("idle-2", 1, testConfig));
+        ttlStorage.tryConsume(StorageContext.forConsume("busy", 1, testConfig));
+
+        // When - 정리 후 한 버킷만 다시 (여러 번) 접근
+        timeSource.advance(Duration.ofMinutes(1));
+        ttlStorage.cleanup();
+        for (int i = 0; i < 5; i++) {
+            timeSource.advanceMillis(1);
+            ttlStorage.tryConsume(StorageContext.forConsume("busy", 1, testConfig));
+        }
+        InMemoryRateLimiterStorage.MemoryStorageStats stats = ttlStorage.getStats();
+
+        // Then
+        assertThat(stats.getTrackedKeys()).isEqualTo(3);
+        assertThat(stats.getActiveBuckets()).isEqualTo(1);
+        ttlStorage.shutdown();
+    }
+
+    @Test
+    @DisplayName("배치 소비는 항목별 결과를 입력 순서대로 반환")
+    void shouldConsumeBatchIndependently() {
+        // Given
+        List<StorageContext> contexts = List.of(
+                StorageContext.forConsume("route", 10, config),
+                StorageContext.forConsume("user", 150, config),
+                StorageContext.forConsume("ip", 20, config)
+        );
+
+        // When
+        List<StorageResult> results = storage.tryConsumeAll(contexts);
+
+        // Then
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(0).getAvailableTokens()).isEqualTo(90);
+        assertThat(results.get(1).isSuccess()).isFalse();
+        assertThat(results.get(2).isSuccess()).isTrue();
+        assertThat(results.get(2).getAvailableTokens()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("all-or-nothing 배치는 하나라도 실패하면 토큰을 되돌림")
+    void shouldRollbackBatchWhenAnyItemFails() {
+        // Given
+        List<StorageContext> contexts = List.of(
+                StorageContext.forConsume("route", 10, config),
+                StorageContext.forConsume("user", 150, config),
+                StorageContext.forConsume("ip", 20, config)
+        );
+
+        // When
+        List<StorageResult> results = storage.tryConsumeAll(contexts, true);
+
+        // Then
+        assertThat(results).extracting(StorageResult::isSuccess).containsOnly(false);
+        assertThat(results.get(0).getMetadata()).containsEntry("batchAborted", true);
+        assertThat(storage.getTokenState(StorageContext.forQuery("route", config)).getAvailableTokens())
+                .isEqualTo(100);
+        assertThat(storage.getTokenState(StorageContext.forQuery("ip", config)).getAvailableTokens())
+                .isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("all-or-nothing 배치는 모두 가능하면 전부 소비")
+    void shouldConsumeWholeBatchWhenAllItemsSucceed() {
+        // Given
+        List<StorageContext> contexts = List.of(
+                StorageContext.forConsume("route", 10, config),
+                StorageContext.forConsume("route", 20, config)
+        );
+
+        // When
+        List<StorageResult> results = storage.tryConsumeAll(contexts, true);
+
+        // Then
+        assertThat(results).extracting(StorageResult::isSuccess).containsOnly(true);
+        assertThat(results.get(1).getAvailableTokens()).isEqualTo(70);
+    }
+
+    @Test
+    @DisplayName("all-or-nothing 배치는 같은 키의 요청을 합산해 확인하고, 부족하면 아무것도 소비하지 않음")
+    void shouldCheckSummedTokensForRepeatedKeyBeforeConsuming() {
+        // Given - 같은 버킷에 60 + 60 요청 (잔량 100)
+        List<StorageContext> contexts = List.of(
+                StorageContext.forConsume("route", 60, config),
+                StorageContext.forConsume("route", 60, config)
+        );
+
+        // When
+        List<StorageResult> results = storage.tryConsumeAll(contexts, true);
+
+        // Then - 두 번째 항목에는 먼저 배정된 60을 뺀 잔량을 보고
+        assertThat(results).extracting(StorageResult::isSuccess).containsOnly(false);
+        assertThat(results.get(0).getMetadata()).containsEntry("batchAborted", true);
+        assertThat(results.get(1).getAvailableTokens()).isEqualTo(40);
+        assertThat(results.get(1).getWaitTime()).isPositive();
+        assertThat(storage.getTokenState(StorageContext.forQuery("route", config)).getAvailableTokens())
+                .isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("배치 소비는 항목 수와 무관하게 시간 소스를 한 번만 읽음")
+    void batchShouldReadTimeSourceOnce() {
+        // Given
+        AtomicInteger reads = new AtomicInteger();
+        TimeSource counting = new TimeSource() {
+            @Override
+            public long nanoTime() {
+                reads.incrementAndGet();
+                return System.nanoTime();
+            }
+
+            @Override
+            public long currentTimeMillis() {
+                return System.currentTimeMillis();
+            }
+        };
+        InMemoryRateLimiterStorage countingStorage =
+                new InMemoryRateLimiterStorage(MemoryStorageConfig.unlimited().withTimeSource(counting));
+        List<StorageContext> contexts = List.of(
+                StorageContext.forConsume("a", 1, config),
+                StorageContext.forConsume("b", 1, config),
+                StorageContext.forConsume("c", 1, config)
+        );
+
+        // When & Then
+        reads.set(0);
+        countingStorage.tryConsumeAll(contexts, false);
+        assertThat(reads.get()).isEqualTo(1);
+
+        reads.set(0);
+        countingStorage.tryConsumeAll(contexts, true);
+        assertThat(reads.get()).isEqualTo(1);
+        countingStorage.shutdown();
+    }
+
+    @Test
+    @DisplayName("키 순서가 반대인 all-or-nothing 배치가 동시에 실행되어도 교착 없이 정확히 소비")
+    void concurrentAllOrNothingBatchesShouldNotDeadlock() throws Exception {
+        // Given - 리필 없이 버킷마다 100개
+        RateLimiterConfig noRefill = config.withAlgorithmConfig(
+                new TokenBucketAlgorithmConfig(100, 1, Duration.ofHours(1), 100));
+        List<StorageContext> forward = List.of(
+                StorageContext.forConsume("a", 1, noRefill), StorageContext.forConsume("b", 1, noRefill));
+        List<StorageContext> backward = List.of(
+                StorageContext.forConsume("b", 1, noRefill), StorageContext.forConsume("a", 1, noRefill));
+        AtomicInteger allowed = new AtomicInteger();
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> futures = List.of(
+                    executor.submit(() -> runBatches(forward, allowed)),
+                    executor.submit(() -> runBatches(backward, allowed)));
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then - 두 버킷이 항상 함께 소비되어 성공 횟수만큼 줄어듦
+        assertThat(allowed.get()).isEqualTo(100);
+        assertThat(storage.getTokenState(StorageContext.forQuery("a", noRefill)).getAvailableTokens()).isZero();
+        assertThat(storage.getTokenState(StorageContext.forQuery("b", noRefill)).getAvailableTokens()).isZero();
+    }
+
+    private void runBatches(List<StorageContext> contexts, AtomicInteger allowed) {
+        for (int i = 0; i < 100; i++) {
+            if (storage.tryConsumeAll(contexts, true).get(0).isSuccess()) {
+                allowed.incrementAndGet();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("인코딩된 판정으로 토큰 소비")
+    void shouldConsumeWithEncodedDecision() {
+        // Given
+        StorageContext context = StorageContext.forConsume("test-key", 60, config);
+
+        // When
+        long first = storage.tryConsumeDecision(context);
+        long second = storage.tryConsumeDecision(context);
+
+        // Then
+        assertThat(ConsumeDecision.isAllowed(first)).isTrue();
+        assertThat(ConsumeDecision.remainingTokens(first)).isEqualTo(40);
+        assertThat(ConsumeDecision.isAllowed(second)).isFalse();
+        assertThat(ConsumeDecision.remainingTokens(second)).isEqualTo(40);
+        assertThat(ConsumeDecision.waitNanos(second)).isEqualTo(Duration.ofSeconds(2).toNanos());
+    }
+
+    @Test
+    @DisplayName("설정으로 받아 공유하는 coarse 시간 소스는 저장소가 종료되어도 닫지 않음")
+    void shutdownShouldNotCloseSharedCoarseTimeSource() throws InterruptedException {
+        // Given - 두 저장소가 하나의 시간 소스를 공유
+        try (CoarseTimeSource coarse = TimeSource.coarse(Duration.ofMillis(1))) {
+            MemoryStorageConfig sharedConfig = MemoryStorageConfig.unlimited().withTimeSource(coarse);
+            InMemoryRateLimiterStorage first = new InMemoryRateLimiterStorage(sharedConfig);
+            InMemoryRateLimiterStorage second = new InMemoryRateLimiterStorage(sharedConfig);
+            RateLimiterConfig testConfig = new RateLimiterConfig(
+                    "shared-clock", new TokenBucketAlgorithmConfig(1, 1, Duration.ofMillis(20), 1), sharedConfig
+            );
+            StorageContext context = StorageContext.forConsume("shared-clock", 1, testConfig);
+            second.tryConsume(context);
+
+            // When
+            first.shutdown();
+            Thread.sleep(50);
+
+            // Then - 남은 저장소의 시간은 계속 흘러 리필됨
+            assertThat(coarse.isClosed()).isFalse();
+            assertThat(second.tryConsume(context).isSuccess()).isTrue();
+            second.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("coarse 간격을 설정하면 저장소가 만든 시간 소스를 저장소 종료 시 닫음")
+    void shutdownShouldCloseOwnedCoarseClock() throws InterruptedException {
+        // Given
+        int before = coarseClockThreads();
+        InMemoryRateLimiterStorage coarseStorage = new InMemoryRateLimiterStorage(
+                MemoryStorageConfig.unlimited().withCoarseClock(Duration.ofMillis(1)));
+        int whileRunning = coarseClockThreads();
+
+        // When
+        coarseStorage.shutdown();
+
+        // Then
+        assertThat(whileRunning).isEqualTo(before + 1);
+        for (int i = 0; i < 50 && coarseClockThreads() > before; i++) {
+            Thread.sleep(20);
+        }
+        assertThat(coarseClockThreads()).isEqualTo(before);
+    }
+
+    private static int coarseClockThreads() {
+        return (int) Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.isAlive() && thread.getName().equals("rate-limiter-coarse-clock"))
+                .count();
+    }
+
+    @Test
+    @DisplayName("설정된 시간 소스에 따라 리필")
+    void shouldRefillUsingConfiguredTimeSource() {
+        // Given
+        ManualTimeSource timeSource = TimeSource.manual();
+        MemoryStorageConfig manualConfig = MemoryStorageConfig.unlimited().withTimeSource(timeSource);
+        InMemoryRateLimiterStorage manualStorage = new InMemoryRateLimiterStorage(manualConfig);
+        RateLimiterConfig testConfig = new RateLimiterConfig(
+                "clock-test", TokenBucketAlgorithmConfig.perSecond(10, 100), manualConfig
+        );
+        StorageContext context = StorageContext.forConsume("clock-test", 100, testConfig);
+        StorageContext query = StorageContext.forQuery("clock-test", testConfig);
+        manualStorage.tryConsume(context);
+
+        // When
+        timeSource.advance(Duration.ofMillis(999));
+        long beforePeriod = manualStorage.getTokenState(query).getAvailableTokens();
+        timeSource.advance(Duration.ofMillis(2001));
+        StorageResult afterThreePeriods = manualStorage.getTokenState(query);
+
+        // Then
+        assertThat(beforePeriod).isZero();
+        assertThat(afterThreePeriods.getAvailableTokens()).isEqualTo(30);
+        assertThat(afterThreePeriods.getNextRefillTime()).isEqualTo(timeSource.instant().plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("설정이 바뀌면 다음 접근 시 버킷 상태를 유지한 채 새 용량으로 조정")
+    void shouldMigrateBucketLazilyOnConfigChange() {
+        // Given
+        storage.tryConsume(StorageContext.forConsume("test-key", 60, config)); // 40/100 남음
+        RateLimiterConfig doubled = config.withAlgorithmConfig(TokenBucketAlgorithmConfig.perSecond(20, 200));
+
+        // When
+        StorageResult state = storage.getTokenState(StorageContext.forQuery("test-key", doubled));
+        StorageResult consumed = storage.tryConsume(StorageContext.forConsume("test-key", 80, doubled));
+
+        // Then
+        assertThat(state.getAvailableTokens()).isEqualTo(80);
+        assertThat(consumed.isSuccess()).isTrue();
+        assertThat(consumed.getAvailableTokens()).isZero();
+        assertThat(storage.getStats().getActiveBuckets()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용하지 않은 토큰 반환은 용량을 넘지 않음")
+    void shouldRefundTokensUpToCapacity() {
+        // Given
+        storage.tryConsume(StorageContext.forConsume("test-key", 50, config));
+
+        // When
+        StorageResult refunded = storage.adjust(StorageContext.forAdjust("test-key", -30, config));
+        StorageResult overRefunded = storage.adjust(StorageContext.forAdjust("test-key", -100, config));
+
+        // Then
+        assertThat(refunded.isSuccess()).isTrue();
+        assertThat(refunded.getAvailableTokens()).isEqualTo(80);
+        assertThat(refunded.getConsumedTokens()).isEqualTo(-30);
+        assertThat(overRefunded.getAvailableTokens()).isEqualTo(100);
+        assertThat(overRefunded.getConsumedTokens()).isEqualTo(-20);
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷에 반환하면 실제 반영량 0을 보고하고 메트릭에도 반영하지 않음")
+    void refundAtCapacityShouldReportNothingApplied() {
+        // When - 기본 설정은 메트릭 수집이 켜져 있음
+        StorageResult refunded = storage.adjust(StorageContext.forAdjust("full", -10, config));
+
+        // Then
+        assertThat(refunded.getAvailableTokens()).isEqualTo(100);
+        assertThat(refunded.getConsumedTokens()).isZero();
+        assertThat(storage.getTokenState(StorageContext.forQuery("full", config)).getMetadata())
+                .containsEntry("totalConsumed", 0L);
+    }
+
+    @Test
+    @DisplayName("추가 차감은 잔량이 부족해도 적용되어 부채가 됨")
+    void shouldChargeExtraTokensIntoDebt() {
+        // Given
+        storage.tryConsume(StorageContext.forConsume("test-key", 90, config));
+
+        // When
+        StorageResult charged = storage.adjust(StorageContext.forAdjust("test-key", 30, config));
+        StorageResult next = storage.tryConsume(StorageContext.forConsume("test-key", 1, config));
+
+        // Then
+        assertThat(charged.getAvailableTokens()).isEqualTo(-20);
+        assertThat(next.isSuccess()).isFalse();
+        assertThat(next.getWaitTime()).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    @DisplayName("하위 키 버킷은 Rate Limiter 하나로 키마다 독립적으로 관리")
+    void shouldKeepIndependentBucketsPerSubKey() {
+        // Given
+        RateLimiter limiter = new StorageBasedTokenBucketRateLimiter("test-key", config, storage);
+
+        // When
+        boolean userA = limiter.tryConsume("user-a", 100);
+        boolean userAAgain = limiter.tryConsume("user-a", 1);
+        boolean userB = limiter.tryConsume("user-b", 1);
+
+        // Then
+        assertThat(userA).isTrue();
+        assertThat(userAAgain).isFalse();
+        assertThat(userB).isTrue();
+        assertThat(limiter.getAvailableTokens("user-b")).isEqualTo(99);
+        assertThat(limiter.getAvailableTokens()).isEqualTo(100);
+        assertThat(storage.getTokenState(StorageContext.forQuery("8:test-key:user-a", config))
+                .getAvailableTokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("구분자가 들어간 키와 하위 키 조합은 서로 다른 버킷을 사용")
+    void subKeyBucketsShouldNotCollide() {
+        // Given
+        RateLimiter nested = new StorageBasedTokenBucketRateLimiter("api:v1", config, storage);
+        RateLimiter outer = new StorageBasedTokenBucketRateLimiter("api", config, storage);
+        RateLimiter plain = new StorageBasedTokenBucketRateLimiter("api:v1:user", config, storage);
+
+        // When
+        boolean nestedAllowed = nested.tryConsume("user", 100);
+
+        // Then - ("api:v1", "user"), ("api", "v1:user"), "api:v1:user"는 모두 독립
+        assertThat(nestedAllowed).isTrue();
+        assertThat(outer.getAvailableTokens("v1:user")).isEqualTo(100);
+        assertThat(plain.getAvailableTokens()).isEqualTo(100);
+        assertThat(outer.tryConsume("v1:user", 100)).isTrue();
+        assertThat(plain.tryConsume(100)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Rate Limiter 메트릭스는 판정 결과와 저장소 버킷 수를 반영")
+    void shouldRecordLimiterMetrics() {
+        // Given
+        RateLimiter limiter = new StorageBasedTokenBucketRateLimiter("test-key", config, storage);
+
+        // When
+        limiter.tryConsume(60);
+        limiter.tryConsumeDecision(30);
+        limiter.tryConsume(20);                   // 10개 부족 → 1초 대기
+        limiter.tryConsumeDecision("user-a", 1);
+
+        // Then
+        RateLimiterMetrics metrics = limiter.getMetrics();
+        assertThat(metrics.getAllowedCount()).isEqualTo(3);
+        assertThat(metrics.getRejectedCount()).isEqualTo(1);
+        assertThat(metrics.getTotalWaitNanos()).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(metrics.getActiveBuckets()).isEqualTo(2);
+        assertThat(metrics.getEvictionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 소비는 거부되면 리필 후 다시 시도하여 완료")
+    void consumeAsyncShouldRetryAfterRefill() throws Exception {
+        // Given - 50ms마다 1개 리필, 남은 토큰 없음
+        RateLimiterConfig fastRefill = config.withAlgorithmConfig(
+                new TokenBucketAlgorithmConfig(1, 1, Duration.ofMillis(50), 0));
+        RateLimiter limiter = new StorageBasedTokenBucketRateLimiter("async-key", fastRefill, storage);
+
+        // When
+        CompletableFuture<Boolean> future = limiter.consumeAsync(1);
+
+        // Then
+        assertThat(future.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(limiter.getMetrics().getRejectedCount()).isGreaterThanOrEqualTo(1);
+        assertThat(limiter.getMetrics().getAllowedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비동기 재시도 중 저장소가 바로 예외를 던지면 future를 예외로 완료")
+    void consumeAsyncShouldFailWhenRetryThrows() {
+        // Given - 첫 시도는 거부, 재시도는 호출 즉시 예외
+        class FailingRetryStorage extends InMemoryRateLimiterStorage implements AsyncRateLimiterStorage {
+            private int calls;
+
+            FailingRetryStorage() {
+                super(new MemoryStorageConfig());
+            }
+
+            @Override
+            public CompletionStage<StorageResult> tryConsumeAsync(StorageContext context) {
+                if (calls++ > 0) {
+                    throw new IllegalStateException("storage closed");
+                }
+                return CompletableFuture.completedFuture(tryConsume(context));
+            }
+        }
+        RateLimiterConfig fastRefill = config.withAlgorithmConfig(
+                new TokenBucketAlgorithmConfig(1, 1, Duration.ofMillis(10), 0));
+        RateLimiter limiter = new StorageBasedTokenBucketRateLimiter("async-key", fastRefill, new FailingRetryStorage());
+
+        // When
+        CompletableFuture<Boolean> future = limiter.consumeAsync(1);
+
+        // Then
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("동기 저장소도 비동기 판정 결과를 완료된 상태로 반환")
+    void decisionAsyncShouldCompleteWithSyncStorage() {
+        // Given
+        RateLimiter limiter = new StorageBasedTokenBucketRateLimiter("test-key", config, storage);
+
+        // When
+        long allowed = limiter.tryConsumeDecisionAsync(100).toCompletableFuture().join();
+        long rejected = limiter.tryConsumeDecisionAsync("user-a", 101).toCompletableFuture().join();
+
+        // Then
+        assertThat(ConsumeDecision.isAllowed(allowed)).isTrue();
+        assertThat(ConsumeDecision.isAllowed(rejected)).isFalse();
+        assertThat(limiter.getMetrics().getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 버킷만 제거하며 설정과 잔량 전달")
+    void drainBucketsShouldRemoveMatchingBuckets() {
+        // Given
+        storage.tryConsume(StorageContext.forConsume("move-1", 30, config));
+        storage.tryConsume(StorageContext.forConsume("stay-1", 10, config));
+        Map<String, Long> drained = new HashMap<>();
+
+        // When
+        int count = storage.drainBuckets(key -> key.startsWith("move-"),
+                (key, bucket, available) -> drained.put(key, available));
+
+        // Then
+        assertThat(count).isEqualTo(1);
+        assertThat(drained).containsExactly(entry("move-1", 70L));
+        assertThat(storage.getBucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("값이 같은 다른 설정 객체로 접근해도 버킷 상태 유지")
+    void equalConfigShouldNotMigrateBucket() {
+        // Given
+        storage.tryConsume(StorageContext.forConsume("test-key", 40, config));
+        RateLimiterConfig sameValues = config.withAlgorithmConfig(TokenBucketAlgorithmConfig.perSecond(10, 100));
+
+        // When
+        StorageResult result = storage.tryConsume(StorageContext.forConsume("test-key", 10, sameValues));
+
+        // Then
+        assertThat(result.getAvailableTokens()).isEqualTo(50);
+    }
+
     @Test
     @DisplayName("저장소 종료")
     void shouldShutdownGracefully() {
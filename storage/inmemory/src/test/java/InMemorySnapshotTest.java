@@ -0,0 +1,160 @@
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+import io.github.ckaanf.ratelimiter.core.StorageResult;
+import io.github.ckaanf.ratelimiter.core.time.ManualTimeSource;
+import io.github.ckaanf.ratelimiter.core.time.TimeSource;
+import io.github.ckaanf.ratelimiter.inmemory.InMemoryRateLimiterStorage;
+import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 메모리 저장소 스냅샷/복원 테스트
+ */
+class InMemorySnapshotTest {
+
+    private ManualTimeSource timeSource;
+    private MemoryStorageConfig storageConfig;
+    private InMemoryRateLimiterStorage source;
+    private InMemoryRateLimiterStorage target;
+    private RateLimiterConfig config;
+
+    @BeforeEach
+    void setUp() {
+        timeSource = TimeSource.manual();
+        timeSource.advance(Duration.ofDays(1));
+        storageConfig = MemoryStorageConfig.unlimited().withTimeSource(timeSource);
+        source = new InMemoryRateLimiterStorage(storageConfig);
+        target = new InMemoryRateLimiterStorage(storageConfig);
+        config = new RateLimiterConfig(
+                "snapshot",
+                new TokenBucketAlgorithmConfig(10, 1, Duration.ofSeconds(1), 10),
+                storageConfig
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        source.shutdown();
+        target.shutdown();
+    }
+
+    @Test
+    @DisplayName("스냅샷을 복원하면 키별 잔량과 설정이 그대로 옮겨짐")
+    void restoreShouldReproduceBuckets() throws IOException {
+        // Given
+        RateLimiterConfig other = config.withAlgorithmConfig(new TokenBucketAlgorithmConfig(100, 5, Duration.ofMinutes(1), 50));
+        source.tryConsume(StorageContext.forConsume("user-1", 3, config));
+        source.tryConsume(StorageContext.forConsume("user-2", 10, config));
+        source.tryConsume(StorageContext.forConsume("사용자-3", 20, other));
+        source.adjust(StorageContext.forAdjust("user-1", 12, config));
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = source.snapshot(out);
+        long restored = target.restore(new ByteArrayInputStream(out.toByteArray()));
+
+        // Then
+        assertThat(written).isEqualTo(3);
+        assertThat(restored).isEqualTo(3);
+        assertThat(target.getBucketCount()).isEqualTo(3);
+        assertThat(available(target, "user-1", config)).isEqualTo(-5);
+        assertThat(available(target, "user-2", config)).isZero();
+        assertThat(available(target, "사용자-3", other)).isEqualTo(30);
+        assertThat(target.tryConsume(StorageContext.forConsume("user-2", 1, config)).isSuccess()).isFalse();
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후 흐른 시간만큼 복원된 버킷이 리필됨")
+    void restoreShouldApplyElapsedRefill() throws IOException {
+        // Given
+        source.tryConsume(StorageContext.forConsume("user", 8, config));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        source.snapshot(out);
+
+        // When - 전환에 3초 걸림
+        timeSource.advance(Duration.ofSeconds(3));
+        target.restore(new ByteArrayInputStream(out.toByteArray()));
+
+        // Then
+        assertThat(available(target, "user", config)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("설정은 한 번만 기록되어 키당 수 바이트로 압축됨")
+    void snapshotShouldBeCompact() throws IOException {
+        // Given
+        for (int i = 0; i < 10_000; i++) {
+            source.tryConsume(StorageContext.forConsume("user-" + i, 1 + i % 10, config));
+        }
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        source.snapshot(Channels.newChannel(out));
+
+        // Then - 키(최대 10바이트) + 레코드 필드
+        assertThat(out.size()).isLessThan(10_000 * 20);
+        assertThat(target.restore(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())))).isEqualTo(10_000);
+        assertThat(available(target, "user-9999", config)).isZero();
+    }
+
+    @Test
+    @DisplayName("복원한 버킷이 최대 항목 수를 넘으면 가장 오래 접근되지 않은 버킷부터 정리")
+    void restoreShouldRespectMaxEntries() throws IOException {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            timeSource.advanceMillis(1);
+            source.tryConsume(StorageContext.forConsume("user-" + i, 1, config));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        source.snapshot(out);
+        InMemoryRateLimiterStorage bounded = new InMemoryRateLimiterStorage(
+                new MemoryStorageConfig(Duration.ofMinutes(10), Duration.ZERO, 5, true, timeSource));
+
+        // When
+        long restored = bounded.restore(new ByteArrayInputStream(out.toByteArray()));
+
+        // Then
+        assertThat(restored).isEqualTo(10);
+        assertThat(bounded.getBucketCount()).isLessThanOrEqualTo(5);
+        assertThat(bounded.getEvictionCount()).isEqualTo(10 - bounded.getBucketCount());
+        assertThat(available(bounded, "user-9", config)).isEqualTo(9);
+        assertThat(available(bounded, "user-0", config)).isEqualTo(10);
+        bounded.shutdown();
+    }
+
+    @Test
+    @DisplayName("잘리거나 형식이 다른 스냅샷은 예외로 거부")
+    void restoreShouldRejectInvalidSnapshots() throws IOException {
+        // Given
+        source.tryConsume(StorageContext.forConsume("user", 1, config));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        source.snapshot(out);
+        byte[] bytes = out.toByteArray();
+
+        // When & Then
+        assertThatThrownBy(() -> target.restore(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 2))))
+                .isInstanceOf(EOFException.class);
+        assertThatThrownBy(() -> target.restore(new ByteArrayInputStream("JUNK".getBytes())))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Not a rate limiter snapshot");
+    }
+
+    private static long available(InMemoryRateLimiterStorage storage, String key, RateLimiterConfig config) {
+        StorageResult state = storage.getTokenState(StorageContext.forQuery(key, config));
+        return state.getAvailableTokens();
+    }
+}
@@ -1,3 +1,4 @@
+import io.github.ckaanf.ratelimiter.core.time.TimeSource;
 import io.github.ckaanf.ratelimiter.inmemory.MemoryStorageConfig;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -135,6 +136,23 @@ class MemoryStorageConfigTest {
         assertThat(props).containsEntry("enableMetrics", true);
     }
 
+    @Test
+    @DisplayName("시간 소스 변경")
+    void shouldReplaceTimeSource() {
+        // Given
+        MemoryStorageConfig config = new MemoryStorageConfig();
+        TimeSource manual = TimeSource.manual();
+
+        // When
+        MemoryStorageConfig changed = config.withTimeSource(manual);
+
+        // Then
+        assertThat(config.getTimeSource()).isSameAs(TimeSource.system());
+        assertThat(changed.getTimeSource()).isSameAs(manual);
+        assertThat(changed.getEntryTtl()).isEqualTo(config.getEntryTtl());
+        assertThat(changed.getMaxEntries()).isEqualTo(config.getMaxEntries());
+    }
+
     @Test
     @DisplayName("연결 속성은 빈 맵 반환")
     void shouldReturnEmptyConnectionProperties() {
@@ -0,0 +1,245 @@
+package io.github.ckaanf.ratelimiter.mmap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 크기 슬롯으로 나뉜 버킷 파일
+ *
+ * <p>파일 구성 (모든 값은 네이티브 바이트 순서의 long):
+ * <pre>
+ * 헤더 (64바이트): magic | 슬롯 수 | 사용 중인 슬롯 수 | (예약)
+ * 슬롯 (32바이트): 키 해시 | 버킷 상태 | 마지막 접근 시각 | (예약)
+ * </pre>
+ * 키 해시 0은 빈 슬롯, 버킷 상태 0은 아직 초기화되지 않은 버킷입니다.
+ * 모든 읽기/쓰기는 매핑된 버퍼 위의 {@link VarHandle} 연산이라 같은 파일을 매핑한 다른 프로세스에도 바로 보입니다.
+ *
+ * <p>키는 해시 위치부터 {@link #MAX_PROBE}개 슬롯 안에서 선형 탐색합니다.
+ * 탐색 범위가 모두 차 있으면 그중 가장 오래 접근되지 않은 슬롯을 새 키가 넘겨받습니다 (기존 키는 초기 상태로 돌아감).
+ * 슬롯 위치를 들고 있던 이전 키의 호출자는 {@link #compareAndSetState(int, long, long, long)}의
+ * 소유권 확인으로 새 키의 상태를 건드리지 않습니다.
+ */
+final class MappedBucketFile {
+
+    static final long UNINITIALIZED = 0;
+
+    private static final long MAGIC = 0x524C_4D4D_4150_3031L; // "RLMMAP01"
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 32;
+    private static final int MAX_PROBE = 16;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int SLOTS_OFFSET = 8;
+    private static final int OCCUPIED_OFFSET = 16;
+
+    private static final int HASH = 0;
+    private static final int STATE = 8;
+    private static final int ACCESS = 16;
+
+    private static final VarHandle LONGS =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int mask;
+    private final LongAdder evictions = new LongAdder();
+
+    private MappedBucketFile(Path path, MappedByteBuffer buffer, int slots) {
+        this.path = path;
+        this.buffer = buffer;
+        this.mask = slots - 1;
+    }
+
+    static long fileSize(int slots) {
+        return HEADER_SIZE + (long) slots * SLOT_SIZE;
+    }
+
+    /**
+     * 파일을 열어 매핑 (없으면 생성)
+     * 여러 프로세스가 동시에 열어도 파일 잠금으로 헤더는 한 번만 기록됨
+     *
+     * @throws IllegalStateException 기존 파일의 형식이나 슬롯 수가 다른 경우
+     */
+    static MappedBucketFile open(Path path, int slots) {
+        long size = fileSize(slots);
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                long existingSize = channel.size();
+                if (existingSize != 0 && existingSize != size) {
+                    throw new IllegalStateException(String.format(
+                            "Bucket file %s has %d bytes but %d slots need %d bytes", path, existingSize, slots, size));
+                }
+
+                // 매핑은 채널을 닫은 뒤에도 유효
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                long magic = (long) LONGS.getVolatile(buffer, MAGIC_OFFSET);
+                if (magic == 0) {
+                    // 새 파일이거나 헤더를 쓰기 전에 중단된 파일
+                    LONGS.setVolatile(buffer, SLOTS_OFFSET, (long) slots);
+                    LONGS.setVolatile(buffer, MAGIC_OFFSET, MAGIC);
+                } else if (magic != MAGIC) {
+                    throw new IllegalStateException("Not a rate limiter bucket file: " + path);
+                } else if ((long) LONGS.getVolatile(buffer, SLOTS_OFFSET) != slots) {
+                    throw new IllegalStateException(String.format("Bucket file %s was created with %d slots, not %d",
+                            path, (long) LONGS.getVolatile(buffer, SLOTS_OFFSET), slots));
+                }
+                return new MappedBucketFile(path, buffer, slots);
+            } finally {
+                lock.release();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map bucket file " + path, e);
+        }
+    }
+
+    /**
+     * 키 해시의 슬롯 위치 (없으면 빈 슬롯을 차지하거나 오래된 슬롯을 넘겨받음)
+     *
+     * @return 슬롯의 바이트 오프셋
+     */
+    int acquire(long hash, long now) {
+        while (true) {
+            int start = (int) hash & mask;
+            int oldest = -1;
+            long oldestAccess = Long.MAX_VALUE;
+
+            for (int probe = 0; probe < MAX_PROBE && probe <= mask; probe++) {
+                int slot = offset((start + probe) & mask);
+                long owner = (long) LONGS.getVolatile(buffer, slot + HASH);
+                if (owner == 0) {
+                    if (LONGS.compareAndSet(buffer, slot + HASH, 0L, hash)) {
+                        LONGS.getAndAdd(buffer, OCCUPIED_OFFSET, 1L);
+                        touch(slot, now);
+                        return slot;
+                    }
+                    owner = (long) LONGS.getVolatile(buffer, slot + HASH);
+                }
+                if (owner == hash) {
+                    touch(slot, now);
+                    return slot;
+                }
+
+                long access = (long) LONGS.getOpaque(buffer, slot + ACCESS);
+                if (access < oldestAccess) {
+                    oldest = slot;
+                    oldestAccess = access;
+                }
+            }
+
+            if (evict(oldest, hash, now)) {
+                evictions.increment();
+                return oldest;
+            }
+            // 다른 스레드가 먼저 슬롯을 바꿈 → 다시 탐색
+        }
+    }
+
+    /**
+     * 키 해시의 슬롯 위치 (슬롯을 차지하지 않음)
+     *
+     * @return 슬롯의 바이트 오프셋, 없으면 -1
+     */
+    int find(long hash) {
+        int start = (int) hash & mask;
+        for (int probe = 0; probe < MAX_PROBE && probe <= mask; probe++) {
+            int slot = offset((start + probe) & mask);
+            long owner = (long) LONGS.getVolatile(buffer, slot + HASH);
+            if (owner == hash) {
+                return slot;
+            }
+            if (owner == 0) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    long state(int slot) {
+        return (long) LONGS.getVolatile(buffer, slot + STATE);
+    }
+
+    /**
+     * 슬롯이 아직 이 키의 것이면 참
+     */
+    boolean owns(int slot, long hash) {
+        return (long) LONGS.getVolatile(buffer, slot + HASH) == hash;
+    }
+
+    /**
+     * 키의 소유권을 확인하며 상태 변경
+     * CAS 직후 슬롯이 다른 키로 넘어갔으면 (초기화된 새 키 상태에 잘못 반영됐을 수 있으므로) 되돌리고 실패를 반환
+     */
+    boolean compareAndSetState(int slot, long hash, long expected, long value) {
+        if (!LONGS.compareAndSet(buffer, slot + STATE, expected, value)) {
+            return false;
+        }
+        if (owns(slot, hash)) {
+            return true;
+        }
+        LONGS.compareAndSet(buffer, slot + STATE, value, expected);
+        return false;
+    }
+
+    long occupiedSlots() {
+        return (long) LONGS.getVolatile(buffer, OCCUPIED_OFFSET);
+    }
+
+    /**
+     * 이 프로세스에서 다른 키에 넘긴 슬롯 수
+     */
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 변경 내용을 디스크에 기록 (프로세스 간 공유에는 필요 없고, 호스트 장애에 대비할 때만 의미 있음)
+     */
+    void force() {
+        buffer.force();
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    // === 내부 메소드들 ===
+
+    private static int offset(int index) {
+        return HEADER_SIZE + index * SLOT_SIZE;
+    }
+
+    private void touch(int slot, long now) {
+        // 정확한 순서가 필요 없는 힌트이므로 volatile 쓰기 대신 opaque 쓰기
+        if ((long) LONGS.getOpaque(buffer, slot + ACCESS) < now) {
+            LONGS.setOpaque(buffer, slot + ACCESS, now);
+        }
+    }
+
+    /**
+     * 슬롯을 새 키로 넘김
+     *
+     * <p>키 해시를 먼저 바꾼 뒤 상태를 초기화 전으로 되돌립니다. 해시가 바뀐 뒤에는 이전 키의 호출자가
+     * 소유권 확인에 실패하므로, 초기화된 상태에 이전 키의 소비가 남지 않고 새 키는 이전 키의 잔량을 이어받지 않습니다.
+     * 해시 교체와 초기화 사이에 새 키로 들어온 소비는 초기화로 지워질 수 있습니다 (넘겨받는 순간에 한한 드문 경우).
+     */
+    private boolean evict(int slot, long hash, long now) {
+        long owner = (long) LONGS.getVolatile(buffer, slot + HASH);
+        if (!LONGS.compareAndSet(buffer, slot + HASH, owner, hash)) {
+            return false;
+        }
+        LONGS.setOpaque(buffer, slot + ACCESS, now);
+        LONGS.setVolatile(buffer, slot + STATE, UNINITIALIZED);
+        return true;
+    }
+}
@@ -0,0 +1,261 @@
+package io.github.ckaanf.ratelimiter.mmap;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.ConsumeDecision;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+import io.github.ckaanf.ratelimiter.core.StorageResult;
+import io.github.ckaanf.ratelimiter.core.time.TimeSource;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 메모리 매핑 파일 기반 Rate Limiter 저장소
+ *
+ * <p>버킷 상태가 파일에 있으므로 프로세스를 재시작해도 남은 토큰이 유지되고(재배포 직후 모든 클라이언트가
+ * 한꺼번에 최대 버스트를 받지 않음), 같은 파일을 연 같은 호스트의 프로세스들은 버킷을 공유합니다.
+ *
+ * <p>버킷 상태는 "토큰이 0이 되는 시각(epoch 나노초)" 하나로 표현합니다. 남은 토큰은
+ * {@code (지금 - 그 시각) × 리필 속도}이고, 소비는 그 시각을 토큰 비용만큼 뒤로 미는 CAS 한 번이라
+ * 판정 경로에 잠금이나 직렬화가 없습니다. 리필은 주기 단위가 아니라 리필 속도에 따라 연속적으로 반영됩니다.
+ * 시각은 벽시계 기준이라 프로세스 간에는 시계 오차 범위 안에서 일치합니다.
+ *
+ * <p>키는 64비트 해시로만 구분하며, 슬롯 수가 부족하면 가장 오래 쓰이지 않은 키의 버킷이 초기화됩니다.
+ */
+public class MappedRateLimiterStorage implements RateLimiterStorage {
+
+    private final MappedStorageConfig config;
+    private final TimeSource timeSource;
+    // 이 시간 소스의 nanoTime을 epoch 나노초로 바꾸는 오프셋
+    private final long epochOffsetNanos;
+    private final MappedBucketFile file;
+
+    public MappedRateLimiterStorage(MappedStorageConfig config) {
+        this.config = config;
+        this.timeSource = config.getTimeSource();
+        this.epochOffsetNanos = timeSource.currentTimeMillis() * 1_000_000L - timeSource.nanoTime();
+        this.file = MappedBucketFile.open(config.getFile(), config.getSlots());
+    }
+
+    @Override
+    public String getType() {
+        return "mmap";
+    }
+
+    @Override
+    public StorageResult tryConsume(StorageContext context) {
+        long decision = tryConsumeDecision(context);
+        long remaining = ConsumeDecision.remainingTokens(decision);
+        if (ConsumeDecision.isAllowed(decision)) {
+            return StorageResult.success(remaining, context.getTokens());
+        }
+        return StorageResult.failure(remaining, Duration.ofNanos(ConsumeDecision.waitNanos(decision)));
+    }
+
+    @Override
+    public long tryConsumeDecision(StorageContext context) {
+        TokenBucketAlgorithmConfig bucket = bucketOf(context.getConfig());
+        long now = now();
+        long hash = hash(context.getKey());
+        int slot = file.acquire(hash, now);
+
+        long cost = nanosFor(context.getTokens(), bucket);
+        while (true) {
+            long state = file.state(slot);
+            if (!file.owns(slot, hash)) {
+                // 다른 키에 넘어간 슬롯 → 다시 찾음
+                slot = file.acquire(hash, now);
+                continue;
+            }
+            long emptyAt = emptyAt(state, bucket, now);
+            long next = emptyAt + cost;
+
+            if (next > now) {
+                // 거부 시 상태는 그대로 두되, 처음 쓰는 버킷이면 초기 상태를 기록
+                if (state == MappedBucketFile.UNINITIALIZED
+                        && !file.compareAndSetState(slot, hash, state, encode(emptyAt))) {
+                    continue;
+                }
+                return ConsumeDecision.rejected(tokensIn(now - emptyAt, bucket), next - now);
+            }
+            if (file.compareAndSetState(slot, hash, state, encode(next))) {
+                return ConsumeDecision.allowed(tokensIn(now - next, bucket));
+            }
+        }
+    }
+
+    @Override
+    public StorageResult adjust(StorageContext context) {
+        TokenBucketAlgorithmConfig bucket = bucketOf(context.getConfig());
+        long now = now();
+        long hash = hash(context.getKey());
+        int slot = file.acquire(hash, now);
+
+        long delta = context.getTokens();
+        while (true) {
+            long state = file.state(slot);
+            if (!file.owns(slot, hash)) {
+                // 다른 키에 넘어간 슬롯 → 다시 찾음
+                slot = file.acquire(hash, now);
+                continue;
+            }
+            long emptyAt = emptyAt(state, bucket, now);
+            // 추가 차감은 잔량과 무관하게 적용하고, 반환은 용량을 넘지 않도록 제한
+            long next = delta > 0
+                    ? emptyAt + nanosFor(delta, bucket)
+                    : Math.max(now - nanosFor(bucket.getCapacity(), bucket), emptyAt - nanosFor(-delta, bucket));
+
+            if (file.compareAndSetState(slot, hash, state, encode(next))) {
+                long available = tokensIn(now - next, bucket);
+                return StorageResult.adjusted(available, tokensIn(now - emptyAt, bucket) - available);
+            }
+        }
+    }
+
+    @Override
+    public boolean supportsAdjust() {
+        return true;
+    }
+
+    @Override
+    public StorageResult getTokenState(StorageContext context) {
+        TokenBucketAlgorithmConfig bucket = bucketOf(context.getConfig());
+
+        int slot = file.find(hash(context.getKey()));
+        long state = slot < 0 ? MappedBucketFile.UNINITIALIZED : file.state(slot);
+        if (state == MappedBucketFile.UNINITIALIZED) {
+            // 버킷이 없으면 초기 상태 반환
+            return StorageResult.query(bucket.getInitialTokens(), timeSource.instant());
+        }
+
+        long now = now();
+        long emptyAt = emptyAt(state, bucket, now);
+        long available = tokensIn(now - emptyAt, bucket);
+        long nextRefill = available >= bucket.getCapacity() ? now
+                : emptyAt + nanosFor(Math.max(0, available) + 1, bucket);
+        return StorageResult.query(available, toInstant(nextRefill));
+    }
+
+    @Override
+    public void initialize(RateLimiterConfig config) {
+        // 파일은 생성 시 매핑되므로 설정 검증만 수행
+        this.config.validate();
+    }
+
+    @Override
+    public void cleanup() {
+        // 슬롯은 탐색 범위가 찰 때 오래된 순으로 재사용되므로 별도 정리 불필요
+    }
+
+    /**
+     * 파일을 사용하는 모든 프로세스가 차지한 슬롯 수
+     */
+    @Override
+    public long getBucketCount() {
+        return file.occupiedSlots();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return file.evictionCount();
+    }
+
+    /**
+     * 매핑된 내용을 디스크에 기록
+     *
+     * <p>매핑은 GC가 버퍼를 회수할 때 해제되며, 운영체제가 페이지 캐시를 파일에 기록하므로
+     * 프로세스가 종료돼도 상태는 남습니다. 여기서는 호스트 장애에 대비해 명시적으로 기록합니다.
+     */
+    @Override
+    public void shutdown() {
+        file.force();
+    }
+
+    public MappedStorageConfig getConfig() {
+        return config;
+    }
+
+    // === 내부 메소드들 ===
+
+    private long now() {
+        return epochOffsetNanos + timeSource.nanoTime();
+    }
+
+    private Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+                Math.floorMod(epochNanos, 1_000_000_000L));
+    }
+
+    private static TokenBucketAlgorithmConfig bucketOf(RateLimiterConfig config) {
+        return (TokenBucketAlgorithmConfig) config.getAlgorithmConfig();
+    }
+
+    /**
+     * 저장된 상태를 지금 기준의 "토큰이 0이 되는 시각"으로 변환
+     * 초기화 전이면 초기 토큰 수를, 오래 쉬었으면 용량을 넘지 않도록 맞춤
+     */
+    private static long emptyAt(long state, TokenBucketAlgorithmConfig bucket, long now) {
+        if (state == MappedBucketFile.UNINITIALIZED) {
+            return now - nanosFor(bucket.getInitialTokens(), bucket);
+        }
+        return Math.max(decode(state), now - nanosFor(bucket.getCapacity(), bucket));
+    }
+
+    /**
+     * 부호 비트를 뒤집어 저장 (0은 초기화 전을 뜻하므로, 실제로 나올 수 없는 Long.MIN_VALUE만 0에 대응)
+     */
+    private static long encode(long emptyAt) {
+        return emptyAt ^ Long.MIN_VALUE;
+    }
+
+    private static long decode(long state) {
+        return state ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * 토큰이 리필되는 데 걸리는 시간 (올림)
+     */
+    private static long nanosFor(long tokens, TokenBucketAlgorithmConfig bucket) {
+        long period = bucket.getRefillPeriod().toNanos();
+        long refill = bucket.getRefillTokens();
+        try {
+            return Math.floorDiv(Math.multiplyExact(tokens, period) + refill - 1, refill);
+        } catch (ArithmeticException e) {
+            return (long) Math.ceil((double) tokens / refill * period);
+        }
+    }
+
+    /**
+     * 주어진 시간 동안 리필되는 토큰 수 (내림, 음수면 부채)
+     */
+    private static long tokensIn(long nanos, TokenBucketAlgorithmConfig bucket) {
+        long period = bucket.getRefillPeriod().toNanos();
+        long refill = bucket.getRefillTokens();
+        long tokens;
+        try {
+            tokens = Math.floorDiv(Math.multiplyExact(nanos, refill), period);
+        } catch (ArithmeticException e) {
+            tokens = (long) Math.floor((double) nanos / period * refill);
+        }
+        return Math.min(bucket.getCapacity(), tokens);
+    }
+
+    /**
+     * 프로세스와 JVM이 달라도 같은 값을 내는 64비트 키 해시 (FNV-1a + 비트 섞기, 0은 빈 슬롯이라 피함)
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+}
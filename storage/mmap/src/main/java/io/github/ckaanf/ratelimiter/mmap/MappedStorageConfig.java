@@ -0,0 +1,88 @@
+package io.github.ckaanf.ratelimiter.mmap;
+
+import io.github.ckaanf.ratelimiter.core.StorageConfig;
+import io.github.ckaanf.ratelimiter.core.time.TimeSource;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 메모리 매핑 파일 저장소 설정
+ */
+public final class MappedStorageConfig implements StorageConfig {
+
+    // 매핑 하나로 다룰 수 있는 크기(2GB) 이내
+    static final int MAX_SLOTS = 1 << 25;
+
+    private final Path file;
+    private final int slots;
+    private final TimeSource timeSource;
+
+    /**
+     * @param file       버킷 파일 경로 (없으면 생성, 같은 파일을 여는 프로세스끼리 상태 공유)
+     * @param slots      버킷 슬롯 수 (2의 거듭제곱, 파일을 만든 뒤에는 바꿀 수 없음)
+     * @param timeSource 시간 소스
+     */
+    public MappedStorageConfig(Path file, int slots, TimeSource timeSource) {
+        this.file = Objects.requireNonNull(file, "File cannot be null");
+        this.slots = slots;
+        this.timeSource = Objects.requireNonNull(timeSource, "Time source cannot be null");
+        validate();
+    }
+
+    public MappedStorageConfig(Path file, int slots) {
+        this(file, slots, TimeSource.system());
+    }
+
+    public MappedStorageConfig(Path file) {
+        this(file, 1 << 16);
+    }
+
+    @Override
+    public String getType() {
+        return "mmap";
+    }
+
+    @Override
+    public void validate() {
+        if (slots <= 0 || slots > MAX_SLOTS || Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("Slots must be a power of two up to " + MAX_SLOTS + ": " + slots);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getConnectionProperties() {
+        Map<String, Object> props = new HashMap<>();
+        props.put("file", file.toString());
+        return props;
+    }
+
+    @Override
+    public Map<String, Object> getPerformanceProperties() {
+        Map<String, Object> props = new HashMap<>();
+        props.put("slots", slots);
+        props.put("fileSizeBytes", MappedBucketFile.fileSize(slots));
+        return props;
+    }
+
+    @Override
+    public TimeSource getTimeSource() {
+        return timeSource;
+    }
+
+    public MappedStorageConfig withSlots(int slots) {
+        return new MappedStorageConfig(file, slots, timeSource);
+    }
+
+    // === Getters ===
+
+    public Path getFile() { return file; }
+    public int getSlots() { return slots; }
+
+    @Override
+    public String toString() {
+        return String.format("MappedStorage{file=%s, slots=%d}", file, slots);
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.ckaanf.ratelimiter.mmap;
+
+import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.StorageConfig;
+import io.github.ckaanf.ratelimiter.core.StorageProvider;
+
+/**
+ * 메모리 매핑 파일 저장소 프로바이더
+ * SPI를 통해 자동 등록됨
+ */
+public class MappedStorageProvider implements StorageProvider {
+
+    @Override
+    public String getStorageType() {
+        return "mmap";
+    }
+
+    @Override
+    public RateLimiterStorage create(StorageConfig config) {
+        if (!(config instanceof MappedStorageConfig)) {
+            throw new IllegalArgumentException("Invalid storage config type: " + config.getClass());
+        }
+
+        return new MappedRateLimiterStorage((MappedStorageConfig) config);
+    }
+
+    @Override
+    public boolean supports(StorageConfig config) {
+        return config instanceof MappedStorageConfig;
+    }
+
+    @Override
+    public int getPriority() {
+        return 50;
+    }
+}
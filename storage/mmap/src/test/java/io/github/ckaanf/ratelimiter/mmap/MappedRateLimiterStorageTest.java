@@ -0,0 +1,328 @@
+package io.github.ckaanf.ratelimiter.mmap;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+import io.github.ckaanf.ratelimiter.core.StorageResult;
+import io.github.ckaanf.ratelimiter.core.time.CoarseTimeSource;
+import io.github.ckaanf.ratelimiter.core.time.ManualTimeSource;
+import io.github.ckaanf.ratelimiter.core.time.TimeSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 메모리 매핑 파일 저장소 테스트
+ */
+class MappedRateLimiterStorageTest {
+
+    @TempDir
+    Path directory;
+
+    private ManualTimeSource timeSource;
+    private MappedStorageConfig storageConfig;
+    private MappedRateLimiterStorage storage;
+    private RateLimiterConfig config;
+
+    @BeforeEach
+    void setUp() {
+        timeSource = TimeSource.manual();
+        timeSource.advance(Duration.ofDays(1));
+        storageConfig = new MappedStorageConfig(directory.resolve("buckets.dat"), 1024, timeSource);
+        storage = new MappedRateLimiterStorage(storageConfig);
+        config = new RateLimiterConfig(
+                "test-key",
+                new TokenBucketAlgorithmConfig(10, 1, Duration.ofSeconds(1), 10),
+                storageConfig
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.shutdown();
+    }
+
+    @Test
+    @DisplayName("토큰이 부족하면 리필까지의 대기 시간과 함께 거부하고, 시간이 지나면 리필")
+    void shouldRejectUntilRefilled() {
+        // Given
+        StorageResult first = storage.tryConsume(StorageContext.forConsume("user", 10, config));
+
+        // When
+        StorageResult rejected = storage.tryConsume(StorageContext.forConsume("user", 2, config));
+        timeSource.advance(Duration.ofSeconds(2));
+        StorageResult refilled = storage.tryConsume(StorageContext.forConsume("user", 2, config));
+
+        // Then
+        assertThat(first.isSuccess()).isTrue();
+        assertThat(first.getAvailableTokens()).isZero();
+        assertThat(rejected.isSuccess()).isFalse();
+        assertThat(rejected.getWaitTime()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(refilled.isSuccess()).isTrue();
+        assertThat(refilled.getAvailableTokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 용량 이상으로 리필되지 않음")
+    void shouldNotRefillBeyondCapacity() {
+        // Given
+        storage.tryConsume(StorageContext.forConsume("user", 10, config));
+
+        // When
+        timeSource.advance(Duration.ofHours(1));
+        StorageResult state = storage.getTokenState(StorageContext.forQuery("user", config));
+
+        // Then
+        assertThat(state.getAvailableTokens()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("재시작해도 남은 토큰이 유지되어 최대 버스트를 다시 주지 않음")
+    void stateShouldSurviveRestart() {
+        // Given
+        storage.tryConsume(StorageContext.forConsume("user", 8, config));
+        storage.shutdown();
+
+        // When
+        storage = new MappedRateLimiterStorage(storageConfig);
+        StorageResult state = storage.getTokenState(StorageContext.forQuery("user", config));
+        StorageResult rejected = storage.tryConsume(StorageContext.forConsume("user", 3, config));
+
+        // Then
+        assertThat(state.getAvailableTokens()).isEqualTo(2);
+        assertThat(rejected.isSuccess()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 파일을 연 저장소끼리 버킷을 공유")
+    void instancesShouldShareBuckets() {
+        // Given
+        MappedRateLimiterStorage other = new MappedRateLimiterStorage(storageConfig);
+
+        // When
+        storage.tryConsume(StorageContext.forConsume("user", 6, config));
+        StorageResult result = other.tryConsume(StorageContext.forConsume("user", 4, config));
+        StorageResult rejected = storage.tryConsume(StorageContext.forConsume("user", 1, config));
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getAvailableTokens()).isZero();
+        assertThat(rejected.isSuccess()).isFalse();
+        other.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 용량을 초과해 허용하지 않음")
+    void concurrentConsumeShouldNotExceedCapacity() throws Exception {
+        // Given
+        RateLimiterConfig large = config.withAlgorithmConfig(
+                new TokenBucketAlgorithmConfig(500, 1, Duration.ofHours(1), 500));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int allowed = 0;
+                for (int i = 0; i < 100; i++) {
+                    if (storage.tryConsume(StorageContext.forConsume("shared", 1, large)).isSuccess()) {
+                        allowed++;
+                    }
+                }
+                return allowed;
+            }));
+        }
+        start.countDown();
+        int allowed = 0;
+        for (Future<Integer> future : futures) {
+            allowed += future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(allowed).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("조정으로 돌려준 토큰은 용량을 넘지 않고, 추가 차감은 부채로 남음")
+    void adjustShouldClampRefundsAndAllowDebt() {
+        // Given
+        storage.tryConsume(StorageContext.forConsume("user", 4, config));
+
+        // When
+        StorageResult refunded = storage.adjust(StorageContext.forAdjust("user", -100, config));
+        StorageResult debt = storage.adjust(StorageContext.forAdjust("user", 15, config));
+
+        // Then
+        assertThat(refunded.getAvailableTokens()).isEqualTo(10);
+        assertThat(refunded.getConsumedTokens()).isEqualTo(-4);
+        assertThat(debt.getAvailableTokens()).isEqualTo(-5);
+        assertThat(debt.getConsumedTokens()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("all-or-nothing 배치는 하나라도 실패하면 소비한 토큰을 되돌림")
+    void allOrNothingShouldRollBack() {
+        // Given
+        storage.tryConsume(StorageContext.forConsume("exhausted", 10, config));
+
+        // When
+        List<StorageResult> results = storage.tryConsumeAll(List.of(
+                StorageContext.forConsume("a", 3, config),
+                StorageContext.forConsume("exhausted", 1, config)
+        ), true);
+
+        // Then
+        assertThat(results).noneMatch(StorageResult::isSuccess);
+        assertThat(storage.getTokenState(StorageContext.forQuery("a", config)).getAvailableTokens()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("슬롯이 모자라면 가장 오래 쓰이지 않은 버킷을 새 키에 넘김")
+    void shouldEvictLeastRecentlyUsedSlot() {
+        // Given
+        MappedRateLimiterStorage small = new MappedRateLimiterStorage(
+                new MappedStorageConfig(directory.resolve("small.dat"), 16, timeSource));
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            timeSource.advanceMillis(1);
+            small.tryConsume(StorageContext.forConsume("key-" + i, 10, config));
+        }
+
+        // Then
+        assertThat(small.getBucketCount()).isEqualTo(16);
+        assertThat(small.getEvictionCount()).isEqualTo(4);
+        assertThat(small.tryConsume(StorageContext.forConsume("key-19", 1, config)).isSuccess()).isFalse();
+        small.shutdown();
+    }
+
+    @Test
+    @DisplayName("슬롯을 넘긴 뒤 이전 키의 늦은 상태 변경은 새 키에 반영되지 않음")
+    void staleWriteShouldNotLeakIntoEvictedSlot() {
+        // Given - 슬롯이 하나뿐인 파일에서 이전 키가 상태를 읽어 둠
+        MappedBucketFile file = MappedBucketFile.open(directory.resolve("one.dat"), 1);
+        long oldKey = MappedRateLimiterStorage.hash("old");
+        long newKey = MappedRateLimiterStorage.hash("new");
+        int slot = file.acquire(oldKey, 1);
+        assertThat(file.compareAndSetState(slot, oldKey, MappedBucketFile.UNINITIALIZED, 42)).isTrue();
+        long observed = file.state(slot);
+
+        // When - 새 키가 슬롯을 넘겨받은 뒤 이전 키가 읽어 둔 상태로 CAS
+        int evicted = file.acquire(newKey, 2);
+        boolean staleWrite = file.compareAndSetState(slot, oldKey, observed, 43);
+        boolean staleInit = file.compareAndSetState(slot, oldKey, MappedBucketFile.UNINITIALIZED, 44);
+
+        // Then
+        assertThat(evicted).isEqualTo(slot);
+        assertThat(file.evictionCount()).isEqualTo(1);
+        assertThat(staleWrite).isFalse();
+        assertThat(staleInit).isFalse();
+        assertThat(file.owns(slot, newKey)).isTrue();
+        assertThat(file.state(slot)).isEqualTo(MappedBucketFile.UNINITIALIZED);
+    }
+
+    @Test
+    @DisplayName("슬롯을 다투는 동시 요청에서도 각 키가 넘겨받은 슬롯마다 용량을 넘지 않음")
+    void concurrentEvictionShouldNotOverAdmit() throws Exception {
+        // Given - 슬롯 16개에 키 64개, 리필 없음
+        MappedRateLimiterStorage small = new MappedRateLimiterStorage(
+                new MappedStorageConfig(directory.resolve("contended.dat"), 16, timeSource));
+        RateLimiterConfig noRefill = config.withAlgorithmConfig(
+                new TokenBucketAlgorithmConfig(5, 1, Duration.ofDays(1), 5));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                int allowed = 0;
+                for (int i = 0; i < 2_000; i++) {
+                    String key = "key-" + ((i * 7 + thread) % 64);
+                    StorageResult result = small.tryConsume(StorageContext.forConsume(key, 1, noRefill));
+                    assertThat(result.getAvailableTokens()).isBetween(0L, 5L);
+                    if (result.isSuccess()) {
+                        allowed++;
+                    }
+                }
+                return allowed;
+            }));
+        }
+        start.countDown();
+        int allowed = 0;
+        for (Future<Integer> future : futures) {
+            allowed += future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then - 초기화된 슬롯 하나당 최대 용량만큼만 허용
+        assertThat((long) allowed).isLessThanOrEqualTo((small.getEvictionCount() + 64) * 5);
+        small.shutdown();
+    }
+
+    @Test
+    @DisplayName("설정으로 받은 coarse 시간 소스는 저장소가 종료되어도 닫지 않음")
+    void shutdownShouldNotCloseCallerTimeSource() {
+        // Given
+        try (CoarseTimeSource coarse = TimeSource.coarse(Duration.ofMillis(1))) {
+            MappedRateLimiterStorage coarseStorage = new MappedRateLimiterStorage(
+                    new MappedStorageConfig(directory.resolve("coarse.dat"), 64, coarse));
+
+            // When
+            coarseStorage.shutdown();
+
+            // Then
+            assertThat(coarse.isClosed()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("슬롯 수가 다른 설정으로 기존 파일을 열면 거부")
+    void shouldRejectMismatchedSlotCount() {
+        // When & Then
+        assertThatThrownBy(() -> new MappedRateLimiterStorage(storageConfig.withSlots(2048)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("2048");
+        assertThatThrownBy(() -> storageConfig.withSlots(1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("레지스트리에서 mmap 저장소 설정으로 Rate Limiter 생성")
+    void registryShouldCreateMappedLimiter() {
+        // Given
+        try (RateLimiterRegistry registry = RateLimiterRegistry.create()) {
+            RateLimiter limiter = registry.getRateLimiter(new RateLimiterConfig(
+                    "registry-key",
+                    new TokenBucketAlgorithmConfig(2, 1, Duration.ofHours(1), 2),
+                    new MappedStorageConfig(directory.resolve("registry.dat"), 64)
+            ));
+
+            // When & Then
+            assertThat(limiter.tryConsume("user", 1)).isTrue();
+            assertThat(limiter.tryConsume("user", 1)).isTrue();
+            assertThat(limiter.tryConsume("user", 1)).isFalse();
+        }
+    }
+}
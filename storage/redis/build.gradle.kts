@@ -0,0 +1,11 @@
+dependencies {
+    api(project(":core"))
+    api(project(":algorithms:token-bucket"))
+    implementation("io.lettuce:lettuce-core:6.3.2.RELEASE")
+
+    testImplementation(platform("org.junit:junit-bom:5.9.2"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testImplementation("org.assertj:assertj-core:3.24.2")
+    // Redis 프로토콜 호환 인메모리 서버 (Lua 스크립트 포함, 별도 설치 불필요)
+    testImplementation("com.github.fppt:jedis-mock:1.1.4")
+}
@@ -0,0 +1,59 @@
+package io.github.ckaanf.ratelimiter.redis;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * URI별 공유 Redis 연결 (참조 카운트)
+ *
+ * <p>Lettuce 연결은 스레드 안전한 멀티플렉싱 연결이므로, 같은 Redis를 쓰는 저장소(Rate Limiter)들이
+ * 연결 하나를 공유합니다. 마지막 저장소가 반납하면 연결과 클라이언트를 종료합니다.
+ */
+final class RedisConnections {
+
+    private static final Map<String, Shared> CONNECTIONS = new HashMap<>();
+
+    private RedisConnections() {
+    }
+
+    static synchronized StatefulRedisConnection<String, String> acquire(String uri) {
+        Shared shared = CONNECTIONS.get(uri);
+        if (shared == null) {
+            RedisClient client = RedisClient.create(uri);
+            try {
+                shared = new Shared(client, client.connect());
+            } catch (RuntimeException e) {
+                client.shutdown();
+                throw e;
+            }
+            CONNECTIONS.put(uri, shared);
+        }
+        shared.references++;
+        return shared.connection;
+    }
+
+    static synchronized void release(String uri) {
+        Shared shared = CONNECTIONS.get(uri);
+        if (shared == null || --shared.references > 0) {
+            return;
+        }
+
+        CONNECTIONS.remove(uri);
+        shared.connection.close();
+        shared.client.shutdown();
+    }
+
+    private static final class Shared {
+        private final RedisClient client;
+        private final StatefulRedisConnection<String, String> connection;
+        private int references;
+
+        Shared(RedisClient client, StatefulRedisConnection<String, String> connection) {
+            this.client = client;
+            this.connection = connection;
+        }
+    }
+}
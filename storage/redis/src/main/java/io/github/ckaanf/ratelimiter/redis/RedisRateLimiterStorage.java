@@ -0,0 +1,268 @@
+package io.github.ckaanf.ratelimiter.redis;
+
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.AsyncRateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.ConsumeDecision;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+import io.github.ckaanf.ratelimiter.core.StorageResult;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Redis 기반 Rate Limiter 저장소
+ *
+ * <p>리필과 소비/조정/조회를 {@link TokenBucketScript} 하나로 처리하므로 판정 한 번이
+ * {@code EVALSHA} 한 번(왕복 한 번)이며, 여러 노드가 같은 버킷을 공유해도 원자적입니다.
+ * 스크립트가 서버에서 사라진 경우({@code NOSCRIPT})에만 {@code SCRIPT LOAD} 후 재시도합니다.
+ *
+ * <p>연결은 멀티플렉싱되는 Lettuce 연결 하나를 스레드 간에 공유합니다.
+ * 설정만으로 생성하면 같은 URI를 쓰는 저장소끼리 연결을 공유하고, 직접 전달한 연결은
+ * 호출자가 소유하므로 {@link #shutdown()}에서 닫지 않습니다. 명령 제한 시간은 공유 연결의 설정을 바꾸지 않고
+ * 명령마다 적용하므로, 같은 연결을 쓰는 저장소끼리 서로 다른 제한 시간을 가질 수 있습니다.
+ *
+ * <p>{@link AsyncRateLimiterStorage}를 구현하므로 비동기 경로에서는 응답을 기다리는 동안
+ * 스레드를 점유하지 않으며, 결과는 Lettuce I/O 스레드에서 완료됩니다.
+ */
+public class RedisRateLimiterStorage implements AsyncRateLimiterStorage {
+
+    private final RedisStorageConfig config;
+    private final StatefulRedisConnection<String, String> connection;
+    private final boolean sharedConnection;
+    private volatile boolean closed;
+
+    public RedisRateLimiterStorage(RedisStorageConfig config) {
+        this(config, RedisConnections.acquire(config.getUri()), true);
+    }
+
+    /**
+     * 외부에서 관리하는 연결로 저장소 생성
+     *
+     * @param config     저장소 설정 (URI는 사용하지 않음)
+     * @param connection 사용할 연결 (종료는 호출자 책임)
+     */
+    public RedisRateLimiterStorage(RedisStorageConfig config, StatefulRedisConnection<String, String> connection) {
+        this(config, connection, false);
+    }
+
+    private RedisRateLimiterStorage(RedisStorageConfig config,
+                                    StatefulRedisConnection<String, String> connection,
+                                    boolean sharedConnection) {
+        this.config = config;
+        this.connection = connection;
+        this.sharedConnection = sharedConnection;
+    }
+
+    @Override
+    public String getType() {
+        return "redis";
+    }
+
+    @Override
+    public StorageResult tryConsume(StorageContext context) {
+        List<Long> reply = execute(context, TokenBucketScript.CONSUME);
+        return toConsumeResult(context, reply);
+    }
+
+    @Override
+    public long tryConsumeDecision(StorageContext context) {
+        List<Long> reply = execute(context, TokenBucketScript.CONSUME);
+        return reply.get(0) == 1
+                ? ConsumeDecision.allowed(reply.get(1))
+                : ConsumeDecision.rejected(reply.get(1), TimeUnit.MICROSECONDS.toNanos(reply.get(2)));
+    }
+
+    @Override
+    public CompletionStage<StorageResult> tryConsumeAsync(StorageContext context) {
+        return executeAsync(context, TokenBucketScript.CONSUME).thenApply(reply -> toConsumeResult(context, reply));
+    }
+
+    @Override
+    public CompletionStage<StorageResult> getTokenStateAsync(StorageContext context) {
+        return executeAsync(context, TokenBucketScript.QUERY).thenApply(RedisRateLimiterStorage::toQueryResult);
+    }
+
+    /**
+     * 여러 키에 대한 토큰 소비
+     *
+     * <p>all-or-nothing이 아니면 모든 스크립트 호출을 응답을 기다리지 않고 연속으로 보내므로
+     * (파이프라이닝) 항목 수와 관계없이 대략 왕복 한 번의 지연으로 처리됩니다.
+     * all-or-nothing 모드는 키마다 다른 슬롯에 있을 수 있어 기본 구현(실패 시 보상 조정)을 따릅니다.
+     */
+    @Override
+    public List<StorageResult> tryConsumeAll(List<StorageContext> contexts, boolean allOrNothing) {
+        if (allOrNothing || contexts.size() < 2) {
+            return AsyncRateLimiterStorage.super.tryConsumeAll(contexts, allOrNothing);
+        }
+
+        ensureScriptLoaded();
+        RedisAsyncCommands<String, String> async = connection.async();
+        List<RedisFuture<List<Long>>> futures = new ArrayList<>(contexts.size());
+        for (StorageContext context : contexts) {
+            futures.add(async.evalsha(TokenBucketScript.SHA1, ScriptOutputType.MULTI,
+                    keys(context), arguments(context, TokenBucketScript.CONSUME)));
+        }
+
+        List<StorageResult> results = new ArrayList<>(contexts.size());
+        for (int i = 0; i < contexts.size(); i++) {
+            List<Long> reply;
+            try {
+                reply = await(futures.get(i));
+            } catch (RedisNoScriptException e) {
+                reply = execute(contexts.get(i), TokenBucketScript.CONSUME);
+            }
+            results.add(toConsumeResult(contexts.get(i), reply));
+        }
+        return results;
+    }
+
+    @Override
+    public StorageResult adjust(StorageContext context) {
+        List<Long> reply = execute(context, TokenBucketScript.ADJUST);
+        return StorageResult.adjusted(reply.get(1), reply.get(4));
+    }
+
+    @Override
+    public boolean supportsAdjust() {
+        return true;
+    }
+
+    @Override
+    public StorageResult getTokenState(StorageContext context) {
+        return toQueryResult(execute(context, TokenBucketScript.QUERY));
+    }
+
+    @Override
+    public void initialize(RateLimiterConfig config) {
+        this.config.validate();
+        ensureScriptLoaded();
+    }
+
+    @Override
+    public void cleanup() {
+        // 만료는 키 TTL로 Redis가 처리
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (sharedConnection) {
+            RedisConnections.release(config.getUri());
+        }
+    }
+
+    // === 내부 메소드들 ===
+
+    private List<Long> execute(StorageContext context, String mode) {
+        String[] keys = keys(context);
+        String[] arguments = arguments(context, mode);
+        RedisAsyncCommands<String, String> async = connection.async();
+        try {
+            return await(async.evalsha(TokenBucketScript.SHA1, ScriptOutputType.MULTI, keys, arguments));
+        } catch (RedisNoScriptException e) {
+            // 서버 재시작, SCRIPT FLUSH 등으로 스크립트 캐시가 비워진 경우
+            await(async.scriptLoad(TokenBucketScript.SOURCE));
+            return await(async.evalsha(TokenBucketScript.SHA1, ScriptOutputType.MULTI, keys, arguments));
+        }
+    }
+
+    private CompletionStage<List<Long>> executeAsync(StorageContext context, String mode) {
+        String[] keys = keys(context);
+        String[] arguments = arguments(context, mode);
+        RedisAsyncCommands<String, String> async = connection.async();
+        return async.<List<Long>>evalsha(TokenBucketScript.SHA1, ScriptOutputType.MULTI, keys, arguments)
+                .exceptionallyCompose(error -> {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (!(cause instanceof RedisNoScriptException)) {
+                        return CompletableFuture.failedFuture(cause);
+                    }
+                    return async.scriptLoad(TokenBucketScript.SOURCE).thenCompose(sha ->
+                            async.evalsha(TokenBucketScript.SHA1, ScriptOutputType.MULTI, keys, arguments));
+                })
+                .toCompletableFuture()
+                .orTimeout(config.getCommandTimeout().toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 명령 응답을 이 저장소의 제한 시간까지만 기다림 (연결의 기본 제한 시간과 무관)
+     */
+    private <T> T await(RedisFuture<T> future) {
+        try {
+            return future.get(config.getCommandTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RedisCommandExecutionException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new RedisCommandTimeoutException("Command timed out after " + config.getCommandTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisCommandExecutionException("Interrupted while waiting for Redis reply");
+        }
+    }
+
+    private void ensureScriptLoaded() {
+        RedisAsyncCommands<String, String> async = connection.async();
+        List<Boolean> exists = await(async.scriptExists(TokenBucketScript.SHA1));
+        if (exists.isEmpty() || !exists.get(0)) {
+            await(async.scriptLoad(TokenBucketScript.SOURCE));
+        }
+    }
+
+    private String[] keys(StorageContext context) {
+        return new String[]{config.getKeyPrefix() + context.getKey()};
+    }
+
+    private String[] arguments(StorageContext context, String mode) {
+        TokenBucketAlgorithmConfig bucket = (TokenBucketAlgorithmConfig) context.getConfig().getAlgorithmConfig();
+        long periodMicros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(bucket.getRefillPeriod().toNanos()));
+        return new String[]{
+                Long.toString(bucket.getCapacity()),
+                Long.toString(bucket.getRefillTokens()),
+                Long.toString(periodMicros),
+                Long.toString(bucket.getInitialTokens()),
+                Long.toString(context.getTokens()),
+                mode,
+                Long.toString(config.getEntryTtl().toMillis())
+        };
+    }
+
+    private static StorageResult toQueryResult(List<Long> reply) {
+        long nextRefillMicros = reply.get(3);
+        Instant nextRefill = Instant.ofEpochSecond(
+                nextRefillMicros / 1_000_000, (nextRefillMicros % 1_000_000) * 1_000);
+        return StorageResult.query(reply.get(1), nextRefill);
+    }
+
+    private static StorageResult toConsumeResult(StorageContext context, List<Long> reply) {
+        if (reply.get(0) == 1) {
+            return StorageResult.success(reply.get(1), context.getTokens());
+        }
+        return StorageResult.failure(reply.get(1), Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(reply.get(2))));
+    }
+
+    public RedisStorageConfig getConfig() {
+        return config;
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.ckaanf.ratelimiter.redis;
+
+import io.github.ckaanf.ratelimiter.core.StorageConfig;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Redis 저장소 설정
+ *
+ * <p>리필 계산은 Lua 스크립트 안에서 Redis 서버 시간({@code TIME})으로 수행하므로
+ * 여러 노드가 같은 버킷을 공유해도 노드 간 시계 차이의 영향을 받지 않습니다.
+ * 따라서 {@link #getTimeSource()}는 사용하지 않습니다.
+ */
+public final class RedisStorageConfig implements StorageConfig {
+
+    private final String uri;
+    private final String keyPrefix;
+    private final Duration entryTtl;
+    private final Duration commandTimeout;
+    private final Duration localLease;
+    private final long maxLeaseTokens;
+    private final int maxBatchSize;
+    private final Duration batchWindow;
+
+    /**
+     * @param uri            Redis URI (예: {@code redis://localhost:6379/0})
+     * @param keyPrefix      버킷 키 접두사
+     * @param entryTtl       마지막 접근 후 버킷 만료 시간 (0이면 만료 없음)
+     * @param commandTimeout 명령 타임아웃
+     * @param localLease     로컬 토큰 임대 기간 (0이면 임대하지 않고 매 판정마다 Redis 호출)
+     * @param maxLeaseTokens 키별로 한 번에 임대할 최대 토큰 수
+     * @see io.github.ckaanf.ratelimiter.core.LeasingRateLimiterStorage
+     */
+    public RedisStorageConfig(String uri, String keyPrefix, Duration entryTtl, Duration commandTimeout,
+                              Duration localLease, long maxLeaseTokens) {
+        this(uri, keyPrefix, entryTtl, commandTimeout, localLease, maxLeaseTokens, 1, Duration.ZERO);
+    }
+
+    private RedisStorageConfig(String uri, String keyPrefix, Duration entryTtl, Duration commandTimeout,
+                               Duration localLease, long maxLeaseTokens, int maxBatchSize, Duration batchWindow) {
+        this.uri = Objects.requireNonNull(uri, "Redis URI cannot be null");
+        this.keyPrefix = Objects.requireNonNull(keyPrefix, "Key prefix cannot be null");
+        this.entryTtl = Objects.requireNonNull(entryTtl, "Entry TTL cannot be null");
+        this.commandTimeout = Objects.requireNonNull(commandTimeout, "Command timeout cannot be null");
+        this.localLease = Objects.requireNonNull(localLease, "Local lease cannot be null");
+        this.maxLeaseTokens = maxLeaseTokens;
+        this.maxBatchSize = maxBatchSize;
+        this.batchWindow = Objects.requireNonNull(batchWindow, "Batch window cannot be null");
+        validate();
+    }
+
+    public RedisStorageConfig(String uri, String keyPrefix, Duration entryTtl, Duration commandTimeout) {
+        this(uri, keyPrefix, entryTtl, commandTimeout, Duration.ZERO, 100);
+    }
+
+    public RedisStorageConfig() {
+        this("redis://localhost:6379", "ratelimiter:", Duration.ofHours(1), Duration.ofSeconds(1));
+    }
+
+    @Override
+    public String getType() {
+        return "redis";
+    }
+
+    @Override
+    public void validate() {
+        if (uri.isBlank()) {
+            throw new IllegalArgumentException("Redis URI cannot be blank");
+        }
+        if (entryTtl.isNegative()) {
+            throw new IllegalArgumentException("Entry TTL cannot be negative");
+        }
+        if (commandTimeout.isNegative() || commandTimeout.isZero()) {
+            throw new IllegalArgumentException("Command timeout must be positive");
+        }
+        if (localLease.isNegative()) {
+            throw new IllegalArgumentException("Local lease cannot be negative");
+        }
+        if (maxLeaseTokens <= 0) {
+            throw new IllegalArgumentException("Max lease tokens must be positive");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be positive");
+        }
+        if (batchWindow.isNegative()) {
+            throw new IllegalArgumentException("Batch window cannot be negative");
+        }
+    }
+
+    @Override
+    public Map<String, Object> getConnectionProperties() {
+        Map<String, Object> props = new HashMap<>();
+        props.put("uri", uri);
+        props.put("keyPrefix", keyPrefix);
+        return props;
+    }
+
+    @Override
+    public Map<String, Object> getPerformanceProperties() {
+        Map<String, Object> props = new HashMap<>();
+        props.put("entryTtlMs", entryTtl.toMillis());
+        props.put("commandTimeoutMs", commandTimeout.toMillis());
+        props.put("localLeaseMs", localLease.toMillis());
+        props.put("maxLeaseTokens", maxLeaseTokens);
+        props.put("maxBatchSize", maxBatchSize);
+        props.put("batchWindowNanos", batchWindow.toNanos());
+        return props;
+    }
+
+    // === Factory methods ===
+
+    public static RedisStorageConfig defaultConfig() {
+        return new RedisStorageConfig();
+    }
+
+    public static RedisStorageConfig of(String uri) {
+        return new RedisStorageConfig(uri, "ratelimiter:", Duration.ofHours(1), Duration.ofSeconds(1));
+    }
+
+    /**
+     * 키 접두사만 바꾼 설정 복사본 생성
+     */
+    public RedisStorageConfig withKeyPrefix(String keyPrefix) {
+        return new RedisStorageConfig(uri, keyPrefix, entryTtl, commandTimeout,
+                localLease, maxLeaseTokens, maxBatchSize, batchWindow);
+    }
+
+    /**
+     * 로컬 토큰 임대를 켠 설정 복사본 생성
+     */
+    public RedisStorageConfig withLocalLease(Duration localLease, long maxLeaseTokens) {
+        return new RedisStorageConfig(uri, keyPrefix, entryTtl, commandTimeout,
+                localLease, maxLeaseTokens, maxBatchSize, batchWindow);
+    }
+
+    /**
+     * 동시 요청 묶음 전송을 켠 설정 복사본 생성
+     *
+     * @param maxBatchSize 한 번에 파이프라이닝할 최대 요청 수 (1이면 묶지 않음)
+     * @param batchWindow  배치를 모으기 위해 기다리는 최대 시간 (0이면 기다리지 않음)
+     * @see io.github.ckaanf.ratelimiter.core.CoalescingRateLimiterStorage
+     */
+    public RedisStorageConfig withBatching(int maxBatchSize, Duration batchWindow) {
+        return new RedisStorageConfig(uri, keyPrefix, entryTtl, commandTimeout,
+                localLease, maxLeaseTokens, maxBatchSize, batchWindow);
+    }
+
+    public boolean isLeasingEnabled() {
+        return !localLease.isZero();
+    }
+
+    public boolean isBatchingEnabled() {
+        return maxBatchSize > 1;
+    }
+
+    // === Getters ===
+
+    public String getUri() { return uri; }
+    public String getKeyPrefix() { return keyPrefix; }
+    public Duration getEntryTtl() { return entryTtl; }
+    public Duration getCommandTimeout() { return commandTimeout; }
+    public Duration getLocalLease() { return localLease; }
+    public long getMaxLeaseTokens() { return maxLeaseTokens; }
+    public int getMaxBatchSize() { return maxBatchSize; }
+    public Duration getBatchWindow() { return batchWindow; }
+
+    @Override
+    public String toString() {
+        return String.format("RedisStorage{uri=%s, prefix=%s, ttl=%s, lease=%s}", uri, keyPrefix, entryTtl, localLease);
+    }
+}
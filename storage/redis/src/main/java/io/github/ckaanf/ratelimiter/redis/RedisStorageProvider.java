@@ -0,0 +1,47 @@
+package io.github.ckaanf.ratelimiter.redis;
+
+import io.github.ckaanf.ratelimiter.core.CoalescingRateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.LeasingRateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.StorageConfig;
+import io.github.ckaanf.ratelimiter.core.StorageProvider;
+
+/**
+ * Redis 저장소 프로바이더
+ * SPI를 통해 자동 등록됨
+ */
+public class RedisStorageProvider implements StorageProvider {
+
+    @Override
+    public String getStorageType() {
+        return "redis";
+    }
+
+    @Override
+    public RateLimiterStorage create(StorageConfig config) {
+        if (!(config instanceof RedisStorageConfig)) {
+            throw new IllegalArgumentException("Invalid storage config type: " + config.getClass());
+        }
+
+        RedisStorageConfig redisConfig = (RedisStorageConfig) config;
+        RateLimiterStorage storage = new RedisRateLimiterStorage(redisConfig);
+        if (redisConfig.isBatchingEnabled()) {
+            storage = new CoalescingRateLimiterStorage(storage, redisConfig.getMaxBatchSize(), redisConfig.getBatchWindow());
+        }
+        if (redisConfig.isLeasingEnabled()) {
+            // 임대 갱신 호출도 묶이도록 가장 바깥에 둠
+            storage = new LeasingRateLimiterStorage(storage, redisConfig.getLocalLease(), redisConfig.getMaxLeaseTokens());
+        }
+        return storage;
+    }
+
+    @Override
+    public boolean supports(StorageConfig config) {
+        return config instanceof RedisStorageConfig;
+    }
+
+    @Override
+    public int getPriority() {
+        return 50;
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.ckaanf.ratelimiter.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 버킷 리필과 소비/조정/조회를 한 번에 수행하는 Lua 스크립트
+ *
+ * <p>버킷은 {@code tokens}, {@code refilled}(마지막 리필 시각, 마이크로초) 필드를 가진 해시입니다.
+ * 리필 규칙은 메모리 저장소와 같고, 대기 시간은 마지막 리필 이후 흐른 시간을 뺀 실제 남은 시간입니다.
+ *
+ * <p>KEYS[1]: 버킷 키<br>
+ * ARGV: capacity, refillTokens, refillPeriodMicros, initialTokens, tokens, mode(c/a/q), ttlMillis<br>
+ * 반환: {허용 여부(1/0), 남은 토큰, 대기 시간(마이크로초), 다음 리필 시각(마이크로초), 실제 조정량(조정 모드)}
+ */
+final class TokenBucketScript {
+
+    static final String CONSUME = "c";
+    static final String ADJUST = "a";
+    static final String QUERY = "q";
+
+    static final String SOURCE = """
+            local key = KEYS[1]
+            local capacity = tonumber(ARGV[1])
+            local refill_tokens = tonumber(ARGV[2])
+            local period = tonumber(ARGV[3])
+            local initial = tonumber(ARGV[4])
+            local requested = tonumber(ARGV[5])
+            local mode = ARGV[6]
+            local ttl = tonumber(ARGV[7])
+
+            -- Redis 5 미만에서 TIME 이후 쓰기를 허용 (이후 버전에서는 기본 동작)
+            if redis.replicate_commands then
+              pcall(redis.replicate_commands)
+            end
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+
+            local state = redis.call('HMGET', key, 'tokens', 'refilled')
+            local tokens = tonumber(state[1])
+            local refilled = tonumber(state[2])
+            if tokens == nil or refilled == nil then
+              tokens = initial
+              refilled = now
+            end
+
+            local elapsed = now - refilled
+            if elapsed >= period then
+              local cycles = math.floor(elapsed / period)
+              tokens = math.min(capacity, tokens + cycles * refill_tokens)
+              refilled = refilled + cycles * period
+            end
+
+            local allowed = 1
+            local wait = 0
+            local applied = 0
+            if mode == 'c' then
+              if tokens >= requested then
+                tokens = tokens - requested
+              else
+                allowed = 0
+                -- 다음 리필은 refilled + period이므로 마지막 리필 이후 흐른 시간을 뺌
+                wait = math.ceil((requested - tokens) / refill_tokens) * period - (now - refilled)
+              end
+            elseif mode == 'a' then
+              local before = tokens
+              if requested > 0 then
+                tokens = tokens - requested
+              else
+                tokens = math.max(tokens, math.min(capacity, tokens - requested))
+              end
+              applied = before - tokens
+            end
+
+            if mode ~= 'q' then
+              -- 마이크로초 값이 지수 표기로 바뀌지 않도록 정수 문자열로 저장
+              redis.call('HSET', key, 'tokens', string.format('%.0f', tokens),
+                  'refilled', string.format('%.0f', refilled))
+              if ttl > 0 then
+                redis.call('PEXPIRE', key, ttl)
+              end
+            end
+
+            return {allowed, tokens, wait, refilled + period, applied}
+            """;
+
+    static final String SHA1 = sha1(SOURCE);
+
+    private TokenBucketScript() {
+    }
+
+    private static String sha1(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(source.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package io.github.ckaanf.ratelimiter.redis;
+
+import com.github.fppt.jedismock.RedisServer;
+import io.github.ckaanf.ratelimiter.algorithms.tokenbucket.TokenBucketAlgorithmConfig;
+import io.github.ckaanf.ratelimiter.core.CoalescingRateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.ConsumeDecision;
+import io.github.ckaanf.ratelimiter.core.LeasingRateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.RateLimiter;
+import io.github.ckaanf.ratelimiter.core.RateLimiterConfig;
+import io.github.ckaanf.ratelimiter.core.RateLimiterRegistry;
+import io.github.ckaanf.ratelimiter.core.RateLimiterStorage;
+import io.github.ckaanf.ratelimiter.core.StorageContext;
+import io.github.ckaanf.ratelimiter.core.StorageResult;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 프로토콜 호환 인메모리 서버(jedis-mock)를 대상으로 한 저장소 테스트
+ */
+class RedisRateLimiterStorageTest {
+
+    private RedisServer server;
+    private RedisStorageConfig storageConfig;
+    private RedisRateLimiterStorage storage;
+    private RateLimiterConfig config;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = RedisServer.newRedisServer().start();
+        storageConfig = RedisStorageConfig.of("redis://" + server.getHost() + ":" + server.getBindPort());
+        storage = new RedisRateLimiterStorage(storageConfig);
+
+        config = new RateLimiterConfig(
+                "test-key",
+                new TokenBucketAlgorithmConfig(10, 1, Duration.ofHours(1), 10),
+                storageConfig
+        );
+        storage.initialize(config);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        storage.shutdown();
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("토큰 소비 성공")
+    void shouldConsumeTokens() {
+        // When
+        StorageResult result = storage.tryConsume(StorageContext.forConsume("test-key", 3, config));
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getConsumedTokens()).isEqualTo(3);
+        assertThat(result.getAvailableTokens()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("토큰 부족 시 거부되고 리필 주기 단위의 대기 시간 반환")
+    void shouldRejectWithWaitTime() {
+        // Given
+        storage.tryConsume(StorageContext.forConsume("test-key", 10, config));
+
+        // When
+        StorageResult result = storage.tryConsume(StorageContext.forConsume("test-key", 2, config));
+        long decision = storage.tryConsumeDecision(StorageContext.forConsume("test-key", 1, config));
+
+        // Then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getAvailableTokens()).isZero();
+        assertThat(result.getWaitTime()).isBetween(Duration.ofHours(2).minusSeconds(1), Duration.ofHours(2));
+        assertThat(ConsumeDecision.isAllowed(decision)).isFalse();
+        assertThat(ConsumeDecision.waitNanos(decision))
+                .isBetween(Duration.ofHours(1).minusSeconds(1).toNanos(), Duration.ofHours(1).toNanos());
+    }
+
+    @Test
+    @DisplayName("대기 시간은 마지막 리필 이후 흐른 시간을 뺀 다음 리필까지의 시간")
+    void waitTimeShouldExcludeElapsedSinceRefill() throws InterruptedException {
+        // Given - 500ms마다 1개 리필
+        RateLimiterConfig fast = config.withAlgorithmConfig(
+                new TokenBucketAlgorithmConfig(1, 1, Duration.ofMillis(500), 1));
+        storage.tryConsume(StorageContext.forConsume("fast", 1, fast));
+
+        // When
+        Thread.sleep(300);
+        StorageResult result = storage.tryConsume(StorageContext.forConsume("fast", 1, fast));
+
+        // Then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getWaitTime()).isPositive().isLessThanOrEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("명령 제한 시간은 외부에서 전달한 연결의 설정을 바꾸지 않음")
+    void commandTimeoutShouldNotMutateSharedConnection() {
+        // Given
+        RedisClient client = RedisClient.create(storageConfig.getUri());
+        StatefulRedisConnection<String, String> shared = client.connect();
+        shared.setTimeout(Duration.ofSeconds(30));
+
+        // When
+        RedisRateLimiterStorage shortTimeout = new RedisRateLimiterStorage(new RedisStorageConfig(
+                storageConfig.getUri(), "short:", Duration.ofHours(1), Duration.ofSeconds(2)), shared);
+        StorageResult result = shortTimeout.tryConsume(StorageContext.forConsume("user", 1, config));
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(shared.getTimeout()).isEqualTo(Duration.ofSeconds(30));
+        shortTimeout.shutdown();
+        shared.close();
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("조회는 토큰을 소비하지 않음")
+    void shouldNotConsumeOnQuery() {
+        // Given
+        storage.tryConsume(StorageContext.forConsume("test-key", 4, config));
+
+        // When
+        StorageResult first = storage.getTokenState(StorageContext.forQuery("test-key", config));
+        StorageResult second = storage.getTokenState(StorageContext.forQuery("test-key", config));
+
+        // Then
+        assertThat(first.getAvailableTokens()).isEqualTo(6);
+        assertThat(second.getAvailableTokens()).isEqualTo(6);
+        assertThat(first.getNextRefillTime()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("추가 차감은 부채를 허용하고 반환은 용량을 넘지 않음")
+    void shouldAdjustTokens() {
+        // When
+        StorageResult debt = storage.adjust(StorageContext.forAdjust("test-key", 15, config));
+        StorageResult refund = storage.adjust(StorageContext.forAdjust("test-key", -100, config));
+
+        // Then
+        assertThat(debt.getAvailableTokens()).isEqualTo(-5);
+        assertThat(debt.getConsumedTokens()).isEqualTo(15);
+        assertThat(refund.getAvailableTokens()).isEqualTo(10);
+        assertThat(refund.getConsumedTokens()).isEqualTo(-15);
+    }
+
+    @Test
+    @DisplayName("배치 소비는 항목별로 독립 평가")
+    void shouldConsumeBatchIndependently() {
+        // Given
+        List<StorageContext> contexts = List.of(
+                StorageContext.forConsume("a", 5, config),
+                StorageContext.forConsume("b", 11, config),
+                StorageContext.forConsume("c", 10, config));
+
+        // When
+        List<StorageResult> results = storage.tryConsumeAll(contexts);
+
+        // Then
+        assertThat(results).extracting(StorageResult::isSuccess).containsExactly(true, false, true);
+        assertThat(results).extracting(StorageResult::getAvailableTokens).containsExactly(5L, 10L, 0L);
+    }
+
+    @Test
+    @DisplayName("스크립트 캐시가 비워져도 다시 로드하여 처리")
+    void shouldReloadScriptAfterFlush() {
+        // Given
+        RedisClient client = RedisClient.create(storageConfig.getUri());
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            connection.sync().scriptFlush();
+        } finally {
+            client.shutdown();
+        }
+
+        // When
+        StorageResult result = storage.tryConsume(StorageContext.forConsume("test-key", 1, config));
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getAvailableTokens()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("여러 노드가 같은 버킷을 공유해도 용량을 넘겨 허용하지 않음")
+    void shouldShareBucketAcrossStorages() throws InterruptedException {
+        // Given - 별도 연결을 가진 두 저장소 (서로 다른 노드 역할)
+        RedisClient client = RedisClient.create(storageConfig.getUri());
+        StatefulRedisConnection<String, String> connection = client.connect();
+        RedisRateLimiterStorage other = new RedisRateLimiterStorage(storageConfig, connection);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 40; i++) {
+            RedisRateLimiterStorage target = i % 2 == 0 ? storage : other;
+            executor.submit(() -> {
+                if (target.tryConsume(StorageContext.forConsume("shared", 1, config)).isSuccess()) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        other.shutdown();
+        connection.close();
+        client.shutdown();
+
+        // Then
+        assertThat(allowed.get()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("SPI로 등록되어 레지스트리에서 Redis 저장소 Rate Limiter 생성")
+    void shouldCreateRateLimiterThroughRegistry() {
+        // Given
+        try (RateLimiterRegistry registry = RateLimiterRegistry.create()) {
+            RateLimiter limiter = registry.getRateLimiter(config.withKey("redis-limiter"));
+
+            // When
+            boolean first = limiter.tryConsume(10);
+            boolean second = limiter.tryConsume();
+
+            // Then
+            assertThat(registry.getAvailableStorages()).contains("redis");
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("로컬 임대를 켜면 임대 데코레이터로 감싸고 Redis 용량을 넘겨 허용하지 않음")
+    void shouldWrapWithLeasingWhenEnabled() {
+        // Given
+        RateLimiterStorage leasing = new RedisStorageProvider()
+                .create(storageConfig.withLocalLease(Duration.ofSeconds(1), 100));
+        leasing.initialize(config);
+
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 15; i++) {
+            if (leasing.tryConsume(StorageContext.forConsume("leased", 1, config)).isSuccess()) {
+                allowed++;
+            }
+        }
+        leasing.shutdown();
+
+        // Then
+        assertThat(leasing).isInstanceOf(LeasingRateLimiterStorage.class);
+        assertThat(allowed).isEqualTo(10);
+        assertThat(storage.getTokenState(StorageContext.forQuery("leased", config)).getAvailableTokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("묶음 전송을 켜면 동시 요청을 파이프라이닝해도 Redis 용량을 넘겨 허용하지 않음")
+    void shouldCoalesceConcurrentRequestsWhenEnabled() throws InterruptedException {
+        // Given
+        RateLimiterStorage batching = new RedisStorageProvider()
+                .create(storageConfig.withBatching(32, Duration.ZERO));
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // When
+        for (int i = 0; i < 64; i++) {
+            executor.submit(() -> {
+                if (batching.tryConsume(StorageContext.forConsume("batched", 1, config)).isSuccess()) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        batching.shutdown();
+
+        // Then
+        assertThat(batching).isInstanceOf(CoalescingRateLimiterStorage.class);
+        assertThat(allowed.get()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("비동기 소비와 조회는 스크립트 캐시가 비워져도 처리")
+    void shouldConsumeAsynchronously() {
+        // Given
+        RedisClient client = RedisClient.create(storageConfig.getUri());
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            connection.sync().scriptFlush();
+        } finally {
+            client.shutdown();
+        }
+
+        // When
+        StorageResult consumed = storage.tryConsumeAsync(StorageContext.forConsume("async", 4, config))
+                .toCompletableFuture().join();
+        StorageResult rejected = storage.tryConsumeAsync(StorageContext.forConsume("async", 7, config))
+                .toCompletableFuture().join();
+        StorageResult state = storage.getTokenStateAsync(StorageContext.forQuery("async", config))
+                .toCompletableFuture().join();
+
+        // Then
+        assertThat(consumed.isSuccess()).isTrue();
+        assertThat(rejected.isSuccess()).isFalse();
+        assertThat(state.getAvailableTokens()).isEqualTo(6);
+    }
+}